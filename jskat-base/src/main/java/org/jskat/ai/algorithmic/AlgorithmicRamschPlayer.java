@@ -15,7 +15,6 @@
  */
 package org.jskat.ai.algorithmic;
 
-import org.jskat.data.JSkatOptions;
 import org.jskat.player.ImmutablePlayerKnowledge;
 import org.jskat.util.Card;
 import org.jskat.util.CardList;
@@ -222,7 +221,7 @@ public class AlgorithmicRamschPlayer implements IAlgorithmicAIPlayer {
 	@Override
 	public CardList discardSkat(final BidEvaluator bidEvaluator) {
 		log.debug(myPlayer.getPlayerName() + " (" + this.getClass() + ") is discarding cards");
-		if (JSkatOptions.instance().isSchieberamschJacksInSkat()) {
+		if (knowledge.getGameRules().isSchieberamschJacksInSkat()) {
 			return discardWithJacks();
 		}
 		return discardNoJacks();
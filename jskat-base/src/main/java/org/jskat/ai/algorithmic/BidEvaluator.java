@@ -20,6 +20,8 @@ import org.jskat.util.CardList;
 import org.jskat.util.GameType;
 import org.jskat.util.SkatConstants;
 import org.jskat.util.Suit;
+import org.jskat.util.trace.GameTrace;
+import org.jskat.util.trace.TraceType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -47,7 +49,6 @@ class BidEvaluator {
 	 *            hand of the player
 	 */
 	BidEvaluator(final CardList cards) {
-		log.debug("Checking out what to bid with [" + cards + "]" + cards.dumpFlag());
 		if (cards.size() < 10) {
 			log.warn("Not enough cards for bid evaluation!");
 			return;
@@ -101,8 +102,7 @@ class BidEvaluator {
 			}
 		}
 
-		log.debug("I will bid until " + maxBid + " (m=" + multiplier + "x) - I have " + noOfJacks
-				+ " Jacks and an additional " + noOfTrumps + " trump cards in suit " + mostFrequentSuitColor);
+		GameTrace.trace(TraceType.BID_EVALUATION, null, null, cards, maxBid);
 	}
 
 	/**
@@ -0,0 +1,61 @@
+/**
+ * Copyright (C) 2019 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.ai.newalgorithm;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import org.jskat.player.JSkatPlayer;
+import org.jskat.player.JSkatPlayerProvider;
+import org.jskat.util.GameType;
+
+/**
+ * Registers {@link AlgorithmAI}
+ */
+public class AlgorithmAIProvider implements JSkatPlayerProvider {
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Class<? extends JSkatPlayer> getPlayerClass() {
+		return AlgorithmAI.class;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String getDisplayNameKey() {
+		return "algorithmic_nextgen_player"; //$NON-NLS-1$
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Set<GameType> getSupportedGameTypes() {
+		return EnumSet.allOf(GameType.class);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public JSkatPlayer createPlayer() {
+		return new AlgorithmAI();
+	}
+}
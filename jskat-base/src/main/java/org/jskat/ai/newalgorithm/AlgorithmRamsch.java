@@ -15,7 +15,6 @@
  */
 package org.jskat.ai.newalgorithm;
 
-import org.jskat.data.JSkatOptions;
 import org.jskat.util.Card;
 import org.jskat.util.CardList;
 import org.jskat.util.GameType;
@@ -214,7 +213,7 @@ public class AlgorithmRamsch extends AbstractAlgorithmAI {
 	public CardList discardSkat(final BidEvaluator bidEvaluator) {
 		log.debug(myPlayer.getPlayerName() + " (" + this.getClass()
 				+ ") is discarding cards");
-		if (JSkatOptions.instance().isSchieberamschJacksInSkat()) {
+		if (knowledge.getGameRules().isSchieberamschJacksInSkat()) {
 			return discardWithJacks();
 		}
 		return discardNoJacks();
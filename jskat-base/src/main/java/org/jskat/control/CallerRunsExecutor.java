@@ -0,0 +1,54 @@
+/**
+ * Copyright (C) 2019 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.control;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Executes the steps of a game or a series on the thread that waits for its
+ * result
+ */
+class CallerRunsExecutor implements Executor {
+
+	private static final Runnable WAKE_UP = () -> {
+		// only wakes up the waiting thread
+	};
+
+	private final BlockingQueue<Runnable> steps = new LinkedBlockingQueue<>();
+
+	@Override
+	public void execute(final Runnable step) {
+		steps.add(step);
+	}
+
+	/**
+	 * Executes the steps until the result is done
+	 *
+	 * @param result
+	 *            Result of the game or the series
+	 * @throws InterruptedException
+	 *             if the thread was interrupted while waiting for a decision
+	 */
+	void runUntilDone(final CompletableFuture<?> result) throws InterruptedException {
+		result.whenComplete((value, error) -> execute(WAKE_UP));
+		while (!result.isDone()) {
+			steps.take().run();
+		}
+	}
+}
@@ -0,0 +1,361 @@
+/**
+ * Copyright (C) 2019 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.control;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.eventbus.AllowConcurrentEvents;
+import com.google.common.eventbus.DeadEvent;
+import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
+import com.google.common.reflect.TypeToken;
+
+/**
+ * Event bus with the programming model of the Guava {@link EventBus} that
+ * avoids reflection while posting events<br>
+ * <br>
+ * The {@link Subscribe} methods of a listener class are looked up only once,
+ * each of them is compiled into an invoker that calls the method directly. The
+ * subscribers of an event class are collected when the first event of the
+ * class is posted and reused until a listener is registered or unregistered.
+ * <br>
+ * <br>
+ * The delivery follows the Guava event bus: events posted by a subscriber are
+ * queued and delivered after the current event, subscribers without
+ * {@link AllowConcurrentEvents} are never called concurrently, exceptions of
+ * subscribers are logged and events without subscribers are posted again as
+ * {@link DeadEvent}.
+ */
+public class CompiledEventBus extends EventBus {
+
+	private static final Logger LOG = LoggerFactory.getLogger(CompiledEventBus.class);
+
+	/**
+	 * Subscriber methods of the listener classes
+	 */
+	private static final Map<Class<?>, List<SubscriberMethod>> SUBSCRIBER_METHODS = new ConcurrentHashMap<>();
+	/**
+	 * Class hierarchies of the event classes
+	 */
+	private static final Map<Class<?>, Set<Class<?>>> EVENT_TYPES = new ConcurrentHashMap<>();
+
+	private static final Subscriber[] NO_SUBSCRIBERS = new Subscriber[0];
+
+	private final Map<Class<?>, List<Subscriber>> subscribers = new ConcurrentHashMap<>();
+	private volatile Map<Class<?>, Subscriber[]> dispatchTable = new ConcurrentHashMap<>();
+
+	private final ThreadLocal<DispatchQueue> dispatchQueue = ThreadLocal.withInitial(DispatchQueue::new);
+
+	/**
+	 * Constructor
+	 *
+	 * @param identifier
+	 *            Name of the event bus
+	 */
+	public CompiledEventBus(final String identifier) {
+		super(identifier);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void register(final Object listener) {
+
+		synchronized (subscribers) {
+			for (final SubscriberMethod method : getSubscriberMethods(listener.getClass())) {
+				final List<Subscriber> eventSubscribers = subscribers.computeIfAbsent(method.eventType,
+						eventType -> new CopyOnWriteArrayList<>());
+				final Subscriber subscriber = method.bind(this, listener);
+				if (!eventSubscribers.contains(subscriber)) {
+					eventSubscribers.add(subscriber);
+				}
+			}
+			dispatchTable = new ConcurrentHashMap<>();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void unregister(final Object listener) {
+
+		synchronized (subscribers) {
+			for (final SubscriberMethod method : getSubscriberMethods(listener.getClass())) {
+				final List<Subscriber> eventSubscribers = subscribers.get(method.eventType);
+				if (eventSubscribers == null || !eventSubscribers.remove(method.bind(this, listener))) {
+					throw new IllegalArgumentException("missing event subscriber for an annotated method. Is " //$NON-NLS-1$
+							+ listener + " registered?"); //$NON-NLS-1$
+				}
+			}
+			dispatchTable = new ConcurrentHashMap<>();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void post(final Object event) {
+
+		final Subscriber[] eventSubscribers = getSubscribers(event.getClass());
+		if (eventSubscribers.length == 0) {
+			if (!(event instanceof DeadEvent)) {
+				post(new DeadEvent(this, event));
+			}
+			return;
+		}
+
+		final DispatchQueue queue = dispatchQueue.get();
+		if (queue.dispatching) {
+			queue.events.add(event);
+			queue.events.add(eventSubscribers);
+			return;
+		}
+
+		queue.dispatching = true;
+		try {
+			dispatch(event, eventSubscribers);
+			while (!queue.events.isEmpty()) {
+				dispatch(queue.events.poll(), (Subscriber[]) queue.events.poll());
+			}
+		} finally {
+			queue.events.clear();
+			queue.dispatching = false;
+		}
+	}
+
+	private static void dispatch(final Object event, final Subscriber[] eventSubscribers) {
+		for (final Subscriber subscriber : eventSubscribers) {
+			subscriber.dispatch(event);
+		}
+	}
+
+	private Subscriber[] getSubscribers(final Class<?> eventClass) {
+
+		final Map<Class<?>, Subscriber[]> table = dispatchTable;
+		Subscriber[] result = table.get(eventClass);
+		if (result == null) {
+			final List<Subscriber> collected = new ArrayList<>();
+			for (final Class<?> eventType : getEventTypes(eventClass)) {
+				final List<Subscriber> eventSubscribers = subscribers.get(eventType);
+				if (eventSubscribers != null) {
+					collected.addAll(eventSubscribers);
+				}
+			}
+			result = collected.isEmpty() ? NO_SUBSCRIBERS : collected.toArray(NO_SUBSCRIBERS);
+			table.put(eventClass, result);
+		}
+		return result;
+	}
+
+	private static Set<Class<?>> getEventTypes(final Class<?> eventClass) {
+		return EVENT_TYPES.computeIfAbsent(eventClass,
+				type -> Collections.unmodifiableSet(TypeToken.of(type).getTypes().rawTypes()));
+	}
+
+	private static List<SubscriberMethod> getSubscriberMethods(final Class<?> listenerClass) {
+		return SUBSCRIBER_METHODS.computeIfAbsent(listenerClass, CompiledEventBus::findSubscriberMethods);
+	}
+
+	private static List<SubscriberMethod> findSubscriberMethods(final Class<?> listenerClass) {
+
+		final List<SubscriberMethod> result = new ArrayList<>();
+		final Set<String> signatures = new HashSet<>();
+
+		for (final Class<?> type : TypeToken.of(listenerClass).getTypes().rawTypes()) {
+			for (final Method method : type.getDeclaredMethods()) {
+				if (!method.isAnnotationPresent(Subscribe.class) || method.isSynthetic()) {
+					continue;
+				}
+				final Class<?>[] parameterTypes = method.getParameterTypes();
+				if (parameterTypes.length != 1) {
+					throw new IllegalArgumentException("Method " + method + " has @Subscribe annotation but has " //$NON-NLS-1$ //$NON-NLS-2$
+							+ parameterTypes.length + " parameters. Subscriber methods must have exactly 1 parameter."); //$NON-NLS-1$
+				}
+				if (parameterTypes[0].isPrimitive()) {
+					throw new IllegalArgumentException("@Subscribe method " + method //$NON-NLS-1$
+							+ "'s parameter is " + parameterTypes[0].getName() //$NON-NLS-1$
+							+ ". Subscriber methods cannot accept primitives."); //$NON-NLS-1$
+				}
+				// overridden methods are dispatched virtually, they are
+				// subscribed only once
+				if (signatures.add(method.getName() + parameterTypes[0].getName())) {
+					result.add(new SubscriberMethod(method, compile(method)));
+				}
+			}
+		}
+		return Collections.unmodifiableList(result);
+	}
+
+	/**
+	 * Compiles a subscriber method into an invoker, a lambda is generated for
+	 * the method if its class can be accessed, otherwise the invoker uses a
+	 * method handle
+	 */
+	private static Invoker compile(final Method method) {
+
+		final MethodHandle handle;
+		final MethodHandles.Lookup lookup;
+		try {
+			lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+			handle = lookup.unreflect(method);
+		} catch (final IllegalAccessException e) {
+			throw new IllegalArgumentException("Subscriber method " + method + " is not accessible", e); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+
+		try {
+			// the generated class implements a public interface, it is
+			// defined next to the listener class
+			@SuppressWarnings("unchecked")
+			final BiConsumer<Object, Object> consumer = (BiConsumer<Object, Object>) LambdaMetafactory
+					.metafactory(lookup, "accept", MethodType.methodType(BiConsumer.class), //$NON-NLS-1$
+							MethodType.methodType(void.class, Object.class, Object.class), handle,
+							MethodType.methodType(void.class, method.getDeclaringClass(), method.getParameterTypes()[0]))
+					.getTarget().invoke();
+			return consumer::accept;
+		} catch (final Throwable e) {
+			LOG.debug("Using method handle for subscriber method " + method, e); //$NON-NLS-1$
+		}
+
+		final MethodHandle genericHandle = handle.asType(MethodType.methodType(void.class, Object.class, Object.class));
+		return (listener, event) -> {
+			genericHandle.invokeExact(listener, event);
+		};
+	}
+
+	private void handleException(final Throwable exception, final Subscriber subscriber, final Object event) {
+		LOG.error("Exception thrown by subscriber method " + subscriber.method.method //$NON-NLS-1$
+				+ " on subscriber " + subscriber.listener //$NON-NLS-1$
+				+ " when dispatching event: " + event + " on event bus " + identifier(), exception); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/**
+	 * Calls a subscriber method
+	 */
+	@FunctionalInterface
+	interface Invoker {
+		void invoke(Object listener, Object event) throws Throwable;
+	}
+
+	/**
+	 * Subscriber method of a listener class
+	 */
+	private static final class SubscriberMethod {
+
+		private final Method method;
+		private final Class<?> eventType;
+		private final Invoker invoker;
+		private final boolean concurrent;
+
+		private SubscriberMethod(final Method method, final Invoker invoker) {
+			this.method = method;
+			this.eventType = method.getParameterTypes()[0];
+			this.invoker = invoker;
+			this.concurrent = method.isAnnotationPresent(AllowConcurrentEvents.class);
+		}
+
+		private Subscriber bind(final CompiledEventBus bus, final Object listener) {
+			return concurrent ? new Subscriber(bus, this, listener) : new SynchronizedSubscriber(bus, this, listener);
+		}
+	}
+
+	/**
+	 * Subscriber method bound to a listener
+	 */
+	private static class Subscriber {
+
+		private final CompiledEventBus bus;
+		private final SubscriberMethod method;
+		private final Object listener;
+
+		private Subscriber(final CompiledEventBus bus, final SubscriberMethod method, final Object listener) {
+			this.bus = bus;
+			this.method = method;
+			this.listener = listener;
+		}
+
+		void dispatch(final Object event) {
+			try {
+				method.invoker.invoke(listener, event);
+			} catch (final Throwable e) {
+				bus.handleException(e, this, event);
+			}
+		}
+
+		@Override
+		public final int hashCode() {
+			return 31 * method.hashCode() + System.identityHashCode(listener);
+		}
+
+		@Override
+		public final boolean equals(final Object obj) {
+			if (!(obj instanceof Subscriber)) {
+				return false;
+			}
+			final Subscriber other = (Subscriber) obj;
+			return method == other.method && listener == other.listener;
+		}
+	}
+
+	/**
+	 * Subscriber that is never called concurrently
+	 */
+	private static final class SynchronizedSubscriber extends Subscriber {
+
+		private SynchronizedSubscriber(final CompiledEventBus bus, final SubscriberMethod method,
+				final Object listener) {
+			super(bus, method, listener);
+		}
+
+		@Override
+		void dispatch(final Object event) {
+			synchronized (this) {
+				super.dispatch(event);
+			}
+		}
+	}
+
+	/**
+	 * Events posted by subscribers of the current thread
+	 */
+	private static final class DispatchQueue {
+
+		/**
+		 * Alternating events and their subscribers
+		 */
+		private final ArrayDeque<Object> events = new ArrayDeque<>();
+		private boolean dispatching;
+	}
+}
@@ -15,8 +15,8 @@
  */
 package org.jskat.control;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jskat.control.command.table.CreateTableCommand;
 import org.jskat.control.command.table.RemoveTableCommand;
@@ -26,15 +26,21 @@ import org.jskat.control.event.table.SkatSeriesStartedEvent;
 import org.jskat.control.event.table.TableCreatedEvent;
 import org.jskat.control.event.table.TableGameMoveEvent;
 import org.jskat.control.event.table.TableRemovedEvent;
+import org.jskat.util.trace.GameTrace;
+import org.jskat.util.trace.TraceType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.eventbus.AllowConcurrentEvents;
 import com.google.common.eventbus.DeadEvent;
 import com.google.common.eventbus.EventBus;
 import com.google.common.eventbus.Subscribe;
 
 /**
- * Central event bus for JSkat.
+ * Central event bus for JSkat.<br>
+ * <br>
+ * The central bus and the table busses are {@link CompiledEventBus}ses, the
+ * events are delivered to the subscriber methods without reflection.
  */
 public class JSkatEventBus {
 
@@ -44,10 +50,10 @@ public class JSkatEventBus {
 	private final EventBus mainEventBus;
 
 	public final static JSkatEventBus INSTANCE = new JSkatEventBus();
-	public final static Map<String, EventBus> TABLE_EVENT_BUSSES = new HashMap<>();
+	public final static Map<String, EventBus> TABLE_EVENT_BUSSES = new ConcurrentHashMap<>();
 
 	private JSkatEventBus() {
-		mainEventBus = new EventBus("JSkat");
+		mainEventBus = new CompiledEventBus("JSkat");
 		mainEventBus.register(this);
 	}
 
@@ -55,6 +61,10 @@ public class JSkatEventBus {
 		mainEventBus.register(listener);
 	}
 
+	public void unregister(Object listener) {
+		mainEventBus.unregister(listener);
+	}
+
 	public void post(Object event) {
 		mainEventBus.post(event);
 	}
@@ -68,7 +78,7 @@ public class JSkatEventBus {
 	public void createTableEventBusOn(final CreateTableCommand command) {
 
 		if (!JSkatEventBus.TABLE_EVENT_BUSSES.containsKey(command.tableName)) {
-			EventBus eventBus = new EventBus("Table " + command.tableName);
+			EventBus eventBus = new CompiledEventBus("Table " + command.tableName);
 			JSkatEventBus.TABLE_EVENT_BUSSES.put(command.tableName, eventBus);
 
 			post(new TableCreatedEvent(command.tableType, command.tableName));
@@ -83,29 +93,30 @@ public class JSkatEventBus {
 	}
 
 	@Subscribe
+	@AllowConcurrentEvents
 	public void dispatchTableEventOn(ActivePlayerChangedEvent event) {
 		JSkatEventBus.TABLE_EVENT_BUSSES.get(event.tableName).post(event);
 	}
 
 	@Subscribe
+	@AllowConcurrentEvents
 	public void dispatchTableEventOn(TableGameMoveEvent event) {
-		LOG.info("Forwarding game event " + event.gameEvent + " to table "
-				+ event.tableName);
+		GameTrace.trace(TraceType.EVENT_FORWARDED, event.tableName, null, event.gameEvent);
 		JSkatEventBus.TABLE_EVENT_BUSSES.get(event.tableName)
 				.post(event.gameEvent);
 	}
 
 	@Subscribe
+	@AllowConcurrentEvents
 	public void dispatchTableEventOn(SkatSeriesStartedEvent event) {
-		LOG.info("Forwarding table event " + event + " to table "
-				+ event.tableName);
+		GameTrace.trace(TraceType.EVENT_FORWARDED, event.tableName, null, event);
 		JSkatEventBus.TABLE_EVENT_BUSSES.get(event.tableName).post(event);
 	}
 
 	@Subscribe
+	@AllowConcurrentEvents
 	public void dispatchTableCommandOn(ShowCardsCommand command) {
-		LOG.info("Forwarding command " + command + " to table "
-				+ command.tableName);
+		GameTrace.trace(TraceType.EVENT_FORWARDED, command.tableName, null, command);
 		JSkatEventBus.TABLE_EVENT_BUSSES.get(command.tableName).post(command);
 	}
 }
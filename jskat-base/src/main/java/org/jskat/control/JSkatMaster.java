@@ -15,6 +15,8 @@
  */
 package org.jskat.control;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Set;
 
@@ -30,6 +32,8 @@ import org.jskat.data.JSkatApplicationData;
 import org.jskat.data.JSkatOptions;
 import org.jskat.data.JSkatOptions.SupportedLanguage;
 import org.jskat.data.JSkatViewType;
+import org.jskat.data.SkatSeriesJournal;
+import org.jskat.data.SkatSeriesJournal.Replay;
 import org.jskat.gui.JSkatView;
 import org.jskat.gui.action.JSkatAction;
 import org.jskat.gui.action.JSkatActionEvent;
@@ -193,6 +197,47 @@ public class JSkatMaster {
 
 		final SkatTable table = data.getLocalSkatTable(data.getActiveTable());
 
+		placePlayers(table, allPlayer, playerNames);
+
+		table.startSkatSeries(numberOfRounds, unlimited, onlyPlayRamsch, sleeps);
+	}
+
+	/**
+	 * Resumes all series that were not finished, every series gets its own
+	 * table
+	 */
+	public void resumeSkatSeries() {
+
+		try {
+			for (final Path journalFile : SkatSeriesJournal.findJournals()) {
+
+				final long startTime = System.currentTimeMillis();
+				final Replay replay = SkatSeriesJournal.replay(journalFile);
+				if (replay == null) {
+					continue;
+				}
+
+				final String tableName = replay.getHeader().getTableName();
+				if (!data.isFreeTableName(tableName)) {
+					log.warn("Table " + tableName + " already exists, series is not resumed."); //$NON-NLS-1$ //$NON-NLS-2$
+					continue;
+				}
+
+				createLocalTable(tableName, view.getHumanPlayerForGUI());
+				final SkatTable table = data.getLocalSkatTable(tableName);
+				if (placePlayers(table, replay.getHeader().getPlayerTypes(), replay.getHeader().getPlayerNames())) {
+					table.resumeSkatSeries(replay, journalFile);
+					log.debug("Resumed series on table " + tableName + " after " + replay.getGameCount() //$NON-NLS-1$ //$NON-NLS-2$
+							+ " games in " + (System.currentTimeMillis() - startTime) + " ms"); //$NON-NLS-1$ //$NON-NLS-2$
+				}
+			}
+		} catch (final IOException e) {
+			log.error("Skat series could not be resumed", e); //$NON-NLS-1$
+		}
+	}
+
+	private boolean placePlayers(final SkatTable table, final List<String> allPlayer, final List<String> playerNames) {
+
 		table.removePlayers();
 
 		int playerCount = 0;
@@ -203,29 +248,19 @@ public class JSkatMaster {
 			} else {
 				newPlayer = createPlayer(player);
 			}
+			if (newPlayer == null) {
+				return false;
+			}
 			newPlayer.setPlayerName(playerNames.get(playerCount));
 			table.placePlayer(newPlayer);
 			playerCount++;
 		}
 
-		table.startSkatSeries(numberOfRounds, unlimited, onlyPlayRamsch, sleeps);
+		return true;
 	}
 
 	public JSkatPlayer createPlayer(final String player) {
-		JSkatPlayer newPlayer = null;
-		try {
-			newPlayer = (JSkatPlayer) Class.forName(player).newInstance();
-		} catch (final InstantiationException e) {
-			// TODO Auto-generated catch block
-			e.printStackTrace();
-		} catch (final IllegalAccessException e) {
-			// TODO Auto-generated catch block
-			e.printStackTrace();
-		} catch (final ClassNotFoundException e) {
-			// TODO Auto-generated catch block
-			e.printStackTrace();
-		}
-		return newPlayer;
+		return JSkatPlayerResolver.createPlayer(player);
 	}
 
 	/**
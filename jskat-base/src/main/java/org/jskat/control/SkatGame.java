@@ -15,9 +15,19 @@
  */
 package org.jskat.control;
 
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 
 import org.jskat.control.command.table.ShowCardsCommand;
 import org.jskat.control.event.skatgame.BidEvent;
@@ -37,6 +47,7 @@ import org.jskat.data.GameAnnouncement;
 import org.jskat.data.GameAnnouncement.GameAnnouncementFactory;
 import org.jskat.data.GameSummary;
 import org.jskat.data.JSkatOptions;
+import org.jskat.data.SkatGameRules;
 import org.jskat.data.SkatGameData;
 import org.jskat.data.SkatGameData.GameState;
 import org.jskat.data.SkatGameResult;
@@ -44,7 +55,10 @@ import org.jskat.data.SkatTableOptions.ContraCallingTime;
 import org.jskat.data.SkatTableOptions.RamschSkatOwner;
 import org.jskat.data.Trick;
 import org.jskat.gui.JSkatView;
+import org.jskat.gui.NullView;
+import org.jskat.player.AsyncJSkatPlayer;
 import org.jskat.player.JSkatPlayer;
+import org.jskat.player.SynchronousPlayerAdapter;
 import org.jskat.util.Card;
 import org.jskat.util.CardDeck;
 import org.jskat.util.CardList;
@@ -53,8 +67,8 @@ import org.jskat.util.GameVariant;
 import org.jskat.util.JSkatResourceBundle;
 import org.jskat.util.Player;
 import org.jskat.util.SkatConstants;
-import org.jskat.util.rule.SkatRule;
-import org.jskat.util.rule.SkatRuleFactory;
+import org.jskat.util.trace.GameTrace;
+import org.jskat.util.trace.TraceType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -69,13 +83,51 @@ public class SkatGame {
 	private final GameVariant variant;
 	private CardDeck deck;
 	private final Map<Player, JSkatPlayer> player;
+	/**
+	 * Decisions of the players, blocking players are adapted
+	 */
+	private final Map<Player, AsyncJSkatPlayer> decisions;
+	/**
+	 * Active player events are immutable, so one instance per position is
+	 * posted for the whole game
+	 */
+	private final Map<Player, ActivePlayerChangedEvent> activePlayerEvents;
+	/**
+	 * Cards of one deal round, the players copy them into their knowledge
+	 */
+	private final CardList dealRound = new CardList();
 	private Player activePlayer;
 	private final String tableName;
-	private JSkatView view;
-	private SkatRule rules;
+	/**
+	 * View of the game, games without a GUI report to a view that ignores all
+	 * updates
+	 */
+	private JSkatView view = new NullView();
+	/**
+	 * Rules of the game, taken from the options at the start of the game
+	 */
+	private final SkatGameRules gameRules;
+	private final int waitTimeAfterTrick;
 
 	private final JSkatResourceBundle strings = JSkatResourceBundle.INSTANCE;
 
+	/**
+	 * Executor for the game steps
+	 */
+	private Executor executor;
+	/**
+	 * Next step of the game
+	 */
+	private Runnable nextStep;
+	/**
+	 * Decision or delay the next step has to wait for
+	 */
+	private CompletableFuture<?> pendingDecision;
+	/**
+	 * Result of the game, completed when the game is over
+	 */
+	private CompletableFuture<SkatGameResult> result;
+
 	/**
 	 * Constructor
 	 *
@@ -93,211 +145,425 @@ public class SkatGame {
 	public SkatGame(final String newTableName, final GameVariant variant, final JSkatPlayer newForeHand,
 			final JSkatPlayer newMiddleHand, final JSkatPlayer newRearHand) {
 
+		this(newTableName, variant, newForeHand, newMiddleHand, newRearHand,
+				JSkatOptions.instance().getSkatGameRules());
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param newTableName
+	 *            Table name
+	 * @param variant
+	 *            Game variant
+	 * @param newForeHand
+	 *            Fore hand player
+	 * @param newMiddleHand
+	 *            Middle hand player
+	 * @param newRearHand
+	 *            Rear hand player
+	 * @param gameRules
+	 *            Rules of the game
+	 */
+	public SkatGame(final String newTableName, final GameVariant variant, final JSkatPlayer newForeHand,
+			final JSkatPlayer newMiddleHand, final JSkatPlayer newRearHand, final SkatGameRules gameRules) {
+
 		tableName = newTableName;
+		this.gameRules = gameRules;
+		waitTimeAfterTrick = JSkatOptions.instance().getWaitTimeAfterTrick();
 		data = new SkatGameData();
+		data.setGameRules(gameRules);
 		JSkatEventBus.TABLE_EVENT_BUSSES.get(tableName).register(data);
 
 		this.variant = variant;
 
-		player = new HashMap<Player, JSkatPlayer>();
+		player = new EnumMap<>(Player.class);
 		player.put(Player.FOREHAND, newForeHand);
 		player.put(Player.MIDDLEHAND, newMiddleHand);
 		player.put(Player.REARHAND, newRearHand);
 
+		decisions = new EnumMap<>(Player.class);
+		for (final Player position : Player.values()) {
+			decisions.put(position, SynchronousPlayerAdapter.adapt(player.get(position)));
+		}
+
+		activePlayerEvents = new EnumMap<>(Player.class);
+		for (final Player position : Player.values()) {
+			activePlayerEvents.put(position, new ActivePlayerChangedEvent(tableName, position));
+		}
+
 		// inform all players about the starting of the new game
 		for (final Player pos : player.keySet()) {
-			getPlayerInstance(pos).newGame(pos);
+			getPlayerInstance(pos).newGame(pos, gameRules);
 		}
 
 		setGameState(GameState.GAME_START);
 	}
 
 	/**
-	 * Runs the skat game.
+	 * Runs the skat game on the calling thread.
 	 *
 	 * @return Result of the skat game
 	 */
 	public SkatGameResult run() {
-		// FIXME jan 11.07.2013: this method is too long, break it down to smaller
-		// methods or implement it in another way
-		view.setGameState(tableName, data.getGameState());
-
-		do {
-			log.debug("Game state: " + data.getGameState());
-
-			switch (data.getGameState()) {
-			case GAME_START:
-				setGameState(GameState.DEALING);
-				break;
-			case DEALING:
-				dealCards();
-				setGameState(GameState.BIDDING);
-				break;
-			case BIDDING:
-				setActivePlayer(Player.MIDDLEHAND);
-
-				if (variant == GameVariant.FORCED_RAMSCH) {
-					// ramsch games are enforced
-					final GameAnnouncementFactory gaf = GameAnnouncement.getFactory();
-					gaf.setGameType(GameType.RAMSCH);
-					setGameAnnouncement(gaf.getAnnouncement());
-				} else {
-					// "normal" game (i.e. no ramsch)
-					bidding();
-				}
 
-				if (GameType.PASSED_IN.equals(data.getGameType())) {
-					setGameState(GameState.PRELIMINARY_GAME_END);
-				} else if (GameType.RAMSCH.equals(data.getGameType())) {
-					setGameState(GameState.RAMSCH_GRAND_HAND_ANNOUNCING);
-				} else {
-					view.setDeclarer(tableName, data.getDeclarer());
-					setGameState(GameState.PICKING_UP_SKAT);
-				}
-				break;
-			case RAMSCH_GRAND_HAND_ANNOUNCING:
-				final boolean grandHandAnnounced = grandHand();
+		final CallerRunsExecutor callerRuns = new CallerRunsExecutor();
+		final CompletableFuture<SkatGameResult> future = start(callerRuns);
+
+		try {
+			callerRuns.runUntilDone(future);
+		} catch (final InterruptedException e) {
+			log.warn("game was interrupted..."); //$NON-NLS-1$
+			Thread.currentThread().interrupt();
+			fail(e);
+		}
+
+		try {
+			return future.join();
+		} catch (final CompletionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			} else if (e.getCause() instanceof Error) {
+				throw (Error) e.getCause();
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Runs the skat game without blocking a thread while the players are
+	 * deciding.<br>
+	 * The game steps are executed by the given executor. While a player has
+	 * not decided yet the game holds no thread, so many games can share a small
+	 * thread pool.
+	 *
+	 * @param gameExecutor
+	 *            Executor for the game steps
+	 * @return Result of the skat game, completed when the game is over
+	 */
+	public CompletionStage<SkatGameResult> runAsync(final Executor gameExecutor) {
+		return start(gameExecutor).copy();
+	}
+
+	private CompletableFuture<SkatGameResult> start(final Executor gameExecutor) {
+
+		if (result != null) {
+			throw new IllegalStateException("Skat game was started already."); //$NON-NLS-1$
+		}
+
+		executor = gameExecutor;
+		result = new CompletableFuture<>();
+		nextStep = () -> {
+			view.setGameState(tableName, data.getGameState());
+			playGameState();
+		};
+		executor.execute(this::advance);
+
+		return result;
+	}
+
+	/**
+	 * Runs the game steps until the game waits for a decision or is over
+	 */
+	private void advance() {
+
+		Runnable step = nextStep;
+		while (step != null) {
+			nextStep = null;
+			try {
+				step.run();
+			} catch (final RuntimeException | Error e) {
+				fail(e);
+				return;
+			}
+
+			if (pendingDecision != null) {
+				// resume when the decision is made, nothing must be touched
+				// after registering the callback
+				final CompletableFuture<?> decision = pendingDecision;
+				pendingDecision = null;
+				decision.whenComplete((value, error) -> executor.execute(this::advance));
+				return;
+			}
+			step = nextStep;
+		}
+	}
+
+	private void fail(final Throwable error) {
+		log.error("Skat game failed: " + error); //$NON-NLS-1$
+		nextStep = null;
+		JSkatEventBus.TABLE_EVENT_BUSSES.get(tableName).unregister(data);
+		result.completeExceptionally(error);
+	}
+
+	/**
+	 * Continues the game with the next step
+	 */
+	private void then(final Runnable step) {
+		nextStep = step;
+	}
+
+	/**
+	 * Continues the game with the next step after a delay, no thread is blocked
+	 * during the delay
+	 */
+	private void delay(final int milliseconds, final Runnable step) {
+		if (milliseconds > 0) {
+			pendingDecision = CompletableFuture.runAsync(() -> {
+				// only the delay is needed
+			}, CompletableFuture.delayedExecutor(milliseconds, TimeUnit.MILLISECONDS));
+		}
+		nextStep = step;
+	}
 
+	/**
+	 * Continues the game with the decision of a player, a failing decision
+	 * fails the game
+	 */
+	private <T> void decide(final CompletionStage<T> decision, final Consumer<? super T> handler) {
+		handleDecision(decision, (value, error) -> {
+			if (error != null) {
+				fail(error);
+			} else {
+				handler.accept(value);
+			}
+		});
+	}
+
+	/**
+	 * Continues the game with the decision of a player or the error that
+	 * occured during the decision
+	 */
+	private <T> void handleDecision(final CompletionStage<T> decision,
+			final BiConsumer<? super T, Throwable> handler) {
+
+		final CompletableFuture<T> future = decision.toCompletableFuture();
+		if (!future.isDone()) {
+			pendingDecision = future;
+		}
+		nextStep = () -> {
+			T value = null;
+			Throwable error = null;
+			try {
+				value = future.join();
+			} catch (final CompletionException e) {
+				error = e.getCause() != null ? e.getCause() : e;
+			} catch (final CancellationException e) {
+				error = e;
+			}
+			handler.accept(value, error);
+		};
+	}
+
+	private void continueWith(final GameState newState) {
+		setGameState(newState);
+		then(this::playGameState);
+	}
+
+	private void playGameState() {
+
+		log.debug("Game state: {}", data.getGameState()); //$NON-NLS-1$
+
+		switch (data.getGameState()) {
+		case GAME_START:
+			continueWith(GameState.DEALING);
+			break;
+		case DEALING:
+			delay(maxSleep, () -> {
+				dealAllCards();
+				delay(maxSleep, () -> continueWith(GameState.BIDDING));
+			});
+			break;
+		case BIDDING:
+			setActivePlayer(Player.MIDDLEHAND);
+
+			if (variant == GameVariant.FORCED_RAMSCH) {
+				// ramsch games are enforced
+				final GameAnnouncementFactory gaf = GameAnnouncement.getFactory();
+				gaf.setGameType(GameType.RAMSCH);
+				setGameAnnouncement(gaf.getAnnouncement());
+				biddingFinished();
+			} else {
+				// "normal" game (i.e. no ramsch)
+				bidding(this::biddingFinished);
+			}
+			break;
+		case RAMSCH_GRAND_HAND_ANNOUNCING:
+			grandHand(0, false, grandHandAnnounced -> {
 				if (grandHandAnnounced) {
-					log.debug(data.getDeclarer() + " is playing grand hand"); //$NON-NLS-1$
+					log.debug("{} is playing grand hand", data.getDeclarer()); //$NON-NLS-1$
 					final GameAnnouncementFactory gaf = GameAnnouncement.getFactory();
 					gaf.setGameType(GameType.GRAND);
 					gaf.setHand(Boolean.TRUE);
 					setGameAnnouncement(gaf.getAnnouncement());
-					setGameState(GameState.TRICK_PLAYING);
+					continueWith(GameState.TRICK_PLAYING);
 					log.debug("grand hand game started"); //$NON-NLS-1$
-					break;
+				} else if (gameRules.isSchieberamsch()) {
+					log.debug("no grand hand - initiating schieberamsch"); //$NON-NLS-1$
+					continueWith(GameState.SCHIEBERAMSCH);
 				} else {
-					if (JSkatOptions.instance().isSchieberamsch(true)) {
-						log.debug("no grand hand - initiating schieberamsch"); //$NON-NLS-1$
-						setGameState(GameState.SCHIEBERAMSCH);
-					} else {
-						log.debug("no grand hand and no schieberamsch - play ramsch"); //$NON-NLS-1$
-						setGameState(GameState.TRICK_PLAYING);
-					}
+					log.debug("no grand hand and no schieberamsch - play ramsch"); //$NON-NLS-1$
+					continueWith(GameState.TRICK_PLAYING);
 				}
-				break;
-			case SCHIEBERAMSCH:
-				schieberamsch();
+			});
+			break;
+		case SCHIEBERAMSCH:
+			schieberamsch(0, () -> {
 				final GameAnnouncementFactory factory = GameAnnouncement.getFactory();
 				factory.setGameType(GameType.RAMSCH);
 				setGameAnnouncement(factory.getAnnouncement());
-				setGameState(GameState.TRICK_PLAYING);
-				break;
-			case PICKING_UP_SKAT:
-				setActivePlayer(data.getDeclarer());
-				if (pickUpSkat()) {
-					setGameState(GameState.DISCARDING);
+				continueWith(GameState.TRICK_PLAYING);
+			});
+			break;
+		case PICKING_UP_SKAT:
+			setActivePlayer(data.getDeclarer());
+			decide(getActivePlayerDecisions().pickUpSkatAsync(), pickUpSkat -> {
+				if (pickUpSkat) {
+					continueWith(GameState.DISCARDING);
 				} else {
-					setGameState(GameState.DECLARING);
+					continueWith(GameState.DECLARING);
 				}
-				break;
-			case DISCARDING:
-				setActivePlayer(data.getDeclarer());
-				discarding();
+			});
+			break;
+		case DISCARDING:
+			setActivePlayer(data.getDeclarer());
+			discarding(() -> {
 				if (!GameState.PRELIMINARY_GAME_END.equals(data.getGameState())) {
 					setGameState(GameState.DECLARING);
 				}
-				break;
-			case DECLARING:
-				announceGame();
+				then(this::playGameState);
+			});
+			break;
+		case DECLARING:
+			announceGame(() -> {
 				if (isContraPlayEnabled(ContraCallingTime.AFTER_GAME_ANNOUNCEMENT, 0)) {
-					setGameState(GameState.CONTRA);
+					continueWith(GameState.CONTRA);
 				} else {
-					setGameState(GameState.TRICK_PLAYING);
+					continueWith(GameState.TRICK_PLAYING);
 				}
-				break;
-			case CONTRA:
-				for (final Player player : Player.getOrderedList()) {
-					if (isContraEnabledForPlayer(player, ContraCallingTime.AFTER_GAME_ANNOUNCEMENT, 0)) {
-						setActivePlayer(player);
-						contraRe();
-					}
-				}
-				setGameState(GameState.TRICK_PLAYING);
-				break;
-			case TRICK_PLAYING:
-				playTricks();
-				setGameState(GameState.CALCULATING_GAME_VALUE);
-				break;
-			case PRELIMINARY_GAME_END:
-				setGameState(GameState.CALCULATING_GAME_VALUE);
-				break;
-			case CALCULATING_GAME_VALUE:
-				calculateGameValue();
-				setGameState(GameState.GAME_OVER);
-				break;
-			case GAME_OVER:
-				break;
-			}
-
-		} while (data.getGameState() != GameState.GAME_OVER);
+			});
+			break;
+		case CONTRA:
+			contraAfterGameAnnouncement(0);
+			break;
+		case TRICK_PLAYING:
+			playTrick(0);
+			break;
+		case PRELIMINARY_GAME_END:
+			continueWith(GameState.CALCULATING_GAME_VALUE);
+			break;
+		case CALCULATING_GAME_VALUE:
+			calculateGameValue();
+			delay(maxSleep, () -> continueWith(GameState.GAME_OVER));
+			break;
+		case GAME_OVER:
+			JSkatEventBus.TABLE_EVENT_BUSSES.get(tableName).unregister(data);
 
-		JSkatEventBus.TABLE_EVENT_BUSSES.get(tableName).unregister(data);
+			log.debug(data.getGameState().name());
 
-		log.debug(data.getGameState().name());
-		log.debug("Game moves:");
-		for (final SkatGameEvent event : data.getGameMoves()) {
-			log.debug(event.toString());
+			result.complete(getGameResult());
+			break;
 		}
-
-		return getGameResult();
 	}
 
-	private void contraRe() {
-		if (getActivePlayerInstance().callContra()) {
-			JSkatEventBus.INSTANCE.post(new TableGameMoveEvent(tableName, new ContraEvent(activePlayer)));
-			final Player activePlayerBeforeContraRe = activePlayer;
-			setActivePlayer(data.getDeclarer());
-			if (getActivePlayerInstance().callRe()) {
-				JSkatEventBus.INSTANCE.post(new TableGameMoveEvent(tableName, new ReEvent(activePlayer)));
-			}
-			setActivePlayer(activePlayerBeforeContraRe);
+	private void biddingFinished() {
+		if (GameType.PASSED_IN.equals(data.getGameType())) {
+			continueWith(GameState.PRELIMINARY_GAME_END);
+		} else if (GameType.RAMSCH.equals(data.getGameType())) {
+			continueWith(GameState.RAMSCH_GRAND_HAND_ANNOUNCING);
+		} else {
+			view.setDeclarer(tableName, data.getDeclarer());
+			continueWith(GameState.PICKING_UP_SKAT);
 		}
 	}
 
-	private boolean grandHand() {
-		boolean grandHandAnnounced = false;
+	private void contraAfterGameAnnouncement(final int playerIndex) {
+		final List<Player> players = Player.getOrderedList();
+		if (playerIndex == players.size()) {
+			continueWith(GameState.TRICK_PLAYING);
+			return;
+		}
 
-		for (final Player currPlayer : Player.getOrderedList()) {
-			setActivePlayer(currPlayer);
-			if (!grandHandAnnounced && playGrandHand()) {
-				log.debug("Player " + activePlayer + " is playing grand hand.");
-				setDeclarer(activePlayer);
-				grandHandAnnounced = true;
+		final Player player = players.get(playerIndex);
+		if (isContraEnabledForPlayer(player, ContraCallingTime.AFTER_GAME_ANNOUNCEMENT, 0)) {
+			setActivePlayer(player);
+			contraRe(() -> contraAfterGameAnnouncement(playerIndex + 1));
+		} else {
+			contraAfterGameAnnouncement(playerIndex + 1);
+		}
+	}
+
+	private void contraRe(final Runnable done) {
+		decide(getActivePlayerDecisions().callContraAsync(), callContra -> {
+			if (callContra) {
+				JSkatEventBus.INSTANCE.post(new TableGameMoveEvent(tableName, new ContraEvent(activePlayer)));
+				final Player activePlayerBeforeContraRe = activePlayer;
+				setActivePlayer(data.getDeclarer());
+				decide(getActivePlayerDecisions().callReAsync(), callRe -> {
+					if (callRe) {
+						JSkatEventBus.INSTANCE.post(new TableGameMoveEvent(tableName, new ReEvent(activePlayer)));
+					}
+					setActivePlayer(activePlayerBeforeContraRe);
+					done.run();
+				});
 			} else {
-				log.debug("Player " + activePlayer + " doesn't want to play grand hand.");
+				done.run();
 			}
+		});
+	}
+
+	private void grandHand(final int playerIndex, final boolean grandHandAnnounced, final Consumer<Boolean> done) {
+
+		final List<Player> players = Player.getOrderedList();
+		if (playerIndex == players.size()) {
+			done.accept(grandHandAnnounced);
+			return;
+		}
+
+		setActivePlayer(players.get(playerIndex));
+		if (grandHandAnnounced) {
+			log.debug("Player {} doesn't want to play grand hand.", activePlayer); //$NON-NLS-1$
+			grandHand(playerIndex + 1, true, done);
+		} else {
+			decide(getActivePlayerDecisions().playGrandHandAsync(), playGrandHand -> {
+				if (playGrandHand) {
+					log.debug("Player {} is playing grand hand.", activePlayer); //$NON-NLS-1$
+					setDeclarer(activePlayer);
+				} else {
+					log.debug("Player {} doesn't want to play grand hand.", activePlayer); //$NON-NLS-1$
+				}
+				grandHand(playerIndex + 1, playGrandHand, done);
+			});
 		}
-		return grandHandAnnounced;
 	}
 
-	private void schieberamsch() {
-		for (final Player currPlayer : Player.getOrderedList()) {
-			setActivePlayer(currPlayer);
-			if (!pickUpSkat()) {
-				log.debug("Player " + currPlayer + " does schieben."); //$NON-NLS-1$
+	private void schieberamsch(final int playerIndex, final Runnable done) {
+
+		final List<Player> players = Player.getOrderedList();
+		if (playerIndex == players.size()) {
+			done.run();
+			return;
+		}
+
+		final Player currPlayer = players.get(playerIndex);
+		setActivePlayer(currPlayer);
+		decide(getActivePlayerDecisions().pickUpSkatAsync(), pickUpSkat -> {
+			if (!pickUpSkat) {
+				log.debug("Player {} does schieben.", currPlayer); //$NON-NLS-1$
 				data.addGeschoben();
 				view.setGeschoben(tableName, activePlayer);
+				schieberamsch(playerIndex + 1, done);
 			} else {
-				log.debug("Player " + currPlayer + " wants to look into skat.");
+				log.debug("Player {} wants to look into skat.", currPlayer); //$NON-NLS-1$
 				view.setSkat(tableName, data.getSkat());
-				discarding();
+				discarding(() -> schieberamsch(playerIndex + 1, done));
 			}
-		}
+		});
 	}
 
 	private void setActivePlayer(final Player newPlayer) {
 		activePlayer = newPlayer;
-		JSkatEventBus.INSTANCE.post(new ActivePlayerChangedEvent(tableName, activePlayer));
-	}
-
-	private boolean playGrandHand() {
-		return getActivePlayerInstance().playGrandHand();
-	}
-
-	private boolean pickUpSkat() {
-		return getActivePlayerInstance().pickUpSkat();
+		JSkatEventBus.INSTANCE.post(activePlayerEvents.get(activePlayer));
 	}
 
 	/**
@@ -305,6 +571,15 @@ public class SkatGame {
 	 */
 	public void dealCards() {
 
+		doSleep(maxSleep);
+
+		dealAllCards();
+
+		doSleep(maxSleep);
+	}
+
+	private void dealAllCards() {
+
 		final Map<Player, CardList> dealtCards = new HashMap<>();
 		for (final Player player : Player.values()) {
 			dealtCards.put(player, new CardList());
@@ -317,11 +592,9 @@ public class SkatGame {
 			log.debug("shuffling..."); //$NON-NLS-1$
 			deck.shuffle();
 
-			log.debug(deck.toString());
+			GameTrace.trace(TraceType.DECK_SHUFFLED, tableName, null, deck);
 		}
 
-		doSleep(maxSleep);
-
 		log.debug("dealing..."); //$NON-NLS-1$
 
 		// deal three rounds of cards
@@ -336,13 +609,12 @@ public class SkatGame {
 
 		JSkatEventBus.INSTANCE.post(new TableGameMoveEvent(tableName, new CardDealEvent(dealtCards, skat)));
 
-		doSleep(maxSleep);
-
-		log.debug("Fore hand: " + data.getPlayerCards(Player.FOREHAND)); //$NON-NLS-1$
-		log.debug("Middle hand: " //$NON-NLS-1$
-				+ data.getPlayerCards(Player.MIDDLEHAND));
-		log.debug("Rear hand: " + data.getPlayerCards(Player.REARHAND)); //$NON-NLS-1$
-		log.debug("Skat: " + data.getSkat()); //$NON-NLS-1$
+		if (GameTrace.isEnabled()) {
+			for (final Player hand : Player.values()) {
+				GameTrace.trace(TraceType.CARDS_DEALT, tableName, hand, data.getPlayerCards(hand));
+			}
+			GameTrace.trace(TraceType.SKAT_DEALT, tableName, null, data.getSkat());
+		}
 	}
 
 	/**
@@ -354,76 +626,82 @@ public class SkatGame {
 	private void dealCards(final int cardCount, final Map<Player, CardList> dealtCards) {
 
 		for (final Player hand : Player.getOrderedList()) {
-			final CardList cards = new CardList();
+			dealRound.clear();
 			for (int j = 0; j < cardCount; j++) {
 				// deal amount of cards
-				cards.add(deck.remove(0));
+				dealRound.add(deck.remove(0));
 			}
 			// player can get original card object because Card is immutable
-			getPlayerInstance(hand).takeCards(cards);
-			dealtCards.get(hand).addAll(cards);
+			getPlayerInstance(hand).takeCards(dealRound);
+			dealtCards.get(hand).addAll(dealRound);
 		}
 	}
 
 	/**
 	 * Controls the bidding of all players
+	 *
+	 * @param done
+	 *            Continuation after the bidding
 	 */
-	private void bidding() {
-
-		int bidValue = 0;
+	private void bidding(final Runnable done) {
 
 		log.debug("ask middle and fore hand..."); //$NON-NLS-1$
 
-		bidValue = twoPlayerBidding(Player.MIDDLEHAND, Player.FOREHAND, bidValue);
+		twoPlayerBidding(Player.MIDDLEHAND, Player.FOREHAND, 0, firstBidValue -> {
 
-		log.debug("Bid value after first bidding: " //$NON-NLS-1$
-				+ bidValue);
+			log.debug("Bid value after first bidding: {}", firstBidValue); //$NON-NLS-1$
 
-		final Player firstWinner = getBiddingWinner(Player.MIDDLEHAND, Player.FOREHAND);
+			final Player firstWinner = getBiddingWinner(Player.MIDDLEHAND, Player.FOREHAND);
 
-		log.debug("First bidding winner: " + firstWinner); //$NON-NLS-1$
-		log.debug("ask rear hand and first winner..."); //$NON-NLS-1$
+			log.debug("First bidding winner: {}", firstWinner); //$NON-NLS-1$
+			log.debug("ask rear hand and first winner..."); //$NON-NLS-1$
 
-		bidValue = twoPlayerBidding(Player.REARHAND, firstWinner, bidValue);
+			twoPlayerBidding(Player.REARHAND, firstWinner, firstBidValue, bidValue -> {
 
-		log.debug("Bid value after second bidding: " //$NON-NLS-1$
-				+ bidValue);
+				log.debug("Bid value after second bidding: {}", bidValue); //$NON-NLS-1$
 
-		// get second winner
-		Player secondWinner = getBiddingWinner(Player.REARHAND, firstWinner);
+				// get second winner
+				final Player secondWinner = getBiddingWinner(Player.REARHAND, firstWinner);
 
-		if (secondWinner == Player.FOREHAND && bidValue == 0) {
+				if (secondWinner == Player.FOREHAND && bidValue == 0) {
 
-			log.debug("Check whether fore hand holds at least one bid"); //$NON-NLS-1$
+					log.debug("Check whether fore hand holds at least one bid"); //$NON-NLS-1$
 
-			setActivePlayer(Player.FOREHAND);
+					setActivePlayer(Player.FOREHAND);
 
-			// check whether fore hand holds at least one bid
-			if (getPlayerInstance(Player.FOREHAND).bidMore(18) > -1) {
+					// check whether fore hand holds at least one bid
+					decide(getPlayerDecisions(Player.FOREHAND).bidMoreAsync(18), foreHandBidValue -> {
+						if (foreHandBidValue > -1) {
 
-				log.debug("Fore hand holds 18"); //$NON-NLS-1$
-				JSkatEventBus.INSTANCE.post(new TableGameMoveEvent(tableName, new BidEvent(secondWinner, 18)));
-			} else {
+							log.debug("Fore hand holds 18"); //$NON-NLS-1$
+							JSkatEventBus.INSTANCE
+									.post(new TableGameMoveEvent(tableName, new BidEvent(secondWinner, 18)));
+							finishBidding(secondWinner, done);
+						} else {
 
-				log.debug("Fore hand passes too"); //$NON-NLS-1$
-				JSkatEventBus.INSTANCE.post(new TableGameMoveEvent(tableName, new PassBidEvent(Player.FOREHAND)));
-				secondWinner = null;
-			}
-		}
+							log.debug("Fore hand passes too"); //$NON-NLS-1$
+							JSkatEventBus.INSTANCE
+									.post(new TableGameMoveEvent(tableName, new PassBidEvent(Player.FOREHAND)));
+							finishBidding(null, done);
+						}
+					});
+				} else {
+					finishBidding(secondWinner, done);
+				}
+			});
+		});
+	}
 
-		if (secondWinner != null) {
+	private void finishBidding(final Player biddingWinner, final Runnable done) {
+
+		if (biddingWinner != null) {
 			// there is a winner of the bidding
-			setDeclarer(secondWinner);
-			setActivePlayer(secondWinner);
+			setDeclarer(biddingWinner);
+			setActivePlayer(biddingWinner);
 
-			log.debug("Player " + data.getDeclarer() //$NON-NLS-1$
-					+ " wins the bidding."); //$NON-NLS-1$
+			log.debug("Player {} wins the bidding.", data.getDeclarer()); //$NON-NLS-1$
 		} else {
-			// FIXME (jansch 02.01.2012) use cloned rule options here (see
-			// MantisBT: 0000037)
-			final JSkatOptions options = JSkatOptions.instance();
-
-			if (options.isPlayRamsch() && options.isRamschEventNoBid()) {
+			if (gameRules.isPlayRamsch() && gameRules.isRamschEventNoBid()) {
 				log.debug("Playing ramsch due to no bid"); //$NON-NLS-1$
 				final GameAnnouncementFactory factory = GameAnnouncement.getFactory();
 				factory.setGameType(GameType.RAMSCH);
@@ -440,7 +718,7 @@ public class SkatGame {
 			}
 		}
 
-		doSleep(maxSleep);
+		delay(maxSleep, done);
 	}
 
 	private void informPlayersAboutBid(final Player bidPlayer, final int bidValue) {
@@ -457,69 +735,66 @@ public class SkatGame {
 	 *            Announcing player
 	 * @param hearer
 	 *            Hearing player
-	 * @param startBidValue
+	 * @param currBidValue
 	 *            Bid value to start from
-	 * @return the final bid value
+	 * @param done
+	 *            Continuation with the final bid value
 	 */
-	private int twoPlayerBidding(final Player announcer, final Player hearer, final int startBidValue) {
-
-		int currBidValue = startBidValue;
-		boolean announcerPassed = false;
-		boolean hearerPassed = false;
+	private void twoPlayerBidding(final Player announcer, final Player hearer, final int currBidValue,
+			final IntConsumer done) {
 
-		while (!announcerPassed && !hearerPassed) {
+		// get bid value
+		final int nextBidValue = SkatConstants.getNextBidValue(currBidValue);
+		view.setBidValueToMake(tableName, nextBidValue);
+		// ask player
+		setActivePlayer(announcer);
+		decide(getPlayerDecisions(announcer).bidMoreAsync(nextBidValue), announcerBidValue -> {
 
-			// get bid value
-			final int nextBidValue = SkatConstants.getNextBidValue(currBidValue);
-			view.setBidValueToMake(tableName, nextBidValue);
-			// ask player
-			setActivePlayer(announcer);
-			final int announcerBidValue = getPlayerInstance(announcer).bidMore(nextBidValue);
+			if (announcerBidValue > -1 && SkatConstants.bidOrder.contains(announcerBidValue)) {
 
-			if (announcerBidValue > -1 && SkatConstants.bidOrder.contains(Integer.valueOf(announcerBidValue))) {
-
-				log.debug("announcer bids " + announcerBidValue); //$NON-NLS-1$
+				GameTrace.trace(TraceType.BID, tableName, announcer, announcerBidValue);
 
 				// announcing hand holds bid
-				currBidValue = announcerBidValue;
-
 				data.addPlayerBid(announcer, announcerBidValue);
 				informPlayersAboutBid(announcer, announcerBidValue);
 				JSkatEventBus.INSTANCE
 						.post(new TableGameMoveEvent(tableName, new BidEvent(announcer, announcerBidValue)));
 
 				setActivePlayer(hearer);
-				if (getPlayerInstance(hearer).holdBid(currBidValue)) {
+				decide(getPlayerDecisions(hearer).holdBidAsync(announcerBidValue), holdBid -> {
+					if (holdBid) {
 
-					log.debug("hearer holds " + currBidValue); //$NON-NLS-1$
+						GameTrace.trace(TraceType.HOLD_BID, tableName, hearer, announcerBidValue);
 
-					// hearing hand holds bid
-					data.addPlayerBid(hearer, announcerBidValue);
-					informPlayersAboutBid(hearer, announcerBidValue);
-					JSkatEventBus.INSTANCE
-							.post(new TableGameMoveEvent(tableName, new HoldBidEvent(hearer, announcerBidValue)));
+						// hearing hand holds bid
+						data.addPlayerBid(hearer, announcerBidValue);
+						informPlayersAboutBid(hearer, announcerBidValue);
+						JSkatEventBus.INSTANCE
+								.post(new TableGameMoveEvent(tableName, new HoldBidEvent(hearer, announcerBidValue)));
 
-				} else {
+						twoPlayerBidding(announcer, hearer, announcerBidValue, done);
+					} else {
 
-					log.debug("hearer passed at " + announcerBidValue); //$NON-NLS-1$
+						GameTrace.trace(TraceType.PASS_BID, tableName, hearer, announcerBidValue);
 
-					// hearing hand passed
-					hearerPassed = true;
-					data.setPlayerPass(hearer, true);
-					JSkatEventBus.INSTANCE.post(new TableGameMoveEvent(tableName, new PassBidEvent(hearer)));
-				}
+						// hearing hand passed
+						data.setPlayerPass(hearer, true);
+						JSkatEventBus.INSTANCE.post(new TableGameMoveEvent(tableName, new PassBidEvent(hearer)));
+
+						done.accept(announcerBidValue);
+					}
+				});
 			} else {
 
-				log.debug("announcer passed at " + nextBidValue); //$NON-NLS-1$
+				GameTrace.trace(TraceType.PASS_BID, tableName, announcer, nextBidValue);
 
 				// announcing hand passes
-				announcerPassed = true;
 				data.setPlayerPass(announcer, true);
 				JSkatEventBus.INSTANCE.post(new TableGameMoveEvent(tableName, new PassBidEvent(announcer)));
-			}
-		}
 
-		return currBidValue;
+				done.accept(currBidValue);
+			}
+		});
 	}
 
 	private Player getBiddingWinner(final Player announcer, final Player hearer) {
@@ -535,40 +810,45 @@ public class SkatGame {
 		return biddingWinner;
 	}
 
-	private void discarding() {
+	private void discarding(final Runnable done) {
 
+		final Player discardingPlayer = activePlayer;
 		final JSkatPlayer activePlayerInstance = getActivePlayerInstance();
 
 		view.setSkat(tableName, data.getSkat());
 
-		log.debug("Player " + activePlayer + " looks into the skat..."); //$NON-NLS-1$ //$NON-NLS-2$
-		log.debug("Skat before discarding: " + data.getSkat()); //$NON-NLS-1$
+		if (GameTrace.isEnabled()) {
+			GameTrace.trace(TraceType.SKAT_TAKEN, tableName, discardingPlayer, data.getSkat());
+		}
 
 		final CardList skatBefore = new CardList(data.getSkat());
 
 		// create a clone of the skat before sending it to the player
 		// otherwise the player could change the skat after discarding
 		activePlayerInstance.takeSkat(skatBefore);
-		data.addSkatToPlayer(activePlayer);
+		data.addSkatToPlayer(discardingPlayer);
 
 		// ask player for the cards to be discarded
-		// cloning is done to prevent the player
-		// from manipulating the skat afterwards
-		final CardList discardedSkat = new CardList();
-		discardedSkat.addAll(activePlayerInstance.discardSkat());
-
-		if (!checkDiscardedCards(activePlayer, discardedSkat)) {
-			view.showAIPlayedSchwarzMessageDiscarding(activePlayerInstance.getPlayerName(), discardedSkat);
-			endGameBecauseOfSchwarzPlaying(activePlayer);
-		} else {
-			log.debug("Discarded cards: " + discardedSkat); //$NON-NLS-1$
+		decide(getActivePlayerDecisions().discardSkatAsync(), cards -> {
+			// cloning is done to prevent the player
+			// from manipulating the skat afterwards
+			final CardList discardedSkat = new CardList();
+			discardedSkat.addAll(cards);
+
+			if (!checkDiscardedCards(discardingPlayer, discardedSkat)) {
+				view.showAIPlayedSchwarzMessageDiscarding(activePlayerInstance.getPlayerName(), discardedSkat);
+				endGameBecauseOfSchwarzPlaying(discardingPlayer);
+			} else {
+				GameTrace.trace(TraceType.SKAT_DISCARDED, tableName, discardingPlayer, discardedSkat);
 
-			data.setDiscardedSkat(activePlayer, discardedSkat);
-			if (!activePlayerInstance.isHumanPlayer()) {
-				// human player has changed the cards in the GUI already
-				view.setDiscardedSkat(tableName, activePlayer, skatBefore, discardedSkat);
+				data.setDiscardedSkat(discardingPlayer, discardedSkat);
+				if (!activePlayerInstance.isHumanPlayer()) {
+					// human player has changed the cards in the GUI already
+					view.setDiscardedSkat(tableName, discardingPlayer, skatBefore, discardedSkat);
+				}
 			}
-		}
+			done.run();
+		});
 	}
 
 	private boolean checkDiscardedCards(final Player player, final CardList discardedSkat) {
@@ -596,107 +876,110 @@ public class SkatGame {
 		return result;
 	}
 
-	private void announceGame() {
+	private void announceGame(final Runnable done) {
 
 		log.debug("declaring game..."); //$NON-NLS-1$
 
 		// TODO check for valid game announcements
-		final GameAnnouncement ann = getPlayerInstance(data.getDeclarer()).announceGame();
-		if (ann != null) {
-			setGameAnnouncement(ann);
-		} else {
-			view.showErrorMessage(strings.getString("invalid_game_announcement_title"), //$NON-NLS-1$
-					strings.getString("invalid_game_announcement_message", ann)); //$NON-NLS-1$
-		}
+		decide(getPlayerDecisions(data.getDeclarer()).announceGameAsync(), ann -> {
+			if (ann != null) {
+				setGameAnnouncement(ann);
+			} else {
+				view.showErrorMessage(strings.getString("invalid_game_announcement_title"), //$NON-NLS-1$
+						strings.getString("invalid_game_announcement_message", ann)); //$NON-NLS-1$
+			}
 
-		doSleep(maxSleep);
+			delay(maxSleep, done);
+		});
 	}
 
-	private void playTricks() {
-
-		for (int trickNo = 0; trickNo < 10; trickNo++) {
+	private void playTrick(final int trickNo) {
 
-			log.debug("=============== Play trick " + (trickNo + 1) + " ==============="); //$NON-NLS-1$ //$NON-NLS-2$
-			doSleep(maxSleep);
+		if (trickNo == 10) {
+			finishTricks();
+			return;
+		}
 
+		delay(maxSleep, () -> {
 			final Player trickForehand = getTrickForeHand(trickNo);
+			GameTrace.trace(TraceType.TRICK_STARTED, tableName, trickForehand, trickNo + 1);
 			setActivePlayer(trickForehand);
 
 			informPlayersAboutNewTrick(trickNo, trickForehand);
 
 			// Ask players for their cards
 			log.debug("fore hand plays"); //$NON-NLS-1$
-			if (isContraEnabledForPlayer(activePlayer, ContraCallingTime.BEFORE_FIRST_CARD, trickNo)) {
-				setGameState(GameState.CONTRA);
-				contraRe();
-			}
-			setGameState(GameState.TRICK_PLAYING);
+			playTrickCard(trickNo, trickForehand, 0);
+		});
+	}
 
-			playCard(trickForehand, null, activePlayer);
+	private void playTrickCard(final int trickNo, final Player trickForehand, final int cardNo) {
 
-			if (data.isGameFinished()) {
-				break;
-			}
+		if (isContraEnabledForPlayer(activePlayer, ContraCallingTime.BEFORE_FIRST_CARD, trickNo)) {
+			setGameState(GameState.CONTRA);
+			contraRe(() -> askForTrickCard(trickNo, trickForehand, cardNo));
+		} else {
+			askForTrickCard(trickNo, trickForehand, cardNo);
+		}
+	}
 
-			doSleep(maxSleep);
+	private void askForTrickCard(final int trickNo, final Player trickForehand, final int cardNo) {
 
-			log.debug("middle hand plays"); //$NON-NLS-1$
-			setActivePlayer(activePlayer.getLeftNeighbor());
-			if (isContraEnabledForPlayer(activePlayer, ContraCallingTime.BEFORE_FIRST_CARD, trickNo)) {
-				setGameState(GameState.CONTRA);
-				contraRe();
-			}
-			setGameState(GameState.TRICK_PLAYING);
+		setGameState(GameState.TRICK_PLAYING);
 
-			playCard(trickForehand, data.getCurrentTrick().getFirstCard(), activePlayer);
+		final Card firstTrickCard = cardNo == 0 ? null : data.getCurrentTrick().getFirstCard();
+		playCard(trickForehand, firstTrickCard, activePlayer, () -> {
 
 			if (data.isGameFinished()) {
-				break;
-			}
-
-			doSleep(maxSleep);
-
-			log.debug("rear hand plays"); //$NON-NLS-1$
-			setActivePlayer(activePlayer.getLeftNeighbor());
-			if (isContraEnabledForPlayer(activePlayer, ContraCallingTime.BEFORE_FIRST_CARD, trickNo)) {
-				setGameState(GameState.CONTRA);
-				contraRe();
+				finishTricks();
+				return;
 			}
-			setGameState(GameState.TRICK_PLAYING);
 
-			playCard(trickForehand, data.getCurrentTrick().getFirstCard(), activePlayer);
-
-			if (data.isGameFinished()) {
-				break;
-			}
+			delay(maxSleep, () -> {
+				if (cardNo == 2) {
+					completeTrick(trickNo);
+				} else {
+					log.debug(cardNo == 0 ? "middle hand plays" : "rear hand plays"); //$NON-NLS-1$ //$NON-NLS-2$
+					setActivePlayer(activePlayer.getLeftNeighbor());
+					playTrickCard(trickNo, trickForehand, cardNo + 1);
+				}
+			});
+		});
+	}
 
-			doSleep(maxSleep);
+	private void completeTrick(final int trickNo) {
 
-			final Trick lastTrick = data.getLastCompletedTrick();
-			data.addPlayerPoints(lastTrick.getTrickWinner(), lastTrick.getValue());
+		final Trick lastTrick = data.getLastCompletedTrick();
+		data.addPlayerPoints(lastTrick.getTrickWinner(), lastTrick.getValue());
 
-			informPlayersAboutCompletedTrick(lastTrick);
+		informPlayersAboutCompletedTrick(lastTrick);
 
-			// Check for preliminary ending of a null game
-			if (GameType.NULL.equals(data.getGameType())) {
+		// Check for preliminary ending of a null game
+		if (GameType.NULL.equals(data.getGameType())) {
 
-				if (lastTrick.getTrickWinner() == data.getDeclarer()) {
-					// declarer has won a trick
-					setGameState(GameState.PRELIMINARY_GAME_END);
-				}
+			if (lastTrick.getTrickWinner() == data.getDeclarer()) {
+				// declarer has won a trick
+				setGameState(GameState.PRELIMINARY_GAME_END);
 			}
+		}
 
-			log.debug("Trick cards: " + lastTrick.getCardList()); //$NON-NLS-1$
-			logPlayerPoints();
-
-			if (getActivePlayerInstance().isAIPlayer()) {
-				doSleep(JSkatOptions.instance().getWaitTimeAfterTrick() * 1000);
-			}
+		if (GameTrace.isEnabled()) {
+			GameTrace.trace(TraceType.TRICK_COMPLETED, tableName, lastTrick.getTrickWinner(),
+					lastTrick.getCardList(), lastTrick.getValue());
+		}
+		tracePlayerPoints();
 
+		final int waitTime = getActivePlayerInstance().isAIPlayer() ? waitTimeAfterTrick * 1000 : 0;
+		delay(waitTime, () -> {
 			if (data.isGameFinished()) {
-				break;
+				finishTricks();
+			} else {
+				playTrick(trickNo + 1);
 			}
-		}
+		});
+	}
+
+	private void finishTricks() {
 
 		addSkatPointsToPlayerPoints();
 
@@ -717,12 +1000,13 @@ public class SkatGame {
 			// do nothing
 			break;
 		}
+
+		continueWith(GameState.CALCULATING_GAME_VALUE);
 	}
 
 	private Boolean isContraPlayEnabled(final ContraCallingTime gameTime, final int trickNo) {
-		final JSkatOptions options = JSkatOptions.instance();
-		if (!GameVariant.FORCED_RAMSCH.equals(variant) && options.isPlayContra(true)
-				&& options.getContraCallingTime() == gameTime && isGameWithDeclarer()) {
+		if (!GameVariant.FORCED_RAMSCH.equals(variant) && gameRules.isPlayContra()
+				&& gameRules.getContraCallingTime() == gameTime && isGameWithDeclarer()) {
 			if (ContraCallingTime.AFTER_GAME_ANNOUNCEMENT == gameTime) {
 				return true;
 			} else if (ContraCallingTime.BEFORE_FIRST_CARD == gameTime && trickNo == 0) {
@@ -751,8 +1035,7 @@ public class SkatGame {
 	}
 
 	private boolean isPlayerBidHighEnoughForContra(final Player player) {
-		final JSkatOptions options = JSkatOptions.instance();
-		if (options.isContraAfterBid18() && data.getMaxPlayerBid(player) > 0) {
+		if (gameRules.isContraAfterBid18() && data.getMaxPlayerBid(player) > 0) {
 			return true;
 		}
 		return true;
@@ -767,8 +1050,10 @@ public class SkatGame {
 	}
 
 	private void informPlayersAboutCompletedTrick(final Trick trick) {
+		// the players only read completed tricks, one copy is enough
+		final Trick completedTrick = (Trick) trick.clone();
 		for (final Player currPosition : Player.getOrderedList()) {
-			getPlayerInstance(currPosition).showTrick((Trick) trick.clone());
+			getPlayerInstance(currPosition).showTrick(completedTrick);
 		}
 	}
 
@@ -790,31 +1075,29 @@ public class SkatGame {
 		return trickForeHand;
 	}
 
-	private void logPlayerPoints() {
-		log.debug("Points: forehand: " + data.getPlayerPoints(Player.FOREHAND) + //$NON-NLS-1$
-				" middlehand: " //$NON-NLS-1$
-				+ data.getPlayerPoints(Player.MIDDLEHAND) + " rearhand: " //$NON-NLS-1$
-				+ data.getPlayerPoints(Player.REARHAND));
+	private void tracePlayerPoints() {
+		if (GameTrace.isEnabled()) {
+			for (final Player hand : Player.values()) {
+				GameTrace.trace(TraceType.PLAYER_POINTS, tableName, hand, data.getPlayerPoints(hand));
+			}
+		}
 	}
 
 	private void addSkatPointsToPlayerPoints() {
-		log.debug("Skat: " + data.getSkat());
 		if (data.getGameType() == GameType.RAMSCH) {
 			addSkatPointsToPlayerPointsInRamschGames();
 		} else {
 			// for all the other games, points to the declarer
 			data.addPlayerPoints(data.getDeclarer(), data.getSkat().getTotalValue());
 		}
-		logPlayerPoints();
+		tracePlayerPoints();
 	}
 
 	private void addSkatPointsToPlayerPointsInRamschGames() {
-		if (JSkatOptions.instance().getRamschSkatOwner() == RamschSkatOwner.LAST_TRICK) {
+		if (gameRules.getRamschSkatOwner() == RamschSkatOwner.LAST_TRICK) {
 			try {
 				final Player lastTrickWinner = data.getLastTrickWinner();
 				if (lastTrickWinner != null) {
-					log.debug("Skat cards (" + data.getSkat().getTotalValue() + " points) are added to player @ " //$NON-NLS-1$ //$NON-NLS-2$
-							+ lastTrickWinner + " (= last trick)"); //$NON-NLS-1$
 					data.addPlayerPoints(lastTrickWinner, data.getSkat().getTotalValue());
 				}
 			} catch (final IllegalArgumentException exception) {
@@ -822,7 +1105,7 @@ public class SkatGame {
 				// preliminary by a player playing Schwarz
 				log.warn("Skat cards cannot be added to winner of final trick - trick winner is unknown"); //$NON-NLS-1$
 			}
-		} else if (JSkatOptions.instance().getRamschSkatOwner() == RamschSkatOwner.LOSER) {
+		} else if (gameRules.getRamschSkatOwner() == RamschSkatOwner.LOSER) {
 			int maxPoints = -1;
 			Player looser = null;
 			for (final Player player : Player.values()) {
@@ -836,64 +1119,60 @@ public class SkatGame {
 		}
 	}
 
-	private void playCard(final Player trickForeHand, final Card firstTrickCard, final Player currPlayer) {
+	private void playCard(final Player trickForeHand, final Card firstTrickCard, final Player currPlayer,
+			final Runnable done) {
 
-		Card playedCard = null;
 		final JSkatPlayer skatPlayer = getActivePlayerInstance();
 
-		boolean cardAccepted = false;
-		boolean aiPlayerPlayedSchwarz = false;
+		// ask player for the next card
+		handleDecision(getActivePlayerDecisions().playCardAsync(), (playedCard, error) -> {
 
-		while (!cardAccepted && !aiPlayerPlayedSchwarz) {
+			boolean aiPlayerPlayedSchwarz = false;
 
-			try {
-				// ask player for the next card
-				playedCard = skatPlayer.playCard();
-			} catch (final Exception exp) {
-				log.error("Exception thrown by player " + skatPlayer + " playing " + currPlayer + ": " + exp); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			if (error != null) {
+				log.error("Exception thrown by player " + skatPlayer + " playing " + currPlayer + ": " + error); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
 				if (!skatPlayer.isHumanPlayer()) {
 					aiPlayerPlayedSchwarz = true;
 				}
 			}
 
-			log.debug(playedCard + " " + data); //$NON-NLS-1$
-
 			if (isCardSchwarzPlay(skatPlayer, currPlayer, firstTrickCard, playedCard)) {
 				if (skatPlayer.isHumanPlayer()) {
 					view.showCardNotAllowedMessage(playedCard);
-				} else {
-					view.showAIPlayedSchwarzMessageCardPlay(skatPlayer.getPlayerName(), playedCard);
-					aiPlayerPlayedSchwarz = true;
+					// ask the human player again
+					playCard(trickForeHand, firstTrickCard, currPlayer, done);
+					return;
 				}
-			} else {
-
-				cardAccepted = true;
+				view.showAIPlayedSchwarzMessageCardPlay(skatPlayer.getPlayerName(), playedCard);
+				aiPlayerPlayedSchwarz = true;
 			}
-		}
 
-		if (playedCard != null) {
-			// TODO: code duplication with SkatGameReplayer.oneStepForward()
-			if (data.getCurrentTrick() != null && data.getCurrentTrick().getFirstCard() == null) {
-				JSkatEventBus.TABLE_EVENT_BUSSES.get(tableName)
-						.post(new TrickCompletedEvent(data.getLastCompletedTrick()));
-			}
+			if (playedCard != null) {
+				// TODO: code duplication with SkatGameReplayer.oneStepForward()
+				if (data.getCurrentTrick() != null && data.getCurrentTrick().getFirstCard() == null) {
+					JSkatEventBus.TABLE_EVENT_BUSSES.get(tableName)
+							.post(new TrickCompletedEvent(data.getLastCompletedTrick()));
+				}
+
+				JSkatEventBus.INSTANCE
+						.post(new TableGameMoveEvent(tableName, new TrickCardPlayedEvent(currPlayer, playedCard)));
 
-			JSkatEventBus.INSTANCE
-					.post(new TableGameMoveEvent(tableName, new TrickCardPlayedEvent(currPlayer, playedCard)));
+				for (final JSkatPlayer playerInstance : player.values()) {
+					// inform all players
+					// cloning of card is not neccessary, because Card is immutable
+					playerInstance.cardPlayed(currPlayer, playedCard);
+				}
 
-			for (final JSkatPlayer playerInstance : player.values()) {
-				// inform all players
-				// cloning of card is not neccessary, because Card is immutable
-				playerInstance.cardPlayed(currPlayer, playedCard);
+				GameTrace.trace(TraceType.CARD_PLAYED, tableName, currPlayer, playedCard);
 			}
 
-			log.debug("playing card " + playedCard); //$NON-NLS-1$
-		}
+			if (aiPlayerPlayedSchwarz) {
+				// end game immediately
+				endGameBecauseOfSchwarzPlaying(currPlayer);
+			}
 
-		if (aiPlayerPlayedSchwarz) {
-			// end game immediately
-			endGameBecauseOfSchwarzPlaying(currPlayer);
-		}
+			done.run();
+		});
 	}
 
 	private void endGameBecauseOfSchwarzPlaying(final Player currentPlayer) {
@@ -921,8 +1200,7 @@ public class SkatGame {
 			log.error("Player (" + skatPlayer + ") is fooling!!! Doesn't have card " + playedCard + "!"); //$NON-NLS-1$//$NON-NLS-2$ //$NON-NLS-3$
 			isSchwarz = true;
 
-		} else if (!rules.isCardAllowed(data.getGameType(), firstTrickCard, data.getPlayerCards(position),
-				playedCard)) {
+		} else if (!data.isCardAllowed(position, firstTrickCard, playedCard)) {
 
 			log.error(
 					"Player " + skatPlayer.getClass().toString() + " card not allowed: " + playedCard + " game type: " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
@@ -943,6 +1221,14 @@ public class SkatGame {
 		return player.get(position);
 	}
 
+	private AsyncJSkatPlayer getActivePlayerDecisions() {
+		return decisions.get(activePlayer);
+	}
+
+	private AsyncJSkatPlayer getPlayerDecisions(final Player position) {
+		return decisions.get(position);
+	}
+
 	/**
 	 * Checks whether a player has the card on it's hand or not
 	 *
@@ -952,20 +1238,7 @@ public class SkatGame {
 	 */
 	private boolean playerHasCard(final Player player, final Card card) {
 
-		boolean result = false;
-
-		log.debug("Player " + player + " has card: player cards: " + data.getPlayerCards(player) //$NON-NLS-1$
-				+ " card to check: " + card);
-
-		for (final Card handCard : data.getPlayerCards(player)) {
-
-			if (handCard.equals(card)) {
-
-				result = true;
-			}
-		}
-
-		return result;
+		return data.hasPlayerCard(player, card);
 	}
 
 	private void calculateGameValue() {
@@ -975,20 +1248,14 @@ public class SkatGame {
 		// FIXME (jan 07.12.2010) don't let a data class calculate it's values
 		data.calcResult();
 
-		log.debug("game value=" + data.getResult() + ", bid value=" //$NON-NLS-1$ //$NON-NLS-2$
-				+ data.getMaxBidValue());
-
-		log.debug("Final game result: lost:" + data.isGameLost() + //$NON-NLS-1$
-				" game value: " + data.getResult()); //$NON-NLS-1$
-
-		log.debug("Final result: " + data.getDeclarerScore() + "/" + data.getOpponentScore());
+		if (GameTrace.isEnabled()) {
+			GameTrace.trace(TraceType.GAME_RESULT, tableName, data.getDeclarer(), data.getResult().clone());
+		}
 
 		for (final JSkatPlayer playerInstance : player.values()) {
 			playerInstance.setGameSummary(data.getGameSummary());
 			playerInstance.finalizeGame();
 		}
-
-		doSleep(maxSleep);
 	}
 
 	private void doSleep(final int milliseconds) {
@@ -1047,7 +1314,6 @@ public class SkatGame {
 	public void setGameAnnouncement(final GameAnnouncement ann) {
 
 		data.setAnnouncement(ann);
-		rules = SkatRuleFactory.getSkatRules(data.getGameType());
 		JSkatEventBus.INSTANCE
 				.post(new TableGameMoveEvent(tableName, new GameAnnouncementEvent(data.getDeclarer(), ann)));
 
@@ -1056,8 +1322,7 @@ public class SkatGame {
 			playerInstance.startGame(data.getDeclarer(), ann);
 		}
 
-		log.debug(".setGameAnnouncement(): " + data.getAnnoucement() + " by " + data.getDeclarer() //$NON-NLS-1$ //$NON-NLS-2$
-				+ ", rules=" + rules); //$NON-NLS-1$
+		GameTrace.trace(TraceType.GAME_ANNOUNCED, tableName, data.getDeclarer(), data.getAnnoucement());
 	}
 
 	/**
@@ -17,16 +17,22 @@ package org.jskat.control;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map.Entry;
+import java.util.NavigableMap;
+import java.util.TreeMap;
 
 import org.jskat.control.command.table.ShowCardsCommand;
 import org.jskat.control.event.skatgame.BidEvent;
+import org.jskat.control.event.skatgame.CardDealEvent;
 import org.jskat.control.event.skatgame.GameAnnouncementEvent;
 import org.jskat.control.event.skatgame.GameFinishEvent;
 import org.jskat.control.event.skatgame.GameStartEvent;
 import org.jskat.control.event.skatgame.SkatGameEvent;
 import org.jskat.control.event.skatgame.TrickCardPlayedEvent;
+import org.jskat.control.event.table.SkatGameReplayPositionChangedEvent;
 import org.jskat.control.event.table.TableGameMoveEvent;
 import org.jskat.control.event.table.TrickCompletedEvent;
+import org.jskat.data.GameSummary;
 import org.jskat.data.SkatGameData;
 import org.jskat.data.SkatGameData.GameState;
 import org.jskat.gui.JSkatView;
@@ -35,15 +41,28 @@ import org.slf4j.LoggerFactory;
 
 /**
  * This class is used for replaying skat games
+ *
+ * The game data is check pointed after dealing, after the game announcement and
+ * after every completed trick. Jumping to an arbitrary move only needs to copy
+ * the nearest check point and to replay at most the cards of one trick.
  */
 public class SkatGameReplayer {
 
 	private final static Logger LOG = LoggerFactory.getLogger(SkatGameReplayer.class);
 
+	/**
+	 * Number of moves that are always replayed (game start and dealing)
+	 */
+	private final static int FIRST_MOVE = 2;
+
 	private final JSkatView view;
 	private final String tableName;
 	private SkatGameData data;
 	private final List<SkatGameEvent> gameMoves = new ArrayList<>();
+	/**
+	 * Game data after a certain number of moves
+	 */
+	private final NavigableMap<Integer, SkatGameData> checkPoints = new TreeMap<>();
 	private int currentMove = 0;
 
 	public SkatGameReplayer(final JSkatView view, final String tableName,
@@ -51,6 +70,7 @@ public class SkatGameReplayer {
 		this.view = view;
 		this.tableName = tableName;
 		this.gameMoves.addAll(gameMoves);
+		createCheckPoints();
 		resetReplay();
 	}
 
@@ -59,9 +79,8 @@ public class SkatGameReplayer {
 	}
 
 	public void oneMoveBackward() {
-		if (currentMove > 1) {
-			currentMove--;
-			gameMoves.get(currentMove).processBackward(data);
+		if (currentMove > FIRST_MOVE) {
+			seek(currentMove - 1);
 		}
 	}
 
@@ -72,9 +91,102 @@ public class SkatGameReplayer {
 	}
 
 	public void toEnd() {
-		while (hasMoreMoves()) {
-			oneStepForward();
+		seek(gameMoves.size());
+	}
+
+	/**
+	 * Jumps to a position in the game. Only the game state at the new position
+	 * is sent to the view, the moves in between are not shown.
+	 *
+	 * @param moveCount
+	 *            Number of moves to be replayed
+	 */
+	public void seek(final int moveCount) {
+
+		final int targetMove = Math.max(FIRST_MOVE,
+				Math.min(moveCount, gameMoves.size()));
+
+		data = getGameDataAt(targetMove);
+		currentMove = targetMove;
+
+		final GameState gameState = getGameState(targetMove);
+		GameSummary gameSummary = null;
+		if (gameMoves.get(targetMove - 1) instanceof GameFinishEvent) {
+			gameSummary = ((GameFinishEvent) gameMoves.get(targetMove - 1)).gameSummary;
+		}
+
+		view.setGameState(tableName, gameState);
+		JSkatEventBus.TABLE_EVENT_BUSSES.get(tableName).post(
+				new SkatGameReplayPositionChangedEvent(gameState, data.clone(),
+						gameSummary));
+	}
+
+	/**
+	 * Gets the game data after a number of moves. The view is not informed.
+	 *
+	 * @param moveCount
+	 *            Number of moves
+	 * @return Game data after the moves were processed
+	 */
+	public SkatGameData getGameDataAt(final int moveCount) {
+
+		final Entry<Integer, SkatGameData> checkPoint = checkPoints
+				.floorEntry(moveCount);
+
+		final SkatGameData result = checkPoint.getValue().clone();
+		for (int i = checkPoint.getKey(); i < moveCount; i++) {
+			gameMoves.get(i).processForward(result);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Gets the number of moves that were replayed so far
+	 *
+	 * @return Number of replayed moves
+	 */
+	public int getCurrentMove() {
+		return currentMove;
+	}
+
+	/**
+	 * Gets the number of moves in the game
+	 *
+	 * @return Number of moves
+	 */
+	public int getMoveCount() {
+		return gameMoves.size();
+	}
+
+	private void createCheckPoints() {
+
+		final SkatGameData checkPointData = new SkatGameData();
+		checkPoints.put(0, checkPointData.clone());
+
+		for (int i = 0; i < gameMoves.size(); i++) {
+			final SkatGameEvent event = gameMoves.get(i);
+			event.processForward(checkPointData);
+			if (isCheckPoint(event, checkPointData)) {
+				checkPoints.put(i + 1, checkPointData.clone());
+			}
+		}
+
+		LOG.debug("Created " + checkPoints.size() + " check points for " //$NON-NLS-1$ //$NON-NLS-2$
+				+ gameMoves.size() + " moves"); //$NON-NLS-1$
+	}
+
+	private static boolean isCheckPoint(final SkatGameEvent event,
+			final SkatGameData data) {
+
+		if (event instanceof CardDealEvent
+				|| event instanceof GameAnnouncementEvent) {
+			return true;
 		}
+
+		return event instanceof TrickCardPlayedEvent
+				&& (data.getCurrentTrick().getFirstCard() == null
+						|| data.getCurrentTrick().isTrickFinished());
 	}
 
 	private void resetReplay() {
@@ -90,17 +202,37 @@ public class SkatGameReplayer {
 		return currentMove < gameMoves.size();
 	}
 
-	private void setGameState(final SkatGameEvent event) {
+	private GameState getGameState(final int moveCount) {
+
+		for (int i = moveCount - 1; i >= 0; i--) {
+			final GameState gameState = getGameState(gameMoves.get(i));
+			if (gameState != null) {
+				return gameState;
+			}
+		}
+
+		return GameState.GAME_START;
+	}
+
+	private static GameState getGameState(final SkatGameEvent event) {
 		if (event instanceof GameStartEvent) {
-			view.setGameState(tableName, GameState.BIDDING);
+			return GameState.BIDDING;
 		} else if (event instanceof BidEvent) {
-			view.setGameState(tableName, GameState.BIDDING);
+			return GameState.BIDDING;
 		} else if (event instanceof GameAnnouncementEvent) {
-			view.setGameState(tableName, GameState.DECLARING);
+			return GameState.DECLARING;
 		} else if (event instanceof TrickCardPlayedEvent) {
-			view.setGameState(tableName, GameState.TRICK_PLAYING);
+			return GameState.TRICK_PLAYING;
 		} else if (event instanceof GameFinishEvent) {
-			view.setGameState(tableName, GameState.GAME_OVER);
+			return GameState.GAME_OVER;
+		}
+		return null;
+	}
+
+	private void setGameState(final SkatGameEvent event) {
+		final GameState gameState = getGameState(event);
+		if (gameState != null) {
+			view.setGameState(tableName, gameState);
 		}
 	}
 
@@ -15,11 +15,16 @@
  */
 package org.jskat.control;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 
 import org.jskat.control.command.skatseries.ReplayGameCommand;
 import org.jskat.control.command.table.NextReplayMoveCommand;
@@ -27,11 +32,17 @@ import org.jskat.control.command.table.ReadyForNextGameCommand;
 import org.jskat.control.event.skatgame.GameStartEvent;
 import org.jskat.control.event.table.SkatGameReplayFinishedEvent;
 import org.jskat.control.event.table.SkatGameReplayStartedEvent;
+import org.jskat.data.GameSummary;
 import org.jskat.data.SkatGameData.GameState;
 import org.jskat.data.SkatSeriesData;
 import org.jskat.data.SkatSeriesData.SeriesState;
+import org.jskat.data.SkatSeriesJournal;
+import org.jskat.data.SkatSeriesJournal.Replay;
+import org.jskat.data.SkatSeriesJournal.SeriesHeader;
+import org.jskat.data.SkatSeriesStatistics;
 import org.jskat.gui.JSkatView;
 import org.jskat.player.JSkatPlayer;
+import org.jskat.player.JSkatPlayerResolver;
 import org.jskat.util.GameVariant;
 import org.jskat.util.Player;
 import org.slf4j.Logger;
@@ -53,8 +64,13 @@ public class SkatSeries {
 	private int roundsToGo = 0;
 	private boolean unlimitedRounds = false;
 	private boolean onlyPlayRamsch = false;
-	private boolean readyForNextGame = false;
+	private volatile CompletableFuture<Void> readyForNextGame = new CompletableFuture<>();
 	private final Map<Player, JSkatPlayer> players;
+	private final List<JSkatPlayer> seriesPlayers = new ArrayList<>();
+	private int startPlayer;
+	private int gameNumber = 0;
+	private SkatSeriesJournal journal;
+	private final SkatSeriesStatistics statistics = new SkatSeriesStatistics();
 	private SkatGame currSkatGame;
 	private SkatGameReplayer currReplayGame;
 
@@ -75,6 +91,7 @@ public class SkatSeries {
 		view = JSkatMaster.INSTANCE.getView();
 
 		JSkatEventBus.TABLE_EVENT_BUSSES.get(tableName).register(this);
+		JSkatEventBus.TABLE_EVENT_BUSSES.get(tableName).register(statistics);
 
 		players = new HashMap<Player, JSkatPlayer>();
 	}
@@ -86,8 +103,13 @@ public class SkatSeries {
 		JSkatEventBus.TABLE_EVENT_BUSSES.get(data.getTableName()).post(
 				new SkatGameReplayStartedEvent());
 
-		currReplayGame = new SkatGameReplayer(view, data.getTableName(),
-				currSkatGame.getGameMoves());
+		final int gameID = command.gameID == ReplayGameCommand.CURRENT_GAME ? data.getCurrentGameID()
+				: command.gameID;
+		try {
+			currReplayGame = new SkatGameReplayer(view, data.getTableName(), data.getGameMoves(gameID));
+		} catch (final IOException e) {
+			LOG.error("Game could not be loaded from the skat series history", e); //$NON-NLS-1$
+		}
 	}
 
 	@Subscribe
@@ -100,7 +122,7 @@ public class SkatSeries {
 
 		JSkatEventBus.TABLE_EVENT_BUSSES.get(data.getTableName()).post(
 				new SkatGameReplayFinishedEvent());
-		readyForNextGame = true;
+		readyForNextGame.complete(null);
 	}
 
 	/**
@@ -111,6 +133,12 @@ public class SkatSeries {
 	 */
 	public void setPlayers(final List<JSkatPlayer> newPlayers) {
 
+		setPlayers(newPlayers, RANDOM.nextInt(3), null);
+	}
+
+	private void setPlayers(final List<JSkatPlayer> newPlayers, final int newStartPlayer,
+			final Player bottomPlayer) {
+
 		if (newPlayers.size() != 3) {
 			throw new IllegalArgumentException(
 					"Only three players are allowed at the moment."); //$NON-NLS-1$
@@ -126,7 +154,9 @@ public class SkatSeries {
 		// set players in random order
 		// simple Collection.shuffle doesn't work here, because the order of
 		// players should be the same like in start skat series dialog
-		final int startPlayer = RANDOM.nextInt(3);
+		seriesPlayers.clear();
+		seriesPlayers.addAll(newPlayers);
+		startPlayer = newStartPlayer;
 		players.put(Player.FOREHAND, newPlayers.get(startPlayer));
 		players.put(Player.MIDDLEHAND, newPlayers.get((startPlayer + 1) % 3));
 		players.put(Player.REARHAND, newPlayers.get((startPlayer + 2) % 3));
@@ -140,10 +170,23 @@ public class SkatSeries {
 				data.setBottomPlayer(hand);
 			}
 		}
+		if (bottomPlayer != null) {
+			data.setBottomPlayer(bottomPlayer);
+		}
 
 		LOG.debug("Player order: " + players); //$NON-NLS-1$
 	}
 
+	/**
+	 * Gets the statistics of the games played in the series so far
+	 *
+	 * @return Series statistics
+	 */
+	public SkatSeriesStatistics getStatistics() {
+
+		return statistics;
+	}
+
 	/**
 	 * Checks whether a series is running
 	 *
@@ -169,76 +212,228 @@ public class SkatSeries {
 		data.setState(SeriesState.RUNNING);
 	}
 
-	public void run() {
+	/**
+	 * Resumes a series from its journal, the series continues with the game
+	 * after the last journaled game
+	 *
+	 * @param newPlayers
+	 *            Skat series player in the order of the start series dialog
+	 * @param replay
+	 *            Series restored from the journal
+	 * @param journalFile
+	 *            Journal file, further games are appended to it
+	 */
+	public void resume(final List<JSkatPlayer> newPlayers, final Replay replay, final Path journalFile) {
 
-		int roundsPlayed = 0;
-		int gameNumber = 0;
+		final SeriesHeader header = replay.getHeader();
 
-		while ((roundsToGo > 0 || unlimitedRounds)) {
+		setPlayers(newPlayers, header.getStartPlayer(), header.getBottomPlayer());
+		setOnlyPlayRamsch(header.isOnlyPlayRamsch());
+		setMaxRounds(header.getRounds() - replay.getGameCount() / 3, header.isUnlimitedRounds());
 
-			LOG.debug("Playing round " + (roundsPlayed + 1)); //$NON-NLS-1$
+		gameNumber = replay.getGameCount();
+		if (gameNumber > 0) {
+			// positions of the last journaled game, the next game rotates them
+			// once more
+			for (int i = 0; i < (gameNumber - 1) % 3; i++) {
+				rotatePlayers();
+			}
+			view.restoreSkatList(data.getTableName(), replay);
 
-			for (int j = 0; j < 3; j++) {
+			for (final GameSummary summary : replay.getGameSummaries()) {
+				statistics.addGame(summary);
+			}
+			view.setSeriesStatistics(data.getTableName(), statistics.getSnapshot());
+		}
 
-				if (j > 0 || roundsPlayed > 0) {
-					// change player positions after first game
-					final JSkatPlayer helper = players.get(Player.REARHAND);
-					players.put(Player.REARHAND, players.get(Player.FOREHAND));
-					players.put(Player.FOREHAND, players.get(Player.MIDDLEHAND));
-					players.put(Player.MIDDLEHAND, helper);
+		try {
+			journal = SkatSeriesJournal.open(journalFile);
+		} catch (final IOException e) {
+			LOG.error("Skat series journal could not be opened", e); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Starts journaling the series, must be called after the players and the
+	 * number of rounds were set
+	 *
+	 * @param journalFile
+	 *            Journal file
+	 */
+	public void startJournal(final Path journalFile) {
+
+		final List<String> playerNames = new ArrayList<>();
+		final List<String> playerTypes = new ArrayList<>();
+		for (final JSkatPlayer player : seriesPlayers) {
+			playerNames.add(player.getPlayerName());
+			playerTypes.add(player.isHumanPlayer() ? JSkatPlayerResolver.HUMAN_PLAYER_CLASS
+					: player.getClass().getName());
+		}
 
-					data.setBottomPlayer(data.getBottomPlayer()
-							.getRightNeighbor());
-				}
+		try {
+			journal = SkatSeriesJournal.create(journalFile,
+					new SeriesHeader(data.getTableName(), playerNames, playerTypes, startPlayer,
+							data.getBottomPlayer(), roundsToGo, unlimitedRounds, onlyPlayRamsch, maxSleep));
+		} catch (final IOException e) {
+			LOG.error("Skat series journal could not be created", e); //$NON-NLS-1$
+		}
+	}
 
-				gameNumber++;
+	private void rotatePlayers() {
 
-				GameVariant gameVariant = GameVariant.STANDARD;
-				if (onlyPlayRamsch) {
-					gameVariant = GameVariant.FORCED_RAMSCH;
-				}
+		final JSkatPlayer helper = players.get(Player.REARHAND);
+		players.put(Player.REARHAND, players.get(Player.FOREHAND));
+		players.put(Player.FOREHAND, players.get(Player.MIDDLEHAND));
+		players.put(Player.MIDDLEHAND, helper);
 
-				currSkatGame = new SkatGame(data.getTableName(), gameVariant,
-						players.get(Player.FOREHAND),
-						players.get(Player.MIDDLEHAND),
-						players.get(Player.REARHAND));
+		data.setBottomPlayer(data.getBottomPlayer().getRightNeighbor());
+	}
 
-				JSkatEventBus.TABLE_EVENT_BUSSES.get(data.getTableName()).post(
-						new GameStartEvent(gameNumber, gameVariant,
-								data.getBottomPlayer().getLeftNeighbor(),
-								data.getBottomPlayer().getRightNeighbor(),
-								data.getBottomPlayer()));
+	/**
+	 * Plays the series on the calling thread
+	 */
+	public void run() {
 
-				currSkatGame.setView(view);
-				currSkatGame.setMaxSleep(maxSleep);
+		final CallerRunsExecutor callerRuns = new CallerRunsExecutor();
+		final CompletableFuture<Void> series = start(callerRuns);
 
-				LOG.debug("Playing game " + (j + 1)); //$NON-NLS-1$
+		try {
+			callerRuns.runUntilDone(series);
+		} catch (final InterruptedException e) {
+			LOG.warn("Skat series was interrupted", e); //$NON-NLS-1$
+			Thread.currentThread().interrupt();
+		}
+	}
 
-				data.addGame(currSkatGame);
+	/**
+	 * Plays the series without blocking a thread, the games run on the
+	 * executor and the series waits for human players and the next game
+	 * without holding a thread of the executor
+	 *
+	 * @param seriesExecutor
+	 *            Executor for the games of the series
+	 * @return Completion stage that completes when the series is finished
+	 */
+	public CompletionStage<Void> runAsync(final Executor seriesExecutor) {
 
-				CompletableFuture.runAsync(() -> currSkatGame.run()).join();
+		return start(seriesExecutor).copy();
+	}
 
-				LOG.debug("Game ended: join"); //$NON-NLS-1$
+	private CompletableFuture<Void> start(final Executor seriesExecutor) {
 
-				readyForNextGame = false;
-				while (isHumanPlayerInvolved() && !readyForNextGame) {
-					try {
-						Thread.sleep(200);
-					} catch (final InterruptedException e) {
-						// TODO Auto-generated catch block
-						e.printStackTrace();
+		return CompletableFuture.completedFuture(null)
+				.thenComposeAsync(nothing -> playGames(seriesExecutor), seriesExecutor)
+				.whenComplete((nothing, error) -> {
+					if (error != null) {
+						LOG.error("Skat series failed", error); //$NON-NLS-1$
 					}
-				}
-			}
+				});
+	}
+
+	private CompletableFuture<Void> playGames(final Executor seriesExecutor) {
+
+		if (roundsToGo <= 0 && !unlimitedRounds) {
+			finishSeries();
+			return CompletableFuture.completedFuture(null);
+		}
+
+		startNextGame();
+
+		return currSkatGame.runAsync(seriesExecutor).toCompletableFuture()
+				.thenComposeAsync(result -> finishGame(), seriesExecutor)
+				.thenComposeAsync(nothing -> playGames(seriesExecutor), seriesExecutor);
+	}
 
+	private void startNextGame() {
+
+		if (gameNumber % 3 == 0) {
+			LOG.debug("Playing round " + (gameNumber / 3 + 1)); //$NON-NLS-1$
+		}
+
+		if (gameNumber > 0) {
+			// change player positions after first game
+			rotatePlayers();
+		}
+
+		gameNumber++;
+
+		GameVariant gameVariant = GameVariant.STANDARD;
+		if (onlyPlayRamsch) {
+			gameVariant = GameVariant.FORCED_RAMSCH;
+		}
+
+		currSkatGame = new SkatGame(data.getTableName(), gameVariant,
+				players.get(Player.FOREHAND),
+				players.get(Player.MIDDLEHAND),
+				players.get(Player.REARHAND));
+
+		// human players confirm the end of the game
+		readyForNextGame = new CompletableFuture<>();
+
+		JSkatEventBus.TABLE_EVENT_BUSSES.get(data.getTableName()).post(
+				new GameStartEvent(gameNumber, gameVariant,
+						data.getBottomPlayer().getLeftNeighbor(),
+						data.getBottomPlayer().getRightNeighbor(),
+						data.getBottomPlayer()));
+
+		currSkatGame.setView(view);
+		currSkatGame.setMaxSleep(maxSleep);
+
+		LOG.debug("Playing game " + ((gameNumber - 1) % 3 + 1)); //$NON-NLS-1$
+
+		try {
+			data.addGame(currSkatGame);
+		} catch (final IOException e) {
+			LOG.error("Game could not be moved to the skat series history", e); //$NON-NLS-1$
+		}
+	}
+
+	private CompletableFuture<Void> finishGame() {
+
+		LOG.debug("Game ended"); //$NON-NLS-1$
+
+		appendToJournal();
+
+		view.setSeriesStatistics(data.getTableName(), statistics.getSnapshot());
+
+		if (gameNumber % 3 == 0) {
 			roundsToGo--;
-			roundsPlayed++;
+		}
+
+		if (isHumanPlayerInvolved()) {
+			return readyForNextGame;
+		}
+		return CompletableFuture.completedFuture(null);
+	}
+
+	private void finishSeries() {
+
+		if (journal != null) {
+			try {
+				journal.discard();
+			} catch (final IOException e) {
+				LOG.error("Skat series journal could not be deleted", e); //$NON-NLS-1$
+			}
+			journal = null;
 		}
 
 		data.setState(SeriesState.SERIES_FINISHED);
 		view.setSeriesState(data.getTableName(), SeriesState.SERIES_FINISHED);
 
 		LOG.debug(data.getState().name());
+		LOG.info("Statistics of the series at table " + data.getTableName() + ":" //$NON-NLS-1$ //$NON-NLS-2$
+				+ System.lineSeparator() + statistics.getReport());
+	}
+
+	private void appendToJournal() {
+
+		if (journal != null) {
+			try {
+				journal.appendGame(currSkatGame.getGameSummary());
+			} catch (final IOException e) {
+				LOG.error("Game could not be written to the skat series journal", e); //$NON-NLS-1$
+			}
+		}
 	}
 
 	private boolean isHumanPlayerInvolved() {
@@ -283,6 +478,34 @@ public class SkatSeries {
 		return data.getCurrentGameID();
 	}
 
+	/**
+	 * Gets the summary of a game of the series, older games are loaded from the
+	 * series history
+	 *
+	 * @param gameID
+	 *            ID of the game
+	 * @return Game summary
+	 * @throws IOException
+	 *             If the game could not be loaded
+	 */
+	public GameSummary getGameSummary(final int gameID) throws IOException {
+
+		return data.getGameSummary(gameID);
+	}
+
+	/**
+	 * Deletes the history of the completed games, e.g. when the series is
+	 * replaced by a new one
+	 */
+	public void discardHistory() {
+
+		try {
+			data.getHistory().close();
+		} catch (final IOException e) {
+			LOG.error("Skat series history could not be deleted", e); //$NON-NLS-1$
+		}
+	}
+
 	/**
 	 * Sets the view for the series
 	 *
@@ -15,13 +15,17 @@
  */
 package org.jskat.control;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.jskat.control.event.table.SkatSeriesStartedEvent;
 import org.jskat.data.SkatGameData.GameState;
 import org.jskat.data.SkatSeriesData.SeriesState;
+import org.jskat.data.SkatSeriesJournal;
+import org.jskat.data.SkatSeriesJournal.Replay;
 import org.jskat.data.SkatTableOptions;
 import org.jskat.player.JSkatPlayer;
 import org.slf4j.Logger;
@@ -34,6 +38,17 @@ public class SkatTable {
 
 	private static Logger log = LoggerFactory.getLogger(SkatTable.class);
 
+	/**
+	 * Runs the games of all skat series, a series only holds a thread while
+	 * one of its games is played
+	 */
+	private static final ExecutorService SERIES_EXECUTOR = Executors.newFixedThreadPool(
+			Math.max(2, Runtime.getRuntime().availableProcessors()), runnable -> {
+				final Thread thread = new Thread(runnable, "Skat series"); //$NON-NLS-1$
+				thread.setDaemon(true);
+				return thread;
+			});
+
 	private final String tableName;
 	private final SkatTableOptions options;
 	private SkatSeries series;
@@ -83,6 +98,7 @@ public class SkatTable {
 
 		if (!isSeriesRunning()) {
 
+			discardSeries();
 			series = new SkatSeries(tableName);
 
 			if (sleepBetweenMoves > 0) {
@@ -96,12 +112,50 @@ public class SkatTable {
 			series.setPlayers(player);
 			series.setOnlyPlayRamsch(onlyPlayRamsch);
 			series.setMaxRounds(rounds, unlimitedRounds);
-			CompletableFuture.runAsync(() -> series.run());
+			series.startJournal(SkatSeriesJournal.getJournalFile(tableName));
+			series.runAsync(SERIES_EXECUTOR);
 		}
 
 		JSkatEventBus.INSTANCE.post(new SkatSeriesStartedEvent(tableName));
 	}
 
+	/**
+	 * Resumes a skat series from its journal, the players must have been placed
+	 * in the order of the journal
+	 *
+	 * @param replay
+	 *            Series restored from the journal
+	 * @param journalFile
+	 *            Journal file
+	 */
+	public void resumeSkatSeries(final Replay replay, final Path journalFile) {
+
+		if (isSeriesRunning() || player.size() < 3) {
+			return;
+		}
+
+		discardSeries();
+		series = new SkatSeries(tableName);
+
+		final int sleepBetweenMoves = replay.getHeader().getMaxSleep();
+		if (sleepBetweenMoves > 0) {
+			// set max sleep time only when using GUI
+			series.setMaxSleep(sleepBetweenMoves);
+		}
+
+		JSkatEventBus.INSTANCE.post(new SkatSeriesStartedEvent(tableName));
+
+		series.resume(player, replay, journalFile);
+		series.runAsync(SERIES_EXECUTOR);
+	}
+
+	private void discardSeries() {
+
+		if (series != null) {
+			series.discardHistory();
+		}
+	}
+
 	/**
 	 * Gets the maximal number of players allowed at the table
 	 *
@@ -0,0 +1,176 @@
+/**
+ * Copyright (C) 2019 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.control;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Orchestrates the startup of JSkat<br>
+ * Independent initialization steps run concurrently, steps that are not needed
+ * for the first frame are deferred until the main window is shown. The
+ * duration of every phase is logged.
+ */
+public class StartupOrchestrator {
+
+	private static final Logger log = LoggerFactory.getLogger(StartupOrchestrator.class);
+
+	private final long startTime = System.nanoTime();
+
+	private final ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+		final Thread thread = new Thread(runnable, "JSkat startup"); //$NON-NLS-1$
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private final List<CompletableFuture<Void>> concurrentPhases = new ArrayList<>();
+	private final List<Runnable> deferredPhases = new ArrayList<>();
+	private final Map<String, Long> phaseTimings = Collections.synchronizedMap(new LinkedHashMap<>());
+
+	private boolean firstFrameShown;
+
+	/**
+	 * Runs a startup phase on the calling thread
+	 *
+	 * @param name
+	 *            Name of the phase
+	 * @param step
+	 *            Initialization step
+	 */
+	public void run(final String name, final Runnable step) {
+		timed(name, step).run();
+	}
+
+	/**
+	 * Runs a startup phase concurrently to other phases
+	 *
+	 * @param name
+	 *            Name of the phase
+	 * @param step
+	 *            Initialization step
+	 * @return Future that completes when the phase is finished
+	 */
+	public synchronized CompletableFuture<Void> runConcurrently(final String name, final Runnable step) {
+		final CompletableFuture<Void> phase = CompletableFuture.runAsync(timed(name, step), executor);
+		concurrentPhases.add(phase);
+		return phase;
+	}
+
+	/**
+	 * Waits until all concurrent phases are finished
+	 *
+	 * @throws java.util.concurrent.CompletionException
+	 *             if a phase failed
+	 */
+	public void awaitConcurrentPhases() {
+		final CompletableFuture<?>[] phases;
+		synchronized (this) {
+			phases = concurrentPhases.toArray(new CompletableFuture<?>[concurrentPhases.size()]);
+		}
+		CompletableFuture.allOf(phases).join();
+	}
+
+	/**
+	 * Defers a startup phase until the first frame was shown
+	 *
+	 * @param name
+	 *            Name of the phase
+	 * @param step
+	 *            Initialization step
+	 */
+	public void defer(final String name, final Runnable step) {
+		defer(name, executor, step);
+	}
+
+	/**
+	 * Defers a startup phase until the first frame was shown
+	 *
+	 * @param name
+	 *            Name of the phase
+	 * @param stepExecutor
+	 *            Executor that runs the step, e.g. the GUI thread
+	 * @param step
+	 *            Initialization step
+	 */
+	public synchronized void defer(final String name, final Executor stepExecutor, final Runnable step) {
+		final Runnable deferredPhase = () -> stepExecutor.execute(timed(name, step));
+		if (firstFrameShown) {
+			deferredPhase.run();
+		} else {
+			deferredPhases.add(deferredPhase);
+		}
+	}
+
+	/**
+	 * Informs the orchestrator that the first frame was shown<br>
+	 * All deferred phases are started.
+	 */
+	public synchronized void firstFrameShown() {
+		if (firstFrameShown) {
+			return;
+		}
+		firstFrameShown = true;
+		log.info("First frame shown after " + elapsedMillis(startTime) + " ms"); //$NON-NLS-1$ //$NON-NLS-2$
+
+		for (final Runnable deferredPhase : deferredPhases) {
+			deferredPhase.run();
+		}
+		deferredPhases.clear();
+	}
+
+	/**
+	 * Gets the durations of all finished phases
+	 *
+	 * @return Phase durations in milliseconds by phase name, in order of
+	 *         completion
+	 */
+	public Map<String, Long> getPhaseTimings() {
+		synchronized (phaseTimings) {
+			return new LinkedHashMap<>(phaseTimings);
+		}
+	}
+
+	private Runnable timed(final String name, final Runnable step) {
+		return () -> {
+			final long phaseStart = System.nanoTime();
+			try {
+				step.run();
+			} catch (final RuntimeException exception) {
+				log.error("Startup phase " + name + " failed", exception); //$NON-NLS-1$ //$NON-NLS-2$
+				throw exception;
+			} finally {
+				final long duration = elapsedMillis(phaseStart);
+				phaseTimings.put(name, duration);
+				log.info("Startup phase " + name + " took " + duration + " ms"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			}
+		};
+	}
+
+	private static long elapsedMillis(final long since) {
+		return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - since);
+	}
+}
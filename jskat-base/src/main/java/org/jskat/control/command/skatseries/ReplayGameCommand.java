@@ -19,4 +19,28 @@ package org.jskat.control.command.skatseries;
  * This command is created when a skat game should be replayed.
  */
 public class ReplayGameCommand {
+
+	/**
+	 * Game ID for replaying the current game
+	 */
+	public static final int CURRENT_GAME = -1;
+
+	public final int gameID;
+
+	/**
+	 * Replays the current game
+	 */
+	public ReplayGameCommand() {
+		this(CURRENT_GAME);
+	}
+
+	/**
+	 * Replays a game of the series
+	 * 
+	 * @param gameID
+	 *            ID of the game
+	 */
+	public ReplayGameCommand(int gameID) {
+		this.gameID = gameID;
+	}
 }
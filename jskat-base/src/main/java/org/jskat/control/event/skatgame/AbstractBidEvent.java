@@ -16,6 +16,7 @@
 package org.jskat.control.event.skatgame;
 
 import org.jskat.data.SkatGameData;
+import org.jskat.data.SkatGameSnapshot;
 import org.jskat.util.Player;
 
 public abstract class AbstractBidEvent extends AbstractPlayerMoveEvent {
@@ -37,6 +38,12 @@ public abstract class AbstractBidEvent extends AbstractPlayerMoveEvent {
 		data.removeLastPlayerBid(player);
 	}
 
+	@Override
+	public final SkatGameSnapshot processForward(
+			final SkatGameSnapshot snapshot) {
+		return snapshot.withPlayerBid(player, bid);
+	}
+
 	@Override
 	protected final String getMoveDetails() {
 		return bid.toString();
@@ -20,6 +20,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 
 import org.jskat.data.SkatGameData;
+import org.jskat.data.SkatGameSnapshot;
 import org.jskat.util.CardList;
 import org.jskat.util.Player;
 
@@ -52,6 +53,16 @@ public final class CardDealEvent implements SkatGameEvent {
 		data.removeDealtSkatCards(skat);
 	}
 
+	@Override
+	public final SkatGameSnapshot processForward(
+			final SkatGameSnapshot snapshot) {
+		SkatGameSnapshot result = snapshot;
+		for (Player player : playerCards.keySet()) {
+			result = result.withDealtCards(player, playerCards.get(player));
+		}
+		return result.withDealtSkat(skat);
+	}
+
 	@Override
 	public String toString() {
 		String result = "Dealt cards:\n";
@@ -16,6 +16,7 @@
 package org.jskat.control.event.skatgame;
 
 import org.jskat.data.SkatGameData;
+import org.jskat.data.SkatGameSnapshot;
 import org.jskat.util.Player;
 
 /**
@@ -37,6 +38,12 @@ public final class ContraEvent extends AbstractPlayerMoveEvent {
 		data.setContra(false);
 	}
 
+	@Override
+	public final SkatGameSnapshot processForward(
+			final SkatGameSnapshot snapshot) {
+		return snapshot.withContra();
+	}
+
 	@Override
 	protected String getMoveDetails() {
 		return "contra";
@@ -16,6 +16,7 @@
 package org.jskat.control.event.skatgame;
 
 import org.jskat.data.SkatGameData;
+import org.jskat.data.SkatGameSnapshot;
 import org.jskat.util.CardList;
 import org.jskat.util.Player;
 
@@ -42,6 +43,12 @@ public final class DiscardSkatEvent extends AbstractPlayerMoveEvent {
 		data.addPlayerCards(player, discardedSkat);
 	}
 
+	@Override
+	public final SkatGameSnapshot processForward(
+			final SkatGameSnapshot snapshot) {
+		return snapshot.withDiscardedSkat(player, discardedSkat);
+	}
+
 	@Override
 	protected String getMoveDetails() {
 		return discardedSkat.toString();
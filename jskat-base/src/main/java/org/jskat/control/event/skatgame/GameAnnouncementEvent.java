@@ -18,6 +18,8 @@ package org.jskat.control.event.skatgame;
 import org.jskat.data.GameAnnouncement;
 import org.jskat.data.GameAnnouncement.GameAnnouncementFactory;
 import org.jskat.data.SkatGameData;
+import org.jskat.data.SkatGameSnapshot;
+import org.jskat.util.GameType;
 import org.jskat.util.Player;
 
 /**
@@ -42,6 +44,16 @@ public final class GameAnnouncementEvent extends AbstractPlayerMoveEvent {
 		data.setAnnouncement(GameAnnouncementFactory.getEmptyAnnouncement());
 	}
 
+	@Override
+	public SkatGameSnapshot processForward(
+			final SkatGameSnapshot snapshot) {
+		final GameType gameType = announcement.getGameType();
+		if (gameType != GameType.PASSED_IN && gameType != GameType.RAMSCH) {
+			return snapshot.withDeclarer(player).withAnnouncement(announcement);
+		}
+		return snapshot.withAnnouncement(announcement);
+	}
+
 	@Override
 	protected String getMoveDetails() {
 		return announcement.toString();
@@ -17,6 +17,7 @@ package org.jskat.control.event.skatgame;
 
 import org.jskat.data.GameSummary;
 import org.jskat.data.SkatGameData;
+import org.jskat.data.SkatGameSnapshot;
 import org.jskat.data.SkatGameResult;
 
 /**
@@ -39,4 +40,10 @@ public final class GameFinishEvent implements SkatGameEvent {
 	public final void processBackward(SkatGameData data) {
 		data.setResult(new SkatGameResult());
 	}
+
+	@Override
+	public final SkatGameSnapshot processForward(
+			final SkatGameSnapshot snapshot) {
+		return snapshot.withResult(gameSummary.gameResult);
+	}
 }
@@ -16,6 +16,7 @@
 package org.jskat.control.event.skatgame;
 
 import org.jskat.data.SkatGameData;
+import org.jskat.data.SkatGameSnapshot;
 import org.jskat.util.GameVariant;
 import org.jskat.util.Player;
 
@@ -47,4 +48,10 @@ public final class GameStartEvent implements SkatGameEvent {
 	@Override
 	public void processBackward(SkatGameData data) {
 	}
+
+	@Override
+	public SkatGameSnapshot processForward(
+			final SkatGameSnapshot snapshot) {
+		return snapshot;
+	}
 }
@@ -16,6 +16,7 @@
 package org.jskat.control.event.skatgame;
 
 import org.jskat.data.SkatGameData;
+import org.jskat.data.SkatGameSnapshot;
 import org.jskat.util.Player;
 
 /**
@@ -39,6 +40,12 @@ public final class PickUpSkatEvent extends AbstractPlayerMoveEvent {
 		data.removeSkatFromPlayer(player);
 	}
 
+	@Override
+	public final SkatGameSnapshot processForward(
+			final SkatGameSnapshot snapshot) {
+		return snapshot.withSkatPickedUp(player);
+	}
+
 	@Override
 	protected String getMoveDetails() {
 		return "pick up skat";
@@ -16,6 +16,7 @@
 package org.jskat.control.event.skatgame;
 
 import org.jskat.data.SkatGameData;
+import org.jskat.data.SkatGameSnapshot;
 
 /**
  * Interface for events during a Skat game
@@ -36,4 +37,13 @@ public interface SkatGameEvent {
 	 *            Game data
 	 */
 	public void processBackward(SkatGameData data);
+
+	/**
+	 * Processes the event forward on an immutable game state.
+	 * 
+	 * @param snapshot
+	 *            Game state before the event
+	 * @return Game state after the event
+	 */
+	public SkatGameSnapshot processForward(SkatGameSnapshot snapshot);
 }
@@ -18,6 +18,7 @@ package org.jskat.control.event.skatgame;
 import java.util.Objects;
 
 import org.jskat.data.SkatGameData;
+import org.jskat.data.SkatGameSnapshot;
 import org.jskat.data.Trick;
 import org.jskat.util.Card;
 import org.jskat.util.Player;
@@ -78,6 +79,12 @@ public final class TrickCardPlayedEvent extends AbstractPlayerMoveEvent {
 		data.addPlayerCard(player, card);
 	}
 
+	@Override
+	public final SkatGameSnapshot processForward(
+			final SkatGameSnapshot snapshot) {
+		return snapshot.withTrickCard(player, card);
+	}
+
 	private boolean isEmptyTrick(final SkatGameData data) {
 		return data.getCurrentTrick().getFirstCard() == null
 				&& data.getCurrentTrick().getSecondCard() == null
@@ -0,0 +1,39 @@
+/**
+ * Copyright (C) 2019 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.control.event.table;
+
+import org.jskat.data.GameSummary;
+import org.jskat.data.SkatGameData;
+import org.jskat.data.SkatGameData.GameState;
+
+/**
+ * This event is created when a replay jumps to another position in the game.
+ * It carries the complete game state at the new position, so that views don't
+ * have to process all moves in between.
+ */
+public class SkatGameReplayPositionChangedEvent {
+
+	public final GameState gameState;
+	public final SkatGameData gameData;
+	public final GameSummary gameSummary;
+
+	public SkatGameReplayPositionChangedEvent(GameState gameState,
+			SkatGameData gameData, GameSummary gameSummary) {
+		this.gameState = gameState;
+		this.gameData = gameData;
+		this.gameSummary = gameSummary;
+	}
+}
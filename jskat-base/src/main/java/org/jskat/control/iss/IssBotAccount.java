@@ -0,0 +1,118 @@
+/**
+ * Copyright (C) 2019 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.control.iss;
+
+/**
+ * Account of an AI player that is hosted by an {@link IssBotHost}
+ */
+public final class IssBotAccount {
+
+	/**
+	 * How the bot finds a table to play at
+	 */
+	public enum TableMode {
+		/**
+		 * Creates a new table and waits for other players
+		 */
+		CREATE,
+		/**
+		 * Joins the first table from the lobby list that has a free seat
+		 */
+		JOIN
+	}
+
+	private final String loginName;
+	private final String password;
+	private final String playerClass;
+	private final TableMode tableMode;
+
+	/**
+	 * Constructor
+	 *
+	 * @param loginName
+	 *            Login name on ISS
+	 * @param password
+	 *            Password
+	 * @param playerClass
+	 *            Class name of the AI player
+	 * @param tableMode
+	 *            How the bot finds a table
+	 */
+	public IssBotAccount(final String loginName, final String password, final String playerClass,
+			final TableMode tableMode) {
+		this.loginName = loginName;
+		this.password = password;
+		this.playerClass = playerClass;
+		this.tableMode = tableMode;
+	}
+
+	/**
+	 * Parses an account from its string representation<br>
+	 * login:password:playerClass:CREATE|JOIN
+	 *
+	 * @param account
+	 *            Account string
+	 * @return Account
+	 */
+	public static IssBotAccount valueOf(final String account) {
+		final String[] parts = account.split(":"); //$NON-NLS-1$
+		if (parts.length != 4) {
+			throw new IllegalArgumentException("Invalid bot account: " + account); //$NON-NLS-1$
+		}
+		return new IssBotAccount(parts[0], parts[1], parts[2], TableMode.valueOf(parts[3]));
+	}
+
+	/**
+	 * Gets the login name
+	 *
+	 * @return Login name
+	 */
+	public String getLoginName() {
+		return loginName;
+	}
+
+	/**
+	 * Gets the password
+	 *
+	 * @return Password
+	 */
+	public String getPassword() {
+		return password;
+	}
+
+	/**
+	 * Gets the class name of the AI player
+	 *
+	 * @return Class name
+	 */
+	public String getPlayerClass() {
+		return playerClass;
+	}
+
+	/**
+	 * Gets the table mode
+	 *
+	 * @return Table mode
+	 */
+	public TableMode getTableMode() {
+		return tableMode;
+	}
+
+	@Override
+	public String toString() {
+		return loginName + " (" + playerClass + ", " + tableMode + ")"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+}
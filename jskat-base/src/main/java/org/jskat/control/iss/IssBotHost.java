@@ -0,0 +1,162 @@
+/**
+ * Copyright (C) 2019 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.control.iss;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jskat.data.DesktopSavePathResolver;
+import org.jskat.data.JSkatOptions;
+import org.jskat.player.JSkatPlayer;
+import org.jskat.player.JSkatPlayerResolver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Headless host for AI players on ISS<br>
+ * Logs in many bot accounts at once. All accounts share one
+ * {@link IssEventLoop}, the AI players make their decisions on its worker
+ * threads.
+ */
+public class IssBotHost {
+
+	private static Logger log = LoggerFactory.getLogger(IssBotHost.class);
+
+	private static final int CONNECT_TIMEOUT = 10000;
+
+	private final InetSocketAddress address;
+	private final IssEventLoop eventLoop;
+	private final List<IssBotSession> sessions = new CopyOnWriteArrayList<IssBotSession>();
+	private final AtomicInteger gamesFinished = new AtomicInteger();
+
+	/**
+	 * Constructor
+	 *
+	 * @param hostName
+	 *            Host name of ISS
+	 * @param port
+	 *            Port of ISS
+	 * @param workerThreads
+	 *            Number of threads for the AI players
+	 * @throws IOException
+	 *             if the event loop can't be started
+	 */
+	public IssBotHost(final String hostName, final int port, final int workerThreads) throws IOException {
+		address = new InetSocketAddress(hostName, port);
+		eventLoop = new IssEventLoop(workerThreads);
+	}
+
+	/**
+	 * Logs in a bot account
+	 *
+	 * @param account
+	 *            Bot account
+	 * @throws IOException
+	 *             if the connection can't be established
+	 */
+	public void login(final IssBotAccount account) throws IOException {
+
+		final JSkatPlayer player = JSkatPlayerResolver.createPlayer(account.getPlayerClass());
+		if (player == null) {
+			throw new IllegalArgumentException("Unknown AI player: " + account.getPlayerClass()); //$NON-NLS-1$
+		}
+		player.setPlayerName(account.getLoginName());
+
+		final IssBotSession session = new IssBotSession(account, this, player);
+		session.connected(eventLoop.connect(address, CONNECT_TIMEOUT, session::handleMessage));
+		sessions.add(session);
+
+		log.debug("Bot " + account + " connected"); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/**
+	 * Gets the number of games finished by all bots<br>
+	 * A game played by three bots counts three times.
+	 *
+	 * @return Number of finished games
+	 */
+	public int getGamesFinished() {
+		return gamesFinished.get();
+	}
+
+	/**
+	 * Gets the number of connected bots
+	 *
+	 * @return Number of connected bots
+	 */
+	public int getConnectedBots() {
+		int result = 0;
+		for (final IssBotSession session : sessions) {
+			if (session.isConnected()) {
+				result++;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Logs out all bots and stops the event loop
+	 */
+	public void shutdown() {
+		for (final IssBotSession session : sessions) {
+			session.close();
+		}
+		eventLoop.shutdown();
+	}
+
+	void gameFinished(final IssBotSession session) {
+		final int games = gamesFinished.incrementAndGet();
+		log.debug("Bot " + session.getAccount().getLoginName() + " finished a game, " + games + " games in total"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+
+	void sessionClosed(final IssBotSession session) {
+		sessions.remove(session);
+	}
+
+	/**
+	 * Runs the bot host until all bots are disconnected
+	 *
+	 * @param args
+	 *            ISS host name, port and bot accounts as
+	 *            login:password:playerClass:CREATE|JOIN
+	 * @throws Exception
+	 */
+	public static void main(final String[] args) throws Exception {
+
+		if (args.length < 3) {
+			System.err.println("Usage: IssBotHost <host> <port> <login:password:playerClass:CREATE|JOIN>..."); //$NON-NLS-1$
+			return;
+		}
+
+		JSkatOptions.instance(new DesktopSavePathResolver());
+
+		final IssBotHost host = new IssBotHost(args[0], Integer.parseInt(args[1]),
+				Runtime.getRuntime().availableProcessors());
+		for (int i = 2; i < args.length; i++) {
+			host.login(IssBotAccount.valueOf(args[i]));
+		}
+
+		Runtime.getRuntime().addShutdownHook(new Thread(host::shutdown));
+		while (host.getConnectedBots() > 0) {
+			Thread.sleep(1000);
+		}
+		log.info("All bots disconnected after " + host.getGamesFinished() + " finished games"); //$NON-NLS-1$ //$NON-NLS-2$
+		host.shutdown();
+	}
+}
@@ -0,0 +1,200 @@
+/**
+ * Copyright (C) 2019 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.control.iss;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringTokenizer;
+
+import org.jskat.control.iss.IssBotAccount.TableMode;
+import org.jskat.player.JSkatPlayer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Session of one bot account on ISS<br>
+ * Logs in, finds a table and hands all table updates over to the
+ * {@link IssBotTable}. All messages of a session are handled one after the
+ * other on a worker thread of the {@link IssEventLoop}.
+ */
+class IssBotSession {
+
+	private static Logger log = LoggerFactory.getLogger(IssBotSession.class);
+
+	private final IssBotAccount account;
+	private final IssBotHost host;
+	private final JSkatPlayer player;
+	private final Map<String, IssBotTable> tables = new HashMap<String, IssBotTable>();
+
+	private NioConnection connection;
+	private boolean tableRequested;
+
+	/**
+	 * Constructor
+	 *
+	 * @param account
+	 *            Bot account
+	 * @param host
+	 *            Bot host
+	 * @param player
+	 *            Player that makes the decisions
+	 */
+	IssBotSession(final IssBotAccount account, final IssBotHost host, final JSkatPlayer player) {
+		this.account = account;
+		this.host = host;
+		this.player = player;
+	}
+
+	/**
+	 * Starts the login after the connection was established
+	 *
+	 * @param newConnection
+	 *            Connection to ISS
+	 */
+	void connected(final NioConnection newConnection) {
+		connection = newConnection;
+		connection.sendMessage(account.getLoginName());
+	}
+
+	/**
+	 * Closes the connection
+	 */
+	void close() {
+		if (connection != null) {
+			connection.close();
+		}
+	}
+
+	/**
+	 * Checks whether the session is connected
+	 *
+	 * @return TRUE, if the session is connected
+	 */
+	boolean isConnected() {
+		return connection != null && connection.isOpen();
+	}
+
+	/**
+	 * Handles a message from ISS
+	 *
+	 * @param message
+	 *            Message, <code>null</code> if ISS closed the connection
+	 */
+	void handleMessage(final String message) {
+
+		if (message == null) {
+			log.info("Bot " + account.getLoginName() + " was disconnected"); //$NON-NLS-1$ //$NON-NLS-2$
+			host.sessionClosed(this);
+			return;
+		}
+
+		final StringTokenizer tokenizer = new StringTokenizer(message);
+		if (!tokenizer.hasMoreTokens()) {
+			return;
+		}
+		final MessageType type = MessageType.getByString(tokenizer.nextToken());
+		final List<String> params = new ArrayList<String>();
+		while (tokenizer.hasMoreTokens()) {
+			params.add(tokenizer.nextToken());
+		}
+
+		switch (type) {
+		case PASSWORD:
+			connection.sendMessage(MessageGenerator.getPasswordMessage(account.getPassword()));
+			break;
+		case WELCOME:
+			log.info("Bot " + account.getLoginName() + " logged in"); //$NON-NLS-1$ //$NON-NLS-2$
+			if (account.getTableMode() == TableMode.CREATE) {
+				requestTable(MessageGenerator.getTableCreationMessage());
+			}
+			break;
+		case TABLES:
+			handleTableListMessage(params);
+			break;
+		case CREATE:
+			handleTableCreateMessage(params);
+			break;
+		case TABLE:
+			handleTableUpdateMessage(params);
+			break;
+		case DESTROY:
+			tables.remove(params.get(0));
+			tableRequested = !tables.isEmpty();
+			break;
+		case ERROR:
+			log.warn("Bot " + account.getLoginName() + " got error " + params); //$NON-NLS-1$ //$NON-NLS-2$
+			// a failed join can be retried on the next table list update
+			tableRequested = !tables.isEmpty();
+			break;
+		default:
+			break;
+		}
+	}
+
+	/**
+	 * tables + .4 3 0 foo ? ?
+	 */
+	private void handleTableListMessage(final List<String> params) {
+		if (account.getTableMode() != TableMode.JOIN || tableRequested || !"+".equals(params.get(0))) { //$NON-NLS-1$
+			return;
+		}
+		final String tableName = params.get(1);
+		final int maxPlayers = Integer.parseInt(params.get(2));
+		if (params.subList(4, 4 + maxPlayers).contains("?")) { //$NON-NLS-1$
+			requestTable(MessageGenerator.getJoinTableMessage(tableName));
+		}
+	}
+
+	private void requestTable(final String message) {
+		tableRequested = true;
+		connection.sendMessage(message);
+	}
+
+	/**
+	 * create .4 foo 3
+	 */
+	private void handleTableCreateMessage(final List<String> params) {
+		final String tableName = params.get(0);
+		final IssBotTable table = new IssBotTable(tableName, account.getLoginName(), player, connection);
+		tables.put(tableName, table);
+		log.info("Bot " + account.getLoginName() + " sits at table " + tableName); //$NON-NLS-1$ //$NON-NLS-2$
+		table.sendReady();
+	}
+
+	/**
+	 * table .4 foo play 1 18 179.2 180.0 180.0
+	 */
+	private void handleTableUpdateMessage(final List<String> params) {
+		final IssBotTable table = tables.get(params.get(0));
+		if (table == null || params.size() < 3) {
+			return;
+		}
+		if (table.handleTableUpdate(params.get(2), params.subList(3, params.size()))) {
+			host.gameFinished(this);
+		}
+	}
+
+	/**
+	 * Gets the account
+	 *
+	 * @return Account
+	 */
+	IssBotAccount getAccount() {
+		return account;
+	}
+}
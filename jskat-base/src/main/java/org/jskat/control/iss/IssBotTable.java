@@ -0,0 +1,343 @@
+/**
+ * Copyright (C) 2019 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.control.iss;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import org.jskat.data.GameAnnouncement;
+import org.jskat.data.GameAnnouncement.GameAnnouncementFactory;
+import org.jskat.data.JSkatOptions;
+import org.jskat.data.SkatGameData;
+import org.jskat.data.Trick;
+import org.jskat.data.iss.GameStartInformation;
+import org.jskat.data.iss.MoveInformation;
+import org.jskat.player.JSkatPlayer;
+import org.jskat.util.Card;
+import org.jskat.util.CardList;
+import org.jskat.util.GameType;
+import org.jskat.util.Player;
+import org.jskat.util.SkatConstants;
+import org.jskat.util.rule.SkatRuleFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bridges the moves on an ISS table to a {@link JSkatPlayer}<br>
+ * The table follows the game from the moves sent by ISS and asks the player
+ * for a decision whenever it is the player's turn.
+ */
+class IssBotTable {
+
+	private static Logger log = LoggerFactory.getLogger(IssBotTable.class);
+
+	private final String tableName;
+	private final String loginName;
+	private final JSkatPlayer player;
+	private final MessageGenerator messageGenerator;
+	private final OutputChannel output;
+
+	private Player position;
+	private final Set<Player> passedPlayers = EnumSet.noneOf(Player.class);
+	private int currentBidValue;
+	private boolean lastMoveWasBid;
+	private Player declarer;
+	private GameType gameType;
+	private Trick currentTrick;
+	private int gamesFinished;
+
+	/**
+	 * Constructor
+	 *
+	 * @param tableName
+	 *            Table name
+	 * @param loginName
+	 *            Login name of the bot
+	 * @param player
+	 *            Player that makes the decisions
+	 * @param output
+	 *            Output channel to ISS
+	 */
+	IssBotTable(final String tableName, final String loginName, final JSkatPlayer player, final OutputChannel output) {
+		this.tableName = tableName;
+		this.loginName = loginName;
+		this.player = player;
+		this.messageGenerator = new MessageGenerator(loginName);
+		this.output = output;
+	}
+
+	/**
+	 * Signals ISS that the bot is ready to play
+	 */
+	void sendReady() {
+		output.sendMessage(messageGenerator.getReadyMessage(tableName));
+	}
+
+	/**
+	 * Gets the number of games finished at this table
+	 *
+	 * @return Number of finished games
+	 */
+	int getGamesFinished() {
+		return gamesFinished;
+	}
+
+	/**
+	 * Handles a table update message
+	 *
+	 * @param actionCommand
+	 *            Action command
+	 * @param detailParams
+	 *            Parameters of the action
+	 * @return TRUE, if a game was finished with this message
+	 */
+	boolean handleTableUpdate(final String actionCommand, final List<String> detailParams) {
+
+		if ("start".equals(actionCommand)) { //$NON-NLS-1$
+			startGame(MessageParser.getGameStartStatus(loginName, detailParams));
+		} else if ("play".equals(actionCommand)) { //$NON-NLS-1$
+			final MoveInformation move = MessageParser.getMoveInformation(detailParams);
+			if (position != null) {
+				handleMove(move);
+			}
+		} else if ("end".equals(actionCommand)) { //$NON-NLS-1$
+			finishGame(MessageParser.parseGameSummary(String.join(" ", detailParams))); //$NON-NLS-1$
+			return true;
+		}
+		return false;
+	}
+
+	private void startGame(final GameStartInformation status) {
+
+		position = null;
+		for (final Player currPosition : Player.values()) {
+			if (loginName.equals(status.getPlayerName(currPosition))) {
+				position = currPosition;
+			}
+		}
+		if (position == null) {
+			log.warn(loginName + " is not playing game " + status.getGameNo() + " at table " + tableName); //$NON-NLS-1$ //$NON-NLS-2$
+			return;
+		}
+
+		passedPlayers.clear();
+		currentBidValue = 0;
+		lastMoveWasBid = false;
+		declarer = null;
+		gameType = null;
+		currentTrick = null;
+
+		// ISS plays ISPA rules, the options are only used for the snapshot
+		player.newGame(position, JSkatOptions.instance().getSkatGameRules());
+	}
+
+	private void handleMove(final MoveInformation move) {
+
+		final Player movePlayer = move.getPlayer();
+
+		switch (move.getType()) {
+		case DEAL:
+			player.takeCards(move.getCards(position));
+			player.setUpBidding();
+			continueBidding();
+			break;
+		case BID:
+			currentBidValue = move.getBidValue();
+			lastMoveWasBid = true;
+			player.bidByPlayer(movePlayer, currentBidValue);
+			continueBidding();
+			break;
+		case HOLD_BID:
+			lastMoveWasBid = false;
+			player.bidByPlayer(movePlayer, currentBidValue);
+			continueBidding();
+			break;
+		case PASS:
+			lastMoveWasBid = false;
+			passedPlayers.add(movePlayer);
+			continueBidding();
+			break;
+		case PICK_UP_SKAT:
+			if (declarer == position) {
+				discardAndAnnounce(move.getSkat());
+			}
+			break;
+		case GAME_ANNOUNCEMENT:
+			startTrickPlaying(move);
+			break;
+		case CARD_PLAY:
+			cardPlayed(movePlayer, move.getCard());
+			break;
+		default:
+			// skat requests, resigning, time outs and leaving players end
+			// with the game summary
+			break;
+		}
+	}
+
+	/**
+	 * Determines the next bidding move from the bids and passes so far<br>
+	 * Middle hand bids to fore hand first, rear hand bids to the winner
+	 * afterwards. If both pass fore hand can still bid 18.
+	 */
+	private void continueBidding() {
+
+		if (passedPlayers.size() == 3) {
+			// passed in, ISS ends the game
+			return;
+		}
+
+		if (passedPlayers.size() == 2) {
+			final Player remainingPlayer = EnumSet.complementOf(EnumSet.copyOf(passedPlayers)).iterator().next();
+			if (currentBidValue > 0) {
+				declarer = remainingPlayer;
+				if (declarer == position) {
+					declareGame();
+				}
+			} else if (remainingPlayer == position) {
+				askBidMore();
+			}
+			return;
+		}
+
+		final Player announcer;
+		final Player hearer;
+		if (!passedPlayers.contains(Player.FOREHAND) && !passedPlayers.contains(Player.MIDDLEHAND)) {
+			announcer = Player.MIDDLEHAND;
+			hearer = Player.FOREHAND;
+		} else {
+			announcer = Player.REARHAND;
+			hearer = passedPlayers.contains(Player.FOREHAND) ? Player.MIDDLEHAND : Player.FOREHAND;
+		}
+
+		if (lastMoveWasBid && hearer == position) {
+			sendMove(player.holdBid(currentBidValue) ? messageGenerator.getHoldBidMoveMessage(tableName)
+					: messageGenerator.getPassMoveMessage(tableName));
+		} else if (!lastMoveWasBid && announcer == position) {
+			askBidMore();
+		}
+	}
+
+	private void askBidMore() {
+		final int nextBidValue = SkatConstants.getNextBidValue(currentBidValue);
+		final Integer bidValue = player.bidMore(nextBidValue);
+		if (bidValue != null && bidValue > currentBidValue && SkatConstants.bidOrder.contains(bidValue)) {
+			sendMove(messageGenerator.getBidMoveMessage(tableName, bidValue));
+		} else {
+			sendMove(messageGenerator.getPassMoveMessage(tableName));
+		}
+	}
+
+	private void declareGame() {
+		if (player.pickUpSkat()) {
+			sendMove(messageGenerator.getPickUpSkatMoveMessage(tableName));
+		} else {
+			sendAnnouncement(player.announceGame(), null);
+		}
+	}
+
+	private void discardAndAnnounce(final CardList skat) {
+		player.takeSkat(new CardList(skat));
+		final CardList discardedCards = player.discardSkat();
+		sendAnnouncement(player.announceGame(), discardedCards);
+	}
+
+	/**
+	 * Sends the announcement of the player, adjusted to what ISS accepts
+	 * after the skat was picked up or not
+	 */
+	private void sendAnnouncement(final GameAnnouncement announcement, final CardList discardedCards) {
+
+		final GameAnnouncementFactory factory = GameAnnouncement.getFactory();
+		factory.setGameType(announcement.getGameType());
+		if (discardedCards == null) {
+			factory.setHand(Boolean.TRUE);
+			factory.setOuvert(announcement.isOuvert());
+			factory.setSchneider(announcement.isSchneider());
+			factory.setSchwarz(announcement.isSchwarz());
+		} else {
+			// trump games played ouvert have to be hand games
+			factory.setOuvert(announcement.isOuvert() && announcement.getGameType() == GameType.NULL);
+			factory.setDiscardedCards(discardedCards);
+		}
+		sendMove(messageGenerator.getGameAnnouncementMoveMessage(tableName, factory.getAnnouncement()));
+	}
+
+	private void startTrickPlaying(final MoveInformation move) {
+
+		final GameAnnouncement announcement = move.getGameAnnouncement();
+		declarer = move.getPlayer();
+		gameType = announcement.getGameType();
+
+		player.startGame(declarer, announcement);
+		if (declarer != position && !move.getOuvertCards().isEmpty()) {
+			player.lookAtOuvertCards(move.getOuvertCards());
+		}
+
+		startTrick(0, Player.FOREHAND);
+	}
+
+	private void startTrick(final int trickNo, final Player trickForehand) {
+		currentTrick = new Trick(trickNo, trickForehand);
+		player.newTrick(trickNo, trickForehand);
+		if (trickForehand == position) {
+			playCard();
+		}
+	}
+
+	private void cardPlayed(final Player movePlayer, final Card card) {
+
+		currentTrick.addCard(card);
+		player.cardPlayed(movePlayer, card);
+
+		if (currentTrick.getThirdCard() != null) {
+			final Player trickWinner = SkatRuleFactory.getSkatRules(gameType).calculateTrickWinner(gameType,
+					currentTrick);
+			currentTrick.setTrickWinner(trickWinner);
+			player.showTrick((Trick) currentTrick.clone());
+
+			final int nextTrickNo = currentTrick.getTrickNumberInGame() + 1;
+			if (nextTrickNo < 10) {
+				startTrick(nextTrickNo, trickWinner);
+			}
+		} else if (movePlayer.getLeftNeighbor() == position) {
+			playCard();
+		}
+	}
+
+	private void playCard() {
+		sendMove(messageGenerator.getCardMoveMessage(tableName, player.playCard()));
+	}
+
+	private void finishGame(final SkatGameData gameData) {
+		if (position != null) {
+			try {
+				player.setGameSummary(gameData.getGameSummary());
+			} catch (final RuntimeException e) {
+				log.warn("Game summary at table " + tableName + " incomplete: " + e); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			player.finalizeGame();
+		}
+		position = null;
+		gamesFinished++;
+		sendReady();
+	}
+
+	private void sendMove(final String message) {
+		output.sendMessage(message);
+	}
+}
@@ -36,6 +36,8 @@ import org.jskat.control.event.table.ActivePlayerChangedEvent;
 import org.jskat.control.event.table.TableGameMoveEvent;
 import org.jskat.data.GameAnnouncement;
 import org.jskat.data.JSkatApplicationData;
+import org.jskat.data.JSkatOptions;
+import org.jskat.data.JSkatOptions.Option;
 import org.jskat.data.JSkatViewType;
 import org.jskat.data.SkatGameData;
 import org.jskat.data.SkatGameData.GameState;
@@ -137,6 +139,17 @@ public class IssController {
 		}
 	}
 
+	/**
+	 * Gets the connector to ISS
+	 * 
+	 * @return Connector, <code>null</code> if no connection was established
+	 *         yet
+	 */
+	IssConnector getConnector() {
+
+		return this.issConnector;
+	}
+
 	/**
 	 * Shows the login panel for ISS
 	 */
@@ -151,7 +164,7 @@ public class IssController {
 		log.debug("connectToISS"); //$NON-NLS-1$
 
 		if (this.issConnector == null) {
-			this.issConnector = new StreamConnector();
+			this.issConnector = createConnector();
 			// issConnector = new WebSocketConnector();
 		}
 
@@ -176,6 +189,13 @@ public class IssController {
 		}
 	}
 
+	private static IssConnector createConnector() {
+		if (JSkatOptions.instance().getBoolean(Option.ISS_NON_BLOCKING_CONNECTION)) {
+			return new NioConnector();
+		}
+		return new StreamConnector();
+	}
+
 	private void sendToIss(final String message) {
 		this.issOut.sendMessage(message);
 	}
@@ -0,0 +1,247 @@
+/**
+ * Copyright (C) 2019 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.control.iss;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Selector based event loop for connections to ISS<br>
+ * All connections share one selector thread for reading and writing and a
+ * fixed pool of worker threads for handling the received messages.
+ */
+class IssEventLoop {
+
+	private static Logger log = LoggerFactory.getLogger(IssEventLoop.class);
+
+	/**
+	 * Default number of worker threads
+	 */
+	static final int DEFAULT_WORKER_THREADS = 2;
+
+	private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+	private static IssEventLoop sharedInstance;
+
+	private final Selector selector;
+	private final ExecutorService workers;
+	private final Thread selectorThread;
+	private final ByteBuffer readBuffer = ByteBuffer.allocateDirect(READ_BUFFER_SIZE);
+	private final Queue<Runnable> pendingTasks = new ConcurrentLinkedQueue<>();
+
+	private volatile boolean running = true;
+
+	/**
+	 * Gets the event loop shared by all ISS connections
+	 *
+	 * @return Shared event loop
+	 */
+	static synchronized IssEventLoop getShared() {
+		if (sharedInstance == null) {
+			try {
+				sharedInstance = new IssEventLoop(DEFAULT_WORKER_THREADS);
+			} catch (final IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+		return sharedInstance;
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param workerThreads
+	 *            Number of threads for handling received messages
+	 * @throws IOException
+	 *             if the selector can't be opened
+	 */
+	IssEventLoop(final int workerThreads) throws IOException {
+
+		selector = Selector.open();
+		workers = Executors.newFixedThreadPool(workerThreads, runnable -> {
+			final Thread thread = new Thread(runnable, "ISS worker"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		selectorThread = new Thread(this::run, "ISS event loop"); //$NON-NLS-1$
+		selectorThread.setDaemon(true);
+		selectorThread.start();
+	}
+
+	/**
+	 * Opens a connection
+	 *
+	 * @param address
+	 *            Server address
+	 * @param timeout
+	 *            Connect timeout in milliseconds
+	 * @param listener
+	 *            Listener for received lines, gets <code>null</code> when the
+	 *            server closed the connection
+	 * @return Connection
+	 * @throws IOException
+	 *             if the connection can't be established
+	 */
+	NioConnection connect(final InetSocketAddress address, final int timeout, final Consumer<String> listener)
+			throws IOException {
+		return connect(address, timeout, listener, OutboundWriter.DEFAULT_CAPACITY,
+				OutboundWriter.DEFAULT_STALL_TIMEOUT);
+	}
+
+	/**
+	 * Opens a connection
+	 *
+	 * @param address
+	 *            Server address
+	 * @param timeout
+	 *            Connect timeout in milliseconds
+	 * @param listener
+	 *            Listener for received lines, gets <code>null</code> when the
+	 *            server closed the connection
+	 * @param capacity
+	 *            Number of messages that can wait to be written
+	 * @param stallTimeout
+	 *            Time in milliseconds the server may stop reading before the
+	 *            connection is closed
+	 * @return Connection
+	 * @throws IOException
+	 *             if the connection can't be established
+	 */
+	NioConnection connect(final InetSocketAddress address, final int timeout, final Consumer<String> listener,
+			final int capacity, final long stallTimeout) throws IOException {
+
+		final SocketChannel channel = SocketChannel.open();
+		try {
+			channel.socket().connect(address, timeout);
+			channel.socket().setTcpNoDelay(true);
+			channel.configureBlocking(false);
+		} catch (final IOException e) {
+			channel.close();
+			throw e;
+		}
+
+		final NioConnection connection = new NioConnection(this, channel, listener, capacity, stallTimeout);
+		execute(() -> connection.register(selector));
+		return connection;
+	}
+
+	/**
+	 * Runs a task on the selector thread
+	 *
+	 * @param task
+	 *            Task
+	 */
+	void execute(final Runnable task) {
+		pendingTasks.add(task);
+		selector.wakeup();
+	}
+
+	/**
+	 * Runs a task on a worker thread
+	 *
+	 * @param task
+	 *            Task
+	 */
+	void dispatch(final Runnable task) {
+		try {
+			workers.execute(task);
+		} catch (final RejectedExecutionException e) {
+			// lines that arrive while shutting down are dropped
+			log.debug("ISS event loop is shut down, task dropped"); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Checks whether the calling thread is the selector thread
+	 *
+	 * @return TRUE, if the calling thread is the selector thread
+	 */
+	boolean isInEventLoop() {
+		return Thread.currentThread() == selectorThread;
+	}
+
+	/**
+	 * Closes all connections and stops the event loop
+	 */
+	void shutdown() {
+		running = false;
+		selector.wakeup();
+		workers.shutdown();
+	}
+
+	private void run() {
+
+		log.debug("ISS event loop started"); //$NON-NLS-1$
+
+		while (running) {
+			try {
+				selector.select();
+				runPendingTasks();
+
+				final Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+				while (keys.hasNext()) {
+					final SelectionKey key = keys.next();
+					keys.remove();
+
+					final NioConnection connection = (NioConnection) key.attachment();
+					if (key.isValid() && key.isReadable()) {
+						connection.read(readBuffer);
+					}
+					if (key.isValid() && key.isWritable()) {
+						connection.flush();
+					}
+				}
+			} catch (final IOException e) {
+				log.error("ISS event loop failed", e); //$NON-NLS-1$
+			}
+		}
+
+		runPendingTasks();
+		for (final SelectionKey key : selector.keys()) {
+			((NioConnection) key.attachment()).close();
+		}
+		runPendingTasks();
+		try {
+			selector.close();
+		} catch (final IOException e) {
+			log.warn("Closing selector failed", e); //$NON-NLS-1$
+		}
+
+		log.debug("ISS event loop stopped"); //$NON-NLS-1$
+	}
+
+	private void runPendingTasks() {
+		Runnable task;
+		while ((task = pendingTasks.poll()) != null) {
+			task.run();
+		}
+	}
+}
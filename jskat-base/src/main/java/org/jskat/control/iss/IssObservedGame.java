@@ -0,0 +1,93 @@
+/**
+ * Copyright (C) 2019 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.control.iss;
+
+import org.jskat.data.SkatGameSnapshot;
+import org.jskat.util.Player;
+
+/**
+ * Game watched by an {@link IssObserver}
+ */
+public final class IssObservedGame {
+
+	private final String tableName;
+	private final int gameNumber;
+	private final String[] playerNames;
+	private final int moves;
+	private final SkatGameSnapshot snapshot;
+
+	IssObservedGame(final String tableName, final int gameNumber, final String[] playerNames, final int moves,
+			final SkatGameSnapshot snapshot) {
+		this.tableName = tableName;
+		this.gameNumber = gameNumber;
+		this.playerNames = playerNames.clone();
+		this.moves = moves;
+		this.snapshot = snapshot;
+	}
+
+	/**
+	 * Gets the name of the table
+	 *
+	 * @return Table name
+	 */
+	public String getTableName() {
+		return tableName;
+	}
+
+	/**
+	 * Gets the number of the game at the table
+	 *
+	 * @return Game number
+	 */
+	public int getGameNumber() {
+		return gameNumber;
+	}
+
+	/**
+	 * Gets the login name of a player
+	 *
+	 * @param player
+	 *            Player position
+	 * @return Login name
+	 */
+	public String getPlayerName(final Player player) {
+		return playerNames[player.ordinal()];
+	}
+
+	/**
+	 * Gets the number of moves seen by the observer
+	 *
+	 * @return Number of moves
+	 */
+	public int getMoves() {
+		return moves;
+	}
+
+	/**
+	 * Gets the state of the game as seen by the observer<br>
+	 * Cards that were never shown to observers are missing.
+	 *
+	 * @return Game state
+	 */
+	public SkatGameSnapshot getSnapshot() {
+		return snapshot;
+	}
+
+	@Override
+	public String toString() {
+		return tableName + " game " + gameNumber + " (" + String.join(", ", playerNames) + "), " + moves + " moves"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+	}
+}
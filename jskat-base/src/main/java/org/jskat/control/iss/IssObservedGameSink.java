@@ -0,0 +1,32 @@
+/**
+ * Copyright (C) 2019 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.control.iss;
+
+/**
+ * Receives the games an {@link IssObserver} watched until the end
+ */
+@FunctionalInterface
+public interface IssObservedGameSink {
+
+	/**
+	 * Called when a game on an observed table is finished<br>
+	 * The observer forgets the game afterwards.
+	 *
+	 * @param game
+	 *            Finished game
+	 */
+	void gameFinished(IssObservedGame game);
+}
@@ -0,0 +1,197 @@
+/**
+ * Copyright (C) 2019 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.control.iss;
+
+import java.util.List;
+
+import org.jskat.data.GameAnnouncement;
+import org.jskat.data.GameAnnouncement.GameAnnouncementFactory;
+import org.jskat.data.SkatGameData;
+import org.jskat.data.SkatGameData.GameState;
+import org.jskat.data.SkatGameSnapshot;
+import org.jskat.data.iss.GameStartInformation;
+import org.jskat.data.iss.MoveInformation;
+import org.jskat.util.Card;
+import org.jskat.util.CardList;
+import org.jskat.util.Player;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compact state of a table watched by an {@link IssObserver}<br>
+ * The running game is held as a {@link SkatGameSnapshot} with card bit masks,
+ * player points and bids. Nothing is kept once the game is finished.
+ */
+class IssObservedTable {
+
+	private static Logger log = LoggerFactory.getLogger(IssObservedTable.class);
+
+	private final String tableName;
+	private final String[] playerNames = new String[3];
+	private int gameNumber;
+	private int moves;
+	private SkatGameSnapshot snapshot;
+
+	/**
+	 * Constructor
+	 *
+	 * @param tableName
+	 *            Table name
+	 */
+	IssObservedTable(final String tableName) {
+		this.tableName = tableName;
+	}
+
+	/**
+	 * Gets the state of the running game
+	 *
+	 * @return Game state, <code>null</code> if no game is running
+	 */
+	SkatGameSnapshot getSnapshot() {
+		return snapshot;
+	}
+
+	/**
+	 * Gets the number of moves of the running game
+	 *
+	 * @return Number of moves
+	 */
+	int getMoves() {
+		return moves;
+	}
+
+	/**
+	 * Handles a table update message
+	 *
+	 * @param actionCommand
+	 *            Action command
+	 * @param detailParams
+	 *            Parameters of the action
+	 * @return Finished game, <code>null</code> if no game was finished with
+	 *         this message
+	 */
+	IssObservedGame handleTableUpdate(final String actionCommand, final List<String> detailParams) {
+
+		if ("start".equals(actionCommand)) { //$NON-NLS-1$
+			startGame(MessageParser.getGameStartStatus(null, detailParams));
+		} else if ("play".equals(actionCommand) && snapshot != null) { //$NON-NLS-1$
+			moves++;
+			handleMove(MessageParser.getMoveInformation(detailParams));
+		} else if ("end".equals(actionCommand) && snapshot != null) { //$NON-NLS-1$
+			return finishGame(MessageParser.parseGameSummary(String.join(" ", detailParams))); //$NON-NLS-1$
+		}
+		return null;
+	}
+
+	private void startGame(final GameStartInformation status) {
+		gameNumber = status.getGameNo();
+		for (final Player player : Player.values()) {
+			playerNames[player.ordinal()] = status.getPlayerName(player);
+		}
+		moves = 0;
+		snapshot = SkatGameSnapshot.getEmptySnapshot().withGameState(GameState.DEALING);
+	}
+
+	private void handleMove(final MoveInformation move) {
+
+		final Player player = move.getPlayer();
+
+		switch (move.getType()) {
+		case DEAL:
+			for (final Player currPlayer : Player.values()) {
+				snapshot = snapshot.withDealtCards(currPlayer, getKnownCards(move.getCards(currPlayer)));
+			}
+			snapshot = snapshot.withDealtSkat(getKnownCards(move.getSkat())).withGameState(GameState.BIDDING);
+			break;
+		case BID:
+			snapshot = snapshot.withPlayerBid(player, move.getBidValue());
+			break;
+		case HOLD_BID:
+			snapshot = snapshot.withPlayerBid(player, snapshot.getMaxBidValue());
+			break;
+		case PASS:
+			snapshot = snapshot.withPlayerPass(player);
+			break;
+		case SKAT_REQUEST:
+			snapshot = snapshot.withDeclarer(player).withGameState(GameState.PICKING_UP_SKAT);
+			break;
+		case PICK_UP_SKAT:
+			if (snapshot.getDeclarer() != null) {
+				snapshot = snapshot.withSkatPickedUp(snapshot.getDeclarer()).withGameState(GameState.DISCARDING);
+			}
+			break;
+		case GAME_ANNOUNCEMENT:
+			snapshot = snapshot.withDeclarer(player).withGameState(GameState.TRICK_PLAYING);
+			if (move.getGameAnnouncement() != null) {
+				snapshot = snapshot.withAnnouncement(getKnownAnnouncement(move.getGameAnnouncement()));
+			}
+			break;
+		case CARD_PLAY:
+			snapshot = snapshot.withTrickCard(player, move.getCard());
+			break;
+		default:
+			// showing cards, resigning, time outs and leaving players end
+			// with the game summary
+			break;
+		}
+	}
+
+	private IssObservedGame finishGame(final SkatGameData gameSummary) {
+
+		SkatGameSnapshot finalSnapshot = snapshot.withGameState(GameState.GAME_OVER);
+		if (gameSummary.getResult() != null) {
+			finalSnapshot = finalSnapshot.withResult(gameSummary.getResult());
+		}
+		final IssObservedGame game = new IssObservedGame(tableName, gameNumber, playerNames, moves, finalSnapshot);
+		log.debug("Game finished: " + game); //$NON-NLS-1$
+
+		snapshot = null;
+		moves = 0;
+		return game;
+	}
+
+	/**
+	 * Observers get hidden cards as ??, they are left out
+	 */
+	private static CardList getKnownCards(final CardList cards) {
+		final CardList result = new CardList();
+		if (cards != null) {
+			for (final Card card : cards) {
+				if (card != null) {
+					result.add(card);
+				}
+			}
+		}
+		return result;
+	}
+
+	private static GameAnnouncement getKnownAnnouncement(final GameAnnouncement announcement) {
+
+		final CardList discardedCards = announcement.getDiscardedCards();
+		if (!discardedCards.contains(null)) {
+			return announcement;
+		}
+
+		final GameAnnouncementFactory factory = GameAnnouncement.getFactory();
+		factory.setGameType(announcement.getGameType());
+		factory.setHand(announcement.isHand());
+		factory.setOuvert(announcement.isOuvert());
+		factory.setSchneider(announcement.isSchneider());
+		factory.setSchwarz(announcement.isSchwarz());
+		factory.setDiscardedCards(getKnownCards(discardedCards));
+		return factory.getAnnouncement();
+	}
+}
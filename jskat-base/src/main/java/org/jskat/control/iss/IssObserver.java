@@ -0,0 +1,254 @@
+/**
+ * Copyright (C) 2019 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.control.iss;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.StringTokenizer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jskat.data.DesktopSavePathResolver;
+import org.jskat.data.JSkatOptions;
+import org.jskat.data.SkatGameSnapshot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Headless observer for many ISS tables at once<br>
+ * No {@link IssController}, game data or GUI components are created. Every
+ * observed table only holds a compact {@link IssObservedTable}. Finished games
+ * are handed over to an {@link IssObservedGameSink} and forgotten.
+ */
+public class IssObserver {
+
+	private static Logger log = LoggerFactory.getLogger(IssObserver.class);
+
+	private static final int CONNECT_TIMEOUT = 10000;
+
+	private final InetSocketAddress address;
+	private final int maxTables;
+	private final IssObservedGameSink sink;
+	private final IssEventLoop eventLoop;
+	private final Map<String, IssObservedTable> tables = new ConcurrentHashMap<String, IssObservedTable>();
+	private final AtomicInteger gamesFinished = new AtomicInteger();
+
+	private String loginName;
+	private String password;
+	private volatile NioConnection connection;
+
+	/**
+	 * Constructor
+	 *
+	 * @param hostName
+	 *            Host name of ISS
+	 * @param port
+	 *            Port of ISS
+	 * @param maxTables
+	 *            Maximum number of tables observed at once
+	 * @param sink
+	 *            Sink for finished games
+	 * @throws IOException
+	 *             if the event loop can't be started
+	 */
+	public IssObserver(final String hostName, final int port, final int maxTables, final IssObservedGameSink sink)
+			throws IOException {
+		address = new InetSocketAddress(hostName, port);
+		this.maxTables = maxTables;
+		this.sink = sink;
+		eventLoop = new IssEventLoop(1);
+	}
+
+	/**
+	 * Logs in and starts observing tables from the lobby
+	 *
+	 * @param newLoginName
+	 *            Login name
+	 * @param newPassword
+	 *            Password
+	 * @throws IOException
+	 *             if the connection can't be established
+	 */
+	public void login(final String newLoginName, final String newPassword) throws IOException {
+		loginName = newLoginName;
+		password = newPassword;
+		connection = eventLoop.connect(address, CONNECT_TIMEOUT, this::handleMessage);
+		connection.sendMessage(loginName);
+	}
+
+	/**
+	 * Checks whether the observer is connected
+	 *
+	 * @return TRUE, if the observer is connected
+	 */
+	public boolean isConnected() {
+		final NioConnection currConnection = connection;
+		return currConnection != null && currConnection.isOpen();
+	}
+
+	/**
+	 * Gets the number of observed tables
+	 *
+	 * @return Number of observed tables
+	 */
+	public int getObservedTables() {
+		return tables.size();
+	}
+
+	/**
+	 * Gets the number of games handed over to the sink
+	 *
+	 * @return Number of finished games
+	 */
+	public int getGamesFinished() {
+		return gamesFinished.get();
+	}
+
+	/**
+	 * Gets the state of the running game on a table
+	 *
+	 * @param tableName
+	 *            Table name
+	 * @return Game state, <code>null</code> if the table is not observed or
+	 *         no game is running
+	 */
+	public SkatGameSnapshot getGameState(final String tableName) {
+		final IssObservedTable table = tables.get(tableName);
+		return table == null ? null : table.getSnapshot();
+	}
+
+	/**
+	 * Logs out and stops the event loop
+	 */
+	public void shutdown() {
+		final NioConnection currConnection = connection;
+		if (currConnection != null) {
+			currConnection.close();
+		}
+		eventLoop.shutdown();
+		tables.clear();
+	}
+
+	/**
+	 * Handles a message from ISS
+	 *
+	 * @param message
+	 *            Message, <code>null</code> if ISS closed the connection
+	 */
+	void handleMessage(final String message) {
+
+		if (message == null) {
+			log.info("Observer " + loginName + " was disconnected"); //$NON-NLS-1$ //$NON-NLS-2$
+			tables.clear();
+			return;
+		}
+
+		final StringTokenizer tokenizer = new StringTokenizer(message);
+		if (!tokenizer.hasMoreTokens()) {
+			return;
+		}
+		final MessageType type = MessageType.getByString(tokenizer.nextToken());
+		final List<String> params = new ArrayList<String>();
+		while (tokenizer.hasMoreTokens()) {
+			params.add(tokenizer.nextToken());
+		}
+
+		try {
+			switch (type) {
+			case PASSWORD:
+				connection.sendMessage(MessageGenerator.getPasswordMessage(password));
+				break;
+			case WELCOME:
+				log.info("Observer " + loginName + " logged in"); //$NON-NLS-1$ //$NON-NLS-2$
+				break;
+			case TABLES:
+				handleTableListMessage(params);
+				break;
+			case TABLE:
+				handleTableUpdateMessage(params);
+				break;
+			case DESTROY:
+				tables.remove(params.get(0));
+				break;
+			default:
+				break;
+			}
+		} catch (final RuntimeException e) {
+			log.warn("Observer could not handle message: " + message, e); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * tables + .4 3 0 foo bar baz
+	 */
+	private void handleTableListMessage(final List<String> params) {
+		final String tableName = params.get(1);
+		if ("-".equals(params.get(0))) { //$NON-NLS-1$
+			tables.remove(tableName);
+		} else if (!tables.containsKey(tableName) && tables.size() < maxTables) {
+			tables.put(tableName, new IssObservedTable(tableName));
+			connection.sendMessage(MessageGenerator.getObserveTableMessage(tableName));
+		}
+	}
+
+	/**
+	 * table .4 foo play 1 18 179.2 180.0 180.0
+	 */
+	private void handleTableUpdateMessage(final List<String> params) {
+		final IssObservedTable table = tables.get(params.get(0));
+		if (table == null || params.size() < 3) {
+			return;
+		}
+		final IssObservedGame game = table.handleTableUpdate(params.get(2), params.subList(3, params.size()));
+		if (game != null) {
+			gamesFinished.incrementAndGet();
+			sink.gameFinished(game);
+		}
+	}
+
+	/**
+	 * Observes tables until the connection is closed and logs the finished
+	 * games
+	 *
+	 * @param args
+	 *            ISS host name, port, login name, password and maximum number
+	 *            of tables
+	 * @throws Exception
+	 */
+	public static void main(final String[] args) throws Exception {
+
+		if (args.length < 5) {
+			System.err.println("Usage: IssObserver <host> <port> <login> <password> <max tables>"); //$NON-NLS-1$
+			return;
+		}
+
+		JSkatOptions.instance(new DesktopSavePathResolver());
+
+		final IssObserver observer = new IssObserver(args[0], Integer.parseInt(args[1]), Integer.parseInt(args[4]),
+				game -> log.info("Finished " + game)); //$NON-NLS-1$
+		observer.login(args[2], args[3]);
+
+		Runtime.getRuntime().addShutdownHook(new Thread(observer::shutdown));
+		while (observer.isConnected()) {
+			Thread.sleep(1000);
+		}
+		log.info("Observer disconnected after " + observer.getGamesFinished() + " finished games"); //$NON-NLS-1$ //$NON-NLS-2$
+		observer.shutdown();
+	}
+}
@@ -134,6 +134,11 @@ class MessageGenerator {
 
 		String result = getGameTypeString(gameType);
 
+		if (ouvert && gameType != GameType.NULL) {
+			// ouvert implies hand, schneider and schwarz for trump games
+			return result + "O"; //$NON-NLS-1$
+		}
+
 		if (hand) {
 			result += "H"; //$NON-NLS-1$
 		}
@@ -142,7 +147,7 @@ class MessageGenerator {
 			result += "O"; //$NON-NLS-1$
 		}
 
-		if (schneider) {
+		if (schneider && !schwarz) {
 			result += "S"; //$NON-NLS-1$
 		}
 
@@ -145,8 +145,7 @@ public class MessageHandler extends Thread {
 			try {
 				handleMessageObsolete(type, params);
 			} catch (final Exception e) {
-				// TODO Auto-generated catch block
-				e.printStackTrace();
+				log.error("Error in handling ISS message " + first + params.toString(), e); //$NON-NLS-1$
 			}
 		}
 	}
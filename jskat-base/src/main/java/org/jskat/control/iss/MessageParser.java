@@ -205,7 +205,7 @@ public class MessageParser {
 						// card dealing
 						info.setType(MoveType.DEAL);
 						info.setDealCards(parseCardDeal(move));
-					} else if (move.length() == 5) {
+					} else if (move.length() == 5 && move.charAt(2) == '.') {
 						// open skat given to a player
 						info.setType(MoveType.PICK_UP_SKAT);
 						info.setSkat(parseSkatCards(move));
@@ -0,0 +1,47 @@
+/**
+ * Copyright (C) 2019 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.control.iss;
+
+import java.io.IOException;
+
+/**
+ * Transport that writes messages to ISS, used by an {@link OutboundWriter}
+ */
+interface MessageSink {
+
+	/**
+	 * Writes a message, the message might be buffered until the next flush
+	 * 
+	 * @param message
+	 *            Message text
+	 * @throws IOException
+	 *             If the message could not be written
+	 */
+	void write(String message) throws IOException;
+
+	/**
+	 * Flushes all buffered messages
+	 * 
+	 * @throws IOException
+	 *             If the messages could not be written
+	 */
+	void flush() throws IOException;
+
+	/**
+	 * Closes the transport
+	 */
+	void close();
+}
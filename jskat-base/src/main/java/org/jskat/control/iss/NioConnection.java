@@ -0,0 +1,395 @@
+/**
+ * Copyright (C) 2019 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.control.iss;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import org.jskat.control.iss.OutboundStatistics.QueuedMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Non-blocking connection to ISS driven by an {@link IssEventLoop}<br>
+ * Outgoing messages are queued and written in batches by the selector thread.
+ * The queue is bounded like the one of the {@link OutboundWriter}, if it is
+ * full callers wait until there is room again. If ISS stops reading for longer
+ * than the stall timeout the connection is closed. Received lines are handed
+ * over to the listener on a worker thread, one line after the other.
+ */
+class NioConnection implements OutputChannel {
+
+	private static Logger log = LoggerFactory.getLogger(NioConnection.class);
+
+	private static final int WRITE_BUFFER_SIZE = 16 * 1024;
+
+	/**
+	 * Marks the end of the input, the listener gets <code>null</code>
+	 */
+	private static final String END_OF_INPUT = new String();
+
+	private final IssEventLoop eventLoop;
+	private final SocketChannel channel;
+	private final Consumer<String> listener;
+
+	private final BlockingQueue<QueuedMessage> outgoingMessages;
+	private final long stallTimeout;
+	private final AtomicBoolean flushScheduled = new AtomicBoolean();
+	private final ByteBuffer writeBuffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE);
+	private ByteBuffer currentMessage;
+	private QueuedMessage currentEntry;
+	/**
+	 * Messages completely copied into the write buffer
+	 */
+	private final List<QueuedMessage> bufferedMessages = new ArrayList<>();
+	private final OutboundStatistics statistics = new OutboundStatistics();
+	/**
+	 * Time in nanoseconds since ISS doesn't take more bytes, 0 if all bytes
+	 * were written
+	 */
+	private volatile long writeBlockedSince;
+	private final AtomicBoolean stalled = new AtomicBoolean();
+
+	private final Queue<String> receivedLines = new ConcurrentLinkedQueue<>();
+	private final AtomicBoolean deliveryScheduled = new AtomicBoolean();
+	private byte[] lineBuffer = new byte[256];
+	private int lineLength;
+
+	private SelectionKey key;
+	private volatile boolean open = true;
+
+	/**
+	 * Constructor
+	 *
+	 * @param eventLoop
+	 *            Event loop driving the connection
+	 * @param channel
+	 *            Connected socket channel in non-blocking mode
+	 * @param listener
+	 *            Listener for received lines
+	 */
+	NioConnection(final IssEventLoop eventLoop, final SocketChannel channel, final Consumer<String> listener) {
+		this(eventLoop, channel, listener, OutboundWriter.DEFAULT_CAPACITY, OutboundWriter.DEFAULT_STALL_TIMEOUT);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param eventLoop
+	 *            Event loop driving the connection
+	 * @param channel
+	 *            Connected socket channel in non-blocking mode
+	 * @param listener
+	 *            Listener for received lines
+	 * @param capacity
+	 *            Number of messages that can wait to be written
+	 * @param stallTimeout
+	 *            Time in milliseconds ISS may stop reading before the
+	 *            connection is closed
+	 */
+	NioConnection(final IssEventLoop eventLoop, final SocketChannel channel, final Consumer<String> listener,
+			final int capacity, final long stallTimeout) {
+		this.eventLoop = eventLoop;
+		this.channel = channel;
+		this.listener = listener;
+		this.outgoingMessages = new ArrayBlockingQueue<>(capacity);
+		this.stallTimeout = stallTimeout;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void sendMessage(final String message) {
+		if (log.isDebugEnabled()) {
+			log.debug("ISS <--|    " + message); //$NON-NLS-1$
+		}
+
+		if (!open) {
+			log.warn("Connection to ISS is closed, message dropped: " + message); //$NON-NLS-1$
+			return;
+		}
+		if (isWriteStalled()) {
+			closeStalled();
+			return;
+		}
+
+		final QueuedMessage entry = new QueuedMessage(message, System.nanoTime());
+		try {
+			if (!outgoingMessages.offer(entry)) {
+				log.debug("ISS output queue is full"); //$NON-NLS-1$
+				// the selector thread can't wait for itself
+				if (eventLoop.isInEventLoop()
+						|| !outgoingMessages.offer(entry, stallTimeout, TimeUnit.MILLISECONDS)) {
+					closeStalled();
+					return;
+				}
+			}
+		} catch (final InterruptedException e) {
+			log.warn("Sending to ISS was interrupted, message dropped: " + message); //$NON-NLS-1$
+			Thread.currentThread().interrupt();
+			return;
+		}
+		statistics.recordQueueDepth(outgoingMessages.size());
+
+		if (flushScheduled.compareAndSet(false, true)) {
+			eventLoop.execute(this::flush);
+		}
+	}
+
+	/**
+	 * Gets the number of messages waiting to be written
+	 * 
+	 * @return Queue depth
+	 */
+	int getQueueDepth() {
+		return outgoingMessages.size();
+	}
+
+	/**
+	 * Gets the queue depth and send latency statistics
+	 * 
+	 * @return Statistics
+	 */
+	OutboundStatistics getStatistics() {
+		return statistics;
+	}
+
+	/**
+	 * Checks whether the connection is open
+	 *
+	 * @return TRUE, if the connection is open
+	 */
+	boolean isOpen() {
+		return open && channel.isOpen();
+	}
+
+	/**
+	 * Closes the connection, queued messages are written if possible
+	 */
+	void close() {
+		open = false;
+		if (eventLoop.isInEventLoop()) {
+			closeChannel();
+		} else {
+			eventLoop.execute(this::closeChannel);
+		}
+	}
+
+	void register(final Selector selector) {
+		try {
+			key = channel.register(selector, SelectionKey.OP_READ, this);
+			flush();
+		} catch (final IOException e) {
+			closeOnError(e);
+		}
+	}
+
+	void read(final ByteBuffer buffer) {
+		try {
+			buffer.clear();
+			if (channel.read(buffer) < 0) {
+				log.debug("ISS closed the connection"); //$NON-NLS-1$
+				closeChannel();
+				deliver(END_OF_INPUT);
+				return;
+			}
+			buffer.flip();
+			while (buffer.hasRemaining()) {
+				final byte nextByte = buffer.get();
+				if (nextByte == '\n') {
+					deliver(decodeLine());
+				} else {
+					appendToLine(nextByte);
+				}
+			}
+		} catch (final IOException e) {
+			closeOnError(e);
+		}
+	}
+
+	void flush() {
+		flushScheduled.set(false);
+		if (key == null || !key.isValid()) {
+			// registration flushes the queued messages
+			return;
+		}
+		try {
+			final boolean allWritten = writeQueuedMessages();
+			key.interestOps(allWritten ? SelectionKey.OP_READ : SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+		} catch (final IOException e) {
+			closeOnError(e);
+		}
+	}
+
+	private boolean writeQueuedMessages() throws IOException {
+		while (true) {
+			fillWriteBuffer();
+			if (writeBuffer.position() == 0) {
+				writeBlockedSince = 0;
+				return true;
+			}
+			writeBuffer.flip();
+			final int written = channel.write(writeBuffer);
+			final boolean complete = !writeBuffer.hasRemaining();
+			writeBuffer.compact();
+			if (complete) {
+				statistics.recordBatch(bufferedMessages, System.nanoTime());
+				bufferedMessages.clear();
+			} else {
+				// socket buffer is full, wait until the channel is writable
+				if (written > 0 || writeBlockedSince == 0) {
+					writeBlockedSince = System.nanoTime();
+				}
+				return false;
+			}
+		}
+	}
+
+	private void fillWriteBuffer() {
+		while (writeBuffer.hasRemaining()) {
+			if (currentMessage == null || !currentMessage.hasRemaining()) {
+				currentEntry = outgoingMessages.poll();
+				if (currentEntry == null) {
+					return;
+				}
+				currentMessage = ByteBuffer.wrap((currentEntry.message + '\n').getBytes(StandardCharsets.UTF_8));
+			}
+			final int count = Math.min(writeBuffer.remaining(), currentMessage.remaining());
+			final ByteBuffer part = currentMessage.duplicate();
+			part.limit(part.position() + count);
+			writeBuffer.put(part);
+			currentMessage.position(currentMessage.position() + count);
+			if (!currentMessage.hasRemaining()) {
+				bufferedMessages.add(currentEntry);
+			}
+		}
+	}
+
+	private void appendToLine(final byte nextByte) {
+		if (lineLength == lineBuffer.length) {
+			lineBuffer = Arrays.copyOf(lineBuffer, lineLength * 2);
+		}
+		lineBuffer[lineLength++] = nextByte;
+	}
+
+	private String decodeLine() {
+		int length = lineLength;
+		if (length > 0 && lineBuffer[length - 1] == '\r') {
+			length--;
+		}
+		lineLength = 0;
+		return new String(lineBuffer, 0, length, StandardCharsets.UTF_8);
+	}
+
+	private void deliver(final String line) {
+		receivedLines.add(line);
+		if (deliveryScheduled.compareAndSet(false, true)) {
+			eventLoop.dispatch(this::deliverReceivedLines);
+		}
+	}
+
+	private void deliverReceivedLines() {
+		do {
+			String line;
+			while ((line = receivedLines.poll()) != null) {
+				deliverLine(line == END_OF_INPUT ? null : line);
+			}
+			deliveryScheduled.set(false);
+			// lines received after the queue was drained but before the flag was
+			// reset have to be delivered by this thread
+		} while (!receivedLines.isEmpty() && deliveryScheduled.compareAndSet(false, true));
+	}
+
+	private void deliverLine(final String line) {
+		if (log.isDebugEnabled()) {
+			log.debug("ISS    |--> " + line); //$NON-NLS-1$
+		}
+		try {
+			listener.accept(line);
+		} catch (final RuntimeException e) {
+			log.error("Handling of ISS message failed: " + line, e); //$NON-NLS-1$
+		}
+	}
+
+	private boolean isWriteStalled() {
+		final long blockedSince = writeBlockedSince;
+		return blockedSince != 0 && System.nanoTime() - blockedSince > TimeUnit.MILLISECONDS.toNanos(stallTimeout);
+	}
+
+	private void closeStalled() {
+		if (!stalled.compareAndSet(false, true)) {
+			return;
+		}
+		open = false;
+		log.warn("ISS did not read for " + stallTimeout + " ms, closing connection with " //$NON-NLS-1$ //$NON-NLS-2$
+				+ outgoingMessages.size() + " unsent messages"); //$NON-NLS-1$
+		outgoingMessages.clear();
+		final Runnable closing = () -> {
+			closeChannel();
+			deliver(END_OF_INPUT);
+		};
+		if (eventLoop.isInEventLoop()) {
+			closing.run();
+		} else {
+			eventLoop.execute(closing);
+		}
+	}
+
+	private void closeOnError(final IOException e) {
+		log.debug("IO exception --> lost connection to ISS: " + e); //$NON-NLS-1$
+		final boolean wasOpen = open;
+		closeChannel();
+		if (wasOpen) {
+			deliver(END_OF_INPUT);
+		}
+	}
+
+	private void closeChannel() {
+		open = false;
+		if (!channel.isOpen()) {
+			return;
+		}
+		try {
+			if (key != null && key.isValid()) {
+				writeQueuedMessages();
+				key.cancel();
+			}
+		} catch (final IOException e) {
+			log.debug("Writing queued messages failed: " + e); //$NON-NLS-1$
+		}
+		try {
+			channel.close();
+		} catch (final IOException e) {
+			log.debug("Closing channel failed: " + e); //$NON-NLS-1$
+		}
+		log.debug("ISS connection sent " + statistics); //$NON-NLS-1$
+	}
+}
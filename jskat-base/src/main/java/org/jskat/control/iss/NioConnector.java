@@ -0,0 +1,109 @@
+/**
+ * Copyright (C) 2019 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.control.iss;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+
+import org.jskat.data.JSkatOptions.Option;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Non-blocking connector to International Skat Server ISS<br>
+ * All connections are multiplexed on the threads of an {@link IssEventLoop}.
+ */
+class NioConnector extends AbstractIssConnector {
+
+	private static Logger log = LoggerFactory.getLogger(NioConnector.class);
+
+	private static final int CONNECT_TIMEOUT = 10000;
+
+	private final IssEventLoop eventLoop;
+
+	private NioConnection connection;
+
+	/**
+	 * Constructor, uses the shared event loop
+	 */
+	NioConnector() {
+		this(IssEventLoop.getShared());
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param eventLoop
+	 *            Event loop driving the connection
+	 */
+	NioConnector(final IssEventLoop eventLoop) {
+		this.eventLoop = eventLoop;
+	}
+
+	/**
+	 * Establishes a connection with ISS
+	 * 
+	 * @return TRUE if the connection was successful
+	 */
+	@Override
+	public boolean establishConnection(final IssController issControl) {
+
+		log.debug("NioConnector.establishConnection()"); //$NON-NLS-1$
+
+		final MessageHandler messageHandler = new MessageHandler(issControl);
+		try {
+			connection = eventLoop.connect(
+					new InetSocketAddress(options.getString(Option.ISS_ADDRESS), options.getInteger(Option.ISS_PORT)),
+					CONNECT_TIMEOUT, messageHandler::handleMessage);
+			log.debug("Connection established..."); //$NON-NLS-1$
+
+		} catch (UnknownHostException e) {
+			log.error("Cannot open connection to ISS"); //$NON-NLS-1$
+			issControl.showErrorMessage(strings.getString("cant_connect_to_iss")); //$NON-NLS-1$
+			return false;
+		} catch (IOException e) {
+			log.error("IOException: " + e.toString()); //$NON-NLS-1$
+			return false;
+		}
+
+		return true;
+	}
+
+	@Override
+	public OutputChannel getOutputChannel() {
+		return connection;
+	}
+
+	/**
+	 * Closes the connection to ISS
+	 */
+	@Override
+	public void closeConnection() {
+		log.debug("closing connection"); //$NON-NLS-1$
+		connection.close();
+	}
+
+	/**
+	 * Checks whether there is an open connection
+	 * 
+	 * @return TRUE if there is an open connection
+	 */
+	@Override
+	public boolean isConnected() {
+		return connection != null && connection.isOpen();
+	}
+}
@@ -0,0 +1,139 @@
+/**
+ * Copyright (C) 2019 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.control.iss;
+
+import java.util.List;
+
+/**
+ * Queue depth and send latency of the messages to ISS<br>
+ * The batches are recorded by one writing thread only.
+ */
+class OutboundStatistics {
+
+	private volatile int maxQueueDepth;
+	private volatile long messagesSent;
+	private volatile long batchesWritten;
+	private volatile long totalSendLatency;
+	private volatile long maxSendLatency;
+
+	/**
+	 * Records the number of messages waiting to be written
+	 * 
+	 * @param queueDepth
+	 *            Queue depth
+	 */
+	void recordQueueDepth(final int queueDepth) {
+		if (queueDepth > maxQueueDepth) {
+			maxQueueDepth = queueDepth;
+		}
+	}
+
+	/**
+	 * Records messages that were written together
+	 * 
+	 * @param messages
+	 *            Written messages
+	 * @param written
+	 *            Time in nanoseconds the messages were written
+	 */
+	void recordBatch(final List<QueuedMessage> messages, final long written) {
+		if (messages.isEmpty()) {
+			return;
+		}
+		long latencies = 0;
+		long maxLatency = maxSendLatency;
+		for (final QueuedMessage message : messages) {
+			final long latency = written - message.queued;
+			latencies += latency;
+			maxLatency = Math.max(maxLatency, latency);
+		}
+		// only the writing thread updates the statistics
+		totalSendLatency += latencies;
+		maxSendLatency = maxLatency;
+		messagesSent += messages.size();
+		batchesWritten++;
+	}
+
+	/**
+	 * Gets the highest number of messages that waited to be written
+	 * 
+	 * @return Maximum queue depth
+	 */
+	int getMaxQueueDepth() {
+		return maxQueueDepth;
+	}
+
+	/**
+	 * Gets the number of messages written
+	 * 
+	 * @return Messages sent
+	 */
+	long getMessagesSent() {
+		return messagesSent;
+	}
+
+	/**
+	 * Gets the number of batches written
+	 * 
+	 * @return Batches written
+	 */
+	long getBatchesWritten() {
+		return batchesWritten;
+	}
+
+	/**
+	 * Gets the average time from queueing a message until it was written
+	 * 
+	 * @return Average send latency in microseconds
+	 */
+	long getAverageSendLatency() {
+		final long sent = messagesSent;
+		return sent == 0 ? 0 : totalSendLatency / sent / 1000;
+	}
+
+	/**
+	 * Gets the longest time from queueing a message until it was written
+	 * 
+	 * @return Maximum send latency in microseconds
+	 */
+	long getMaxSendLatency() {
+		return maxSendLatency / 1000;
+	}
+
+	/**
+	 * @see Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return messagesSent + " messages in " + batchesWritten + " batches, max queue depth " + maxQueueDepth //$NON-NLS-1$ //$NON-NLS-2$
+				+ ", average latency " + getAverageSendLatency() + " us, max latency " + getMaxSendLatency() //$NON-NLS-1$ //$NON-NLS-2$
+				+ " us"; //$NON-NLS-1$
+	}
+
+	/**
+	 * Message waiting to be written
+	 */
+	static class QueuedMessage {
+
+		final String message;
+		final long queued;
+
+		QueuedMessage(final String message, final long queued) {
+			this.message = message;
+			this.queued = queued;
+		}
+	}
+}
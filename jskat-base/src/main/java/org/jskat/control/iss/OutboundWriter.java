@@ -0,0 +1,284 @@
+/**
+ * Copyright (C) 2019 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.control.iss;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.jskat.control.iss.OutboundStatistics.QueuedMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Sends messages to ISS from its own writer thread<br>
+ * Callers only put messages into a bounded queue. The writer thread writes
+ * all messages waiting in the queue and flushes them once. If the queue is
+ * full, callers wait until there is room again. If ISS stops reading for
+ * longer than the stall timeout the connection is closed.
+ */
+class OutboundWriter implements OutputChannel {
+
+	private static Logger log = LoggerFactory.getLogger(OutboundWriter.class);
+
+	/**
+	 * Default number of messages that can wait for the writer
+	 */
+	static final int DEFAULT_CAPACITY = 1000;
+	/**
+	 * Default time in milliseconds ISS may stop reading before the connection
+	 * is closed
+	 */
+	static final long DEFAULT_STALL_TIMEOUT = 10000;
+
+	private static final int MAX_BATCH_SIZE = 64;
+
+	/**
+	 * Marks the end of the queue on a clean close
+	 */
+	private static final QueuedMessage CLOSE = new QueuedMessage(null, 0);
+
+	private final MessageSink sink;
+	private final BlockingQueue<QueuedMessage> queue;
+	private final long stallTimeout;
+	private final Thread writer;
+
+	private volatile boolean open = true;
+	private volatile boolean stalled;
+	private volatile long writeStarted;
+
+	private final OutboundStatistics statistics = new OutboundStatistics();
+
+	/**
+	 * Constructor
+	 * 
+	 * @param sink
+	 *            Transport to ISS
+	 */
+	OutboundWriter(final MessageSink sink) {
+		this(sink, DEFAULT_CAPACITY, DEFAULT_STALL_TIMEOUT);
+	}
+
+	/**
+	 * Constructor
+	 * 
+	 * @param sink
+	 *            Transport to ISS
+	 * @param capacity
+	 *            Number of messages that can wait for the writer
+	 * @param stallTimeout
+	 *            Time in milliseconds ISS may stop reading before the
+	 *            connection is closed
+	 */
+	OutboundWriter(final MessageSink sink, final int capacity, final long stallTimeout) {
+		this.sink = sink;
+		this.queue = new ArrayBlockingQueue<QueuedMessage>(capacity);
+		this.stallTimeout = stallTimeout;
+
+		writer = new Thread(this::writeMessages, "ISS writer"); //$NON-NLS-1$
+		writer.setDaemon(true);
+		writer.start();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void sendMessage(final String message) {
+
+		if (log.isDebugEnabled()) {
+			log.debug("ISS <--|    " + message); //$NON-NLS-1$
+		}
+
+		if (!open) {
+			log.warn("Connection to ISS is closed, message dropped: " + message); //$NON-NLS-1$
+			return;
+		}
+		if (isWriteStalled()) {
+			closeStalled();
+			return;
+		}
+
+		final QueuedMessage entry = new QueuedMessage(message, System.nanoTime());
+		try {
+			if (!queue.offer(entry)) {
+				log.debug("ISS output queue is full"); //$NON-NLS-1$
+				if (!queue.offer(entry, stallTimeout, TimeUnit.MILLISECONDS)) {
+					closeStalled();
+					return;
+				}
+			}
+		} catch (final InterruptedException e) {
+			log.warn("Sending to ISS was interrupted, message dropped: " + message); //$NON-NLS-1$
+			Thread.currentThread().interrupt();
+			return;
+		}
+
+		statistics.recordQueueDepth(queue.size());
+	}
+
+	/**
+	 * Closes the connection after all queued messages were written<br>
+	 * Waits at most the stall timeout for the writer.
+	 */
+	void close() {
+
+		if (!open) {
+			return;
+		}
+		open = false;
+
+		try {
+			if (queue.offer(CLOSE, stallTimeout, TimeUnit.MILLISECONDS)) {
+				writer.join(stallTimeout);
+			}
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		if (writer.isAlive()) {
+			closeStalled();
+		}
+	}
+
+	/**
+	 * Checks whether messages can be sent
+	 * 
+	 * @return TRUE, if the connection is open
+	 */
+	boolean isOpen() {
+		return open;
+	}
+
+	/**
+	 * Gets the number of messages waiting for the writer
+	 * 
+	 * @return Queue depth
+	 */
+	int getQueueDepth() {
+		return queue.size();
+	}
+
+	/**
+	 * Gets the highest number of messages that waited for the writer
+	 * 
+	 * @return Maximum queue depth
+	 */
+	int getMaxQueueDepth() {
+		return statistics.getMaxQueueDepth();
+	}
+
+	/**
+	 * Gets the number of messages written
+	 * 
+	 * @return Messages sent
+	 */
+	long getMessagesSent() {
+		return statistics.getMessagesSent();
+	}
+
+	/**
+	 * Gets the number of flushes
+	 * 
+	 * @return Batches written
+	 */
+	long getBatchesWritten() {
+		return statistics.getBatchesWritten();
+	}
+
+	/**
+	 * Gets the average time from queueing a message until it was flushed
+	 * 
+	 * @return Average send latency in microseconds
+	 */
+	long getAverageSendLatency() {
+		return statistics.getAverageSendLatency();
+	}
+
+	/**
+	 * Gets the longest time from queueing a message until it was flushed
+	 * 
+	 * @return Maximum send latency in microseconds
+	 */
+	long getMaxSendLatency() {
+		return statistics.getMaxSendLatency();
+	}
+
+	private boolean isWriteStalled() {
+		final long started = writeStarted;
+		return started != 0 && System.nanoTime() - started > TimeUnit.MILLISECONDS.toNanos(stallTimeout);
+	}
+
+	private void closeStalled() {
+		if (stalled) {
+			return;
+		}
+		stalled = true;
+		open = false;
+		log.warn("ISS did not read for " + stallTimeout + " ms, closing connection with " + queue.size() //$NON-NLS-1$ //$NON-NLS-2$
+				+ " unsent messages"); //$NON-NLS-1$
+		queue.clear();
+		writer.interrupt();
+		// unblocks a writer that hangs in a write
+		sink.close();
+	}
+
+	private void writeMessages() {
+
+		final List<QueuedMessage> batch = new ArrayList<QueuedMessage>(MAX_BATCH_SIZE);
+		boolean closing = false;
+		try {
+			while (!closing) {
+				batch.add(queue.take());
+				queue.drainTo(batch, MAX_BATCH_SIZE - 1);
+
+				writeStarted = System.nanoTime();
+				int written = 0;
+				for (final QueuedMessage entry : batch) {
+					if (entry == CLOSE) {
+						closing = true;
+						break;
+					}
+					sink.write(entry.message);
+					written++;
+				}
+				if (written > 0) {
+					sink.flush();
+				}
+				writeStarted = 0;
+
+				statistics.recordBatch(batch.subList(0, written), System.nanoTime());
+				batch.clear();
+			}
+		} catch (final InterruptedException e) {
+			log.debug("ISS writer interrupted"); //$NON-NLS-1$
+		} catch (final IOException e) {
+			if (!stalled) {
+				log.warn("Writing to ISS failed: " + e); //$NON-NLS-1$
+			}
+		} finally {
+			open = false;
+			writeStarted = 0;
+			if (!stalled) {
+				sink.close();
+			}
+			log.debug("ISS writer sent " + statistics); //$NON-NLS-1$
+		}
+	}
+}
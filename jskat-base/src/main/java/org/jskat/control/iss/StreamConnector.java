@@ -15,8 +15,9 @@
  */
 package org.jskat.control.iss;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
-import java.io.PrintWriter;
+import java.io.OutputStreamWriter;
 import java.net.Socket;
 
 import org.jskat.data.JSkatOptions;
@@ -36,9 +37,8 @@ class StreamConnector extends AbstractIssConnector {
 	private static JSkatOptions options = JSkatOptions.instance();
 
 	private Socket socket;
-	private PrintWriter output;
 	private InputChannel issIn;
-	private StreamOutputChannel issOut;
+	private OutboundWriter issOut;
 
 	/**
 	 * Establishes a connection with ISS
@@ -54,8 +54,8 @@ class StreamConnector extends AbstractIssConnector {
 			this.socket = new Socket(options.getString(Option.ISS_ADDRESS),
 					options.getInteger(Option.ISS_PORT));
 
-			this.output = new PrintWriter(this.socket.getOutputStream(), true);
-			this.issOut = new StreamOutputChannel(this.output);
+			this.issOut = new OutboundWriter(new StreamOutputChannel(
+					new BufferedWriter(new OutputStreamWriter(this.socket.getOutputStream()))));
 			this.issIn = new InputChannel(issControl, this,
 					this.socket.getInputStream());
 			this.issIn.start();
@@ -89,7 +89,7 @@ class StreamConnector extends AbstractIssConnector {
 			log.debug("closing connection"); //$NON-NLS-1$
 			this.issIn.interrupt();
 			log.debug("input channel closed"); //$NON-NLS-1$
-			this.output.close();
+			this.issOut.close();
 			log.debug("output channel closed"); //$NON-NLS-1$
 			this.socket.close();
 			log.debug("socket closed"); //$NON-NLS-1$
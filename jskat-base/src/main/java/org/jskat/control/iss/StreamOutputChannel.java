@@ -15,25 +15,29 @@
  */
 package org.jskat.control.iss;
 
-import java.io.PrintWriter;
+import java.io.IOException;
+import java.io.Writer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-class StreamOutputChannel implements OutputChannel {
+/**
+ * Writes messages to the stream of a socket connection to ISS
+ */
+class StreamOutputChannel implements MessageSink {
 
 	private static Logger log = LoggerFactory
 			.getLogger(StreamOutputChannel.class);
 
-	private final PrintWriter output;
+	private final Writer output;
 
 	/**
 	 * Constructor
 	 * 
 	 * @param newOutput
-	 *            Input stream from ISS
+	 *            Buffered output stream to ISS
 	 */
-	StreamOutputChannel(final PrintWriter newOutput) {
+	StreamOutputChannel(final Writer newOutput) {
 
 		this.output = newOutput;
 	}
@@ -42,8 +46,28 @@ class StreamOutputChannel implements OutputChannel {
 	 * {@inheritDoc}
 	 */
 	@Override
-	public void sendMessage(final String message) {
-		log.debug("ISS <--|    " + message); //$NON-NLS-1$
-		this.output.println(message);
+	public void write(final String message) throws IOException {
+		this.output.write(message);
+		this.output.write('\n');
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void flush() throws IOException {
+		this.output.flush();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void close() {
+		try {
+			this.output.close();
+		} catch (final IOException e) {
+			log.debug("Closing output stream failed: " + e); //$NON-NLS-1$
+		}
 	}
 }
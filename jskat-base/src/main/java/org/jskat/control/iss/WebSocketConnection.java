@@ -21,7 +21,7 @@ import org.eclipse.jetty.websocket.WebSocket;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-class WebSocketConnection implements WebSocket.OnTextMessage, OutputChannel {
+class WebSocketConnection implements WebSocket.OnTextMessage, MessageSink {
 
 	private static Logger log = LoggerFactory
 			.getLogger(WebSocketConnection.class);
@@ -54,13 +54,17 @@ class WebSocketConnection implements WebSocket.OnTextMessage, OutputChannel {
 	}
 
 	@Override
-	public void sendMessage(final String message) {
-		try {
-			log.debug("ISS <--|    " + message); //$NON-NLS-1$
-			connection.sendMessage(message);
-		} catch (IOException e) {
-			// TODO Auto-generated catch block
-			e.printStackTrace();
-		}
+	public void write(final String message) throws IOException {
+		connection.sendMessage(message);
+	}
+
+	@Override
+	public void flush() {
+		// every message is sent as a frame of its own
+	}
+
+	@Override
+	public void close() {
+		connection.close();
 	}
 }
@@ -34,6 +34,7 @@ class WebSocketConnector extends AbstractIssConnector {
 			.getLogger(WebSocketConnector.class);
 
 	private WebSocketConnection webSocket;
+	private OutboundWriter issOut;
 
 	/**
 	 * Establishes a connection with ISS
@@ -64,6 +65,7 @@ class WebSocketConnector extends AbstractIssConnector {
 							webSocket, 10, TimeUnit.SECONDS);
 
 			if (connection.isOpen()) {
+				issOut = new OutboundWriter(webSocket);
 				return true;
 			}
 
@@ -85,7 +87,7 @@ class WebSocketConnector extends AbstractIssConnector {
 
 	@Override
 	public OutputChannel getOutputChannel() {
-		return webSocket;
+		return issOut;
 	}
 
 	/**
@@ -94,7 +96,7 @@ class WebSocketConnector extends AbstractIssConnector {
 	@Override
 	public void closeConnection() {
 		webSocket.messageHandler.interrupt();
-		webSocket.connection.close();
+		issOut.close();
 		log.debug("connection closed"); //$NON-NLS-1$
 	}
 
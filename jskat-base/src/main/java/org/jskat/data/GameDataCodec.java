@@ -0,0 +1,449 @@
+/**
+ * Copyright (C) 2019 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.data;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jskat.control.event.skatgame.BidEvent;
+import org.jskat.control.event.skatgame.CardDealEvent;
+import org.jskat.control.event.skatgame.ContraEvent;
+import org.jskat.control.event.skatgame.DiscardSkatEvent;
+import org.jskat.control.event.skatgame.GameAnnouncementEvent;
+import org.jskat.control.event.skatgame.GameFinishEvent;
+import org.jskat.control.event.skatgame.GameStartEvent;
+import org.jskat.control.event.skatgame.HoldBidEvent;
+import org.jskat.control.event.skatgame.PassBidEvent;
+import org.jskat.control.event.skatgame.PickUpSkatEvent;
+import org.jskat.control.event.skatgame.ReEvent;
+import org.jskat.control.event.skatgame.SkatGameEvent;
+import org.jskat.control.event.skatgame.TrickCardPlayedEvent;
+import org.jskat.data.GameAnnouncement.GameAnnouncementFactory;
+import org.jskat.data.GameSummary.GameSummaryFactory;
+import org.jskat.data.SkatTableOptions.ContraCallingTime;
+import org.jskat.data.SkatTableOptions.RamschSkatOwner;
+import org.jskat.util.Card;
+import org.jskat.util.CardList;
+import org.jskat.util.GameType;
+import org.jskat.util.GameVariant;
+import org.jskat.util.Player;
+
+/**
+ * Compact binary encoding of the game data<br>
+ * <br>
+ * Cards, players and enums are written as single bytes of their ordinal,
+ * <code>-1</code> stands for <code>null</code>.
+ */
+public final class GameDataCodec {
+
+	// game moves
+	private static final byte GAME_START = 1;
+	private static final byte CARD_DEAL = 2;
+	private static final byte BID = 3;
+	private static final byte HOLD_BID = 4;
+	private static final byte PASS_BID = 5;
+	private static final byte PICK_UP_SKAT = 6;
+	private static final byte DISCARD_SKAT = 7;
+	private static final byte GAME_ANNOUNCEMENT = 8;
+	private static final byte CONTRA = 9;
+	private static final byte RE = 10;
+	private static final byte TRICK_CARD_PLAYED = 11;
+	private static final byte GAME_FINISH = 12;
+
+	private static final Card[] CARDS = Card.values();
+	private static final Player[] PLAYERS = Player.values();
+	private static final GameType[] GAME_TYPES = GameType.values();
+	private static final GameVariant[] GAME_VARIANTS = GameVariant.values();
+
+	private GameDataCodec() {
+		// only static helpers
+	}
+
+	public static void writeCard(final DataOutput out, final Card card) throws IOException {
+		out.writeByte(card == null ? -1 : card.ordinal());
+	}
+
+	public static Card readCard(final DataInput in) throws IOException {
+		final byte ordinal = in.readByte();
+		return ordinal < 0 ? null : CARDS[ordinal];
+	}
+
+	public static void writeCards(final DataOutput out, final CardList cards) throws IOException {
+		if (cards == null) {
+			out.writeByte(-1);
+			return;
+		}
+		out.writeByte(cards.size());
+		for (final Card card : cards) {
+			writeCard(out, card);
+		}
+	}
+
+	public static CardList readCards(final DataInput in) throws IOException {
+		final byte size = in.readByte();
+		if (size < 0) {
+			return null;
+		}
+		final CardList cards = new CardList();
+		for (int i = 0; i < size; i++) {
+			cards.add(readCard(in));
+		}
+		return cards;
+	}
+
+	public static void writePlayer(final DataOutput out, final Player player) throws IOException {
+		out.writeByte(player == null ? -1 : player.ordinal());
+	}
+
+	public static Player readPlayer(final DataInput in) throws IOException {
+		final byte ordinal = in.readByte();
+		return ordinal < 0 ? null : PLAYERS[ordinal];
+	}
+
+	public static void writeGameType(final DataOutput out, final GameType gameType) throws IOException {
+		out.writeByte(gameType == null ? -1 : gameType.ordinal());
+	}
+
+	public static GameType readGameType(final DataInput in) throws IOException {
+		final byte ordinal = in.readByte();
+		return ordinal < 0 ? null : GAME_TYPES[ordinal];
+	}
+
+	public static void writeString(final DataOutput out, final String string) throws IOException {
+		out.writeBoolean(string != null);
+		if (string != null) {
+			out.writeUTF(string);
+		}
+	}
+
+	public static String readString(final DataInput in) throws IOException {
+		return in.readBoolean() ? in.readUTF() : null;
+	}
+
+	public static void writeRules(final DataOutput out, final SkatGameRules rules) throws IOException {
+		out.writeByte(flags(rules.isPlayContra(), rules.isContraAfterBid18(), rules.isPlayRamsch(),
+				rules.isRamschEventNoBid(), rules.isSchieberamsch(), rules.isSchieberamschJacksInSkat()));
+		out.writeByte(rules.getContraCallingTime() == null ? -1 : rules.getContraCallingTime().ordinal());
+		out.writeByte(rules.getRamschSkatOwner() == null ? -1 : rules.getRamschSkatOwner().ordinal());
+	}
+
+	public static SkatGameRules readRules(final DataInput in) throws IOException {
+		final byte flags = in.readByte();
+		final byte contraCallingTime = in.readByte();
+		final byte ramschSkatOwner = in.readByte();
+		return new SkatGameRules(isSet(flags, 0), isSet(flags, 1),
+				contraCallingTime < 0 ? null : ContraCallingTime.values()[contraCallingTime], isSet(flags, 2),
+				isSet(flags, 3), isSet(flags, 4), isSet(flags, 5),
+				ramschSkatOwner < 0 ? null : RamschSkatOwner.values()[ramschSkatOwner]);
+	}
+
+	public static void writeAnnouncement(final DataOutput out, final GameAnnouncement announcement) throws IOException {
+		if (announcement == null) {
+			writeGameType(out, null);
+			return;
+		}
+		writeGameType(out, announcement.getGameType());
+		out.writeByte(flags(announcement.isHand(), announcement.isOuvert(), announcement.isSchneider(),
+				announcement.isSchwarz()));
+		writeCards(out, announcement.getDiscardedCards());
+	}
+
+	public static GameAnnouncement readAnnouncement(final DataInput in) throws IOException {
+		final GameType gameType = readGameType(in);
+		if (gameType == null) {
+			return null;
+		}
+		final byte flags = in.readByte();
+		final CardList discardedCards = readCards(in);
+
+		final GameAnnouncementFactory factory = GameAnnouncement.getFactory();
+		factory.setGameType(gameType);
+		factory.setHand(isSet(flags, 0));
+		factory.setOuvert(isSet(flags, 1));
+		factory.setSchneider(isSet(flags, 2));
+		factory.setSchwarz(isSet(flags, 3));
+		if (discardedCards != null) {
+			factory.setDiscardedCards(discardedCards);
+		}
+		return factory.getAnnouncement();
+	}
+
+	public static void writeTrick(final DataOutput out, final Trick trick) throws IOException {
+		out.writeByte(trick.getTrickNumberInGame());
+		writePlayer(out, trick.getForeHand());
+		writePlayer(out, trick.getTrickWinner());
+		writeCard(out, trick.getFirstCard());
+		writeCard(out, trick.getSecondCard());
+		writeCard(out, trick.getThirdCard());
+	}
+
+	public static Trick readTrick(final DataInput in) throws IOException {
+		final Trick trick = new Trick(in.readByte(), readPlayer(in));
+		trick.setTrickWinner(readPlayer(in));
+		trick.setFirstCard(readCard(in));
+		trick.setSecondCard(readCard(in));
+		trick.setThirdCard(readCard(in));
+		return trick;
+	}
+
+	public static void writeGameSummary(final DataOutput out, final GameSummary summary) throws IOException {
+		writeGameType(out, summary.getGameType());
+		writePlayer(out, summary.getDeclarer());
+		out.writeByte(flags(summary.isHand(), summary.isOuvert(), summary.isSchneider(), summary.isSchwarz(),
+				summary.isContra(), summary.isRe()));
+		writeString(out, summary.getForeHand());
+		writeString(out, summary.getMiddleHand());
+		writeString(out, summary.getRearHand());
+		for (final Player player : PLAYERS) {
+			out.writeShort(summary.playerPoints.getOrDefault(player, 0));
+		}
+		int ramschLosers = 0;
+		for (final Player player : summary.getRamschLosers()) {
+			ramschLosers |= 1 << player.ordinal();
+		}
+		out.writeByte(ramschLosers);
+		writeResult(out, summary.gameResult);
+		out.writeByte(summary.getTricks().size());
+		for (final Trick trick : summary.getTricks()) {
+			writeTrick(out, trick);
+		}
+	}
+
+	public static GameSummary readGameSummary(final DataInput in) throws IOException {
+		final GameSummaryFactory factory = GameSummary.getFactory();
+		factory.setGameType(readGameType(in));
+		factory.setDeclarer(readPlayer(in));
+		final byte flags = in.readByte();
+		factory.setHand(isSet(flags, 0));
+		factory.setOuvert(isSet(flags, 1));
+		factory.setSchneider(isSet(flags, 2));
+		factory.setSchwarz(isSet(flags, 3));
+		factory.setContra(isSet(flags, 4));
+		factory.setRe(isSet(flags, 5));
+		factory.setForeHand(readString(in));
+		factory.setMiddleHand(readString(in));
+		factory.setRearHand(readString(in));
+		final Map<Player, Integer> playerPoints = new EnumMap<>(Player.class);
+		for (final Player player : PLAYERS) {
+			playerPoints.put(player, (int) in.readShort());
+		}
+		factory.setPlayerPoints(playerPoints);
+		final byte ramschLosers = in.readByte();
+		for (final Player player : PLAYERS) {
+			if (isSet(ramschLosers, player.ordinal())) {
+				factory.addRamschLooser(player);
+			}
+		}
+		factory.setGameResult(readResult(in));
+		final int trickCount = in.readByte();
+		final List<Trick> tricks = new ArrayList<>(trickCount);
+		for (int i = 0; i < trickCount; i++) {
+			tricks.add(readTrick(in));
+		}
+		factory.setTricks(tricks);
+		return factory.getSummary();
+	}
+
+	public static void writeResult(final DataOutput out, final SkatGameResult result) throws IOException {
+		out.writeBoolean(result != null);
+		if (result == null) {
+			return;
+		}
+		out.writeShort(result.getGameValue());
+		out.writeShort(result.getMultiplier());
+		out.writeShort(result.getFinalDeclarerPoints());
+		out.writeShort(result.getFinalOpponentPoints());
+		out.writeByte(flags(result.isPlayWithJacks(), result.isWon(), result.isOverBidded(), result.isSchneider(),
+				result.isSchwarz(), result.isDurchmarsch(), result.isJungfrau()));
+	}
+
+	public static SkatGameResult readResult(final DataInput in) throws IOException {
+		if (!in.readBoolean()) {
+			return null;
+		}
+		final SkatGameResult result = new SkatGameResult();
+		result.setGameValue(in.readShort());
+		result.setMultiplier(in.readShort());
+		result.setFinalDeclarerPoints(in.readShort());
+		result.setFinalOpponentPoints(in.readShort());
+		final byte flags = in.readByte();
+		result.setPlayWithJacks(isSet(flags, 0));
+		result.setWon(isSet(flags, 1));
+		result.setOverBidded(isSet(flags, 2));
+		result.setSchneider(isSet(flags, 3));
+		result.setSchwarz(isSet(flags, 4));
+		result.setDurchmarsch(isSet(flags, 5));
+		result.setJungfrau(isSet(flags, 6));
+		return result;
+	}
+
+	private static int flags(final boolean... values) {
+		int flags = 0;
+		for (int i = 0; i < values.length; i++) {
+			if (values[i]) {
+				flags |= 1 << i;
+			}
+		}
+		return flags;
+	}
+
+	private static boolean isSet(final byte flags, final int bit) {
+		return (flags & 1 << bit) != 0;
+	}
+	/**
+	 * Writes the moves of a game
+	 *
+	 * @param out
+	 *            Output
+	 * @param moves
+	 *            Game moves
+	 * @throws IOException
+	 *             If the moves could not be written or a move is unknown
+	 */
+	public static void writeGameMoves(final DataOutput out, final List<SkatGameEvent> moves) throws IOException {
+		out.writeShort(moves.size());
+		for (final SkatGameEvent move : moves) {
+			writeGameMove(out, move);
+		}
+	}
+
+	/**
+	 * Reads the moves of a game
+	 *
+	 * @param in
+	 *            Input
+	 * @return Game moves
+	 * @throws IOException
+	 *             If the moves could not be read
+	 */
+	public static List<SkatGameEvent> readGameMoves(final DataInput in) throws IOException {
+		final int size = in.readShort();
+		final List<SkatGameEvent> moves = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			moves.add(readGameMove(in));
+		}
+		return moves;
+	}
+
+	private static void writeGameMove(final DataOutput out, final SkatGameEvent move) throws IOException {
+		if (move instanceof GameStartEvent) {
+			final GameStartEvent event = (GameStartEvent) move;
+			out.writeByte(GAME_START);
+			out.writeShort(event.gameNo);
+			out.writeByte(event.gameVariant == null ? -1 : event.gameVariant.ordinal());
+			writePlayer(out, event.leftPlayerPosition);
+			writePlayer(out, event.rightPlayerPosition);
+			writePlayer(out, event.userPosition);
+		} else if (move instanceof CardDealEvent) {
+			final CardDealEvent event = (CardDealEvent) move;
+			out.writeByte(CARD_DEAL);
+			out.writeByte(event.playerCards.size());
+			for (final Map.Entry<Player, CardList> entry : event.playerCards.entrySet()) {
+				writePlayer(out, entry.getKey());
+				writeCards(out, entry.getValue());
+			}
+			writeCards(out, event.skat);
+		} else if (move instanceof BidEvent) {
+			final BidEvent event = (BidEvent) move;
+			out.writeByte(BID);
+			writePlayer(out, event.player);
+			out.writeShort(event.bid);
+		} else if (move instanceof HoldBidEvent) {
+			final HoldBidEvent event = (HoldBidEvent) move;
+			out.writeByte(HOLD_BID);
+			writePlayer(out, event.player);
+			out.writeShort(event.bid);
+		} else if (move instanceof PassBidEvent) {
+			out.writeByte(PASS_BID);
+			writePlayer(out, ((PassBidEvent) move).player);
+		} else if (move instanceof PickUpSkatEvent) {
+			out.writeByte(PICK_UP_SKAT);
+			writePlayer(out, ((PickUpSkatEvent) move).player);
+		} else if (move instanceof DiscardSkatEvent) {
+			final DiscardSkatEvent event = (DiscardSkatEvent) move;
+			out.writeByte(DISCARD_SKAT);
+			writePlayer(out, event.player);
+			writeCards(out, event.discardedSkat);
+		} else if (move instanceof GameAnnouncementEvent) {
+			final GameAnnouncementEvent event = (GameAnnouncementEvent) move;
+			out.writeByte(GAME_ANNOUNCEMENT);
+			writePlayer(out, event.player);
+			writeAnnouncement(out, event.announcement);
+		} else if (move instanceof ContraEvent) {
+			out.writeByte(CONTRA);
+			writePlayer(out, ((ContraEvent) move).player);
+		} else if (move instanceof ReEvent) {
+			out.writeByte(RE);
+			writePlayer(out, ((ReEvent) move).player);
+		} else if (move instanceof TrickCardPlayedEvent) {
+			final TrickCardPlayedEvent event = (TrickCardPlayedEvent) move;
+			out.writeByte(TRICK_CARD_PLAYED);
+			writePlayer(out, event.player);
+			writeCard(out, event.card);
+		} else if (move instanceof GameFinishEvent) {
+			out.writeByte(GAME_FINISH);
+			writeGameSummary(out, ((GameFinishEvent) move).gameSummary);
+		} else {
+			throw new IOException("Unknown game move: " + move.getClass().getName()); //$NON-NLS-1$
+		}
+	}
+
+	private static SkatGameEvent readGameMove(final DataInput in) throws IOException {
+		final byte type = in.readByte();
+		switch (type) {
+		case GAME_START:
+			final int gameNo = in.readShort();
+			final byte gameVariant = in.readByte();
+			return new GameStartEvent(gameNo, gameVariant < 0 ? null : GAME_VARIANTS[gameVariant], readPlayer(in),
+					readPlayer(in), readPlayer(in));
+		case CARD_DEAL:
+			final int hands = in.readByte();
+			final Map<Player, CardList> playerCards = new LinkedHashMap<>();
+			for (int i = 0; i < hands; i++) {
+				playerCards.put(readPlayer(in), readCards(in));
+			}
+			return new CardDealEvent(playerCards, readCards(in));
+		case BID:
+			return new BidEvent(readPlayer(in), (int) in.readShort());
+		case HOLD_BID:
+			return new HoldBidEvent(readPlayer(in), (int) in.readShort());
+		case PASS_BID:
+			return new PassBidEvent(readPlayer(in));
+		case PICK_UP_SKAT:
+			return new PickUpSkatEvent(readPlayer(in));
+		case DISCARD_SKAT:
+			return new DiscardSkatEvent(readPlayer(in), readCards(in));
+		case GAME_ANNOUNCEMENT:
+			return new GameAnnouncementEvent(readPlayer(in), readAnnouncement(in));
+		case CONTRA:
+			return new ContraEvent(readPlayer(in));
+		case RE:
+			return new ReEvent(readPlayer(in));
+		case TRICK_CARD_PLAYED:
+			return new TrickCardPlayedEvent(readPlayer(in), readCard(in));
+		case GAME_FINISH:
+			return new GameFinishEvent(readGameSummary(in));
+		default:
+			throw new IOException("Unknown game move type: " + type); //$NON-NLS-1$
+		}
+	}
+}
@@ -96,6 +96,10 @@ public final class JSkatOptions {
 		 * Network port of the ISS
 		 */
 		ISS_PORT(Integer.class),
+		/**
+		 * Connect to the ISS with the non-blocking connector
+		 */
+		ISS_NON_BLOCKING_CONNECTION(Boolean.class),
 		/**
 		 * Rule set
 		 */
@@ -195,10 +199,19 @@ public final class JSkatOptions {
 		/**
 		 * Height of main frame
 		 */
-		MAIN_FRAME_HEIGHT(Integer.class);
+		MAIN_FRAME_HEIGHT(Integer.class),
+		/**
+		 * Latest JSkat version found on the JSkat website
+		 */
+		LATEST_VERSION(String.class),
+		/**
+		 * Day of the last version check, counted in days since epoch
+		 */
+		LATEST_VERSION_CHECK_DAY(Integer.class);
 
 		public final Class clazz;
 		public final Option parent = null;
+		private String propertyName;
 
 		private Option(Class clazz) {
 			this.clazz = clazz;
@@ -216,7 +229,15 @@ public final class JSkatOptions {
 		 * @return Property name of the enum
 		 */
 		public String propertyName() {
-			String result = name().toLowerCase();
+			if (propertyName == null) {
+				// computed once, options are read during every game
+				propertyName = toPropertyName(name());
+			}
+			return propertyName;
+		}
+
+		private static String toPropertyName(final String name) {
+			String result = name.toLowerCase();
 			while (result.contains("_")) {
 				int startIndex = result.indexOf('_');
 				String search = result.substring(startIndex, startIndex + 2);
@@ -399,6 +420,26 @@ public final class JSkatOptions {
 		setOption(Option.MAIN_FRAME_Y_POSITION, yPosition);
 	}
 
+	/**
+	 * Sets the latest JSkat version found on the JSkat website
+	 *
+	 * @param version
+	 *            Latest version
+	 */
+	public void setLatestVersion(final String version) {
+		setOption(Option.LATEST_VERSION, version);
+	}
+
+	/**
+	 * Sets the day of the last version check
+	 *
+	 * @param epochDay
+	 *            Day of the check, counted in days since epoch
+	 */
+	public void setLatestVersionCheckDay(final Integer epochDay) {
+		setOption(Option.LATEST_VERSION_CHECK_DAY, epochDay);
+	}
+
 	public void setWaitTimeAfterTrick(Integer waitTime) {
 		setOption(Option.WAIT_TIME_AFTER_TRICK, waitTime);
 	}
@@ -437,6 +478,15 @@ public final class JSkatOptions {
 		return result;
 	}
 
+	/**
+	 * Gets an immutable snapshot of the current game rules
+	 *
+	 * @return The current game rules
+	 */
+	public SkatGameRules getSkatGameRules() {
+		return new SkatGameRules(this);
+	}
+
 	public Boolean isBockEventAllPlayersPassed() {
 		return isBockEventAllPlayersPassed(true);
 	}
@@ -850,6 +900,16 @@ public final class JSkatOptions {
 		setOption(Option.ISS_PORT, port);
 	}
 
+	/**
+	 * Sets whether the connection to the ISS is non-blocking
+	 *
+	 * @param isNonBlocking
+	 *            TRUE, if the connection to the ISS is non-blocking
+	 */
+	public void setIssNonBlockingConnection(final Boolean isNonBlocking) {
+		setOption(Option.ISS_NON_BLOCKING_CONNECTION, isNonBlocking);
+	}
+
 	/**
 	 * Setter for property language.
 	 *
@@ -1088,6 +1148,9 @@ public final class JSkatOptions {
 		case ISS_PORT:
 			setIssPort(Integer.valueOf(value));
 			break;
+		case ISS_NON_BLOCKING_CONNECTION:
+			setIssNonBlockingConnection(Boolean.valueOf(value));
+			break;
 		case LANGUAGE:
 			try {
 				setLanguage(SupportedLanguage.valueOf(value));
@@ -1163,6 +1226,12 @@ public final class JSkatOptions {
 		case MAIN_FRAME_Y_POSITION:
 			setMainFrameYPosition(Integer.valueOf(value));
 			break;
+		case LATEST_VERSION:
+			setLatestVersion(value);
+			break;
+		case LATEST_VERSION_CHECK_DAY:
+			setLatestVersionCheckDay(Integer.valueOf(value));
+			break;
 		}
 	}
 
@@ -1257,11 +1326,14 @@ public final class JSkatOptions {
 		setOption(Option.PLAY_REVOLUTION, Boolean.FALSE);
 		setOption(Option.ISS_ADDRESS, "skatgame.net"); //$NON-NLS-1$
 		setOption(Option.ISS_PORT, Integer.valueOf(7000));
+		setOption(Option.ISS_NON_BLOCKING_CONNECTION, Boolean.FALSE);
 		setOption(Option.WAIT_TIME_AFTER_TRICK, Integer.valueOf(0));
 		setOption(Option.MAIN_FRAME_X_POSITION, Integer.MIN_VALUE);
 		setOption(Option.MAIN_FRAME_Y_POSITION, Integer.MIN_VALUE);
 		setOption(Option.MAIN_FRAME_WIDTH, Integer.MIN_VALUE);
 		setOption(Option.MAIN_FRAME_HEIGHT, Integer.MIN_VALUE);
+		setOption(Option.LATEST_VERSION, ""); //$NON-NLS-1$
+		setOption(Option.LATEST_VERSION_CHECK_DAY, Integer.MIN_VALUE);
 	}
 
 	/**
@@ -0,0 +1,316 @@
+/**
+ * Copyright (C) 2019 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.data;
+
+import org.jskat.util.GameType;
+
+/**
+ * Running statistics of one player over a series of skat games
+ *
+ * All values are aggregated incrementally, the memory needed is independent
+ * of the number of games.
+ */
+public class PlayerStatistics {
+
+	/**
+	 * Quantile of the standard normal distribution for 95% confidence
+	 */
+	private static final double Z_95 = 1.959964;
+
+	private final String playerName;
+
+	private long gamesPlayed;
+	private long gamesDeclared;
+	private long gamesWon;
+	private long declarerPoints;
+	private long opponentGames;
+	private long opponentGamesWon;
+	private long contraGames;
+	private long contraGamesWon;
+	private long ramschGames;
+	private long ramschGamesLost;
+
+	private long seegerFabianScore;
+	private double scoreMean;
+	private double scoreSquaredDeviations;
+
+	private final long[] gamesDeclaredByType = new long[GameType.values().length];
+	private final long[] gamesWonByType = new long[GameType.values().length];
+	private final long[] scoreByType = new long[GameType.values().length];
+
+	/**
+	 * Constructor
+	 *
+	 * @param playerName
+	 *            Player name
+	 */
+	PlayerStatistics(final String playerName) {
+		this.playerName = playerName;
+	}
+
+	/**
+	 * Copy constructor for snapshots
+	 *
+	 * @param other
+	 *            Statistics to copy
+	 */
+	PlayerStatistics(final PlayerStatistics other) {
+		playerName = other.playerName;
+		gamesPlayed = other.gamesPlayed;
+		gamesDeclared = other.gamesDeclared;
+		gamesWon = other.gamesWon;
+		declarerPoints = other.declarerPoints;
+		opponentGames = other.opponentGames;
+		opponentGamesWon = other.opponentGamesWon;
+		contraGames = other.contraGames;
+		contraGamesWon = other.contraGamesWon;
+		ramschGames = other.ramschGames;
+		ramschGamesLost = other.ramschGamesLost;
+		seegerFabianScore = other.seegerFabianScore;
+		scoreMean = other.scoreMean;
+		scoreSquaredDeviations = other.scoreSquaredDeviations;
+		System.arraycopy(other.gamesDeclaredByType, 0, gamesDeclaredByType, 0, gamesDeclaredByType.length);
+		System.arraycopy(other.gamesWonByType, 0, gamesWonByType, 0, gamesWonByType.length);
+		System.arraycopy(other.scoreByType, 0, scoreByType, 0, scoreByType.length);
+	}
+
+	void addDeclaredGame(final GameType gameType, final boolean won, final int finalDeclarerPoints, final int score) {
+		gamesDeclared++;
+		gamesDeclaredByType[gameType.ordinal()]++;
+		if (won) {
+			gamesWon++;
+			gamesWonByType[gameType.ordinal()]++;
+		}
+		declarerPoints += finalDeclarerPoints;
+		scoreByType[gameType.ordinal()] += score;
+		addScore(score);
+	}
+
+	void addOpponentGame(final boolean won, final boolean contra, final int score) {
+		opponentGames++;
+		if (won) {
+			opponentGamesWon++;
+		}
+		if (contra) {
+			contraGames++;
+			if (won) {
+				contraGamesWon++;
+			}
+		}
+		addScore(score);
+	}
+
+	void addRamschGame(final boolean lost, final int score) {
+		ramschGames++;
+		if (lost) {
+			ramschGamesLost++;
+		}
+		scoreByType[GameType.RAMSCH.ordinal()] += score;
+		addScore(score);
+	}
+
+	void addPassedInGame() {
+		addScore(0);
+	}
+
+	private void addScore(final int score) {
+		// Welford's algorithm keeps mean and variance numerically stable
+		gamesPlayed++;
+		seegerFabianScore += score;
+		final double delta = score - scoreMean;
+		scoreMean += delta / gamesPlayed;
+		scoreSquaredDeviations += delta * (score - scoreMean);
+	}
+
+	/**
+	 * @return Player name
+	 */
+	public String getPlayerName() {
+		return playerName;
+	}
+
+	/**
+	 * @return Number of games the player took part in
+	 */
+	public long getGamesPlayed() {
+		return gamesPlayed;
+	}
+
+	/**
+	 * @return Number of games the player declared
+	 */
+	public long getGamesDeclared() {
+		return gamesDeclared;
+	}
+
+	/**
+	 * @param gameType
+	 *            Game type
+	 * @return Number of games of the game type the player declared
+	 */
+	public long getGamesDeclared(final GameType gameType) {
+		return gamesDeclaredByType[gameType.ordinal()];
+	}
+
+	/**
+	 * @return Number of declared games the player won
+	 */
+	public long getGamesWon() {
+		return gamesWon;
+	}
+
+	/**
+	 * @param gameType
+	 *            Game type
+	 * @return Number of declared games of the game type the player won
+	 */
+	public long getGamesWon(final GameType gameType) {
+		return gamesWonByType[gameType.ordinal()];
+	}
+
+	/**
+	 * @return Share of declared games the player won, 0.0 without declared
+	 *         games
+	 */
+	public double getWinRate() {
+		return gamesDeclared == 0 ? 0.0 : (double) gamesWon / gamesDeclared;
+	}
+
+	/**
+	 * @return Lower bound of the 95% Wilson score interval of the win rate
+	 */
+	public double getWinRateLowerBound() {
+		return getWilsonBound(-1.0);
+	}
+
+	/**
+	 * @return Upper bound of the 95% Wilson score interval of the win rate
+	 */
+	public double getWinRateUpperBound() {
+		return getWilsonBound(1.0);
+	}
+
+	private double getWilsonBound(final double sign) {
+		if (gamesDeclared == 0) {
+			return sign < 0 ? 0.0 : 1.0;
+		}
+		final double n = gamesDeclared;
+		final double p = getWinRate();
+		final double z2 = Z_95 * Z_95;
+		final double center = p + z2 / (2 * n);
+		final double spread = Z_95 * Math.sqrt(p * (1 - p) / n + z2 / (4 * n * n));
+		return Math.min(1.0, Math.max(0.0, (center + sign * spread) / (1 + z2 / n)));
+	}
+
+	/**
+	 * @return Average card points the player made as declarer
+	 */
+	public double getAverageDeclarerPoints() {
+		return gamesDeclared == 0 ? 0.0 : (double) declarerPoints / gamesDeclared;
+	}
+
+	/**
+	 * @return Number of games the player played as opponent
+	 */
+	public long getOpponentGames() {
+		return opponentGames;
+	}
+
+	/**
+	 * @return Number of games the player won as opponent
+	 */
+	public long getOpponentGamesWon() {
+		return opponentGamesWon;
+	}
+
+	/**
+	 * @return Number of games with contra the player played as opponent
+	 */
+	public long getContraGames() {
+		return contraGames;
+	}
+
+	/**
+	 * @return Number of games with contra the player won as opponent
+	 */
+	public long getContraGamesWon() {
+		return contraGamesWon;
+	}
+
+	/**
+	 * @return Number of ramsch games
+	 */
+	public long getRamschGames() {
+		return ramschGames;
+	}
+
+	/**
+	 * @return Number of ramsch games the player lost
+	 */
+	public long getRamschGamesLost() {
+		return ramschGamesLost;
+	}
+
+	/**
+	 * @return Seeger-Fabian tournament score
+	 */
+	public long getSeegerFabianScore() {
+		return seegerFabianScore;
+	}
+
+	/**
+	 * @param gameType
+	 *            Game type
+	 * @return Seeger-Fabian tournament score of the declared games of the game
+	 *         type, for ramsch the score of all ramsch games
+	 */
+	public long getSeegerFabianScore(final GameType gameType) {
+		return scoreByType[gameType.ordinal()];
+	}
+
+	/**
+	 * @return Average tournament score per game
+	 */
+	public double getAverageScore() {
+		return scoreMean;
+	}
+
+	/**
+	 * @return Sample standard deviation of the tournament score per game
+	 */
+	public double getScoreStandardDeviation() {
+		return gamesPlayed < 2 ? 0.0 : Math.sqrt(scoreSquaredDeviations / (gamesPlayed - 1));
+	}
+
+	/**
+	 * @return Half width of the 95% confidence interval of the average
+	 *         tournament score per game
+	 */
+	public double getScoreConfidenceHalfWidth() {
+		return gamesPlayed < 2 ? Double.POSITIVE_INFINITY
+				: Z_95 * getScoreStandardDeviation() / Math.sqrt(gamesPlayed);
+	}
+
+	/**
+	 * @see Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return playerName + ": games " + gamesPlayed + " declared " + gamesDeclared + " won " + gamesWon //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				+ " score " + seegerFabianScore + " avg " + String.format("%.2f", scoreMean) //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				+ " +/- " + String.format("%.2f", getScoreConfidenceHalfWidth()); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+}
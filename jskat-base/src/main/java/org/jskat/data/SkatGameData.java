@@ -41,7 +41,7 @@ import com.google.common.eventbus.Subscribe;
 /**
  * Data class for a Skat game
  */
-public class SkatGameData {
+public class SkatGameData implements Cloneable {
 
 	private static Logger log = LoggerFactory.getLogger(SkatGameData.class);
 
@@ -113,6 +113,11 @@ public class SkatGameData {
 	 */
 	private Boolean ispaRules = true;
 
+	/**
+	 * Rules the game is played with
+	 */
+	private SkatGameRules gameRules;
+
 	/**
 	 * Skat rules according the game type
 	 */
@@ -200,6 +205,65 @@ public class SkatGameData {
 		log.debug("Game data created"); //$NON-NLS-1$
 	}
 
+	/**
+	 * Creates a deep copy of the game data. The copy can be changed without
+	 * affecting the original game data.
+	 *
+	 * @return Copy of the game data
+	 */
+	@Override
+	public SkatGameData clone() {
+
+		final SkatGameData clone = new SkatGameData();
+
+		clone.gameState = gameState;
+		clone.ispaRules = ispaRules;
+		clone.gameRules = gameRules;
+		clone.rules = rules;
+		clone.announcement = copyAnnouncement(announcement);
+		clone.declarer = declarer;
+		clone.result = result.clone();
+		clone.geschoben = geschoben;
+		clone.skatPickedUp = skatPickedUp;
+
+		for (final Player player : Player.values()) {
+			clone.playerPoints.put(player, playerPoints.get(player));
+			clone.playerNames.put(player, playerNames.get(player));
+			clone.playerBids.put(player,
+					new ArrayList<Integer>(playerBids.get(player)));
+			clone.playerPasses.put(player, playerPasses.get(player));
+			clone.playerHands.put(player,
+					new CardList(playerHands.get(player)));
+			clone.dealtCards.put(player, new CardList(dealtCards.get(player)));
+		}
+
+		for (final Trick trick : tricks) {
+			clone.tricks.add((Trick) trick.clone());
+		}
+
+		clone.skat.addAll(skat);
+		clone.dealtSkat.addAll(dealtSkat);
+		clone.ramschLoosers.addAll(ramschLoosers);
+		clone.gameMoves.addAll(gameMoves);
+
+		return clone;
+	}
+
+	private static GameAnnouncement copyAnnouncement(
+			final GameAnnouncement original) {
+
+		final GameAnnouncement copy = new GameAnnouncement();
+		copy.gameType = original.gameType;
+		copy.discardedCards.addAll(original.discardedCards);
+		copy.ouvert = original.ouvert;
+		copy.hand = original.hand;
+		copy.schneider = original.schneider;
+		copy.schwarz = original.schwarz;
+		copy.contra = original.contra;
+		copy.re = original.re;
+		return copy;
+	}
+
 	@Subscribe
 	public void adjustDataOn(final SkatGameEvent event) {
 		event.processForward(this);
@@ -652,7 +716,7 @@ public class SkatGameData {
 	 */
 	public void setTrickWinner(final int trickNumber, final Player winner) {
 
-		log.debug("setTrickWinner(" + trickNumber + ", " + winner + ")"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		log.debug("setTrickWinner({}, {})", trickNumber, winner); //$NON-NLS-1$
 
 		tricks.get(trickNumber).setTrickWinner(winner);
 	}
@@ -735,6 +799,37 @@ public class SkatGameData {
 		return playerHands.get(player).getImmutableCopy();
 	}
 
+	/**
+	 * Checks whether a player has a card on the hand, without copying the hand
+	 *
+	 * @param player
+	 *            Player
+	 * @param card
+	 *            Card
+	 * @return TRUE, if the card is on the player's hand
+	 */
+	public boolean hasPlayerCard(final Player player, final Card card) {
+
+		return playerHands.get(player).contains(card);
+	}
+
+	/**
+	 * Checks whether a player is allowed to play a card in the current trick,
+	 * without copying the hand
+	 *
+	 * @param player
+	 *            Player
+	 * @param firstTrickCard
+	 *            First card of the trick, NULL if the player opens the trick
+	 * @param card
+	 *            Card to play
+	 * @return TRUE, if the card is allowed
+	 */
+	public boolean isCardAllowed(final Player player, final Card firstTrickCard, final Card card) {
+
+		return rules.isCardAllowed(getGameType(), firstTrickCard, playerHands.get(player), card);
+	}
+
 	/**
 	 * Gets a reference to the skat for the game
 	 *
@@ -994,6 +1089,26 @@ public class SkatGameData {
 		ispaRules = isIspaRules;
 	}
 
+	/**
+	 * Gets the rules the game is played with
+	 *
+	 * @return Game rules, NULL if the game is not controlled by a
+	 *         {@link org.jskat.control.SkatGame}
+	 */
+	public SkatGameRules getGameRules() {
+		return gameRules;
+	}
+
+	/**
+	 * Sets the rules the game is played with
+	 *
+	 * @param newGameRules
+	 *            Game rules
+	 */
+	public void setGameRules(final SkatGameRules newGameRules) {
+		gameRules = newGameRules;
+	}
+
 	/**
 	 * Sets the game state
 	 *
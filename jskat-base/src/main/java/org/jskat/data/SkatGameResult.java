@@ -58,6 +58,8 @@ public class SkatGameResult implements Cloneable {
 		SkatGameResult result = new SkatGameResult();
 		result.setGameValue(gameValue);
 		result.setMultiplier(multiplier);
+		result.setFinalDeclarerPoints(finalDeclarerPoints);
+		result.setFinalOpponentPoints(finalOpponentPoints);
 		result.setPlayWithJacks(playWithJacks);
 		result.setWon(won);
 		result.setOverBidded(overBidded);
@@ -0,0 +1,170 @@
+/**
+ * Copyright (C) 2019 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.data;
+
+import org.jskat.data.SkatTableOptions.ContraCallingTime;
+import org.jskat.data.SkatTableOptions.RamschSkatOwner;
+
+/**
+ * Immutable snapshot of the rules of a skat game
+ *
+ * The rules are taken once at the start of a game. Changes of the options
+ * during a running game don't alter its rules.
+ */
+public final class SkatGameRules {
+
+	private final boolean playContra;
+	private final boolean contraAfterBid18;
+	private final ContraCallingTime contraCallingTime;
+	private final boolean playRamsch;
+	private final boolean ramschEventNoBid;
+	private final boolean schieberamsch;
+	private final boolean schieberamschJacksInSkat;
+	private final RamschSkatOwner ramschSkatOwner;
+
+	/**
+	 * Creates the rules from the current options
+	 *
+	 * @param options
+	 *            Options
+	 */
+	SkatGameRules(final JSkatOptions options) {
+		playContra = options.isPlayContra(true);
+		contraAfterBid18 = options.isContraAfterBid18(true);
+		contraCallingTime = options.getContraCallingTime();
+		playRamsch = options.isPlayRamsch(true);
+		ramschEventNoBid = options.isRamschEventNoBid(true);
+		schieberamsch = options.isSchieberamsch(true);
+		schieberamschJacksInSkat = options.isSchieberamschJacksInSkat(true);
+		ramschSkatOwner = options.getRamschSkatOwner();
+	}
+
+	/**
+	 * Creates the rules from single values, e.g. for rules received from
+	 * another process
+	 *
+	 * @param playContra
+	 *            TRUE, if contra and re can be called
+	 * @param contraAfterBid18
+	 *            TRUE, if contra can only be called after a bid of 18
+	 * @param contraCallingTime
+	 *            Time when contra can be called
+	 * @param playRamsch
+	 *            TRUE, if ramsch games are played
+	 * @param ramschEventNoBid
+	 *            TRUE, if ramsch is played when no player bids
+	 * @param schieberamsch
+	 *            TRUE, if schieberamsch is played
+	 * @param schieberamschJacksInSkat
+	 *            TRUE, if jacks can be discarded in schieberamsch
+	 * @param ramschSkatOwner
+	 *            Owner of the skat in ramsch games
+	 */
+	public SkatGameRules(final boolean playContra, final boolean contraAfterBid18,
+			final ContraCallingTime contraCallingTime, final boolean playRamsch, final boolean ramschEventNoBid,
+			final boolean schieberamsch, final boolean schieberamschJacksInSkat,
+			final RamschSkatOwner ramschSkatOwner) {
+		this.playContra = playContra;
+		this.contraAfterBid18 = contraAfterBid18;
+		this.contraCallingTime = contraCallingTime;
+		this.playRamsch = playRamsch;
+		this.ramschEventNoBid = ramschEventNoBid;
+		this.schieberamsch = schieberamsch;
+		this.schieberamschJacksInSkat = schieberamschJacksInSkat;
+		this.ramschSkatOwner = ramschSkatOwner;
+	}
+
+	/**
+	 * Checks whether contra and re can be called
+	 *
+	 * @return TRUE, if contra and re can be called
+	 */
+	public boolean isPlayContra() {
+		return playContra;
+	}
+
+	/**
+	 * Checks whether at least a bid of 18 has to be done to say contra
+	 *
+	 * @return TRUE, if a bid is needed
+	 */
+	public boolean isContraAfterBid18() {
+		return contraAfterBid18;
+	}
+
+	/**
+	 * Gets the time when contra calling is allowed
+	 *
+	 * @return Time when contra calling is allowed
+	 */
+	public ContraCallingTime getContraCallingTime() {
+		return contraCallingTime;
+	}
+
+	/**
+	 * Checks whether ramsch games are played
+	 *
+	 * @return TRUE, if ramsch games are played
+	 */
+	public boolean isPlayRamsch() {
+		return playRamsch;
+	}
+
+	/**
+	 * Checks whether a ramsch game is played if no player bids
+	 *
+	 * @return TRUE, if a ramsch game is played
+	 */
+	public boolean isRamschEventNoBid() {
+		return ramschEventNoBid;
+	}
+
+	/**
+	 * Checks whether schieberamsch is played
+	 *
+	 * @return TRUE, if schieberamsch is played
+	 */
+	public boolean isSchieberamsch() {
+		return schieberamsch;
+	}
+
+	/**
+	 * Checks whether jacks can be put into the skat in schieberamsch
+	 *
+	 * @return TRUE, if jacks can be put into the skat
+	 */
+	public boolean isSchieberamschJacksInSkat() {
+		return schieberamschJacksInSkat;
+	}
+
+	/**
+	 * Gets the player who gets the skat after a ramsch game
+	 *
+	 * @return Owner of the skat
+	 */
+	public RamschSkatOwner getRamschSkatOwner() {
+		return ramschSkatOwner;
+	}
+
+	@Override
+	public String toString() {
+		return "SkatGameRules [playContra=" + playContra + ", contraAfterBid18=" + contraAfterBid18 //$NON-NLS-1$ //$NON-NLS-2$
+				+ ", contraCallingTime=" + contraCallingTime + ", playRamsch=" + playRamsch //$NON-NLS-1$ //$NON-NLS-2$
+				+ ", ramschEventNoBid=" + ramschEventNoBid + ", schieberamsch=" + schieberamsch //$NON-NLS-1$ //$NON-NLS-2$
+				+ ", schieberamschJacksInSkat=" + schieberamschJacksInSkat + ", ramschSkatOwner=" //$NON-NLS-1$ //$NON-NLS-2$
+				+ ramschSkatOwner + "]"; //$NON-NLS-1$
+	}
+}
@@ -0,0 +1,721 @@
+/**
+ * Copyright (C) 2019 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.data;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.jskat.control.event.skatgame.SkatGameEvent;
+import org.jskat.data.SkatGameData.GameState;
+import org.jskat.util.Card;
+import org.jskat.util.CardList;
+import org.jskat.util.GameType;
+import org.jskat.util.Player;
+import org.jskat.util.rule.SkatRuleFactory;
+
+/**
+ * Immutable state of a skat game
+ *
+ * All changes create a new snapshot that shares the unchanged parts with the
+ * old one. Card sets are stored as bit masks with one bit per card, completed
+ * tricks are shared between all snapshots of a game. Keeping the state after
+ * every move of a game therefore only costs a few objects per move.
+ */
+public final class SkatGameSnapshot {
+
+	private static final Card[] CARDS = Card.values();
+
+	private static final int HAND = 1;
+	private static final int OUVERT = 1 << 1;
+	private static final int SCHNEIDER = 1 << 2;
+	private static final int SCHWARZ = 1 << 3;
+	private static final int CONTRA = 1 << 4;
+	private static final int RE = 1 << 5;
+
+	private static final SkatGameSnapshot EMPTY_SNAPSHOT = new SkatGameSnapshot(
+			null, null, HAND, 0, null, new int[3], new int[3], 0, 0,
+			new int[3], new int[3], 0, false, null, null);
+
+	private final GameState gameState;
+	private final GameType gameType;
+	/**
+	 * Hand, ouvert, schneider, schwarz, contra and re flags
+	 */
+	private final int announcementFlags;
+	private final int discardedCards;
+	private final Player declarer;
+	/**
+	 * Cards on the player hands, indexed by player ordinal
+	 */
+	private final int[] playerHands;
+	/**
+	 * Dealt cards, indexed by player ordinal
+	 */
+	private final int[] dealtCards;
+	private final int skat;
+	private final int dealtSkat;
+	/**
+	 * Points from completed tricks, indexed by player ordinal
+	 */
+	private final int[] playerPoints;
+	/**
+	 * Highest bid, indexed by player ordinal
+	 */
+	private final int[] playerBids;
+	/**
+	 * Passes as bit mask of player ordinals
+	 */
+	private final int playerPasses;
+	private final boolean skatPickedUp;
+	/**
+	 * Current trick, links to all earlier tricks
+	 */
+	private final TrickNode currentTrick;
+	private final SkatGameResult result;
+
+	private SkatGameSnapshot(final GameState gameState,
+			final GameType gameType, final int announcementFlags,
+			final int discardedCards, final Player declarer,
+			final int[] playerHands, final int[] dealtCards, final int skat,
+			final int dealtSkat, final int[] playerPoints,
+			final int[] playerBids, final int playerPasses,
+			final boolean skatPickedUp, final TrickNode currentTrick,
+			final SkatGameResult result) {
+		this.gameState = gameState;
+		this.gameType = gameType;
+		this.announcementFlags = announcementFlags;
+		this.discardedCards = discardedCards;
+		this.declarer = declarer;
+		this.playerHands = playerHands;
+		this.dealtCards = dealtCards;
+		this.skat = skat;
+		this.dealtSkat = dealtSkat;
+		this.playerPoints = playerPoints;
+		this.playerBids = playerBids;
+		this.playerPasses = playerPasses;
+		this.skatPickedUp = skatPickedUp;
+		this.currentTrick = currentTrick;
+		this.result = result;
+	}
+
+	/**
+	 * Gets the snapshot of a game before the first move
+	 *
+	 * @return Empty snapshot
+	 */
+	public static SkatGameSnapshot getEmptySnapshot() {
+		return EMPTY_SNAPSHOT;
+	}
+
+	/**
+	 * Gets the snapshots after every move of a game
+	 *
+	 * @param gameMoves
+	 *            Game moves
+	 * @return Snapshots, the first one is the empty snapshot, the snapshot at
+	 *         index n holds the state after n moves
+	 */
+	public static List<SkatGameSnapshot> getHistory(
+			final List<SkatGameEvent> gameMoves) {
+
+		final List<SkatGameSnapshot> result = new ArrayList<>(
+				gameMoves.size() + 1);
+
+		SkatGameSnapshot snapshot = EMPTY_SNAPSHOT;
+		result.add(snapshot);
+		for (final SkatGameEvent event : gameMoves) {
+			snapshot = event.processForward(snapshot);
+			result.add(snapshot);
+		}
+
+		return Collections.unmodifiableList(result);
+	}
+
+	/**
+	 * Sets the game state
+	 *
+	 * @param newGameState
+	 *            Game state
+	 * @return New snapshot
+	 */
+	public SkatGameSnapshot withGameState(final GameState newGameState) {
+		return new SkatGameSnapshot(newGameState, gameType, announcementFlags,
+				discardedCards, declarer, playerHands, dealtCards, skat,
+				dealtSkat, playerPoints, playerBids, playerPasses,
+				skatPickedUp, currentTrick, result);
+	}
+
+	/**
+	 * Adds dealt cards to a player
+	 *
+	 * @param player
+	 *            Player
+	 * @param cards
+	 *            Dealt cards
+	 * @return New snapshot
+	 */
+	public SkatGameSnapshot withDealtCards(final Player player,
+			final CardList cards) {
+		final int cardBits = toBits(cards);
+		return new SkatGameSnapshot(gameState, gameType, announcementFlags,
+				discardedCards, declarer,
+				with(playerHands, player,
+						playerHands[player.ordinal()] | cardBits),
+				with(dealtCards, player,
+						dealtCards[player.ordinal()] | cardBits),
+				skat, dealtSkat, playerPoints, playerBids, playerPasses,
+				skatPickedUp, currentTrick, result);
+	}
+
+	/**
+	 * Sets the dealt skat
+	 *
+	 * @param cards
+	 *            Skat cards
+	 * @return New snapshot
+	 */
+	public SkatGameSnapshot withDealtSkat(final CardList cards) {
+		final int cardBits = toBits(cards);
+		return new SkatGameSnapshot(gameState, gameType, announcementFlags,
+				discardedCards, declarer, playerHands, dealtCards, cardBits,
+				cardBits, playerPoints, playerBids, playerPasses,
+				skatPickedUp, currentTrick, result);
+	}
+
+	/**
+	 * Adds a bid of a player
+	 *
+	 * @param player
+	 *            Player
+	 * @param bidValue
+	 *            Bid value
+	 * @return New snapshot
+	 */
+	public SkatGameSnapshot withPlayerBid(final Player player,
+			final int bidValue) {
+		return new SkatGameSnapshot(gameState, gameType, announcementFlags,
+				discardedCards, declarer, playerHands, dealtCards, skat,
+				dealtSkat, playerPoints, with(playerBids, player, bidValue),
+				playerPasses, skatPickedUp, currentTrick, result);
+	}
+
+	/**
+	 * Sets a pass of a player
+	 *
+	 * @param player
+	 *            Player
+	 * @return New snapshot
+	 */
+	public SkatGameSnapshot withPlayerPass(final Player player) {
+		return new SkatGameSnapshot(gameState, gameType, announcementFlags,
+				discardedCards, declarer, playerHands, dealtCards, skat,
+				dealtSkat, playerPoints, playerBids,
+				playerPasses | 1 << player.ordinal(), skatPickedUp,
+				currentTrick, result);
+	}
+
+	/**
+	 * Moves the skat to a players hand
+	 *
+	 * @param player
+	 *            Player
+	 * @return New snapshot
+	 */
+	public SkatGameSnapshot withSkatPickedUp(final Player player) {
+		return new SkatGameSnapshot(gameState, gameType,
+				announcementFlags & ~HAND, discardedCards, declarer,
+				with(playerHands, player, playerHands[player.ordinal()] | skat),
+				dealtCards, 0, dealtSkat, playerPoints, playerBids,
+				playerPasses, true, currentTrick, result);
+	}
+
+	/**
+	 * Moves cards from a players hand to the skat
+	 *
+	 * @param player
+	 *            Player
+	 * @param discardedSkat
+	 *            Discarded cards
+	 * @return New snapshot
+	 */
+	public SkatGameSnapshot withDiscardedSkat(final Player player,
+			final CardList discardedSkat) {
+		final int cardBits = toBits(discardedSkat);
+		return new SkatGameSnapshot(gameState, gameType, announcementFlags,
+				discardedCards, declarer,
+				with(playerHands, player,
+						playerHands[player.ordinal()] & ~cardBits),
+				dealtCards, cardBits, dealtSkat, playerPoints, playerBids,
+				playerPasses, skatPickedUp, currentTrick, result);
+	}
+
+	/**
+	 * Sets the declarer
+	 *
+	 * @param newDeclarer
+	 *            Declarer
+	 * @return New snapshot
+	 */
+	public SkatGameSnapshot withDeclarer(final Player newDeclarer) {
+		return new SkatGameSnapshot(gameState, gameType, announcementFlags,
+				discardedCards, newDeclarer, playerHands, dealtCards, skat,
+				dealtSkat, playerPoints, playerBids, playerPasses,
+				skatPickedUp, currentTrick, result);
+	}
+
+	/**
+	 * Sets the game announcement
+	 *
+	 * @param announcement
+	 *            Game announcement
+	 * @return New snapshot
+	 */
+	public SkatGameSnapshot withAnnouncement(
+			final GameAnnouncement announcement) {
+
+		int flags = announcementFlags & (CONTRA | RE);
+		flags |= announcement.isHand() ? HAND : 0;
+		flags |= announcement.isOuvert() ? OUVERT : 0;
+		flags |= announcement.isSchneider() ? SCHNEIDER : 0;
+		flags |= announcement.isSchwarz() ? SCHWARZ : 0;
+
+		GameState newGameState = gameState;
+		if (GameType.PASSED_IN.equals(announcement.getGameType())) {
+			newGameState = GameState.GAME_OVER;
+		}
+
+		return new SkatGameSnapshot(newGameState, announcement.getGameType(),
+				flags, toBits(announcement.getDiscardedCards()), declarer,
+				playerHands, dealtCards, skat, dealtSkat, playerPoints,
+				playerBids, playerPasses, skatPickedUp, currentTrick, result);
+	}
+
+	/**
+	 * Sets the contra flag
+	 *
+	 * @return New snapshot
+	 */
+	public SkatGameSnapshot withContra() {
+		return withAnnouncementFlags(announcementFlags | CONTRA);
+	}
+
+	/**
+	 * Sets the re flag
+	 *
+	 * @return New snapshot
+	 */
+	public SkatGameSnapshot withRe() {
+		return withAnnouncementFlags(announcementFlags | RE);
+	}
+
+	private SkatGameSnapshot withAnnouncementFlags(final int flags) {
+		return new SkatGameSnapshot(gameState, gameType, flags,
+				discardedCards, declarer, playerHands, dealtCards, skat,
+				dealtSkat, playerPoints, playerBids, playerPasses,
+				skatPickedUp, currentTrick, result);
+	}
+
+	/**
+	 * Plays a card into the current trick. Completed tricks are evaluated and
+	 * the trick points are added to the trick winner.
+	 *
+	 * @param player
+	 *            Player
+	 * @param card
+	 *            Card
+	 * @return New snapshot
+	 */
+	public SkatGameSnapshot withTrickCard(final Player player,
+			final Card card) {
+
+		TrickNode trick = currentTrick;
+		if (trick == null) {
+			trick = new TrickNode(null, 0, Player.FOREHAND, null, null, null,
+					null);
+		}
+		trick = trick.withCard(card);
+
+		int[] newPlayerPoints = playerPoints;
+		if (trick.thirdCard != null) {
+			final Player trickWinner = SkatRuleFactory.getSkatRules(gameType)
+					.calculateTrickWinner(gameType, trick.toTrick());
+			trick = trick.withTrickWinner(trickWinner);
+			newPlayerPoints = with(playerPoints, trickWinner,
+					playerPoints[trickWinner.ordinal()]
+							+ trick.getValue());
+			if (trick.trickNumber < 9) {
+				trick = new TrickNode(trick, trick.trickNumber + 1,
+						trickWinner, null, null, null, null);
+			}
+		}
+
+		return new SkatGameSnapshot(gameState, gameType, announcementFlags,
+				discardedCards, declarer,
+				with(playerHands, player,
+						playerHands[player.ordinal()] & ~toBit(card)),
+				dealtCards, skat, dealtSkat, newPlayerPoints, playerBids,
+				playerPasses, skatPickedUp, trick, result);
+	}
+
+	/**
+	 * Sets the game result
+	 *
+	 * @param newResult
+	 *            Game result
+	 * @return New snapshot
+	 */
+	public SkatGameSnapshot withResult(final SkatGameResult newResult) {
+		return new SkatGameSnapshot(gameState, gameType, announcementFlags,
+				discardedCards, declarer, playerHands, dealtCards, skat,
+				dealtSkat, playerPoints, playerBids, playerPasses,
+				skatPickedUp, currentTrick, newResult.clone());
+	}
+
+	/**
+	 * Gets the game state
+	 *
+	 * @return Game state
+	 */
+	public GameState getGameState() {
+		return gameState;
+	}
+
+	/**
+	 * Gets the game type
+	 *
+	 * @return Game type, NULL if no game was announced yet
+	 */
+	public GameType getGameType() {
+		return gameType;
+	}
+
+	/**
+	 * Gets the game announcement
+	 *
+	 * @return Copy of the game announcement
+	 */
+	public GameAnnouncement getAnnouncement() {
+
+		final GameAnnouncement announcement = new GameAnnouncement();
+		announcement.gameType = gameType;
+		announcement.discardedCards.addAll(toCardList(discardedCards));
+		announcement.hand = isFlagSet(HAND);
+		announcement.ouvert = isFlagSet(OUVERT);
+		announcement.schneider = isFlagSet(SCHNEIDER);
+		announcement.schwarz = isFlagSet(SCHWARZ);
+		announcement.contra = isFlagSet(CONTRA);
+		announcement.re = isFlagSet(RE);
+		return announcement;
+	}
+
+	/**
+	 * Gets the declarer
+	 *
+	 * @return Declarer
+	 */
+	public Player getDeclarer() {
+		return declarer;
+	}
+
+	/**
+	 * Gets the cards on a players hand
+	 *
+	 * @param player
+	 *            Player
+	 * @return Cards on the players hand
+	 */
+	public CardList getPlayerCards(final Player player) {
+		return toCardList(playerHands[player.ordinal()]);
+	}
+
+	/**
+	 * Gets the cards dealt to a player
+	 *
+	 * @param player
+	 *            Player
+	 * @return Dealt cards
+	 */
+	public CardList getDealtCards(final Player player) {
+		return toCardList(dealtCards[player.ordinal()]);
+	}
+
+	/**
+	 * Gets the cards in the skat
+	 *
+	 * @return Skat cards
+	 */
+	public CardList getSkat() {
+		return toCardList(skat);
+	}
+
+	/**
+	 * Gets the dealt skat
+	 *
+	 * @return Dealt skat cards
+	 */
+	public CardList getDealtSkat() {
+		return toCardList(dealtSkat);
+	}
+
+	/**
+	 * Gets the points a player made with completed tricks
+	 *
+	 * @param player
+	 *            Player
+	 * @return Points of the player
+	 */
+	public int getPlayerPoints(final Player player) {
+		return playerPoints[player.ordinal()];
+	}
+
+	/**
+	 * Gets the highest bid of a player
+	 *
+	 * @param player
+	 *            Player
+	 * @return Highest bid value, 0 if the player didn't bid
+	 */
+	public int getMaxPlayerBid(final Player player) {
+		return playerBids[player.ordinal()];
+	}
+
+	/**
+	 * Gets the highest bid of the game
+	 *
+	 * @return Highest bid value
+	 */
+	public int getMaxBidValue() {
+		return Math.max(playerBids[0], Math.max(playerBids[1], playerBids[2]));
+	}
+
+	/**
+	 * Checks whether a player passed
+	 *
+	 * @param player
+	 *            Player
+	 * @return TRUE, if the player passed
+	 */
+	public boolean isPlayerPass(final Player player) {
+		return (playerPasses & 1 << player.ordinal()) != 0;
+	}
+
+	/**
+	 * Checks whether the skat was picked up
+	 *
+	 * @return TRUE, if the skat was picked up
+	 */
+	public boolean isSkatPickedUp() {
+		return skatPickedUp;
+	}
+
+	/**
+	 * Checks whether contra was called
+	 *
+	 * @return TRUE, if contra was called
+	 */
+	public boolean isContra() {
+		return isFlagSet(CONTRA);
+	}
+
+	/**
+	 * Checks whether re was called
+	 *
+	 * @return TRUE, if re was called
+	 */
+	public boolean isRe() {
+		return isFlagSet(RE);
+	}
+
+	/**
+	 * Gets all tricks of the game
+	 *
+	 * @return Copies of all tricks
+	 */
+	public List<Trick> getTricks() {
+
+		final List<Trick> result = new ArrayList<>();
+		for (TrickNode node = currentTrick; node != null; node = node.previous) {
+			result.add(node.toTrick());
+		}
+		Collections.reverse(result);
+
+		return result;
+	}
+
+	/**
+	 * Gets the current trick
+	 *
+	 * @return Copy of the current trick, NULL if no card was played yet
+	 */
+	public Trick getCurrentTrick() {
+		return currentTrick == null ? null : currentTrick.toTrick();
+	}
+
+	/**
+	 * Gets the game result
+	 *
+	 * @return Copy of the game result, NULL if the game is not finished
+	 */
+	public SkatGameResult getResult() {
+		return result == null ? null : result.clone();
+	}
+
+	/**
+	 * Creates mutable game data from the snapshot
+	 *
+	 * @return Game data
+	 */
+	public SkatGameData toGameData() {
+
+		final SkatGameData data = new SkatGameData();
+
+		for (final Player player : Player.values()) {
+			data.addDealtCards(player, getDealtCards(player));
+			final int hand = playerHands[player.ordinal()];
+			final int dealt = dealtCards[player.ordinal()];
+			for (final Card card : toCardList(dealt & ~hand)) {
+				data.removePlayerCard(player, card);
+			}
+			data.addPlayerCards(player, toCardList(hand & ~dealt));
+			if (playerBids[player.ordinal()] > 0) {
+				data.addPlayerBid(player, playerBids[player.ordinal()]);
+			}
+			data.setPlayerPass(player, isPlayerPass(player));
+			data.addPlayerPoints(player, playerPoints[player.ordinal()]);
+		}
+		data.setDealtSkatCards(getDealtSkat());
+		data.setSkatCards(getSkat());
+
+		if (gameType != null) {
+			data.setAnnouncement(getAnnouncement());
+			data.setContra(isContra());
+			data.setRe(isRe());
+		}
+		data.setDeclarer(declarer);
+		data.setSkatPickUp(skatPickedUp);
+
+		for (final Trick trick : getTricks()) {
+			data.addTrick(trick);
+		}
+
+		if (result != null) {
+			data.setResult(result.clone());
+		}
+		if (gameState != null) {
+			data.setGameState(gameState);
+		}
+
+		return data;
+	}
+
+	private boolean isFlagSet(final int flag) {
+		return (announcementFlags & flag) != 0;
+	}
+
+	private static int[] with(final int[] values, final Player player,
+			final int value) {
+		final int[] result = values.clone();
+		result[player.ordinal()] = value;
+		return result;
+	}
+
+	private static int toBit(final Card card) {
+		return 1 << card.ordinal();
+	}
+
+	private static int toBits(final CardList cards) {
+		int result = 0;
+		for (final Card card : cards) {
+			result |= toBit(card);
+		}
+		return result;
+	}
+
+	private static CardList toCardList(final int cardBits) {
+		final CardList result = new CardList();
+		for (int i = 0; i < CARDS.length; i++) {
+			if ((cardBits & 1 << i) != 0) {
+				result.add(CARDS[i]);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Immutable trick, linked to the trick before
+	 */
+	private static final class TrickNode {
+
+		private final TrickNode previous;
+		private final int trickNumber;
+		private final Player foreHand;
+		private final Card firstCard;
+		private final Card secondCard;
+		private final Card thirdCard;
+		private final Player trickWinner;
+
+		private TrickNode(final TrickNode previous, final int trickNumber,
+				final Player foreHand, final Card firstCard,
+				final Card secondCard, final Card thirdCard,
+				final Player trickWinner) {
+			this.previous = previous;
+			this.trickNumber = trickNumber;
+			this.foreHand = foreHand;
+			this.firstCard = firstCard;
+			this.secondCard = secondCard;
+			this.thirdCard = thirdCard;
+			this.trickWinner = trickWinner;
+		}
+
+		private TrickNode withCard(final Card card) {
+			if (firstCard == null) {
+				return new TrickNode(previous, trickNumber, foreHand, card,
+						null, null, null);
+			} else if (secondCard == null) {
+				return new TrickNode(previous, trickNumber, foreHand,
+						firstCard, card, null, null);
+			}
+			return new TrickNode(previous, trickNumber, foreHand, firstCard,
+					secondCard, card, null);
+		}
+
+		private TrickNode withTrickWinner(final Player winner) {
+			return new TrickNode(previous, trickNumber, foreHand, firstCard,
+					secondCard, thirdCard, winner);
+		}
+
+		private int getValue() {
+			return firstCard.getPoints() + secondCard.getPoints()
+					+ thirdCard.getPoints();
+		}
+
+		private Trick toTrick() {
+			final Trick trick = new Trick(trickNumber, foreHand);
+			if (firstCard != null) {
+				trick.addCard(firstCard);
+			}
+			if (secondCard != null) {
+				trick.addCard(secondCard);
+			}
+			if (thirdCard != null) {
+				trick.addCard(thirdCard);
+			}
+			trick.setTrickWinner(trickWinner);
+			return trick;
+		}
+	}
+}
@@ -15,15 +15,19 @@
  */
 package org.jskat.data;
 
-import java.util.ArrayList;
+import java.io.IOException;
 import java.util.List;
 
 import org.jskat.control.SkatGame;
+import org.jskat.control.event.skatgame.SkatGameEvent;
 import org.jskat.data.SkatGameData.GameState;
 import org.jskat.util.Player;
 
 /**
- * Data class for skat series
+ * Data class for skat series<br>
+ * <br>
+ * Only the current game is held completely, the completed games are kept in a
+ * {@link SkatSeriesHistory}.
  */
 public class SkatSeriesData {
 
@@ -47,7 +51,8 @@ public class SkatSeriesData {
 	}
 
 	private SeriesState state;
-	private List<SkatGame> games;
+	private SkatGame currentGame;
+	private final SkatSeriesHistory history;
 	private String tableName;
 	private Player bottomPlayer;
 
@@ -56,7 +61,18 @@ public class SkatSeriesData {
 	 */
 	public SkatSeriesData() {
 
-		this.games = new ArrayList<SkatGame>();
+		this(SkatSeriesHistory.DEFAULT_WINDOW_SIZE);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param historyWindowSize
+	 *            Number of completed games that are kept in memory
+	 */
+	public SkatSeriesData(final int historyWindowSize) {
+
+		this.history = new SkatSeriesHistory(historyWindowSize);
 		setState(SeriesState.WAITING);
 	}
 
@@ -87,18 +103,23 @@ public class SkatSeriesData {
 	 * @return Game state
 	 */
 	public GameState getGameState() {
-		return games.get(games.size() - 1).getGameState();
+		return currentGame.getGameState();
 	}
 
 	/**
-	 * Adds a game to the series
+	 * Adds a game to the series, the previous game is moved to the history
 	 * 
 	 * @param newGame
 	 *            The game to be added
+	 * @throws IOException
+	 *             If the history could not spill an older game to disk
 	 */
-	public void addGame(SkatGame newGame) {
+	public synchronized void addGame(SkatGame newGame) throws IOException {
 
-		this.games.add(newGame);
+		if (currentGame != null) {
+			history.addGame(currentGame.getGameSummary(), currentGame.getGameMoves());
+		}
+		this.currentGame = newGame;
 	}
 
 	/**
@@ -106,9 +127,53 @@ public class SkatSeriesData {
 	 * 
 	 * @return ID of the current game
 	 */
-	public int getCurrentGameID() {
+	public synchronized int getCurrentGameID() {
+
+		return history.getGameCount() + (currentGame == null ? 0 : 1) - 1;
+	}
+
+	/**
+	 * Gets the summary of a game of the series
+	 * 
+	 * @param gameID
+	 *            ID of the game
+	 * @return Game summary
+	 * @throws IOException
+	 *             If the game could not be loaded from the history
+	 */
+	public synchronized GameSummary getGameSummary(int gameID) throws IOException {
+
+		if (gameID == history.getGameCount() && currentGame != null) {
+			return currentGame.getGameSummary();
+		}
+		return history.getGameSummary(gameID);
+	}
+
+	/**
+	 * Gets the moves of a game of the series
+	 * 
+	 * @param gameID
+	 *            ID of the game
+	 * @return Game moves
+	 * @throws IOException
+	 *             If the game could not be loaded from the history
+	 */
+	public synchronized List<SkatGameEvent> getGameMoves(int gameID) throws IOException {
+
+		if (gameID == history.getGameCount() && currentGame != null) {
+			return currentGame.getGameMoves();
+		}
+		return history.getGameMoves(gameID);
+	}
+
+	/**
+	 * Gets the history of the completed games
+	 * 
+	 * @return History
+	 */
+	public SkatSeriesHistory getHistory() {
 
-		return this.games.size() - 1;
+		return history;
 	}
 
 	public void setTableName(String newTableName) {
@@ -0,0 +1,266 @@
+/**
+ * Copyright (C) 2019 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.data;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+
+import org.jskat.control.event.skatgame.SkatGameEvent;
+
+/**
+ * History of the completed games of a skat series<br>
+ * <br>
+ * Only a window of the most recent games is kept in memory. Older games are
+ * spilled to a temporary file and loaded back when they are asked for. The
+ * file offsets of the spilled games are kept in a second file, so the memory
+ * used by the history doesn't grow with the number of games.
+ */
+public final class SkatSeriesHistory implements Closeable {
+
+	/**
+	 * Default number of games that are kept in memory
+	 */
+	public static final int DEFAULT_WINDOW_SIZE = 12;
+
+	private static final String FILE_PREFIX = "jskat-series-"; //$NON-NLS-1$
+	private static final String GAMES_SUFFIX = ".games"; //$NON-NLS-1$
+	private static final String INDEX_SUFFIX = ".index"; //$NON-NLS-1$
+
+	private static final int OFFSET_SIZE = Long.BYTES;
+	private static final int LENGTH_SIZE = Integer.BYTES;
+
+	private final int windowSize;
+	private final Deque<HistoryGame> window = new ArrayDeque<>();
+
+	private int spilledGames;
+	private Path gamesFile;
+	private Path indexFile;
+	private FileChannel games;
+	private FileChannel index;
+
+	private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+	private final DataOutputStream out = new DataOutputStream(bytes);
+	private final ByteBuffer header = ByteBuffer.allocate(OFFSET_SIZE);
+
+	/**
+	 * Constructor
+	 *
+	 * @param windowSize
+	 *            Number of games that are kept in memory
+	 */
+	public SkatSeriesHistory(final int windowSize) {
+
+		if (windowSize < 1) {
+			throw new IllegalArgumentException("At least one game must be kept in memory."); //$NON-NLS-1$
+		}
+		this.windowSize = windowSize;
+	}
+
+	/**
+	 * Adds a completed game, the oldest game in memory is spilled to disk if
+	 * the window is full
+	 *
+	 * @param summary
+	 *            Game summary
+	 * @param moves
+	 *            Game moves
+	 * @throws IOException
+	 *             If a game could not be spilled
+	 */
+	public synchronized void addGame(final GameSummary summary, final List<SkatGameEvent> moves) throws IOException {
+
+		if (window.size() == windowSize) {
+			spill(window.peekFirst());
+			window.removeFirst();
+		}
+		window.addLast(new HistoryGame(summary, new ArrayList<>(moves)));
+	}
+
+	/**
+	 * Gets the number of completed games
+	 *
+	 * @return Number of completed games
+	 */
+	public synchronized int getGameCount() {
+		return spilledGames + window.size();
+	}
+
+	/**
+	 * Gets the number of games that are kept in memory
+	 *
+	 * @return Number of games in memory
+	 */
+	public synchronized int getGamesInMemory() {
+		return window.size();
+	}
+
+	/**
+	 * Gets the summary of a completed game
+	 *
+	 * @param gameIndex
+	 *            Index of the game, starting with 0
+	 * @return Game summary
+	 * @throws IOException
+	 *             If a spilled game could not be loaded
+	 */
+	public synchronized GameSummary getGameSummary(final int gameIndex) throws IOException {
+		return getGame(gameIndex).summary;
+	}
+
+	/**
+	 * Gets the moves of a completed game
+	 *
+	 * @param gameIndex
+	 *            Index of the game, starting with 0
+	 * @return Game moves
+	 * @throws IOException
+	 *             If a spilled game could not be loaded
+	 */
+	public synchronized List<SkatGameEvent> getGameMoves(final int gameIndex) throws IOException {
+		return Collections.unmodifiableList(getGame(gameIndex).moves);
+	}
+
+	/**
+	 * {@inheritDoc}<br>
+	 * <br>
+	 * The spilled games are deleted, the history is empty afterwards.
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+
+		window.clear();
+		spilledGames = 0;
+		if (games != null) {
+			games.close();
+			index.close();
+			Files.deleteIfExists(gamesFile);
+			Files.deleteIfExists(indexFile);
+			games = null;
+			index = null;
+		}
+	}
+
+	private HistoryGame getGame(final int gameIndex) throws IOException {
+
+		if (gameIndex < 0 || gameIndex >= getGameCount()) {
+			throw new IndexOutOfBoundsException("Game " + gameIndex + " of " + getGameCount()); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		if (gameIndex >= spilledGames) {
+			int position = spilledGames;
+			for (final HistoryGame game : window) {
+				if (position++ == gameIndex) {
+					return game;
+				}
+			}
+		}
+		return load(gameIndex);
+	}
+
+	private void spill(final HistoryGame game) throws IOException {
+
+		if (games == null) {
+			gamesFile = Files.createTempFile(FILE_PREFIX, GAMES_SUFFIX);
+			indexFile = Files.createTempFile(FILE_PREFIX, INDEX_SUFFIX);
+			gamesFile.toFile().deleteOnExit();
+			indexFile.toFile().deleteOnExit();
+			games = FileChannel.open(gamesFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+			index = FileChannel.open(indexFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		}
+
+		bytes.reset();
+		out.writeInt(0);
+		GameDataCodec.writeGameSummary(out, game.summary);
+		GameDataCodec.writeGameMoves(out, game.moves);
+		out.flush();
+
+		final ByteBuffer record = ByteBuffer.wrap(bytes.toByteArray());
+		record.putInt(0, record.limit() - LENGTH_SIZE);
+
+		final long offset = games.size();
+		write(games, record, offset);
+		header.clear();
+		header.putLong(offset).flip();
+		write(index, header, (long) spilledGames * OFFSET_SIZE);
+
+		spilledGames++;
+	}
+
+	private HistoryGame load(final int gameIndex) throws IOException {
+
+		header.clear();
+		read(index, header, (long) gameIndex * OFFSET_SIZE);
+		final long offset = header.getLong(0);
+
+		header.clear().limit(LENGTH_SIZE);
+		read(games, header, offset);
+		final ByteBuffer record = ByteBuffer.allocate(header.getInt(0));
+		read(games, record, offset + LENGTH_SIZE);
+
+		final DataInputStream in = new DataInputStream(new ByteArrayInputStream(record.array()));
+		return new HistoryGame(GameDataCodec.readGameSummary(in), GameDataCodec.readGameMoves(in));
+	}
+
+	private static void write(final FileChannel channel, final ByteBuffer data, final long position)
+			throws IOException {
+
+		long current = position;
+		while (data.hasRemaining()) {
+			current += channel.write(data, current);
+		}
+	}
+
+	private static void read(final FileChannel channel, final ByteBuffer data, final long position)
+			throws IOException {
+
+		long current = position;
+		while (data.hasRemaining()) {
+			final int read = channel.read(data, current);
+			if (read < 0) {
+				throw new EOFException("Spilled game is incomplete"); //$NON-NLS-1$
+			}
+			current += read;
+		}
+	}
+
+	/**
+	 * Completed game
+	 */
+	private static final class HistoryGame {
+
+		private final GameSummary summary;
+		private final List<SkatGameEvent> moves;
+
+		private HistoryGame(final GameSummary summary, final List<SkatGameEvent> moves) {
+			this.summary = summary;
+			this.moves = moves;
+		}
+	}
+}
@@ -0,0 +1,555 @@
+/**
+ * Copyright (C) 2019 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.data;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+import org.jskat.util.Player;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Append-only journal of a skat series
+ *
+ * The journal starts with the settings of the series, followed by one compact
+ * record for every completed game. Every record is protected by a checksum.
+ * Records are handed to the file system as soon as a game is finished, but they
+ * are only forced to the storage device in batches. A record that was written
+ * only partially when JSkat crashed is cut off when the journal is replayed.
+ */
+public final class SkatSeriesJournal implements Closeable {
+
+	private static final Logger LOG = LoggerFactory.getLogger(SkatSeriesJournal.class);
+
+	private static final String JOURNAL_DIRECTORY = "series"; //$NON-NLS-1$
+	private static final String JOURNAL_SUFFIX = ".journal"; //$NON-NLS-1$
+
+	private static final int MAGIC = 0x4A534A4C;
+	private static final byte VERSION = 2;
+	private static final int FILE_HEADER_SIZE = 5;
+
+	private static final byte SERIES_RECORD = 1;
+	private static final byte GAME_RECORD = 2;
+
+	/**
+	 * Length and checksum of the payload
+	 */
+	private static final int RECORD_HEADER_SIZE = 8;
+	/**
+	 * Upper bound of a record, longer lengths come from a damaged journal
+	 */
+	private static final int MAX_RECORD_SIZE = 1 << 20;
+
+	/**
+	 * Maximum number of records that are not forced to the storage device
+	 */
+	static final int SYNC_BATCH_SIZE = 16;
+	/**
+	 * Maximum time in nanoseconds a record stays unforced
+	 */
+	static final long SYNC_INTERVAL = TimeUnit.SECONDS.toNanos(1);
+
+	private static final Player[] PLAYERS = Player.values();
+
+	private final Path file;
+	private final FileChannel channel;
+	private final RecordBuffer buffer = new RecordBuffer();
+	private final DataOutputStream record = new DataOutputStream(buffer);
+	private final CRC32 checksum = new CRC32();
+	private int unsyncedRecords;
+	private long lastSync;
+
+	private SkatSeriesJournal(final Path file, final FileChannel channel) {
+		this.file = file;
+		this.channel = channel;
+		lastSync = System.nanoTime();
+	}
+
+	/**
+	 * Creates a new journal, an existing journal with the same name is replaced
+	 *
+	 * @param file
+	 *            Journal file
+	 * @param header
+	 *            Settings of the series
+	 * @return Journal
+	 * @throws IOException
+	 *             If the journal could not be written
+	 */
+	public static SkatSeriesJournal create(final Path file, final SeriesHeader header) throws IOException {
+
+		if (file.getParent() != null) {
+			Files.createDirectories(file.getParent());
+		}
+
+		final SkatSeriesJournal journal = new SkatSeriesJournal(file, FileChannel.open(file,
+				StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE));
+
+		final ByteBuffer fileHeader = ByteBuffer.allocate(FILE_HEADER_SIZE);
+		fileHeader.putInt(MAGIC).put(VERSION).flip();
+		journal.write(fileHeader);
+
+		final DataOutputStream record = journal.startRecord(SERIES_RECORD);
+		GameDataCodec.writeString(record, header.tableName);
+		for (int i = 0; i < 3; i++) {
+			GameDataCodec.writeString(record, header.playerNames.get(i));
+			GameDataCodec.writeString(record, header.playerTypes.get(i));
+		}
+		record.writeByte(header.startPlayer);
+		GameDataCodec.writePlayer(record, header.bottomPlayer);
+		record.writeInt(header.rounds);
+		record.writeBoolean(header.unlimitedRounds);
+		record.writeBoolean(header.onlyPlayRamsch);
+		record.writeInt(header.maxSleep);
+		journal.writeRecord();
+		journal.sync();
+
+		return journal;
+	}
+
+	/**
+	 * Opens an existing journal for appending more games, the journal must have
+	 * been replayed before
+	 *
+	 * @param file
+	 *            Journal file
+	 * @return Journal
+	 * @throws IOException
+	 *             If the journal could not be opened
+	 */
+	public static SkatSeriesJournal open(final Path file) throws IOException {
+
+		return new SkatSeriesJournal(file, FileChannel.open(file, StandardOpenOption.WRITE,
+				StandardOpenOption.APPEND));
+	}
+
+	/**
+	 * Appends a completed game
+	 *
+	 * @param summary
+	 *            Game summary
+	 * @throws IOException
+	 *             If the game could not be written
+	 */
+	public synchronized void appendGame(final GameSummary summary) throws IOException {
+
+		GameDataCodec.writeGameSummary(startRecord(GAME_RECORD), summary);
+		writeRecord();
+
+		unsyncedRecords++;
+		if (unsyncedRecords >= SYNC_BATCH_SIZE || System.nanoTime() - lastSync >= SYNC_INTERVAL) {
+			sync();
+		}
+	}
+
+	/**
+	 * Forces all written games to the storage device
+	 *
+	 * @throws IOException
+	 *             If the journal could not be forced
+	 */
+	public synchronized void sync() throws IOException {
+
+		channel.force(false);
+		unsyncedRecords = 0;
+		lastSync = System.nanoTime();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+
+		if (channel.isOpen()) {
+			sync();
+			channel.close();
+		}
+	}
+
+	/**
+	 * Closes and deletes the journal, e.g. after the series was finished
+	 *
+	 * @throws IOException
+	 *             If the journal could not be deleted
+	 */
+	public synchronized void discard() throws IOException {
+
+		channel.close();
+		Files.deleteIfExists(file);
+	}
+
+	private DataOutputStream startRecord(final byte recordType) throws IOException {
+
+		buffer.reset();
+		buffer.write(new byte[RECORD_HEADER_SIZE]);
+		record.writeByte(recordType);
+		return record;
+	}
+
+	private void writeRecord() throws IOException {
+
+		record.flush();
+		final ByteBuffer data = buffer.toRecord(checksum);
+		if (data.limit() - RECORD_HEADER_SIZE > MAX_RECORD_SIZE) {
+			throw new IOException("Journal record exceeds " + MAX_RECORD_SIZE + " bytes"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		write(data);
+	}
+
+	private void write(final ByteBuffer data) throws IOException {
+
+		while (data.hasRemaining()) {
+			channel.write(data);
+		}
+	}
+
+	/**
+	 * Growing buffer of one record, the record header is filled in when the
+	 * record is complete
+	 */
+	private static final class RecordBuffer extends ByteArrayOutputStream {
+
+		ByteBuffer toRecord(final CRC32 checksum) {
+
+			final int length = count - RECORD_HEADER_SIZE;
+			checksum.reset();
+			checksum.update(buf, RECORD_HEADER_SIZE, length);
+
+			final ByteBuffer result = ByteBuffer.wrap(buf, 0, count);
+			result.putInt(0, length);
+			result.putInt(4, (int) checksum.getValue());
+			return result;
+		}
+	}
+
+	/**
+	 * Replays a journal, a partially written record at the end of the journal is
+	 * removed from the file
+	 *
+	 * @param file
+	 *            Journal file
+	 * @return Replayed series or <code>null</code> if the file doesn't contain
+	 *         a valid journal
+	 * @throws IOException
+	 *             If the journal could not be read
+	 */
+	public static Replay replay(final Path file) throws IOException {
+
+		final ByteBuffer data = ByteBuffer.wrap(Files.readAllBytes(file));
+
+		if (data.remaining() < FILE_HEADER_SIZE || data.getInt() != MAGIC || data.get() != VERSION) {
+			LOG.warn("Not a skat series journal: " + file); //$NON-NLS-1$
+			return null;
+		}
+
+		final CRC32 crc = new CRC32();
+		SeriesHeader header = null;
+		final List<GameSummary> games = new ArrayList<>();
+		int validLength = data.position();
+
+		while (data.remaining() >= RECORD_HEADER_SIZE) {
+
+			final int length = data.getInt();
+			final int expectedChecksum = data.getInt();
+			if (length < 1 || length > MAX_RECORD_SIZE || length > data.remaining()) {
+				break;
+			}
+
+			crc.reset();
+			crc.update(data.array(), data.position(), length);
+			if ((int) crc.getValue() != expectedChecksum) {
+				break;
+			}
+
+			final DataInputStream record = new DataInputStream(
+					new ByteArrayInputStream(data.array(), data.position(), length));
+			data.position(data.position() + length);
+
+			final byte recordType = record.readByte();
+			if (recordType == SERIES_RECORD && header == null) {
+				header = readSeriesHeader(record);
+			} else if (recordType == GAME_RECORD && header != null) {
+				games.add(readGame(record, header, games.size()));
+			} else {
+				break;
+			}
+			validLength = data.position();
+		}
+
+		if (validLength < data.limit()) {
+			LOG.warn("Cutting off " + (data.limit() - validLength) //$NON-NLS-1$
+					+ " bytes of a partially written record from " + file); //$NON-NLS-1$
+			try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+				channel.truncate(validLength);
+				channel.force(false);
+			}
+		}
+
+		if (header == null) {
+			LOG.warn("Skat series journal without series settings: " + file); //$NON-NLS-1$
+			return null;
+		}
+
+		return new Replay(header, games);
+	}
+
+	private static SeriesHeader readSeriesHeader(final DataInput record) throws IOException {
+
+		final String tableName = GameDataCodec.readString(record);
+		final List<String> playerNames = new ArrayList<>();
+		final List<String> playerTypes = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			playerNames.add(GameDataCodec.readString(record));
+			playerTypes.add(GameDataCodec.readString(record));
+		}
+		final int startPlayer = record.readByte();
+		final Player bottomPlayer = GameDataCodec.readPlayer(record);
+		final int rounds = record.readInt();
+		final boolean unlimitedRounds = record.readBoolean();
+		final boolean onlyPlayRamsch = record.readBoolean();
+		final int maxSleep = record.readInt();
+
+		return new SeriesHeader(tableName, playerNames, playerTypes, startPlayer, bottomPlayer, rounds,
+				unlimitedRounds, onlyPlayRamsch, maxSleep);
+	}
+
+	private static GameSummary readGame(final DataInput record, final SeriesHeader header, final int gameIndex)
+			throws IOException {
+
+		final GameSummary summary = GameDataCodec.readGameSummary(record);
+
+		// seats follow the rotation of the series
+		final int forehand = header.getPlayerIndex(Player.FOREHAND, gameIndex);
+		summary.foreHand = header.playerNames.get(forehand);
+		summary.middleHand = header.playerNames.get((forehand + 1) % 3);
+		summary.rearHand = header.playerNames.get((forehand + 2) % 3);
+
+		return summary;
+	}
+
+	/**
+	 * Gets the journal file for a table
+	 *
+	 * @param tableName
+	 *            Table name
+	 * @return Journal file
+	 */
+	public static Path getJournalFile(final String tableName) {
+
+		return getJournalDirectory().resolve(tableName.replaceAll("[^\\w\\-]", "_") + JOURNAL_SUFFIX); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/**
+	 * Finds all journals of series that were not finished
+	 *
+	 * @return Journal files
+	 * @throws IOException
+	 *             If the journal directory could not be read
+	 */
+	public static List<Path> findJournals() throws IOException {
+
+		final Path directory = getJournalDirectory();
+		if (!Files.isDirectory(directory)) {
+			return Collections.emptyList();
+		}
+
+		final List<Path> result = new ArrayList<>();
+		try (DirectoryStream<Path> journals = Files.newDirectoryStream(directory, "*" + JOURNAL_SUFFIX)) { //$NON-NLS-1$
+			for (final Path journal : journals) {
+				result.add(journal);
+			}
+		}
+		Collections.sort(result);
+		return result;
+	}
+
+	private static Path getJournalDirectory() {
+
+		return Paths.get(JSkatOptions.instance().getSavePath(), JOURNAL_DIRECTORY);
+	}
+
+	/**
+	 * Settings of a skat series
+	 */
+	public static final class SeriesHeader {
+
+		private final String tableName;
+		private final List<String> playerNames;
+		private final List<String> playerTypes;
+		private final int startPlayer;
+		private final Player bottomPlayer;
+		private final int rounds;
+		private final boolean unlimitedRounds;
+		private final boolean onlyPlayRamsch;
+		private final int maxSleep;
+
+		/**
+		 * Constructor
+		 *
+		 * @param tableName
+		 *            Table name
+		 * @param playerNames
+		 *            Player names in the order of the start series dialog
+		 * @param playerTypes
+		 *            Player types in the order of the start series dialog
+		 * @param startPlayer
+		 *            Index of the player that was fore hand in the first game
+		 * @param bottomPlayer
+		 *            Player that was shown at the bottom in the first game
+		 * @param rounds
+		 *            Number of rounds to be played
+		 * @param unlimitedRounds
+		 *            TRUE, if the number of rounds is not limited
+		 * @param onlyPlayRamsch
+		 *            TRUE, if only ramsch games are played
+		 * @param maxSleep
+		 *            Maximum sleep time in milliseconds
+		 */
+		public SeriesHeader(final String tableName, final List<String> playerNames, final List<String> playerTypes,
+				final int startPlayer, final Player bottomPlayer, final int rounds, final boolean unlimitedRounds,
+				final boolean onlyPlayRamsch, final int maxSleep) {
+
+			if (playerNames.size() != 3 || playerTypes.size() != 3) {
+				throw new IllegalArgumentException("Only three players are allowed at the moment."); //$NON-NLS-1$
+			}
+
+			this.tableName = tableName;
+			this.playerNames = Collections.unmodifiableList(new ArrayList<>(playerNames));
+			this.playerTypes = Collections.unmodifiableList(new ArrayList<>(playerTypes));
+			this.startPlayer = startPlayer;
+			this.bottomPlayer = bottomPlayer;
+			this.rounds = rounds;
+			this.unlimitedRounds = unlimitedRounds;
+			this.onlyPlayRamsch = onlyPlayRamsch;
+			this.maxSleep = maxSleep;
+		}
+
+		public String getTableName() {
+			return tableName;
+		}
+
+		public List<String> getPlayerNames() {
+			return playerNames;
+		}
+
+		public List<String> getPlayerTypes() {
+			return playerTypes;
+		}
+
+		public int getStartPlayer() {
+			return startPlayer;
+		}
+
+		public Player getBottomPlayer() {
+			return bottomPlayer;
+		}
+
+		public int getRounds() {
+			return rounds;
+		}
+
+		public boolean isUnlimitedRounds() {
+			return unlimitedRounds;
+		}
+
+		public boolean isOnlyPlayRamsch() {
+			return onlyPlayRamsch;
+		}
+
+		public int getMaxSleep() {
+			return maxSleep;
+		}
+
+		/**
+		 * Gets the player that sits at a position in a game of the series
+		 *
+		 * @param position
+		 *            Position
+		 * @param gameIndex
+		 *            Index of the game, starting with 0
+		 * @return Index of the player in the order of the start series dialog
+		 */
+		public int getPlayerIndex(final Player position, final int gameIndex) {
+			return (startPlayer + position.ordinal() + gameIndex) % 3;
+		}
+
+		/**
+		 * Gets the player that is shown at the bottom in a game of the series
+		 *
+		 * @param gameIndex
+		 *            Index of the game, starting with 0
+		 * @return Player shown at the bottom
+		 */
+		public Player getBottomPlayer(final int gameIndex) {
+			return PLAYERS[(bottomPlayer.ordinal() + 2 * gameIndex) % 3];
+		}
+	}
+
+	/**
+	 * Skat series restored from a journal
+	 */
+	public static final class Replay {
+
+		private final SeriesHeader header;
+		private final List<GameSummary> gameSummaries;
+
+		Replay(final SeriesHeader header, final List<GameSummary> gameSummaries) {
+			this.header = header;
+			this.gameSummaries = Collections.unmodifiableList(gameSummaries);
+		}
+
+		public SeriesHeader getHeader() {
+			return header;
+		}
+
+		/**
+		 * Gets the summaries of all completed games
+		 *
+		 * @return Game summaries
+		 */
+		public List<GameSummary> getGameSummaries() {
+			return gameSummaries;
+		}
+
+		/**
+		 * Gets the number of completed games
+		 *
+		 * @return Number of completed games
+		 */
+		public int getGameCount() {
+			return gameSummaries.size();
+		}
+	}
+}
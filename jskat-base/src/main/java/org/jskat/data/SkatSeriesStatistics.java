@@ -0,0 +1,203 @@
+/**
+ * Copyright (C) 2019 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.data;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.jskat.control.event.skatgame.GameFinishEvent;
+import org.jskat.control.event.table.SkatGameReplayFinishedEvent;
+import org.jskat.control.event.table.SkatGameReplayStartedEvent;
+import org.jskat.util.GameType;
+import org.jskat.util.Player;
+import org.jskat.util.SkatConstants;
+
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * Incremental statistics over a series of skat games
+ *
+ * The statistics are fed game by game, either directly or by registering on a
+ * table event bus, and keep constant memory per player. Snapshots are copies
+ * that can be handed to the GUI or to reports while games are still added.
+ */
+public class SkatSeriesStatistics {
+
+	private static final int NUMBER_OF_PLAYERS = 3;
+
+	private final Map<String, PlayerStatistics> players = new LinkedHashMap<>();
+
+	private long gameCount;
+
+	private boolean replaying;
+
+	/**
+	 * Adds the game of a {@link GameFinishEvent}, games shown during a replay
+	 * are ignored
+	 *
+	 * @param event
+	 *            Game finish event
+	 */
+	@Subscribe
+	public void addGameOn(final GameFinishEvent event) {
+		synchronized (this) {
+			if (replaying) {
+				return;
+			}
+		}
+		addGame(event.gameSummary);
+	}
+
+	@Subscribe
+	public synchronized void replayStartedOn(final SkatGameReplayStartedEvent event) {
+		replaying = true;
+	}
+
+	@Subscribe
+	public synchronized void replayFinishedOn(final SkatGameReplayFinishedEvent event) {
+		replaying = false;
+	}
+
+	/**
+	 * Adds a finished game
+	 *
+	 * @param gameSummary
+	 *            Game summary
+	 */
+	public void addGame(final GameSummary gameSummary) {
+
+		final GameType gameType = gameSummary.getGameType();
+		final int gameValue = gameSummary.gameResult == null ? 0 : gameSummary.getGameValue();
+
+		synchronized (this) {
+			gameCount++;
+
+			for (final Player player : Player.values()) {
+
+				final PlayerStatistics statistics = getOrCreate(getPlayerName(gameSummary, player));
+
+				if (gameType == GameType.RAMSCH) {
+					final boolean lost = gameSummary.getRamschLosers().contains(player);
+					statistics.addRamschGame(lost, lost ? -Math.abs(gameValue) : 0);
+				} else if (gameType == GameType.PASSED_IN || gameSummary.getDeclarer() == null) {
+					statistics.addPassedInGame();
+				} else if (gameSummary.getDeclarer() == player) {
+					statistics.addDeclaredGame(gameType, gameSummary.isGameWon(), gameSummary.getFinalDeclarerPoints(),
+							SkatConstants.getTournamentGameValue(true, gameValue, NUMBER_OF_PLAYERS));
+				} else {
+					statistics.addOpponentGame(!gameSummary.isGameWon(), Boolean.TRUE.equals(gameSummary.isContra()),
+							SkatConstants.getTournamentGameValue(false, gameValue, NUMBER_OF_PLAYERS));
+				}
+			}
+		}
+	}
+
+	private PlayerStatistics getOrCreate(final String playerName) {
+		return players.computeIfAbsent(playerName, PlayerStatistics::new);
+	}
+
+	private static String getPlayerName(final GameSummary gameSummary, final Player player) {
+
+		String result = null;
+		switch (player) {
+		case FOREHAND:
+			result = gameSummary.getForeHand();
+			break;
+		case MIDDLEHAND:
+			result = gameSummary.getMiddleHand();
+			break;
+		case REARHAND:
+			result = gameSummary.getRearHand();
+			break;
+		}
+		return result == null ? player.name() : result;
+	}
+
+	/**
+	 * Gets the number of games added so far
+	 *
+	 * @return Number of games
+	 */
+	public synchronized long getGameCount() {
+		return gameCount;
+	}
+
+	/**
+	 * Gets a snapshot of the statistics of one player
+	 *
+	 * @param playerName
+	 *            Player name
+	 * @return Copy of the player statistics, NULL if the player has not played
+	 *         yet
+	 */
+	public synchronized PlayerStatistics getPlayerStatistics(final String playerName) {
+		final PlayerStatistics statistics = players.get(playerName);
+		return statistics == null ? null : new PlayerStatistics(statistics);
+	}
+
+	/**
+	 * Gets a plain text report of the statistics of all players
+	 *
+	 * @return Report with one block per player
+	 */
+	public synchronized String getReport() {
+
+		final StringBuilder result = new StringBuilder();
+		result.append(String.format("Games: %d%n", gameCount)); //$NON-NLS-1$
+
+		for (final PlayerStatistics statistics : players.values()) {
+
+			result.append(String.format("%s%n", statistics.getPlayerName())); //$NON-NLS-1$
+			result.append(String.format("  score %d, %.2f +/- %.2f per game%n", //$NON-NLS-1$
+					statistics.getSeegerFabianScore(), statistics.getAverageScore(),
+					statistics.getScoreConfidenceHalfWidth()));
+			result.append(String.format("  declared %d, won %d (%.1f%%, 95%% interval %.1f%% - %.1f%%), " //$NON-NLS-1$
+					+ "%.1f card points%n", //$NON-NLS-1$
+					statistics.getGamesDeclared(), statistics.getGamesWon(), 100 * statistics.getWinRate(),
+					100 * statistics.getWinRateLowerBound(), 100 * statistics.getWinRateUpperBound(),
+					statistics.getAverageDeclarerPoints()));
+			result.append(String.format("  opponent won %d of %d, contra won %d of %d, ramsch lost %d of %d%n", //$NON-NLS-1$
+					statistics.getOpponentGamesWon(), statistics.getOpponentGames(),
+					statistics.getContraGamesWon(), statistics.getContraGames(), statistics.getRamschGamesLost(),
+					statistics.getRamschGames()));
+
+			for (final GameType gameType : GameType.values()) {
+				if (statistics.getGamesDeclared(gameType) > 0) {
+					result.append(String.format("  %s: declared %d, won %d, score %d%n", gameType, //$NON-NLS-1$
+							statistics.getGamesDeclared(gameType), statistics.getGamesWon(gameType),
+							statistics.getSeegerFabianScore(gameType)));
+				}
+			}
+		}
+
+		return result.toString();
+	}
+
+	/**
+	 * Gets a snapshot of the statistics of all players
+	 *
+	 * @return Copies of the player statistics by player name, in the order the
+	 *         players joined the series
+	 */
+	public synchronized Map<String, PlayerStatistics> getSnapshot() {
+		final Map<String, PlayerStatistics> result = new LinkedHashMap<>();
+		for (final PlayerStatistics statistics : players.values()) {
+			result.put(statistics.getPlayerName(), new PlayerStatistics(statistics));
+		}
+		return Collections.unmodifiableMap(result);
+	}
+}
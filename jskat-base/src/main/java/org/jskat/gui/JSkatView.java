@@ -16,12 +16,15 @@
 package org.jskat.gui;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.jskat.control.iss.ChatMessageType;
+import org.jskat.data.PlayerStatistics;
 import org.jskat.data.SkatGameData;
 import org.jskat.data.SkatGameData.GameState;
 import org.jskat.data.SkatSeriesData.SeriesState;
+import org.jskat.data.SkatSeriesJournal.Replay;
 import org.jskat.data.iss.ChatMessage;
 import org.jskat.data.iss.GameStartInformation;
 import org.jskat.data.iss.MoveInformation;
@@ -306,6 +309,26 @@ public interface JSkatView {
 			String upperRightPlayerName, boolean isUpperRightPlayerAIPlayer, String lowerPlayerName,
 			boolean isLowerPlayerAIPlayer);
 
+	/**
+	 * Restores the skat list of a series that is resumed from its journal
+	 * 
+	 * @param tableName
+	 *            Table name
+	 * @param replay
+	 *            Series restored from the journal
+	 */
+	public void restoreSkatList(String tableName, Replay replay);
+
+	/**
+	 * Sets the statistics of the games played in a series so far
+	 * 
+	 * @param tableName
+	 *            Table name
+	 * @param statistics
+	 *            Snapshot of the player statistics by player name
+	 */
+	public void setSeriesStatistics(String tableName, Map<String, PlayerStatistics> statistics);
+
 	/**
 	 * Sets the declarer player of the table
 	 * 
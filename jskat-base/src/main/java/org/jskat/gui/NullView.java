@@ -16,12 +16,15 @@
 package org.jskat.gui;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.jskat.control.iss.ChatMessageType;
+import org.jskat.data.PlayerStatistics;
 import org.jskat.data.SkatGameData;
 import org.jskat.data.SkatGameData.GameState;
 import org.jskat.data.SkatSeriesData.SeriesState;
+import org.jskat.data.SkatSeriesJournal.Replay;
 import org.jskat.data.iss.ChatMessage;
 import org.jskat.data.iss.GameStartInformation;
 import org.jskat.data.iss.MoveInformation;
@@ -188,6 +191,26 @@ public class NullView implements JSkatView {
 		return null;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void restoreSkatList(
+			@SuppressWarnings("unused") final String tableName,
+			@SuppressWarnings("unused") final Replay replay) {
+		// empty method by intent
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setSeriesStatistics(
+			@SuppressWarnings("unused") final String tableName,
+			@SuppressWarnings("unused") final Map<String, PlayerStatistics> statistics) {
+		// empty method by intent
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -17,11 +17,14 @@ package org.jskat.gui.human;
 
 import org.jskat.gui.action.JSkatActionEvent;
 import org.jskat.player.AbstractJSkatPlayer;
+import org.jskat.player.AsyncJSkatPlayer;
 
 /**
- * Abstract implementation of a human player for JSkat
+ * Abstract implementation of a human player for JSkat<br>
+ * Human players decide asynchronously, the game does not hold a thread while
+ * waiting for the user.
  */
-public abstract class AbstractHumanJSkatPlayer extends AbstractJSkatPlayer {
+public abstract class AbstractHumanJSkatPlayer extends AbstractJSkatPlayer implements AsyncJSkatPlayer {
 
 	@Override
 	public final Boolean isAIPlayer() {
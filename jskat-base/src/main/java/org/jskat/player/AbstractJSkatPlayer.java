@@ -17,6 +17,7 @@ package org.jskat.player;
 
 import org.jskat.data.GameAnnouncement;
 import org.jskat.data.GameSummary;
+import org.jskat.data.SkatGameRules;
 import org.jskat.data.Trick;
 import org.jskat.util.Card;
 import org.jskat.util.CardList;
@@ -24,6 +25,8 @@ import org.jskat.util.GameType;
 import org.jskat.util.Player;
 import org.jskat.util.rule.SkatRule;
 import org.jskat.util.rule.SkatRuleFactory;
+import org.jskat.util.trace.GameTrace;
+import org.jskat.util.trace.TraceType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -78,13 +81,14 @@ public abstract class AbstractJSkatPlayer implements JSkatPlayer {
 	 * {@inheritDoc}
 	 */
 	@Override
-	public final void newGame(final Player newPosition) {
+	public final void newGame(final Player newPosition, final SkatGameRules gameRules) {
 
 		playerState = null;
 		rules = null;
 		gameSummary = null;
 		internalKnowledge.resetCurrentGameData();
 		internalKnowledge.setPlayerPosition(newPosition);
+		internalKnowledge.setGameRules(gameRules);
 
 		preparateForNewGame();
 	}
@@ -131,8 +135,6 @@ public abstract class AbstractJSkatPlayer implements JSkatPlayer {
 	@Override
 	public final void takeSkat(final CardList skatCards) {
 
-		log.debug("Skat cards: " + skatCards); //$NON-NLS-1$
-
 		internalKnowledge.setSkat(skatCards);
 		internalKnowledge.addOwnCards(skatCards);
 	}
@@ -169,18 +171,11 @@ public abstract class AbstractJSkatPlayer implements JSkatPlayer {
 		boolean isCardAllowed = false;
 		final CardList result = new CardList();
 
-		log.debug("game type: " + internalKnowledge.getGameType()); //$NON-NLS-1$
-		log.debug("player cards (" + internalKnowledge.getOwnCards().size() //$NON-NLS-1$
-				+ "): " + internalKnowledge.getOwnCards()); //$NON-NLS-1$
-		log.debug("trick size: " + trick.size()); //$NON-NLS-1$
-
 		for (final Card card : internalKnowledge.getOwnCards()) {
 
 			if (trick.size() > 0 && rules.isCardAllowed(internalKnowledge.getGameType(), trick.get(0),
 					internalKnowledge.getOwnCards(), card)) {
 
-				log.debug("Card: " + card + " is allowed after initial card: " //$NON-NLS-1$
-						+ trick.get(0));
 				isCardAllowed = true;
 			} else if (trick.size() == 0) {
 
@@ -196,6 +191,8 @@ public abstract class AbstractJSkatPlayer implements JSkatPlayer {
 			}
 		}
 
+		GameTrace.trace(TraceType.PLAYABLE_CARDS, playerName, internalKnowledge.getPlayerPosition(), result);
+
 		return result;
 	}
 
@@ -264,17 +261,23 @@ public abstract class AbstractJSkatPlayer implements JSkatPlayer {
 	@Override
 	public final CardList discardSkat() {
 
-		final CardList result = new CardList();
+		return discardCards(getCardsToDiscard());
+	}
 
-		log.debug("Player cards before discarding: " //$NON-NLS-1$
-				+ internalKnowledge.getOwnCards());
+	/**
+	 * Removes the discarded cards from the knowledge of the player
+	 *
+	 * @param cardsToDiscard
+	 *            Cards to discard
+	 * @return Copy of the discarded cards
+	 */
+	protected final CardList discardCards(final CardList cardsToDiscard) {
 
-		result.addAll(getCardsToDiscard());
+		final CardList result = new CardList();
 
-		internalKnowledge.removeOwnCards(result.getImmutableCopy());
+		result.addAll(cardsToDiscard);
 
-		log.debug("Player cards after discarding: " //$NON-NLS-1$
-				+ internalKnowledge.getOwnCards());
+		internalKnowledge.removeOwnCards(result.getImmutableCopy());
 
 		return result;
 	}
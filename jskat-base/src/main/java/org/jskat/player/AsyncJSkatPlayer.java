@@ -0,0 +1,113 @@
+/**
+ * Copyright (C) 2019 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.player;
+
+import java.util.concurrent.CompletionStage;
+
+import org.jskat.data.GameAnnouncement;
+import org.jskat.util.Card;
+import org.jskat.util.CardList;
+
+/**
+ * Non-blocking decision protocol for JSkat players<br>
+ * Every decision of {@link JSkatPlayer} is returned as a
+ * {@link CompletionStage} instead of blocking the game thread. Players that
+ * wait for a human or a remote peer complete the stage when the answer
+ * arrives, so a waiting table does not hold a thread. Notifications (dealt
+ * cards, played cards, tricks, ...) are still delivered through
+ * {@link JSkatPlayer}.
+ *
+ * @see SynchronousPlayerAdapter
+ */
+public interface AsyncJSkatPlayer {
+
+	/**
+	 * Asks the player whether it wants to bid higher or not
+	 *
+	 * @param nextBidValue
+	 *            Next bid value
+	 * @return A bid value equal or higher as the next bid value -1 if the
+	 *         player passes
+	 * @see JSkatPlayer#bidMore(int)
+	 */
+	public CompletionStage<Integer> bidMoreAsync(int nextBidValue);
+
+	/**
+	 * Asks the player whether it wants to hold a bid from the announcer
+	 *
+	 * @param currBidValue
+	 *            Current bid value
+	 * @return TRUE if the player holds the bid
+	 * @see JSkatPlayer#holdBid(int)
+	 */
+	public CompletionStage<Boolean> holdBidAsync(int currBidValue);
+
+	/**
+	 * @return <code>true</code>, if the player wants to play a grand hand in a
+	 *         BockRamsch game
+	 * @see JSkatPlayer#playGrandHand()
+	 */
+	public CompletionStage<Boolean> playGrandHandAsync();
+
+	/**
+	 * Asks the player to call Contra as opponent player
+	 *
+	 * @return <code>true</code>, if the player wants to call Contra
+	 * @see JSkatPlayer#callContra()
+	 */
+	public CompletionStage<Boolean> callContraAsync();
+
+	/**
+	 * Asks the player to call Re a declarer player, after an opponent did call
+	 * Contra
+	 *
+	 * @return <code>true</code>, if the player wants to call Re
+	 * @see JSkatPlayer#callRe()
+	 */
+	public CompletionStage<Boolean> callReAsync();
+
+	/**
+	 * Checks whether the player wants to look into the skat
+	 *
+	 * @return TRUE if the player wants to look into the skat
+	 * @see JSkatPlayer#pickUpSkat()
+	 */
+	public CompletionStage<Boolean> pickUpSkatAsync();
+
+	/**
+	 * Asks for the new skat cards during discarding
+	 *
+	 * @return The new cards for the skat
+	 * @see JSkatPlayer#discardSkat()
+	 */
+	public CompletionStage<CardList> discardSkatAsync();
+
+	/**
+	 * Asks the player for the game he wants to play
+	 *
+	 * @return Game announcement
+	 * @see JSkatPlayer#announceGame()
+	 */
+	public CompletionStage<GameAnnouncement> announceGameAsync();
+
+	/**
+	 * Get next Card to play
+	 *
+	 * @return Card to be played
+	 * @see JSkatPlayer#playCard()
+	 */
+	public CompletionStage<Card> playCardAsync();
+}
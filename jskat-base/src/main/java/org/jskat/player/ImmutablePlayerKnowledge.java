@@ -24,6 +24,7 @@ import java.util.Map;
 import java.util.Set;
 
 import org.jskat.data.GameAnnouncement;
+import org.jskat.data.SkatGameRules;
 import org.jskat.data.Trick;
 import org.jskat.util.Card;
 import org.jskat.util.CardList;
@@ -49,6 +50,9 @@ public class ImmutablePlayerKnowledge {
 	/** Player position */
 	protected Player playerPosition;
 
+	/** Rules of the game */
+	protected SkatGameRules gameRules;
+
 	/**
 	 * Contains all cards played by the players
 	 */
@@ -333,6 +337,16 @@ public class ImmutablePlayerKnowledge {
 		return playerPosition;
 	}
 
+	/**
+	 * Gets the rules of the game
+	 *
+	 * @return Game rules
+	 */
+	public final SkatGameRules getGameRules() {
+
+		return gameRules;
+	}
+
 	/**
 	 * Checks how many cards of the given suit a player could have, this is an
 	 * uncertain information
@@ -576,7 +590,10 @@ public class ImmutablePlayerKnowledge {
 	public Set<Player> getPlayerPartyMembers() {
 
 		final Set<Player> result = new HashSet<>();
-		if (getDeclarer().equals(getPlayerPosition())) {
+		if (getDeclarer() == null) {
+			// ramsch, every player plays for himself
+			result.add(getPlayerPosition());
+		} else if (getDeclarer().equals(getPlayerPosition())) {
 			// player is declarer
 			result.add(getDeclarer());
 		} else {
@@ -604,7 +621,11 @@ public class ImmutablePlayerKnowledge {
 	public Set<Player> getOpponentPartyMembers() {
 
 		final Set<Player> result = new HashSet<>();
-		if (getDeclarer().equals(getPlayerPosition())) {
+		if (getDeclarer() == null) {
+			// ramsch, every player plays for himself
+			result.add(getPlayerPosition().getLeftNeighbor());
+			result.add(getPlayerPosition().getRightNeighbor());
+		} else if (getDeclarer().equals(getPlayerPosition())) {
 			// player is declarer
 			result.add(getDeclarer().getLeftNeighbor());
 			result.add(getDeclarer().getRightNeighbor());
@@ -17,6 +17,7 @@ package org.jskat.player;
 
 import org.jskat.data.GameAnnouncement;
 import org.jskat.data.GameSummary;
+import org.jskat.data.SkatGameRules;
 import org.jskat.data.Trick;
 import org.jskat.util.Card;
 import org.jskat.util.CardList;
@@ -43,8 +44,10 @@ public interface JSkatPlayer {
 	 *
 	 * @param position
 	 *            Initial sitting position of the player
+	 * @param rules
+	 *            Rules of the game
 	 */
-	public void newGame(Player position);
+	public void newGame(Player position, SkatGameRules rules);
 
 	/**
 	 * Notifies the player of the start of bidding for a new game
@@ -0,0 +1,58 @@
+/**
+ * Copyright (C) 2019 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.player;
+
+import java.util.Set;
+
+import org.jskat.util.GameType;
+
+/**
+ * Registers a {@link JSkatPlayer} implementation
+ *
+ * Providers are found with {@link java.util.ServiceLoader}, they are listed in
+ * <code>META-INF/services/org.jskat.player.JSkatPlayerProvider</code>. Providers
+ * must be cheap to create, the player itself is only created on request.
+ */
+public interface JSkatPlayerProvider {
+
+	/**
+	 * Gets the class of the player
+	 *
+	 * @return Player class
+	 */
+	Class<? extends JSkatPlayer> getPlayerClass();
+
+	/**
+	 * Gets the key of the display name in the JSkat resource bundle
+	 *
+	 * @return Key of the display name
+	 */
+	String getDisplayNameKey();
+
+	/**
+	 * Gets the game types the player can play
+	 *
+	 * @return Supported game types
+	 */
+	Set<GameType> getSupportedGameTypes();
+
+	/**
+	 * Creates a new player instance
+	 *
+	 * @return New player
+	 */
+	JSkatPlayer createPlayer();
+}
@@ -15,20 +15,26 @@
  */
 package org.jskat.player;
 
-import java.lang.reflect.Modifier;
-import java.util.HashSet;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
 import java.util.Set;
 
-import org.reflections.Reflections;
-import org.reflections.util.ClasspathHelper;
-import org.reflections.util.ConfigurationBuilder;
-import org.reflections.util.FilterBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Resolves all implementations of {@link JSkatPlayer} that inherit from
- * {@link AbstractJSkatPlayer} and are not abstract
+ * Resolves all AI player implementations that are registered by a
+ * {@link JSkatPlayerProvider}
+ *
+ * The providers are loaded once on first access, further lookups are served
+ * from the cached registry.
  */
 public class JSkatPlayerResolver {
 
@@ -36,66 +42,91 @@ public class JSkatPlayerResolver {
 
 	public static final String HUMAN_PLAYER_CLASS = "org.jskat.gui.human.SwingHumanPlayer";
 
-	public static final Set<String> EXCLUDED_PLAYER_CLASSES;
+	/**
+	 * Gets all class names including package names of AI player implementations
+	 *
+	 * @return A set of all player implementation classes
+	 */
+	public static Set<String> getAllAIPlayerImplementations() {
 
-	public static final Set<String> UNIT_TEST_PLAYER_CLASSES;
+		return new LinkedHashSet<>(Registry.PROVIDERS.keySet());
+	}
 
-	static {
-		EXCLUDED_PLAYER_CLASSES = new HashSet<String>();
-		EXCLUDED_PLAYER_CLASSES.add("org.jskat.ai.mjl.AIPlayerMJL");
-		EXCLUDED_PLAYER_CLASSES.add("org.jskat.ai.algorithmic.AlgorithmicAIPlayer");
+	/**
+	 * Gets the providers of all AI player implementations
+	 *
+	 * @return Providers sorted by player class name
+	 */
+	public static List<JSkatPlayerProvider> getAIPlayerProviders() {
 
-		UNIT_TEST_PLAYER_CLASSES = new HashSet<String>();
-		UNIT_TEST_PLAYER_CLASSES.add("org.jskat.ai.test.UnitTestPlayer");
-		UNIT_TEST_PLAYER_CLASSES.add("org.jskat.ai.test.RamschTestPlayer");
-		UNIT_TEST_PLAYER_CLASSES.add("org.jskat.ai.test.NoBiddingTestPlayer");
-		UNIT_TEST_PLAYER_CLASSES.add("org.jskat.ai.test.ContraCallingTestPlayer");
-		UNIT_TEST_PLAYER_CLASSES.add("org.jskat.ai.test.ContraReCallingTestPlayer");
-		UNIT_TEST_PLAYER_CLASSES.add("org.jskat.ai.test.ExceptionTestPlayer");
-		UNIT_TEST_PLAYER_CLASSES.add("org.jskat.ai.test.PlayNonPossessingCardTestPlayer");
-		UNIT_TEST_PLAYER_CLASSES.add("org.jskat.ai.test.PlayNotAllowedCardTestPlayer");
+		return Collections.unmodifiableList(new ArrayList<>(Registry.PROVIDERS.values()));
 	}
 
 	/**
-	 * Gets all class names including package names of AI player implementations
+	 * Gets the provider of an AI player implementation
 	 *
-	 * @return A set of all player implementation classes
+	 * @param playerClass
+	 *            Class name of the player
+	 * @return Provider or <code>null</code> if the player is not registered
 	 */
-	public static Set<String> getAllAIPlayerImplementations() {
+	public static JSkatPlayerProvider getAIPlayerProvider(final String playerClass) {
 
-		final Set<String> result = getAllImplementations();
+		return Registry.PROVIDERS.get(playerClass);
+	}
 
-		result.removeAll(EXCLUDED_PLAYER_CLASSES);
-		result.removeAll(UNIT_TEST_PLAYER_CLASSES);
+	/**
+	 * Creates a new player instance, registered players are created by their
+	 * provider, other players by their public default constructor
+	 *
+	 * @param playerClass
+	 *            Class name of the player
+	 * @return New player or <code>null</code> if the player could not be
+	 *         created
+	 */
+	public static JSkatPlayer createPlayer(final String playerClass) {
 
-		LOG.info("Found {} implementations of AbstractJSkatPlayer.", result.size());
+		final JSkatPlayerProvider provider = getAIPlayerProvider(playerClass);
+		if (provider != null) {
+			return provider.createPlayer();
+		}
 
-		return result;
+		try {
+			return Class.forName(playerClass).asSubclass(JSkatPlayer.class).getConstructor().newInstance();
+		} catch (final ReflectiveOperationException | ClassCastException e) {
+			LOG.error("Player " + playerClass + " could not be created", //$NON-NLS-1$ //$NON-NLS-2$
+					e instanceof InvocationTargetException ? e.getCause() : e);
+			return null;
+		}
 	}
 
-	private static Set<String> getAllImplementations() {
-		final Set<String> result = new HashSet<String>();
-		final Reflections reflections = new Reflections(new ConfigurationBuilder()
-				.setUrls(ClasspathHelper.forPackage("org.jskat.ai"))
-				.filterInputsBy(new FilterBuilder().include(".*\\.class")));
+	/**
+	 * Holds the providers, they are loaded when the registry is used the first
+	 * time
+	 */
+	private static final class Registry {
+
+		private static final Map<String, JSkatPlayerProvider> PROVIDERS = loadProviders();
 
-		final Set<Class<? extends AbstractJSkatPlayer>> subTypes = reflections.getSubTypesOf(AbstractJSkatPlayer.class);
-		for (final Class<? extends AbstractJSkatPlayer> jskatPlayer : subTypes) {
-			if (isNotAbstract(jskatPlayer) && isNotHumanPlayer(jskatPlayer)) {
-				result.add(jskatPlayer.getName());
+		private static Map<String, JSkatPlayerProvider> loadProviders() {
+
+			final long startTime = System.currentTimeMillis();
+
+			final List<JSkatPlayerProvider> providers = new ArrayList<>();
+			for (final JSkatPlayerProvider provider : ServiceLoader.load(JSkatPlayerProvider.class,
+					JSkatPlayerResolver.class.getClassLoader())) {
+				providers.add(provider);
 			}
-		}
+			providers.sort(Comparator.comparing(provider -> provider.getPlayerClass().getName()));
 
-		return result;
-	}
+			final Map<String, JSkatPlayerProvider> result = new LinkedHashMap<>();
+			for (final JSkatPlayerProvider provider : providers) {
+				result.put(provider.getPlayerClass().getName(), provider);
+			}
 
-	private static boolean isNotHumanPlayer(
-			final Class<? extends AbstractJSkatPlayer> jskatPlayer) {
-		return !HUMAN_PLAYER_CLASS.equals(jskatPlayer.getName());
-	}
+			LOG.info("Found {} AI player implementations in {} ms.", result.size(), //$NON-NLS-1$
+					System.currentTimeMillis() - startTime);
 
-	private static boolean isNotAbstract(
-			final Class<? extends AbstractJSkatPlayer> jskatPlayer) {
-		return !Modifier.isAbstract(jskatPlayer.getModifiers());
+			return Collections.unmodifiableMap(result);
+		}
 	}
 }
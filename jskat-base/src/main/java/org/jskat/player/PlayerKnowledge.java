@@ -18,6 +18,7 @@ package org.jskat.player;
 import java.util.EnumSet;
 
 import org.jskat.data.GameAnnouncement;
+import org.jskat.data.SkatGameRules;
 import org.jskat.data.Trick;
 import org.jskat.util.Card;
 import org.jskat.util.CardList;
@@ -246,6 +247,17 @@ public final class PlayerKnowledge extends ImmutablePlayerKnowledge {
 		playerPosition = newPlayerPosition;
 	}
 
+	/**
+	 * Sets the rules of the game
+	 *
+	 * @param newGameRules
+	 *            Game rules
+	 */
+	public void setGameRules(final SkatGameRules newGameRules) {
+
+		gameRules = newGameRules;
+	}
+
 	/**
 	 * @param schneiderAnnounced
 	 *            the schneiderAnnounced to set
@@ -0,0 +1,143 @@
+/**
+ * Copyright (C) 2019 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.player;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import org.jskat.data.GameAnnouncement;
+import org.jskat.util.Card;
+import org.jskat.util.CardList;
+
+/**
+ * Adapts a blocking {@link JSkatPlayer} to the {@link AsyncJSkatPlayer}
+ * protocol<br>
+ * Without an executor the decisions are computed on the calling thread and
+ * returned as completed stages, this is the right choice for fast AI players.
+ * With an executor the decisions are computed there, e.g. for slow AI players
+ * that should not block the threads of the game executor.
+ */
+public class SynchronousPlayerAdapter implements AsyncJSkatPlayer {
+
+	private final JSkatPlayer player;
+	private final Executor executor;
+
+	/**
+	 * Constructor
+	 *
+	 * @param player
+	 *            Blocking player
+	 */
+	public SynchronousPlayerAdapter(final JSkatPlayer player) {
+		this(player, null);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param player
+	 *            Blocking player
+	 * @param executor
+	 *            Executor for the decisions, <code>null</code> for the calling
+	 *            thread
+	 */
+	public SynchronousPlayerAdapter(final JSkatPlayer player, final Executor executor) {
+		this.player = player;
+		this.executor = executor;
+	}
+
+	/**
+	 * Gets the asynchronous view of a player
+	 *
+	 * @param player
+	 *            Player
+	 * @return The player itself, if it implements {@link AsyncJSkatPlayer}
+	 *         already, an adapter otherwise
+	 */
+	public static AsyncJSkatPlayer adapt(final JSkatPlayer player) {
+		if (player instanceof AsyncJSkatPlayer) {
+			return (AsyncJSkatPlayer) player;
+		}
+		return new SynchronousPlayerAdapter(player);
+	}
+
+	/**
+	 * Gets the adapted player
+	 *
+	 * @return Blocking player
+	 */
+	public JSkatPlayer getPlayer() {
+		return player;
+	}
+
+	@Override
+	public CompletionStage<Integer> bidMoreAsync(final int nextBidValue) {
+		return decide(() -> player.bidMore(nextBidValue));
+	}
+
+	@Override
+	public CompletionStage<Boolean> holdBidAsync(final int currBidValue) {
+		return decide(() -> player.holdBid(currBidValue));
+	}
+
+	@Override
+	public CompletionStage<Boolean> playGrandHandAsync() {
+		return decide(player::playGrandHand);
+	}
+
+	@Override
+	public CompletionStage<Boolean> callContraAsync() {
+		return decide(player::callContra);
+	}
+
+	@Override
+	public CompletionStage<Boolean> callReAsync() {
+		return decide(player::callRe);
+	}
+
+	@Override
+	public CompletionStage<Boolean> pickUpSkatAsync() {
+		return decide(player::pickUpSkat);
+	}
+
+	@Override
+	public CompletionStage<CardList> discardSkatAsync() {
+		return decide(player::discardSkat);
+	}
+
+	@Override
+	public CompletionStage<GameAnnouncement> announceGameAsync() {
+		return decide(player::announceGame);
+	}
+
+	@Override
+	public CompletionStage<Card> playCardAsync() {
+		return decide(player::playCard);
+	}
+
+	private <T> CompletableFuture<T> decide(final Supplier<T> decision) {
+		if (executor != null) {
+			return CompletableFuture.supplyAsync(decision, executor);
+		}
+		try {
+			return CompletableFuture.completedFuture(decision.get());
+		} catch (final RuntimeException exception) {
+			return CompletableFuture.failedFuture(exception);
+		}
+	}
+}
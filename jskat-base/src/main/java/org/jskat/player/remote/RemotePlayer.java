@@ -0,0 +1,331 @@
+/**
+ * Copyright (C) 2019 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.player.remote;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.jskat.data.GameAnnouncement;
+import org.jskat.data.GameDataCodec;
+import org.jskat.data.GameSummary;
+import org.jskat.data.SkatGameRules;
+import org.jskat.data.Trick;
+import org.jskat.player.AbstractJSkatPlayer;
+import org.jskat.player.AsyncJSkatPlayer;
+import org.jskat.player.JSkatPlayer;
+import org.jskat.player.remote.RemotePlayerProtocol.Decoder;
+import org.jskat.player.remote.RemotePlayerProtocol.Encoder;
+import org.jskat.util.Card;
+import org.jskat.util.CardList;
+import org.jskat.util.Player;
+
+/**
+ * Player that runs an {@link AbstractJSkatPlayer} in a
+ * {@link RemotePlayerHost}, usually in another JVM with its own heap and CPU
+ * limits<br>
+ * <br>
+ * Notifications are batched and sent with the next decision request. Every
+ * decision has to be answered within the decision timeout, otherwise it fails
+ * like a decision of a local player that throws an exception. After a timeout
+ * the connection is closed and all further decisions of the session fail at
+ * once. The player holds a pooled connection until it is closed.
+ */
+public class RemotePlayer implements JSkatPlayer, AsyncJSkatPlayer, AutoCloseable {
+
+	private static final Encoder NO_PAYLOAD = out -> {
+		// message type only
+	};
+	private static final Decoder<Boolean> BOOLEAN = in -> in.readBoolean();
+
+	private final RemotePlayerConnectionPool pool;
+	private final String playerClass;
+	private final long decisionTimeoutMillis;
+
+	private RemotePlayerConnection connection;
+	private String playerName;
+	private Player position;
+	private boolean declarer;
+
+	/**
+	 * Constructor
+	 *
+	 * @param pool
+	 *            Connections to the host
+	 * @param playerClass
+	 *            Class name of the player in the host
+	 * @param decisionTimeoutMillis
+	 *            Time the player has for every decision
+	 */
+	public RemotePlayer(final RemotePlayerConnectionPool pool, final String playerClass,
+			final long decisionTimeoutMillis) {
+		this.pool = pool;
+		this.playerClass = playerClass;
+		this.decisionTimeoutMillis = decisionTimeoutMillis;
+	}
+
+	/**
+	 * Gets the connection, the session in the host is opened on first use
+	 */
+	private synchronized RemotePlayerConnection connection() {
+		if (connection == null) {
+			final RemotePlayerConnection newConnection = pool.lease();
+			try {
+				newConnection.request(RemotePlayerProtocol.OPEN, out -> {
+					out.writeUTF(playerClass);
+					GameDataCodec.writeString(out, playerName);
+				}, in -> null, decisionTimeoutMillis).join();
+			} catch (final RuntimeException e) {
+				pool.release(newConnection);
+				throw e;
+			}
+			connection = newConnection;
+		}
+		return connection;
+	}
+
+	private void notifyHost(final byte type, final Encoder payload) {
+		connection().notify(type, payload);
+	}
+
+	private <T> CompletableFuture<T> requestDecision(final byte type, final Encoder payload, final Decoder<T> decoder) {
+		return connection().request(type, payload, decoder, decisionTimeoutMillis);
+	}
+
+	/**
+	 * Closes the session in the host and gives the connection back to the pool
+	 */
+	@Override
+	public synchronized void close() {
+		if (connection != null) {
+			try {
+				connection.notify(RemotePlayerProtocol.CLOSE, NO_PAYLOAD);
+				connection.flush();
+			} finally {
+				pool.release(connection);
+				connection = null;
+			}
+		}
+	}
+
+	@Override
+	public void preparateForNewGame() {
+		notifyHost(RemotePlayerProtocol.PREPARE_NEW_GAME, NO_PAYLOAD);
+	}
+
+	@Override
+	public void finalizeGame() {
+		notifyHost(RemotePlayerProtocol.FINALIZE_GAME, NO_PAYLOAD);
+		// end of the game, nothing follows that would send the notifications
+		connection().flush();
+	}
+
+	@Override
+	public void newGame(final Player newPosition, final SkatGameRules rules) {
+		position = newPosition;
+		declarer = false;
+		notifyHost(RemotePlayerProtocol.NEW_GAME, out -> {
+			GameDataCodec.writePlayer(out, newPosition);
+			GameDataCodec.writeRules(out, rules);
+		});
+	}
+
+	@Override
+	public void setUpBidding() {
+		notifyHost(RemotePlayerProtocol.SET_UP_BIDDING, NO_PAYLOAD);
+	}
+
+	@Override
+	public void bidByPlayer(final Player player, final int bidValue) {
+		notifyHost(RemotePlayerProtocol.BID_BY_PLAYER, out -> {
+			GameDataCodec.writePlayer(out, player);
+			out.writeShort(bidValue);
+		});
+	}
+
+	@Override
+	public void takeCards(final CardList cards) {
+		notifyHost(RemotePlayerProtocol.TAKE_CARDS, out -> GameDataCodec.writeCards(out, cards));
+	}
+
+	@Override
+	public void takeSkat(final CardList skat) {
+		notifyHost(RemotePlayerProtocol.TAKE_SKAT, out -> GameDataCodec.writeCards(out, skat));
+	}
+
+	@Override
+	public void startGame(final Player singlePlayer, final GameAnnouncement game) {
+		declarer = position != null && position == singlePlayer;
+		notifyHost(RemotePlayerProtocol.START_GAME, out -> {
+			GameDataCodec.writePlayer(out, singlePlayer);
+			GameDataCodec.writeAnnouncement(out, game);
+		});
+	}
+
+	@Override
+	public void lookAtOuvertCards(final CardList ouvertCards) {
+		notifyHost(RemotePlayerProtocol.LOOK_AT_OUVERT_CARDS, out -> GameDataCodec.writeCards(out, ouvertCards));
+	}
+
+	@Override
+	public void cardPlayed(final Player player, final Card card) {
+		notifyHost(RemotePlayerProtocol.CARD_PLAYED, out -> {
+			GameDataCodec.writePlayer(out, player);
+			GameDataCodec.writeCard(out, card);
+		});
+	}
+
+	@Override
+	public void newTrick(final int trickNo, final Player trickForehand) {
+		notifyHost(RemotePlayerProtocol.NEW_TRICK, out -> {
+			out.writeByte(trickNo);
+			GameDataCodec.writePlayer(out, trickForehand);
+		});
+	}
+
+	@Override
+	public void showTrick(final Trick trick) {
+		notifyHost(RemotePlayerProtocol.SHOW_TRICK, out -> GameDataCodec.writeTrick(out, trick));
+	}
+
+	@Override
+	public void setGameSummary(final GameSummary gameSummary) {
+		notifyHost(RemotePlayerProtocol.GAME_SUMMARY, out -> GameDataCodec.writeGameSummary(out, gameSummary));
+	}
+
+	@Override
+	public CompletionStage<Integer> bidMoreAsync(final int nextBidValue) {
+		return requestDecision(RemotePlayerProtocol.BID_MORE, out -> out.writeShort(nextBidValue),
+				in -> (int) in.readShort());
+	}
+
+	@Override
+	public Integer bidMore(final int nextBidValue) {
+		return bidMoreAsync(nextBidValue).toCompletableFuture().join();
+	}
+
+	@Override
+	public CompletionStage<Boolean> holdBidAsync(final int currBidValue) {
+		return requestDecision(RemotePlayerProtocol.HOLD_BID, out -> out.writeShort(currBidValue), BOOLEAN);
+	}
+
+	@Override
+	public Boolean holdBid(final int currBidValue) {
+		return holdBidAsync(currBidValue).toCompletableFuture().join();
+	}
+
+	@Override
+	public CompletionStage<Boolean> playGrandHandAsync() {
+		return requestDecision(RemotePlayerProtocol.PLAY_GRAND_HAND, NO_PAYLOAD, BOOLEAN);
+	}
+
+	@Override
+	public Boolean playGrandHand() {
+		return playGrandHandAsync().toCompletableFuture().join();
+	}
+
+	@Override
+	public CompletionStage<Boolean> callContraAsync() {
+		return requestDecision(RemotePlayerProtocol.CALL_CONTRA, NO_PAYLOAD, BOOLEAN);
+	}
+
+	@Override
+	public Boolean callContra() {
+		return callContraAsync().toCompletableFuture().join();
+	}
+
+	@Override
+	public CompletionStage<Boolean> callReAsync() {
+		return requestDecision(RemotePlayerProtocol.CALL_RE, NO_PAYLOAD, BOOLEAN);
+	}
+
+	@Override
+	public Boolean callRe() {
+		return callReAsync().toCompletableFuture().join();
+	}
+
+	@Override
+	public CompletionStage<Boolean> pickUpSkatAsync() {
+		return requestDecision(RemotePlayerProtocol.PICK_UP_SKAT, NO_PAYLOAD, BOOLEAN);
+	}
+
+	@Override
+	public Boolean pickUpSkat() {
+		return pickUpSkatAsync().toCompletableFuture().join();
+	}
+
+	@Override
+	public CompletionStage<CardList> discardSkatAsync() {
+		return requestDecision(RemotePlayerProtocol.DISCARD_SKAT, NO_PAYLOAD, GameDataCodec::readCards);
+	}
+
+	@Override
+	public CardList discardSkat() {
+		return discardSkatAsync().toCompletableFuture().join();
+	}
+
+	@Override
+	public CompletionStage<GameAnnouncement> announceGameAsync() {
+		return requestDecision(RemotePlayerProtocol.ANNOUNCE_GAME, NO_PAYLOAD, GameDataCodec::readAnnouncement);
+	}
+
+	@Override
+	public GameAnnouncement announceGame() {
+		return announceGameAsync().toCompletableFuture().join();
+	}
+
+	@Override
+	public CompletionStage<Card> playCardAsync() {
+		return requestDecision(RemotePlayerProtocol.PLAY_CARD, NO_PAYLOAD, GameDataCodec::readCard);
+	}
+
+	@Override
+	public Card playCard() {
+		return playCardAsync().toCompletableFuture().join();
+	}
+
+	@Override
+	public String getPlayerName() {
+		return playerName;
+	}
+
+	@Override
+	public synchronized void setPlayerName(final String newPlayerName) {
+		playerName = newPlayerName;
+		if (connection != null) {
+			connection.notify(RemotePlayerProtocol.PLAYER_NAME, out -> GameDataCodec.writeString(out, newPlayerName));
+		}
+	}
+
+	@Override
+	public Boolean isHumanPlayer() {
+		return false;
+	}
+
+	@Override
+	public Boolean isAIPlayer() {
+		return true;
+	}
+
+	@Override
+	public Boolean isDeclarer() {
+		return declarer;
+	}
+
+	@Override
+	public String toString() {
+		return "Remote " + playerClass + " " + playerName; //$NON-NLS-1$ //$NON-NLS-2$
+	}
+}
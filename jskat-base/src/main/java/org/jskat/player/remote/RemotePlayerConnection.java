@@ -0,0 +1,243 @@
+/**
+ * Copyright (C) 2019 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.player.remote;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.jskat.player.remote.RemotePlayerProtocol.Decoder;
+import org.jskat.player.remote.RemotePlayerProtocol.Encoder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Client side of a connection to a {@link RemotePlayerHost}<br>
+ * Notifications are buffered until the next decision request or an explicit
+ * flush. Replies are read by a reader thread, so waiting for a decision does
+ * not block the game. A connection whose host doesn't answer a decision in time
+ * is closed, the host would answer all later requests only after that decision.
+ * Notifications for a closed connection are dropped and its decisions fail.
+ */
+class RemotePlayerConnection {
+
+	private static final Logger LOG = LoggerFactory.getLogger(RemotePlayerConnection.class);
+
+	private static final int BUFFER_SIZE = 8192;
+
+	private final Socket socket;
+	private final DataOutputStream out;
+	private final DataInputStream in;
+	private final Map<Integer, PendingDecision<?>> pendingDecisions = new ConcurrentHashMap<>();
+
+	private int nextRequestId;
+	private volatile boolean broken;
+
+	/**
+	 * Opens a connection to a host
+	 *
+	 * @param address
+	 *            Address of the host
+	 * @throws IOException
+	 *             if the connection could not be opened
+	 */
+	RemotePlayerConnection(final InetSocketAddress address) throws IOException {
+
+		socket = new Socket();
+		socket.setTcpNoDelay(true);
+		socket.connect(address);
+
+		out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream(), BUFFER_SIZE));
+		in = new DataInputStream(new BufferedInputStream(socket.getInputStream(), BUFFER_SIZE));
+
+		out.writeInt(RemotePlayerProtocol.MAGIC);
+		out.writeByte(RemotePlayerProtocol.VERSION);
+
+		final Thread reader = new Thread(this::readReplies, "Remote player " + address); //$NON-NLS-1$
+		reader.setDaemon(true);
+		reader.start();
+	}
+
+	/**
+	 * Buffers a notification
+	 *
+	 * @param type
+	 *            Message type
+	 * @param payload
+	 *            Payload of the message
+	 */
+	synchronized void notify(final byte type, final Encoder payload) {
+		if (broken) {
+			return;
+		}
+		try {
+			out.writeByte(type);
+			payload.write(out);
+		} catch (final IOException e) {
+			broken = true;
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Sends all buffered notifications
+	 */
+	synchronized void flush() {
+		if (broken) {
+			return;
+		}
+		try {
+			out.flush();
+		} catch (final IOException e) {
+			broken = true;
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Sends a decision request together with all buffered notifications
+	 *
+	 * @param type
+	 *            Message type
+	 * @param payload
+	 *            Payload of the request
+	 * @param decoder
+	 *            Decoder of the reply
+	 * @param timeoutMillis
+	 *            Time the host has for the decision
+	 * @return Decision, fails with a {@link java.util.concurrent.TimeoutException}
+	 *         if the host does not answer in time
+	 */
+	synchronized <T> CompletableFuture<T> request(final byte type, final Encoder payload, final Decoder<T> decoder,
+			final long timeoutMillis) {
+
+		final int requestId = nextRequestId++;
+		final PendingDecision<T> pendingDecision = new PendingDecision<>(decoder);
+		if (broken) {
+			pendingDecision.future.completeExceptionally(
+					new IOException("Connection to remote player host is closed")); //$NON-NLS-1$
+			return pendingDecision.future;
+		}
+		pendingDecisions.put(requestId, pendingDecision);
+
+		try {
+			out.writeByte(type);
+			out.writeInt(requestId);
+			payload.write(out);
+			out.flush();
+		} catch (final IOException e) {
+			broken = true;
+			pendingDecisions.remove(requestId);
+			pendingDecision.future.completeExceptionally(e);
+		}
+
+		pendingDecision.future.orTimeout(timeoutMillis, TimeUnit.MILLISECONDS).whenComplete((value, error) -> {
+			if (error instanceof TimeoutException) {
+				pendingDecisions.remove(requestId);
+				LOG.warn("Remote player host didn't answer request " + requestId + " in time, closing connection"); //$NON-NLS-1$ //$NON-NLS-2$
+				close();
+			}
+		});
+		return pendingDecision.future;
+	}
+
+	private void readReplies() {
+		try {
+			while (true) {
+				final byte type = in.readByte();
+				final int requestId = in.readInt();
+				final PendingDecision<?> pendingDecision = pendingDecisions.remove(requestId);
+				if (pendingDecision == null) {
+					throw new IOException("Reply for unknown request " + requestId); //$NON-NLS-1$
+				}
+
+				if (type == RemotePlayerProtocol.REPLY) {
+					pendingDecision.complete(in);
+				} else if (type == RemotePlayerProtocol.ERROR) {
+					pendingDecision.future
+							.completeExceptionally(new IllegalStateException("Remote player failed: " + in.readUTF())); //$NON-NLS-1$
+				} else {
+					throw new IOException("Unknown reply type " + type); //$NON-NLS-1$
+				}
+			}
+		} catch (final EOFException e) {
+			LOG.debug("Remote player host closed the connection"); //$NON-NLS-1$
+			failPendingDecisions(e);
+		} catch (final IOException e) {
+			if (!socket.isClosed()) {
+				LOG.warn("Connection to remote player host failed: " + e); //$NON-NLS-1$
+			}
+			failPendingDecisions(e);
+		}
+	}
+
+	private void failPendingDecisions(final IOException cause) {
+		broken = true;
+		for (final PendingDecision<?> pendingDecision : pendingDecisions.values()) {
+			pendingDecision.future.completeExceptionally(cause);
+		}
+		pendingDecisions.clear();
+	}
+
+	/**
+	 * Checks whether the connection can still be used
+	 *
+	 * @return TRUE, if the connection can be used
+	 */
+	boolean isUsable() {
+		return !broken && !socket.isClosed();
+	}
+
+	/**
+	 * Closes the connection
+	 */
+	void close() {
+		broken = true;
+		try {
+			socket.close();
+		} catch (final IOException e) {
+			LOG.debug("Closing connection failed: " + e); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Decision that waits for its reply
+	 */
+	private static class PendingDecision<T> {
+
+		private final Decoder<T> decoder;
+		private final CompletableFuture<T> future = new CompletableFuture<>();
+
+		private PendingDecision(final Decoder<T> decoder) {
+			this.decoder = decoder;
+		}
+
+		private void complete(final DataInputStream in) throws IOException {
+			future.complete(decoder.read(in));
+		}
+	}
+}
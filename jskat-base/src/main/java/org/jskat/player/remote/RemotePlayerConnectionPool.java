@@ -0,0 +1,119 @@
+/**
+ * Copyright (C) 2019 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.player.remote;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pool of connections to a {@link RemotePlayerHost}<br>
+ * A {@link RemotePlayer} leases a connection for its session and gives it back
+ * when it is closed, so new players don't have to wait for a connection setup.
+ */
+public class RemotePlayerConnectionPool implements AutoCloseable {
+
+	private final InetSocketAddress address;
+	private final BlockingQueue<RemotePlayerConnection> idleConnections;
+	private final AtomicInteger openedConnections = new AtomicInteger();
+
+	/**
+	 * Constructor for a host on the local machine
+	 *
+	 * @param port
+	 *            Port of the host
+	 * @param maxIdleConnections
+	 *            Maximum number of idle connections that are kept open
+	 */
+	public RemotePlayerConnectionPool(final int port, final int maxIdleConnections) {
+		this(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), maxIdleConnections);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param address
+	 *            Address of the host
+	 * @param maxIdleConnections
+	 *            Maximum number of idle connections that are kept open
+	 */
+	public RemotePlayerConnectionPool(final InetSocketAddress address, final int maxIdleConnections) {
+		this.address = address;
+		idleConnections = new LinkedBlockingQueue<>(maxIdleConnections);
+	}
+
+	/**
+	 * Leases a connection, an idle connection is reused if possible
+	 *
+	 * @return Connection
+	 */
+	RemotePlayerConnection lease() {
+
+		RemotePlayerConnection connection = idleConnections.poll();
+		while (connection != null) {
+			if (connection.isUsable()) {
+				return connection;
+			}
+			connection.close();
+			connection = idleConnections.poll();
+		}
+
+		try {
+			connection = new RemotePlayerConnection(address);
+		} catch (final IOException e) {
+			throw new UncheckedIOException("Connection to remote player host " + address + " failed", e); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		openedConnections.incrementAndGet();
+		return connection;
+	}
+
+	/**
+	 * Gives a connection back to the pool
+	 *
+	 * @param connection
+	 *            Connection
+	 */
+	void release(final RemotePlayerConnection connection) {
+		if (!connection.isUsable() || !idleConnections.offer(connection)) {
+			connection.close();
+		}
+	}
+
+	/**
+	 * Gets the number of connections opened by the pool
+	 *
+	 * @return Number of opened connections
+	 */
+	public int getOpenedConnections() {
+		return openedConnections.get();
+	}
+
+	/**
+	 * Closes all idle connections
+	 */
+	@Override
+	public void close() {
+		RemotePlayerConnection connection = idleConnections.poll();
+		while (connection != null) {
+			connection.close();
+			connection = idleConnections.poll();
+		}
+	}
+}
@@ -0,0 +1,355 @@
+/**
+ * Copyright (C) 2019 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.player.remote;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+
+import org.jskat.data.GameAnnouncement;
+import org.jskat.data.GameDataCodec;
+import org.jskat.player.AbstractJSkatPlayer;
+import org.jskat.player.JSkatPlayer;
+import org.jskat.player.JSkatPlayerResolver;
+import org.jskat.player.remote.RemotePlayerProtocol.Encoder;
+import org.jskat.util.Card;
+import org.jskat.util.CardList;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Host for {@link RemotePlayer}s<br>
+ * Runs any {@link AbstractJSkatPlayer} for the clients that connect on a local
+ * port. Started as its own process, e.g.
+ *
+ * <pre>
+ * java -Xmx256m -cp jskat.jar org.jskat.player.remote.RemotePlayerHost 7777
+ * </pre>
+ *
+ * the players get their own heap and can be resource limited independently of
+ * the game. Every connection is served by its own thread, one player session
+ * at a time.
+ */
+public class RemotePlayerHost implements AutoCloseable {
+
+	private static final Logger LOG = LoggerFactory.getLogger(RemotePlayerHost.class);
+
+	/**
+	 * Port that is used if no port is given on the command line
+	 */
+	public static final int DEFAULT_PORT = 7777;
+
+	private static final int BUFFER_SIZE = 8192;
+
+	private final ServerSocket serverSocket;
+
+	/**
+	 * Constructor, binds the host to a port of the loopback interface
+	 *
+	 * @param port
+	 *            Port, 0 for any free port
+	 * @throws IOException
+	 *             if the port cannot be bound
+	 */
+	public RemotePlayerHost(final int port) throws IOException {
+		serverSocket = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+	}
+
+	/**
+	 * Starts the host process
+	 *
+	 * @param args
+	 *            Optional port
+	 * @throws IOException
+	 *             if the port cannot be bound
+	 */
+	public static void main(final String[] args) throws IOException {
+		final int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+		try (RemotePlayerHost host = new RemotePlayerHost(port)) {
+			LOG.info("Remote player host listening on port {}", host.getPort()); //$NON-NLS-1$
+			host.acceptConnections();
+		}
+	}
+
+	/**
+	 * Gets the port the host listens on
+	 *
+	 * @return Port
+	 */
+	public int getPort() {
+		return serverSocket.getLocalPort();
+	}
+
+	/**
+	 * Accepts connections in a background thread
+	 */
+	public void start() {
+		final Thread acceptor = new Thread(this::acceptConnections, "Remote player host " + getPort()); //$NON-NLS-1$
+		acceptor.setDaemon(true);
+		acceptor.start();
+	}
+
+	private void acceptConnections() {
+		while (!serverSocket.isClosed()) {
+			try {
+				final Socket socket = serverSocket.accept();
+				socket.setTcpNoDelay(true);
+				final Thread session = new Thread(() -> serve(socket), "Remote player session " + socket); //$NON-NLS-1$
+				session.setDaemon(true);
+				session.start();
+			} catch (final IOException e) {
+				if (!serverSocket.isClosed()) {
+					LOG.error("Accepting connection failed: " + e); //$NON-NLS-1$
+				}
+			}
+		}
+	}
+
+	/**
+	 * Stops accepting connections
+	 */
+	@Override
+	public void close() throws IOException {
+		serverSocket.close();
+	}
+
+	private static void serve(final Socket socket) {
+		try (DataInputStream in = new DataInputStream(
+						new BufferedInputStream(socket.getInputStream(), BUFFER_SIZE));
+				DataOutputStream out = new DataOutputStream(
+						new BufferedOutputStream(socket.getOutputStream(), BUFFER_SIZE))) {
+
+			if (in.readInt() != RemotePlayerProtocol.MAGIC || in.readByte() != RemotePlayerProtocol.VERSION) {
+				LOG.error("Unknown protocol from " + socket); //$NON-NLS-1$
+				return;
+			}
+
+			final Session session = new Session(in, out);
+			while (true) {
+				final byte type = in.readByte();
+				try {
+					session.handle(type);
+				} catch (final RuntimeException e) {
+					// decisions answer their errors, only notifications end
+					// up here
+					LOG.error("Player failed handling message " + type + ": " + e); //$NON-NLS-1$ //$NON-NLS-2$
+				}
+			}
+		} catch (final EOFException e) {
+			LOG.debug("Client closed connection {}", socket); //$NON-NLS-1$
+		} catch (final IOException e) {
+			LOG.warn("Connection " + socket + " failed: " + e); //$NON-NLS-1$ //$NON-NLS-2$
+		} finally {
+			try {
+				socket.close();
+			} catch (final IOException e) {
+				LOG.debug("Closing connection {} failed: {}", socket, e); //$NON-NLS-1$
+			}
+		}
+	}
+
+	/**
+	 * Decision of a player
+	 */
+	@FunctionalInterface
+	private interface Decision {
+		/**
+		 * @return Encoder of the reply
+		 */
+		Encoder decide();
+	}
+
+	/**
+	 * Player sessions on one connection
+	 */
+	private static class Session {
+
+		private static final Encoder NO_PAYLOAD = out -> {
+			// acknowledge only
+		};
+
+		private final DataInputStream in;
+		private final DataOutputStream out;
+		private AbstractJSkatPlayer player;
+
+		private Session(final DataInputStream in, final DataOutputStream out) {
+			this.in = in;
+			this.out = out;
+		}
+
+		private void handle(final byte type) throws IOException {
+			switch (type) {
+			case RemotePlayerProtocol.OPEN:
+				open(in.readInt(), in.readUTF(), GameDataCodec.readString(in));
+				break;
+			case RemotePlayerProtocol.CLOSE:
+				player = null;
+				break;
+			case RemotePlayerProtocol.PREPARE_NEW_GAME:
+				player().preparateForNewGame();
+				break;
+			case RemotePlayerProtocol.FINALIZE_GAME:
+				player().finalizeGame();
+				break;
+			case RemotePlayerProtocol.NEW_GAME:
+				player().newGame(GameDataCodec.readPlayer(in), GameDataCodec.readRules(in));
+				break;
+			case RemotePlayerProtocol.SET_UP_BIDDING:
+				player().setUpBidding();
+				break;
+			case RemotePlayerProtocol.BID_BY_PLAYER:
+				player().bidByPlayer(GameDataCodec.readPlayer(in), in.readShort());
+				break;
+			case RemotePlayerProtocol.TAKE_CARDS:
+				player().takeCards(GameDataCodec.readCards(in));
+				break;
+			case RemotePlayerProtocol.TAKE_SKAT:
+				player().takeSkat(GameDataCodec.readCards(in));
+				break;
+			case RemotePlayerProtocol.START_GAME:
+				player().startGame(GameDataCodec.readPlayer(in), GameDataCodec.readAnnouncement(in));
+				break;
+			case RemotePlayerProtocol.LOOK_AT_OUVERT_CARDS:
+				player().lookAtOuvertCards(GameDataCodec.readCards(in));
+				break;
+			case RemotePlayerProtocol.CARD_PLAYED:
+				player().cardPlayed(GameDataCodec.readPlayer(in), GameDataCodec.readCard(in));
+				break;
+			case RemotePlayerProtocol.NEW_TRICK:
+				player().newTrick(in.readByte(), GameDataCodec.readPlayer(in));
+				break;
+			case RemotePlayerProtocol.SHOW_TRICK:
+				player().showTrick(GameDataCodec.readTrick(in));
+				break;
+			case RemotePlayerProtocol.GAME_SUMMARY:
+				player().setGameSummary(GameDataCodec.readGameSummary(in));
+				break;
+			case RemotePlayerProtocol.PLAYER_NAME:
+				player().setPlayerName(GameDataCodec.readString(in));
+				break;
+			case RemotePlayerProtocol.BID_MORE: {
+				final int requestId = in.readInt();
+				final int nextBidValue = in.readShort();
+				decide(requestId, () -> {
+					final int bidValue = player().bidMore(nextBidValue);
+					return reply -> reply.writeShort(bidValue);
+				});
+				break;
+			}
+			case RemotePlayerProtocol.HOLD_BID: {
+				final int requestId = in.readInt();
+				final int currBidValue = in.readShort();
+				decide(requestId, () -> {
+					final boolean holdBid = player().holdBid(currBidValue);
+					return reply -> reply.writeBoolean(holdBid);
+				});
+				break;
+			}
+			case RemotePlayerProtocol.PLAY_GRAND_HAND:
+				decide(in.readInt(), () -> {
+					final boolean playGrandHand = player().playGrandHand();
+					return reply -> reply.writeBoolean(playGrandHand);
+				});
+				break;
+			case RemotePlayerProtocol.CALL_CONTRA:
+				decide(in.readInt(), () -> {
+					final boolean callContra = player().callContra();
+					return reply -> reply.writeBoolean(callContra);
+				});
+				break;
+			case RemotePlayerProtocol.CALL_RE:
+				decide(in.readInt(), () -> {
+					final boolean callRe = player().callRe();
+					return reply -> reply.writeBoolean(callRe);
+				});
+				break;
+			case RemotePlayerProtocol.PICK_UP_SKAT:
+				decide(in.readInt(), () -> {
+					final boolean pickUpSkat = player().pickUpSkat();
+					return reply -> reply.writeBoolean(pickUpSkat);
+				});
+				break;
+			case RemotePlayerProtocol.DISCARD_SKAT:
+				decide(in.readInt(), () -> {
+					final CardList discardedCards = player().discardSkat();
+					return reply -> GameDataCodec.writeCards(reply, discardedCards);
+				});
+				break;
+			case RemotePlayerProtocol.ANNOUNCE_GAME:
+				decide(in.readInt(), () -> {
+					final GameAnnouncement announcement = player().announceGame();
+					return reply -> GameDataCodec.writeAnnouncement(reply, announcement);
+				});
+				break;
+			case RemotePlayerProtocol.PLAY_CARD:
+				decide(in.readInt(), () -> {
+					final Card card = player().playCard();
+					return reply -> GameDataCodec.writeCard(reply, card);
+				});
+				break;
+			default:
+				throw new IOException("Unknown message type " + type); //$NON-NLS-1$
+			}
+		}
+
+		private AbstractJSkatPlayer player() {
+			if (player == null) {
+				throw new IllegalStateException("No player session is open."); //$NON-NLS-1$
+			}
+			return player;
+		}
+
+		private void open(final int requestId, final String playerClass, final String playerName)
+				throws IOException {
+			decide(requestId, () -> {
+				final JSkatPlayer newPlayer = JSkatPlayerResolver.createPlayer(playerClass);
+				if (!(newPlayer instanceof AbstractJSkatPlayer)) {
+					throw new IllegalArgumentException("Player " + playerClass + " cannot be hosted."); //$NON-NLS-1$ //$NON-NLS-2$
+				}
+				player = (AbstractJSkatPlayer) newPlayer;
+				player.setPlayerName(playerName);
+				return NO_PAYLOAD;
+			});
+		}
+
+		/**
+		 * Lets the player decide and sends the reply
+		 */
+		private void decide(final int requestId, final Decision decision) throws IOException {
+			Encoder reply;
+			try {
+				reply = decision.decide();
+			} catch (final RuntimeException e) {
+				LOG.error("Player failed deciding: " + e); //$NON-NLS-1$
+				out.writeByte(RemotePlayerProtocol.ERROR);
+				out.writeInt(requestId);
+				out.writeUTF(String.valueOf(e));
+				out.flush();
+				return;
+			}
+			out.writeByte(RemotePlayerProtocol.REPLY);
+			out.writeInt(requestId);
+			reply.write(out);
+			out.flush();
+		}
+	}
+}
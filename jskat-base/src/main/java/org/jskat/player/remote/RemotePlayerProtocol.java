@@ -0,0 +1,96 @@
+/**
+ * Copyright (C) 2019 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.player.remote;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Binary protocol between a {@link RemotePlayer} and a
+ * {@link RemotePlayerHost}<br>
+ * <br>
+ * Every message starts with a type byte. Notifications carry no request id and
+ * are not answered, they are buffered and sent together with the next decision
+ * request. Decision requests carry an int request id that is repeated in the
+ * reply. The game data is encoded with {@link org.jskat.data.GameDataCodec}.
+ */
+final class RemotePlayerProtocol {
+
+	/**
+	 * Sent by the client after connecting, "JSKT"
+	 */
+	static final int MAGIC = 0x4A534B54;
+	static final byte VERSION = 1;
+
+	// session handling
+	static final byte OPEN = 0x01;
+	static final byte CLOSE = 0x02;
+
+	// notifications
+	static final byte PREPARE_NEW_GAME = 0x10;
+	static final byte FINALIZE_GAME = 0x11;
+	static final byte NEW_GAME = 0x12;
+	static final byte SET_UP_BIDDING = 0x13;
+	static final byte BID_BY_PLAYER = 0x14;
+	static final byte TAKE_CARDS = 0x15;
+	static final byte TAKE_SKAT = 0x16;
+	static final byte START_GAME = 0x17;
+	static final byte LOOK_AT_OUVERT_CARDS = 0x18;
+	static final byte CARD_PLAYED = 0x19;
+	static final byte NEW_TRICK = 0x1A;
+	static final byte SHOW_TRICK = 0x1B;
+	static final byte GAME_SUMMARY = 0x1C;
+	static final byte PLAYER_NAME = 0x1D;
+
+	// decisions
+	static final byte BID_MORE = 0x20;
+	static final byte HOLD_BID = 0x21;
+	static final byte PLAY_GRAND_HAND = 0x22;
+	static final byte CALL_CONTRA = 0x23;
+	static final byte CALL_RE = 0x24;
+	static final byte PICK_UP_SKAT = 0x25;
+	static final byte DISCARD_SKAT = 0x26;
+	static final byte ANNOUNCE_GAME = 0x27;
+	static final byte PLAY_CARD = 0x28;
+
+	// replies
+	static final byte REPLY = (byte) 0x80;
+	static final byte ERROR = (byte) 0xFF;
+
+	private RemotePlayerProtocol() {
+		// only static helpers
+	}
+
+	/**
+	 * Writes the payload of a message
+	 */
+	@FunctionalInterface
+	interface Encoder {
+		void write(DataOutput out) throws IOException;
+	}
+
+	/**
+	 * Reads the payload of a message
+	 *
+	 * @param <T>
+	 *            Type of the payload
+	 */
+	@FunctionalInterface
+	interface Decoder<T> {
+		T read(DataInput in) throws IOException;
+	}
+}
@@ -152,13 +152,26 @@ public enum Card {
 	 */
 	D7(Suit.DIAMONDS, Rank.SEVEN);
 
+	/**
+	 * Cards indexed by suit and rank ordinal
+	 */
+	private static final Card[][] CARDS_BY_SUIT_AND_RANK = new Card[Suit.values().length][Rank.values().length];
+
+	static {
+		for (final Card card : values()) {
+			CARDS_BY_SUIT_AND_RANK[card.suit.ordinal()][card.rank.ordinal()] = card;
+		}
+	}
+
 	private final Suit suit;
 	private final Rank rank;
+	private final String shortString;
 
 	private Card(final Suit newSuit, final Rank newRank) {
 
 		suit = newSuit;
 		rank = newRank;
+		shortString = suit.getSymbol() + rank.getShortString();
 	}
 
 	/**
@@ -354,17 +367,10 @@ public enum Card {
 	 */
 	public static Card getCard(final Suit suit, final Rank rank) {
 
-		Card result = null;
-
-		for (final Card card : Card.values()) {
-
-			if (card.getSuit() == suit && card.getRank() == rank) {
-
-				result = card;
-			}
+		if (suit == null || rank == null) {
+			return null;
 		}
-
-		return result;
+		return CARDS_BY_SUIT_AND_RANK[suit.ordinal()][rank.ordinal()];
 	}
 
 	/**
@@ -383,6 +389,6 @@ public enum Card {
 	@Override
 	public String toString() {
 
-		return suit.getSymbol() + rank.getShortString();
+		return shortString;
 	}
 }
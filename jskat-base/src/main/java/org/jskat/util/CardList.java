@@ -19,7 +19,6 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Random;
@@ -39,8 +38,25 @@ public class CardList implements Iterable<Card> {
 
 	private static final Logger LOG = LoggerFactory.getLogger(CardList.class);
 
+	/**
+	 * Upper bound for suit and rank orders used in the sort keys
+	 */
+	private static final int MAX_ORDER = 15;
+
+	/**
+	 * Sort keys indexed by {@link GameType#ordinal()} and
+	 * {@link Card#ordinal()}
+	 */
+	private static final int[][] SORT_KEYS = createSortKeys();
+
 	protected List<Card> cards = new ArrayList<>();
 
+	/**
+	 * Sort keys of the game type the list is kept sorted for, NULL if cards
+	 * are appended
+	 */
+	private int[] sortKeys;
+
 	/**
 	 * Constructor
 	 */
@@ -100,6 +116,10 @@ public class CardList implements Iterable<Card> {
 	 * @return TRUE, if card was added successfully
 	 */
 	public boolean add(final Card card) {
+		if (sortKeys != null) {
+			cards.add(getSortedIndex(card), card);
+			return true;
+		}
 		return cards.add(card);
 	}
 
@@ -122,6 +142,12 @@ public class CardList implements Iterable<Card> {
 	 * @return TRUE, if cards were added successfully
 	 */
 	public boolean addAll(final Collection<Card> newCards) {
+		if (sortKeys != null) {
+			for (final Card card : newCards) {
+				add(card);
+			}
+			return !newCards.isEmpty();
+		}
 		return cards.addAll(newCards);
 	}
 
@@ -412,30 +438,127 @@ public class CardList implements Iterable<Card> {
 	 */
 	public void sort(final GameType gameType) {
 
+		if (!containsHiddenCards()) {
+			sort(cards, getSortKeys(gameType));
+		}
+	}
+
+	/**
+	 * Keeps the CardList sorted for the given game type, cards added afterwards
+	 * are inserted at their sorted position
+	 *
+	 * @param gameType
+	 *            Game type for sorting
+	 */
+	public void keepSorted(final GameType gameType) {
+
+		sortKeys = getSortKeys(gameType);
+		sort(gameType);
+	}
+
+	/**
+	 * Stops keeping the CardList sorted, cards added afterwards are appended
+	 */
+	public void stopKeepingSorted() {
+
+		sortKeys = null;
+	}
+
+	private static int[] getSortKeys(final GameType gameType) {
+
 		if (gameType == null) {
-			Collections.sort(cards, new SuitComparator(GameType.CLUBS));
-			return;
+			return SORT_KEYS[GameType.GRAND.ordinal()];
 		}
-		if (!containsHiddenCards()) {
-			switch (gameType) {
-			case NULL:
-				Collections.sort(cards, new NullComparator());
-				break;
-			case RAMSCH:
-				Collections.sort(cards, new RamschComparator());
-				break;
-			case CLUBS:
-			case SPADES:
-			case HEARTS:
-			case DIAMONDS:
-				Collections.sort(cards, new SuitComparator(gameType));
-				break;
-			case GRAND:
-			default:
-				Collections.sort(cards, new SuitComparator(GameType.CLUBS));
-				break;
+		return SORT_KEYS[gameType.ordinal()];
+	}
+
+	/**
+	 * Insertion sort by precomputed keys, hands are small enough for that and
+	 * no comparator or temporary array is needed
+	 */
+	private static void sort(final List<Card> cardsToSort, final int[] keys) {
+
+		for (int i = 1; i < cardsToSort.size(); i++) {
+			final Card card = cardsToSort.get(i);
+			final int key = keys[card.ordinal()];
+			int j = i - 1;
+			while (j >= 0 && keys[cardsToSort.get(j).ordinal()] > key) {
+				cardsToSort.set(j + 1, cardsToSort.get(j));
+				j--;
+			}
+			if (j + 1 != i) {
+				cardsToSort.set(j + 1, card);
+			}
+		}
+	}
+
+	private int getSortedIndex(final Card card) {
+
+		if (card == null || containsHiddenCards()) {
+			return cards.size();
+		}
+		final int key = sortKeys[card.ordinal()];
+		int index = cards.size();
+		while (index > 0 && sortKeys[cards.get(index - 1).ordinal()] > key) {
+			index--;
+		}
+		return index;
+	}
+
+	private static int[][] createSortKeys() {
+
+		final int[][] result = new int[GameType.values().length][Card.values().length];
+
+		for (final GameType gameType : GameType.values()) {
+			for (final Card card : Card.values()) {
+				result[gameType.ordinal()][card.ordinal()] = getSortKey(gameType, card);
 			}
 		}
+
+		return result;
+	}
+
+	/**
+	 * Sort key as group, suit and rank part, lower keys are sorted first
+	 */
+	private static int getSortKey(final GameType gameType, final Card card) {
+
+		final int suitOrder = card.getSuit().getSortOrder();
+
+		switch (gameType) {
+		case NULL:
+			return sortKey(0, suitOrder, MAX_ORDER - card.getNullOrder());
+		case RAMSCH:
+			if (card.getRank() == Rank.JACK) {
+				return sortKey(0, MAX_ORDER - suitOrder, 0);
+			}
+			return sortKey(1, suitOrder, MAX_ORDER - card.getRamschOrder());
+		case CLUBS:
+		case SPADES:
+		case HEARTS:
+		case DIAMONDS:
+			return getSuitSortKey(gameType.getTrumpSuit(), card);
+		case GRAND:
+		default:
+			return getSuitSortKey(Suit.CLUBS, card);
+		}
+	}
+
+	private static int getSuitSortKey(final Suit trumpSuit, final Card card) {
+
+		final int suitOrder = card.getSuit().getSortOrder();
+
+		if (card.getRank() == Rank.JACK) {
+			return sortKey(0, MAX_ORDER - suitOrder, 0);
+		} else if (card.getSuit() == trumpSuit) {
+			return sortKey(1, 0, MAX_ORDER - card.getSuitGrandOrder());
+		}
+		return sortKey(2, MAX_ORDER - suitOrder, MAX_ORDER - card.getSuitGrandOrder());
+	}
+
+	private static int sortKey(final int group, final int suitPart, final int rankPart) {
+
+		return (group * (MAX_ORDER + 1) + suitPart) * (MAX_ORDER + 1) + rankPart;
 	}
 
 	private boolean containsHiddenCards() {
@@ -658,114 +781,4 @@ public class CardList implements Iterable<Card> {
 		}
 		return result;
 	}
-
-	private class NullComparator implements Comparator<Card> {
-		@Override
-		public int compare(Card first, Card second) {
-			if (first.getSuit().getSortOrder() < second.getSuit()
-					.getSortOrder()) {
-				return -1;
-			} else if (first.getSuit().getSortOrder() > second.getSuit()
-					.getSortOrder()) {
-				return 1;
-			}
-
-			if (first.getNullOrder() < second.getNullOrder()) {
-				return 1;
-			} else {
-				return -1;
-			}
-		}
-	}
-
-	private class RamschComparator implements Comparator<Card> {
-		@Override
-		public int compare(Card first, Card second) {
-			// first the jacks
-			if (first.getRank() == Rank.JACK && second.getRank() == Rank.JACK) {
-				if (first.getSuit().getSortOrder() < second.getSuit()
-						.getSortOrder()) {
-					return 1;
-				} else if (first.getSuit().getSortOrder() > second.getSuit()
-						.getSortOrder()) {
-					return -1;
-				}
-			} else if (first.getRank() == Rank.JACK) {
-				return -1;
-			} else if (second.getRank() == Rank.JACK) {
-				return 1;
-			}
-
-			if (first.getSuit().getSortOrder() < second.getSuit()
-					.getSortOrder()) {
-				return -1;
-			} else if (first.getSuit().getSortOrder() > second.getSuit()
-					.getSortOrder()) {
-				return 1;
-			}
-
-			if (first.getRamschOrder() < second.getRamschOrder()) {
-				return 1;
-			} else {
-				return -1;
-			}
-		}
-	}
-
-	private class SuitComparator implements Comparator<Card> {
-		private final GameType gameType;
-
-		public SuitComparator(GameType pGameType) {
-			gameType = pGameType;
-		}
-
-		@Override
-		public int compare(Card first, Card second) {
-			// first the jacks
-			if (first.getRank() == Rank.JACK && second.getRank() == Rank.JACK) {
-				if (first.getSuit().getSortOrder() < second.getSuit()
-						.getSortOrder()) {
-					return 1;
-				} else if (first.getSuit().getSortOrder() > second.getSuit()
-						.getSortOrder()) {
-					return -1;
-				}
-			} else if (first.getRank() == Rank.JACK) {
-				return -1;
-			} else if (second.getRank() == Rank.JACK) {
-				return 1;
-			}
-
-			// trump cards follow
-			if (first.getSuit() == gameType.getTrumpSuit()
-					&& second.getSuit() != gameType.getTrumpSuit()) {
-				return -1;
-			} else if (first.getSuit() != gameType.getTrumpSuit()
-					&& second.getSuit() == gameType.getTrumpSuit()) {
-				return 1;
-			} else if (first.getSuit() == gameType.getTrumpSuit()
-					&& second.getSuit() == gameType.getTrumpSuit()) {
-				if (first.getSuitGrandOrder() < second.getSuitGrandOrder()) {
-					return 1;
-				} else {
-					return -1;
-				}
-			}
-
-			// all the other cards
-			if (first.getSuit().getSortOrder() < second.getSuit()
-					.getSortOrder()) {
-				return 1;
-			} else if (first.getSuit().getSortOrder() > second.getSuit()
-					.getSortOrder()) {
-				return -1;
-			}
-
-			if (first.getSuitGrandOrder() < second.getSuitGrandOrder()) {
-				return 1;
-			} else {
-				return -1;
-			}
-		}
-	}
 }
@@ -15,7 +15,8 @@
  */
 package org.jskat.util;
 
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -80,12 +81,16 @@ public enum Player {
 		}
 	};
 
+	private static final List<Player> ORDERED_LIST = Collections
+			.unmodifiableList(Arrays.asList(FOREHAND, MIDDLEHAND, REARHAND));
+
+	/**
+	 * Gets the players in playing order
+	 * 
+	 * @return Unmodifiable list of fore hand, middle hand and rear hand
+	 */
 	public static List<Player> getOrderedList() {
-		List<Player> result = new ArrayList<Player>();
-		result.add(FOREHAND);
-		result.add(MIDDLEHAND);
-		result.add(REARHAND);
-		return result;
+		return ORDERED_LIST;
 	}
 
 	/**
@@ -75,8 +75,8 @@ public abstract class AbstractSkatRule implements SkatRule {
 			}
 		}
 
-		log.debug("Trick fore hand: " + trickForeHand); //$NON-NLS-1$
-		log.debug("Trick winner: " + trickWinner); //$NON-NLS-1$
+		log.debug("Trick fore hand: {}", trickForeHand); //$NON-NLS-1$
+		log.debug("Trick winner: {}", trickWinner); //$NON-NLS-1$
 
 		return trickWinner;
 	}
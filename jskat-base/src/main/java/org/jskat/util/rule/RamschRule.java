@@ -49,6 +49,15 @@ public class RamschRule extends SuitGrandRamschRule {
 		return getGameValueForWonGame(gameData);
 	}
 
+	private static RamschSkatOwner getRamschSkatOwner(final SkatGameData gameData) {
+
+		if (gameData.getGameRules() != null) {
+			return gameData.getGameRules().getRamschSkatOwner();
+		}
+		// game data without rules e.g. from ISS games
+		return JSkatOptions.instance().getRamschSkatOwner();
+	}
+
 	private static int getGetHighestPlayerPoints(final SkatGameData gameData) {
 
 		int result = 0;
@@ -56,7 +65,7 @@ public class RamschRule extends SuitGrandRamschRule {
 		int foreHandPoints = gameData.getPlayerPoints(Player.FOREHAND);
 		int middleHandPoints = gameData.getPlayerPoints(Player.MIDDLEHAND);
 		int rearHandPoints = gameData.getPlayerPoints(Player.REARHAND);
-		int skatPoints = JSkatOptions.instance().getRamschSkatOwner() == RamschSkatOwner.LOSER ? gameData
+		int skatPoints = getRamschSkatOwner(gameData) == RamschSkatOwner.LOSER ? gameData
 				.getSkat().getTotalValue() : 0;
 
 		// FIXME (jan 18.11.2011) make this simpler
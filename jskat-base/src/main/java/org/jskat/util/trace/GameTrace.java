@@ -0,0 +1,167 @@
+/**
+ * Copyright (C) 2019 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.util.trace;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.jskat.util.CardList;
+import org.jskat.util.Player;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Structured trace of skat games
+ *
+ * Game code records typed trace records instead of building debug messages.
+ * As long as no {@link TraceSink} is registered, tracing is a single volatile
+ * read and nothing is allocated. Records are formatted only by the sinks that
+ * need text. If debug logging is enabled for this class, a {@link LogTraceSink}
+ * is registered at start up.
+ */
+public final class GameTrace {
+
+	private static final Logger LOG = LoggerFactory.getLogger(GameTrace.class);
+
+	private static final List<TraceSink> SINKS = new CopyOnWriteArrayList<>();
+
+	private static volatile boolean enabled = false;
+
+	static {
+		if (LOG.isDebugEnabled()) {
+			addSink(new LogTraceSink(LOG));
+		}
+	}
+
+	private GameTrace() {
+		// static access only
+	}
+
+	/**
+	 * Adds a sink for trace records
+	 *
+	 * @param sink
+	 *            Trace sink
+	 */
+	public static synchronized void addSink(final TraceSink sink) {
+		SINKS.add(sink);
+		enabled = !SINKS.isEmpty();
+	}
+
+	/**
+	 * Removes a sink for trace records
+	 *
+	 * @param sink
+	 *            Trace sink
+	 */
+	public static synchronized void removeSink(final TraceSink sink) {
+		SINKS.remove(sink);
+		enabled = !SINKS.isEmpty();
+	}
+
+	/**
+	 * Checks whether any sink is registered
+	 *
+	 * @return TRUE, if records are traced
+	 */
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Traces a record with a value
+	 *
+	 * @param type
+	 *            Trace type
+	 * @param source
+	 *            Table name or player name
+	 * @param player
+	 *            Player position
+	 * @param value
+	 *            Value
+	 */
+	public static void trace(final TraceType type, final String source, final Player player, final int value) {
+		if (enabled) {
+			dispatch(type, source, player, null, value);
+		}
+	}
+
+	/**
+	 * Traces a record with an immutable subject, e.g. a card or an event
+	 *
+	 * @param type
+	 *            Trace type
+	 * @param source
+	 *            Table name or player name
+	 * @param player
+	 *            Player position
+	 * @param subject
+	 *            Traced object
+	 */
+	public static void trace(final TraceType type, final String source, final Player player, final Object subject) {
+		if (enabled) {
+			dispatch(type, source, player, subject, 0);
+		}
+	}
+
+	/**
+	 * Traces a record with cards, the cards are copied only if the trace is
+	 * enabled
+	 *
+	 * @param type
+	 *            Trace type
+	 * @param source
+	 *            Table name or player name
+	 * @param player
+	 *            Player position
+	 * @param cards
+	 *            Cards
+	 */
+	public static void trace(final TraceType type, final String source, final Player player, final CardList cards) {
+		trace(type, source, player, cards, 0);
+	}
+
+	/**
+	 * Traces a record with cards and a value, the cards are copied only if the
+	 * trace is enabled
+	 *
+	 * @param type
+	 *            Trace type
+	 * @param source
+	 *            Table name or player name
+	 * @param player
+	 *            Player position
+	 * @param cards
+	 *            Cards
+	 * @param value
+	 *            Value
+	 */
+	public static void trace(final TraceType type, final String source, final Player player, final CardList cards,
+			final int value) {
+		if (enabled) {
+			dispatch(type, source, player, cards == null ? null : new CardList(cards), value);
+		}
+	}
+
+	private static void dispatch(final TraceType type, final String source, final Player player,
+			final Object subject, final int value) {
+
+		final TraceRecord record = new TraceRecord(System.nanoTime(), type, source, player, subject, value);
+		for (final TraceSink sink : SINKS) {
+			sink.accept(record);
+		}
+	}
+}
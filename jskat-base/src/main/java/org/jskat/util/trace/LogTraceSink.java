@@ -0,0 +1,45 @@
+/**
+ * Copyright (C) 2019 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.util.trace;
+
+import org.slf4j.Logger;
+
+/**
+ * Writes the records of the game trace to a logger, the file is configured as
+ * usual in the logging configuration
+ */
+public class LogTraceSink implements TraceSink {
+
+	private final Logger log;
+
+	/**
+	 * Constructor
+	 *
+	 * @param logger
+	 *            Logger
+	 */
+	public LogTraceSink(final Logger logger) {
+		log = logger;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void accept(final TraceRecord record) {
+		log.debug(record.format());
+	}
+}
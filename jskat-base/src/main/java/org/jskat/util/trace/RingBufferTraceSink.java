@@ -0,0 +1,95 @@
+/**
+ * Copyright (C) 2019 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.util.trace;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps the latest records of the game trace, e.g. for inspecting the last
+ * moves after an error or for assertions in tests
+ */
+public class RingBufferTraceSink implements TraceSink {
+
+	private final TraceRecord[] records;
+	private int next = 0;
+	private int size = 0;
+
+	/**
+	 * Constructor
+	 *
+	 * @param capacity
+	 *            Maximum number of records kept
+	 */
+	public RingBufferTraceSink(final int capacity) {
+		records = new TraceRecord[capacity];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized void accept(final TraceRecord record) {
+
+		records[next] = record;
+		next = (next + 1) % records.length;
+		size = Math.min(size + 1, records.length);
+	}
+
+	/**
+	 * Gets the kept records
+	 *
+	 * @return Records, oldest record first
+	 */
+	public synchronized List<TraceRecord> getRecords() {
+
+		final List<TraceRecord> result = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			result.add(records[(next - size + i + records.length) % records.length]);
+		}
+		return result;
+	}
+
+	/**
+	 * Gets the kept records of one type
+	 *
+	 * @param type
+	 *            Trace type
+	 * @return Records, oldest record first
+	 */
+	public synchronized List<TraceRecord> getRecords(final TraceType type) {
+
+		final List<TraceRecord> result = new ArrayList<>();
+		for (final TraceRecord record : getRecords()) {
+			if (record.getType() == type) {
+				result.add(record);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Removes all records
+	 */
+	public synchronized void clear() {
+
+		for (int i = 0; i < records.length; i++) {
+			records[i] = null;
+		}
+		next = 0;
+		size = 0;
+	}
+}
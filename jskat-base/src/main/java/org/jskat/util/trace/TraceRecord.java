@@ -0,0 +1,130 @@
+/**
+ * Copyright (C) 2019 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.util.trace;
+
+import org.jskat.util.Player;
+
+/**
+ * Record of the game trace
+ *
+ * Records only keep references to the traced objects, they are formatted when
+ * a sink asks for it.
+ */
+public final class TraceRecord {
+
+	private final long time;
+	private final TraceType type;
+	private final String source;
+	private final Player player;
+	private final Object subject;
+	private final int value;
+
+	TraceRecord(final long time, final TraceType type, final String source, final Player player,
+			final Object subject, final int value) {
+		this.time = time;
+		this.type = type;
+		this.source = source;
+		this.player = player;
+		this.subject = subject;
+		this.value = value;
+	}
+
+	/**
+	 * Gets the time of the record
+	 *
+	 * @return Time in nanoseconds, see {@link System#nanoTime()}
+	 */
+	public long getTime() {
+		return time;
+	}
+
+	/**
+	 * Gets the type of the record
+	 *
+	 * @return Trace type
+	 */
+	public TraceType getType() {
+		return type;
+	}
+
+	/**
+	 * Gets the source of the record
+	 *
+	 * @return Table name or player name, can be <code>null</code>
+	 */
+	public String getSource() {
+		return source;
+	}
+
+	/**
+	 * Gets the player position the record refers to
+	 *
+	 * @return Player position, can be <code>null</code>
+	 */
+	public Player getPlayer() {
+		return player;
+	}
+
+	/**
+	 * Gets the traced object
+	 *
+	 * @return Traced object, can be <code>null</code>
+	 */
+	public Object getSubject() {
+		return subject;
+	}
+
+	/**
+	 * Gets the value of the record
+	 *
+	 * @return Value, only set if {@link TraceType#hasValue()} is TRUE
+	 */
+	public int getValue() {
+		return value;
+	}
+
+	/**
+	 * Formats the record
+	 *
+	 * @return Formatted record
+	 */
+	public String format() {
+
+		final StringBuilder result = new StringBuilder();
+		if (source != null) {
+			result.append('[').append(source).append("] "); //$NON-NLS-1$
+		}
+		result.append(type);
+		if (player != null) {
+			result.append(' ').append(player);
+		}
+		if (subject != null) {
+			result.append(": ").append(subject); //$NON-NLS-1$
+		}
+		if (type.hasValue()) {
+			result.append(" (").append(value).append(')'); //$NON-NLS-1$
+		}
+		return result.toString();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return format();
+	}
+}
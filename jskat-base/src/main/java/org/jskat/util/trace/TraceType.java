@@ -0,0 +1,107 @@
+/**
+ * Copyright (C) 2019 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.util.trace;
+
+/**
+ * Types of game trace records
+ */
+public enum TraceType {
+
+	/**
+	 * Card deck was shuffled, subject: deck
+	 */
+	DECK_SHUFFLED(false),
+	/**
+	 * Cards were dealt to a player, subject: cards
+	 */
+	CARDS_DEALT(false),
+	/**
+	 * Cards were put into the skat, subject: skat
+	 */
+	SKAT_DEALT(false),
+	/**
+	 * Player made a bid, value: bid
+	 */
+	BID(true),
+	/**
+	 * Player held a bid, value: bid
+	 */
+	HOLD_BID(true),
+	/**
+	 * Player passed, value: last bid
+	 */
+	PASS_BID(true),
+	/**
+	 * Player took the skat, subject: skat
+	 */
+	SKAT_TAKEN(false),
+	/**
+	 * Player discarded cards, subject: discarded cards
+	 */
+	SKAT_DISCARDED(false),
+	/**
+	 * Declarer announced the game, subject: game announcement
+	 */
+	GAME_ANNOUNCED(false),
+	/**
+	 * New trick was started, value: trick number
+	 */
+	TRICK_STARTED(true),
+	/**
+	 * Player played a card, subject: card
+	 */
+	CARD_PLAYED(false),
+	/**
+	 * Trick was completed, subject: trick cards, value: trick value
+	 */
+	TRICK_COMPLETED(true),
+	/**
+	 * Points of a player, value: points
+	 */
+	PLAYER_POINTS(true),
+	/**
+	 * Game was finished, subject: game result
+	 */
+	GAME_RESULT(false),
+	/**
+	 * Player calculated the playable cards, subject: playable cards
+	 */
+	PLAYABLE_CARDS(false),
+	/**
+	 * AI player evaluated its cards for bidding, subject: cards, value: maximum
+	 * bid
+	 */
+	BID_EVALUATION(true),
+	/**
+	 * Event was forwarded to a table event bus, subject: event
+	 */
+	EVENT_FORWARDED(false);
+
+	private final boolean hasValue;
+
+	private TraceType(final boolean hasValue) {
+		this.hasValue = hasValue;
+	}
+
+	/**
+	 * Checks whether records of this type carry a value
+	 *
+	 * @return TRUE, if records of this type carry a value
+	 */
+	public boolean hasValue() {
+		return hasValue;
+	}
+}
@@ -16,12 +16,19 @@
 package org.jskat.util.version;
 
 import java.io.IOException;
-import java.net.MalformedURLException;
+import java.io.InputStream;
 import java.net.URL;
+import java.net.URLConnection;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.StringTokenizer;
+import java.util.function.Supplier;
 
+import org.jskat.data.JSkatOptions;
+import org.jskat.data.JSkatOptions.Option;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 import org.xml.sax.XMLReader;
@@ -32,32 +39,84 @@ import org.xml.sax.helpers.XMLReaderFactory;
  */
 public class VersionChecker {
 
+	private static final Logger log = LoggerFactory.getLogger(VersionChecker.class);
+
+	/**
+	 * Default timeout for connecting to and reading from the JSkat website in
+	 * milliseconds
+	 */
+	public static final int DEFAULT_TIMEOUT = 3000;
+
 	/**
 	 * Gets the latest version of JSkat from JSkat website
 	 * 
 	 * @return Latest version
 	 */
 	public static String getLatestVersion() {
+		return getLatestVersion(DEFAULT_TIMEOUT);
+	}
+
+	/**
+	 * Gets the latest version of JSkat from JSkat website
+	 * 
+	 * @param timeout
+	 *            Timeout for connecting and reading in milliseconds
+	 * @return Latest version, or an empty string if the website could not be
+	 *         reached in time
+	 */
+	public static String getLatestVersion(final int timeout) {
 
 		String result = ""; //$NON-NLS-1$
 
 		try {
+			URLConnection connection = new URL("http://jskat.org/pad/jskat.xml").openConnection(); //$NON-NLS-1$
+			connection.setConnectTimeout(timeout);
+			connection.setReadTimeout(timeout);
+
 			VersionHandler handler = new VersionHandler();
 			XMLReader xmlReader = XMLReaderFactory.createXMLReader();
 			xmlReader.setContentHandler(handler);
-			xmlReader.parse(new InputSource(new URL(
-					"http://jskat.org/pad/jskat.xml").openStream())); //$NON-NLS-1$
+			try (InputStream input = connection.getInputStream()) {
+				xmlReader.parse(new InputSource(input));
+			}
 			result = handler.versionString;
-		} catch (SAXException e) {
-			// TODO Auto-generated catch block
-			e.printStackTrace();
-		} catch (MalformedURLException e) {
-			// TODO Auto-generated catch block
-			e.printStackTrace();
-		} catch (IOException e) {
-			// TODO Auto-generated catch block
-			e.printStackTrace();
+		} catch (SAXException | IOException e) {
+			log.warn("Version check failed: " + e); //$NON-NLS-1$
+		}
+
+		return result;
+	}
+
+	/**
+	 * Gets the latest version of JSkat, contacting the JSkat website at most
+	 * once a day<br>
+	 * The result is cached in the JSkat options.
+	 * 
+	 * @param timeout
+	 *            Timeout for connecting and reading in milliseconds
+	 * @return Latest version, or an empty string if it is unknown
+	 */
+	public static String getCachedLatestVersion(final int timeout) {
+		return getCachedLatestVersion(JSkatOptions.instance(), LocalDate.now(),
+				() -> getLatestVersion(timeout));
+	}
+
+	static String getCachedLatestVersion(final JSkatOptions options, final LocalDate today,
+			final Supplier<String> remoteVersion) {
+
+		String cachedVersion = options.getString(Option.LATEST_VERSION);
+		int checkDay = (int) today.toEpochDay();
+		if (!cachedVersion.isEmpty() && options.getInteger(Option.LATEST_VERSION_CHECK_DAY) == checkDay) {
+			return cachedVersion;
+		}
+
+		String result = remoteVersion.get();
+		if (result.isEmpty()) {
+			// website not reachable, keep the last known version
+			return cachedVersion;
 		}
+		options.setLatestVersion(result);
+		options.setLatestVersionCheckDay(checkDay);
 
 		return result;
 	}
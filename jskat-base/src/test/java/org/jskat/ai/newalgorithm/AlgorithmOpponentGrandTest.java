@@ -58,9 +58,9 @@ public class AlgorithmOpponentGrandTest extends AbstractJSkatTest {
 		final AlgorithmAI faultyPlayer = new AlgorithmAI();
 		final JSkatPlayer helperPlayer = new UnitTestPlayer();
 
-		deterministicPlayer.newGame(Player.FOREHAND);
-		faultyPlayer.newGame(Player.MIDDLEHAND);
-		helperPlayer.newGame(Player.REARHAND);
+		deterministicPlayer.newGame(Player.FOREHAND, JSkatOptions.instance().getSkatGameRules());
+		faultyPlayer.newGame(Player.MIDDLEHAND, JSkatOptions.instance().getSkatGameRules());
+		helperPlayer.newGame(Player.REARHAND, JSkatOptions.instance().getSkatGameRules());
 
 		final SkatGame skatGame = new SkatGame(TABLE_NAME, GameVariant.STANDARD,
 				deterministicPlayer,
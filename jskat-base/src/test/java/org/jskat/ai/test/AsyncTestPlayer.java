@@ -0,0 +1,90 @@
+/**
+ * Copyright (C) 2019 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.ai.test;
+
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+import org.jskat.ai.rnd.AIPlayerRND;
+import org.jskat.data.GameAnnouncement;
+import org.jskat.player.AsyncJSkatPlayer;
+import org.jskat.player.SynchronousPlayerAdapter;
+import org.jskat.util.Card;
+import org.jskat.util.CardList;
+
+/**
+ * Test player that answers its decisions later on another thread, like a
+ * human or a remote player
+ */
+public class AsyncTestPlayer extends AIPlayerRND implements AsyncJSkatPlayer {
+
+	private final AsyncJSkatPlayer decisions;
+
+	/**
+	 * Constructor
+	 *
+	 * @param answering
+	 *            Executor that answers the decisions
+	 */
+	public AsyncTestPlayer(final Executor answering) {
+		decisions = new SynchronousPlayerAdapter(this, answering);
+	}
+
+	@Override
+	public CompletionStage<Integer> bidMoreAsync(final int nextBidValue) {
+		return decisions.bidMoreAsync(nextBidValue);
+	}
+
+	@Override
+	public CompletionStage<Boolean> holdBidAsync(final int currBidValue) {
+		return decisions.holdBidAsync(currBidValue);
+	}
+
+	@Override
+	public CompletionStage<Boolean> playGrandHandAsync() {
+		return decisions.playGrandHandAsync();
+	}
+
+	@Override
+	public CompletionStage<Boolean> callContraAsync() {
+		return decisions.callContraAsync();
+	}
+
+	@Override
+	public CompletionStage<Boolean> callReAsync() {
+		return decisions.callReAsync();
+	}
+
+	@Override
+	public CompletionStage<Boolean> pickUpSkatAsync() {
+		return decisions.pickUpSkatAsync();
+	}
+
+	@Override
+	public CompletionStage<CardList> discardSkatAsync() {
+		return decisions.discardSkatAsync();
+	}
+
+	@Override
+	public CompletionStage<GameAnnouncement> announceGameAsync() {
+		return decisions.announceGameAsync();
+	}
+
+	@Override
+	public CompletionStage<Card> playCardAsync() {
+		return decisions.playCardAsync();
+	}
+}
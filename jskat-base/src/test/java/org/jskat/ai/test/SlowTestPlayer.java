@@ -0,0 +1,40 @@
+/**
+ * Copyright (C) 2019 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.ai.test;
+
+import org.jskat.ai.rnd.AIPlayerRND;
+import org.jskat.util.Card;
+
+/**
+ * Test player that needs too much time for playing a card
+ */
+public class SlowTestPlayer extends AIPlayerRND {
+
+	/**
+	 * Time the player needs for a card
+	 */
+	public static final long THINKING_TIME = 1000L;
+
+	@Override
+	public Card playCard() {
+		try {
+			Thread.sleep(THINKING_TIME);
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return super.playCard();
+	}
+}
@@ -0,0 +1,190 @@
+/**
+ * Copyright (C) 2019 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.control;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jskat.AbstractJSkatTest;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.eventbus.DeadEvent;
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * Test class for {@link CompiledEventBus}
+ */
+public class CompiledEventBusTest extends AbstractJSkatTest {
+
+	private CompiledEventBus eventBus;
+	private List<String> received;
+
+	@Before
+	public void setUp() {
+		eventBus = new CompiledEventBus("Test"); //$NON-NLS-1$
+		received = new ArrayList<>();
+	}
+
+	/**
+	 * Listener with subscribers for an event class and its super classes
+	 */
+	private final class Listener {
+
+		private final String name;
+
+		private Listener(final String name) {
+			this.name = name;
+		}
+
+		@Subscribe
+		public void on(final String event) {
+			received.add(name + " string " + event); //$NON-NLS-1$
+		}
+
+		@Subscribe
+		void onAny(final Object event) {
+			received.add(name + " object " + event); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Listener that posts another event
+	 */
+	private final class PostingListener {
+
+		@Subscribe
+		public void on(final String event) {
+			received.add("posting " + event); //$NON-NLS-1$
+			if (!event.startsWith("follow up")) { //$NON-NLS-1$
+				eventBus.post("follow up " + event); //$NON-NLS-1$
+			}
+		}
+	}
+
+	@Test
+	public void postsToSubscribersOfEventClassAndSuperClasses() {
+
+		eventBus.register(new Listener("A")); //$NON-NLS-1$
+
+		eventBus.post("1"); //$NON-NLS-1$
+		eventBus.post(Integer.valueOf(2));
+
+		assertThat(received, contains("A string 1", "A object 1", "A object 2")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+
+	@Test
+	public void registeringTwiceDeliversOnce() {
+
+		final Listener listener = new Listener("A"); //$NON-NLS-1$
+		eventBus.register(listener);
+		eventBus.register(listener);
+
+		eventBus.post(Integer.valueOf(1));
+
+		assertThat(received, contains("A object 1")); //$NON-NLS-1$
+	}
+
+	@Test
+	public void eventsPostedBySubscribersAreQueued() {
+
+		eventBus.register(new PostingListener());
+		eventBus.register(new Listener("B")); //$NON-NLS-1$
+
+		eventBus.post("1"); //$NON-NLS-1$
+
+		assertThat(received, contains("posting 1", "B string 1", "B object 1", "posting follow up 1", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+				"B string follow up 1", "B object follow up 1")); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Test
+	public void unregisteredListenerReceivesNoEvents() {
+
+		final Listener listener = new Listener("A"); //$NON-NLS-1$
+		eventBus.register(listener);
+		eventBus.unregister(listener);
+
+		eventBus.post("1"); //$NON-NLS-1$
+
+		assertThat(received, is(empty()));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void unregisterUnknownListener() {
+
+		eventBus.unregister(new Listener("A")); //$NON-NLS-1$
+	}
+
+	@Test
+	public void exceptionOfSubscriberDoesNotStopDelivery() {
+
+		eventBus.register(new Object() {
+			@Subscribe
+			public void on(final String event) {
+				throw new IllegalStateException(event);
+			}
+		});
+		eventBus.register(new Listener("A")); //$NON-NLS-1$
+
+		eventBus.post("1"); //$NON-NLS-1$
+
+		assertThat(received, contains("A string 1", "A object 1")); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Test
+	public void eventWithoutSubscribersIsPostedAsDeadEvent() {
+
+		eventBus.register(new Object() {
+			@Subscribe
+			public void on(final DeadEvent event) {
+				received.add("dead " + event.getEvent()); //$NON-NLS-1$
+			}
+		});
+
+		eventBus.post("1"); //$NON-NLS-1$
+
+		assertThat(received, contains("dead 1")); //$NON-NLS-1$
+	}
+
+	@Test
+	public void subscribersAreCalledWithoutReflection() {
+
+		final List<StackTraceElement> reflectiveFrames = new ArrayList<>();
+		eventBus.register(new Object() {
+			@Subscribe
+			public void on(final String event) {
+				// frames between the subscriber and the test method
+				for (final StackTraceElement element : Thread.currentThread().getStackTrace()) {
+					if (element.getMethodName().equals("subscribersAreCalledWithoutReflection")) { //$NON-NLS-1$
+						break;
+					}
+					if (element.getClassName().contains(".reflect.")) { //$NON-NLS-1$
+						reflectiveFrames.add(element);
+					}
+				}
+			}
+		});
+
+		eventBus.post("1"); //$NON-NLS-1$
+
+		assertThat(reflectiveFrames, is(empty()));
+	}
+}
@@ -0,0 +1,103 @@
+/**
+ * Copyright (C) 2019 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.control;
+
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import org.jskat.AbstractJSkatTest;
+import org.jskat.ai.rnd.AIPlayerRND;
+import org.jskat.data.JSkatOptions;
+import org.jskat.player.JSkatPlayer;
+import org.jskat.util.GameVariant;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.eventbus.EventBus;
+
+/**
+ * Allocation budget of steady-state AI games in {@link SkatGame}
+ */
+public class SkatGameAllocationTest extends AbstractJSkatTest {
+
+	private static final String TABLE_NAME = "Allocation table";
+
+	private static final int WARM_UP_GAMES = 100;
+	private static final int MEASURED_GAMES = 200;
+
+	/**
+	 * Budgets per game for game loop, game data, events and random AI players,
+	 * about 15% above the measured allocation, a game used to allocate more
+	 * than a megabyte
+	 */
+	private static final long BYTES_PER_STANDARD_GAME = 100_000L;
+	private static final long BYTES_PER_RAMSCH_GAME = 115_000L;
+
+	private final JSkatPlayer foreHand = new AIPlayerRND();
+	private final JSkatPlayer middleHand = new AIPlayerRND();
+	private final JSkatPlayer rearHand = new AIPlayerRND();
+
+	@Before
+	public void setUp() {
+		JSkatOptions.instance().resetToDefault();
+		JSkatEventBus.TABLE_EVENT_BUSSES.put(TABLE_NAME, new EventBus());
+	}
+
+	/**
+	 * Standard games stay within the allocation budget
+	 */
+	@Test
+	public void testStandardGameAllocation() {
+		assertAllocationBudget(GameVariant.STANDARD, BYTES_PER_STANDARD_GAME);
+	}
+
+	/**
+	 * Ramsch games stay within the allocation budget
+	 */
+	@Test
+	public void testRamschGameAllocation() {
+		assertAllocationBudget(GameVariant.FORCED_RAMSCH, BYTES_PER_RAMSCH_GAME);
+	}
+
+	private void assertAllocationBudget(final GameVariant variant, final long bytesPerGameBudget) {
+
+		final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+		assumeTrue(threadBean instanceof com.sun.management.ThreadMXBean);
+		final com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+		assumeTrue(allocationBean.isThreadAllocatedMemorySupported());
+		allocationBean.setThreadAllocatedMemoryEnabled(true);
+
+		playGames(variant, WARM_UP_GAMES);
+
+		final long threadId = Thread.currentThread().getId();
+		final long before = allocationBean.getThreadAllocatedBytes(threadId);
+		playGames(variant, MEASURED_GAMES);
+		final long bytesPerGame = (allocationBean.getThreadAllocatedBytes(threadId) - before) / MEASURED_GAMES;
+
+		assertThat(bytesPerGame, lessThan(bytesPerGameBudget));
+	}
+
+	private void playGames(final GameVariant variant, final int numberOfGames) {
+		for (int i = 0; i < numberOfGames; i++) {
+			final SkatGame game = new SkatGame(TABLE_NAME, variant, foreHand, middleHand, rearHand);
+			game.run();
+		}
+	}
+}
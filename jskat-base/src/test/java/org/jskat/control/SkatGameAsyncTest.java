@@ -0,0 +1,152 @@
+/**
+ * Copyright (C) 2019 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.control;
+
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.jskat.AbstractJSkatTest;
+import org.jskat.ai.rnd.AIPlayerRND;
+import org.jskat.ai.test.AsyncTestPlayer;
+import org.jskat.data.JSkatOptions;
+import org.jskat.data.SkatGameData.GameState;
+import org.jskat.data.SkatGameResult;
+import org.jskat.player.AsyncJSkatPlayer;
+import org.jskat.player.JSkatPlayer;
+import org.jskat.player.SynchronousPlayerAdapter;
+import org.jskat.util.GameVariant;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.eventbus.EventBus;
+
+/**
+ * Test class for the asynchronous game protocol of {@link SkatGame}
+ */
+public class SkatGameAsyncTest extends AbstractJSkatTest {
+
+	private static final String TABLE_NAME = "Async table ";
+	private static final int TABLES = 200;
+	private static final int GAME_THREADS = 2;
+
+	private final Set<Thread> gameThreads = ConcurrentHashMap.newKeySet();
+	private ExecutorService gameExecutor;
+	private ExecutorService answering;
+
+	@Before
+	public void setUp() {
+		JSkatOptions.instance().resetToDefault();
+		for (int i = 0; i < TABLES; i++) {
+			JSkatEventBus.TABLE_EVENT_BUSSES.put(TABLE_NAME + i, new EventBus());
+		}
+		gameExecutor = Executors.newFixedThreadPool(GAME_THREADS, runnable -> {
+			final Thread thread = new Thread(runnable);
+			gameThreads.add(thread);
+			return thread;
+		});
+		answering = Executors.newSingleThreadExecutor();
+	}
+
+	@After
+	public void tearDown() {
+		gameExecutor.shutdownNow();
+		answering.shutdownNow();
+		for (int i = 0; i < TABLES; i++) {
+			JSkatEventBus.TABLE_EVENT_BUSSES.remove(TABLE_NAME + i);
+		}
+	}
+
+	@Test
+	public void manyTablesShareSmallThreadPool() throws Exception {
+
+		final List<SkatGame> games = new ArrayList<>();
+		final List<CompletableFuture<SkatGameResult>> results = new ArrayList<>();
+
+		for (int i = 0; i < TABLES; i++) {
+			final SkatGame game = new SkatGame(TABLE_NAME + i,
+					i % 2 == 0 ? GameVariant.STANDARD : GameVariant.FORCED_RAMSCH,
+					new AsyncTestPlayer(answering), new AsyncTestPlayer(answering), new AsyncTestPlayer(answering));
+			games.add(game);
+			results.add(game.runAsync(gameExecutor).toCompletableFuture());
+		}
+
+		CompletableFuture.allOf(results.toArray(new CompletableFuture<?>[0])).get(60, TimeUnit.SECONDS);
+
+		for (int i = 0; i < TABLES; i++) {
+			assertThat(games.get(i).getGameState(), is(GameState.GAME_OVER));
+			assertThat(results.get(i).get(), is(sameInstance(games.get(i).getGameResult())));
+		}
+		assertThat(gameThreads.size(), is(lessThanOrEqualTo(GAME_THREADS)));
+	}
+
+	@Test
+	public void runDrivesAsyncPlayersOnCallingThread() {
+
+		final SkatGame game = new SkatGame(TABLE_NAME + 0, GameVariant.STANDARD, new AsyncTestPlayer(answering),
+				new AIPlayerRND(), new AsyncTestPlayer(answering));
+
+		game.run();
+
+		assertThat(game.getGameState(), is(GameState.GAME_OVER));
+	}
+
+	@Test
+	public void failingDecisionFailsGame() throws Exception {
+
+		final JSkatPlayer failingPlayer = new AIPlayerRND() {
+			@Override
+			public Integer bidMore(final int nextBidValue) {
+				throw new IllegalStateException("bidding failed");
+			}
+		};
+		final SkatGame game = new SkatGame(TABLE_NAME + 0, GameVariant.STANDARD, new AIPlayerRND(), failingPlayer,
+				new AIPlayerRND());
+
+		try {
+			game.runAsync(gameExecutor).toCompletableFuture().get(10, TimeUnit.SECONDS);
+			fail("Game should fail.");
+		} catch (final ExecutionException exception) {
+			assertThat(exception.getCause(), is(instanceOf(IllegalStateException.class)));
+		}
+	}
+
+	@Test
+	public void adaptKeepsAsyncPlayers() {
+
+		final AsyncTestPlayer asyncPlayer = new AsyncTestPlayer(answering);
+		assertThat(SynchronousPlayerAdapter.adapt(asyncPlayer), is(sameInstance((AsyncJSkatPlayer) asyncPlayer)));
+
+		final AIPlayerRND syncPlayer = new AIPlayerRND();
+		final AsyncJSkatPlayer adapted = SynchronousPlayerAdapter.adapt(syncPlayer);
+		assertThat(adapted, is(instanceOf(SynchronousPlayerAdapter.class)));
+		assertThat(((SynchronousPlayerAdapter) adapted).getPlayer(), is(sameInstance((JSkatPlayer) syncPlayer)));
+	}
+}
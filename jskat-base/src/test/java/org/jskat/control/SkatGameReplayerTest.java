@@ -0,0 +1,130 @@
+/**
+ * Copyright (C) 2019 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.control;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.jskat.AbstractJSkatTest;
+import org.jskat.ai.rnd.AIPlayerRND;
+import org.jskat.control.event.skatgame.GameStartEvent;
+import org.jskat.control.event.skatgame.SkatGameEvent;
+import org.jskat.control.event.table.SkatGameReplayPositionChangedEvent;
+import org.jskat.data.JSkatOptions;
+import org.jskat.data.SkatGameData;
+import org.jskat.data.SkatGameData.GameState;
+import org.jskat.gui.UnitTestView;
+import org.jskat.util.GameVariant;
+import org.jskat.util.Player;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * Test class for {@link SkatGameReplayer}
+ */
+public class SkatGameReplayerTest extends AbstractJSkatTest {
+
+	private static final String TABLE_NAME = "Replay table";
+
+	private final List<SkatGameReplayPositionChangedEvent> positionEvents = new ArrayList<>();
+	private List<SkatGameEvent> gameMoves;
+
+	@Before
+	public void setUp() {
+		JSkatOptions.instance().resetToDefault();
+		JSkatEventBus.TABLE_EVENT_BUSSES.put(TABLE_NAME, new EventBus());
+
+		final SkatGame game = new SkatGame(TABLE_NAME, GameVariant.STANDARD,
+				new AIPlayerRND(), new AIPlayerRND(), new AIPlayerRND());
+
+		JSkatEventBus.TABLE_EVENT_BUSSES.get(TABLE_NAME).post(
+				new GameStartEvent(1, GameVariant.STANDARD, Player.MIDDLEHAND,
+						Player.REARHAND, Player.FOREHAND));
+		CompletableFuture.runAsync(() -> game.run()).join();
+
+		gameMoves = game.getGameMoves();
+
+		JSkatEventBus.TABLE_EVENT_BUSSES.get(TABLE_NAME).register(this);
+	}
+
+	@Subscribe
+	public void collectPositionOn(
+			final SkatGameReplayPositionChangedEvent event) {
+		positionEvents.add(event);
+	}
+
+	@Test
+	public void gameDataAtEveryMove() throws InterruptedException {
+
+		final SkatGameReplayer replayer = new SkatGameReplayer(
+				new UnitTestView(), TABLE_NAME, gameMoves);
+
+		final SkatGameData expected = new SkatGameData();
+		for (int i = 0; i < gameMoves.size(); i++) {
+			gameMoves.get(i).processForward(expected);
+			assertSameState(replayer.getGameDataAt(i + 1), expected);
+		}
+	}
+
+	@Test
+	public void seekPostsOnlyFinalState() throws InterruptedException {
+
+		final SkatGameReplayer replayer = new SkatGameReplayer(
+				new UnitTestView(), TABLE_NAME, gameMoves);
+		positionEvents.clear();
+
+		replayer.toEnd();
+
+		assertThat(positionEvents.size(), is(1));
+		assertThat(positionEvents.get(0).gameState, is(GameState.GAME_OVER));
+		assertThat(replayer.getCurrentMove(), is(replayer.getMoveCount()));
+
+		replayer.seek(5);
+
+		assertThat(positionEvents.size(), is(2));
+		assertThat(replayer.getCurrentMove(), is(5));
+		assertSameState(positionEvents.get(1).gameData,
+				replayer.getGameDataAt(5));
+
+		replayer.oneMoveBackward();
+
+		assertThat(replayer.getCurrentMove(), is(4));
+	}
+
+	private static void assertSameState(final SkatGameData actual,
+			final SkatGameData expected) {
+		for (final Player player : Player.values()) {
+			assertThat(actual.getPlayerCards(player),
+					is(expected.getPlayerCards(player)));
+			assertThat(actual.getPlayerPoints(player),
+					is(expected.getPlayerPoints(player)));
+		}
+		assertThat(actual.getSkat(), is(expected.getSkat()));
+		assertThat(actual.getTricks().size(), is(expected.getTricks().size()));
+		assertThat(actual.getAnnoucement(), is(expected.getAnnoucement()));
+		if (expected.getCurrentTrick() != null) {
+			assertThat(actual.getCurrentTrick().getCardList(),
+					is(expected.getCurrentTrick().getCardList()));
+		}
+	}
+}
@@ -16,18 +16,39 @@
 package org.jskat.control;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.jskat.AbstractJSkatTest;
 import org.jskat.ai.rnd.AIPlayerRND;
+import org.jskat.data.GameSummary;
+import org.jskat.data.GameSummary.GameSummaryFactory;
+import org.jskat.data.SkatGameResult;
 import org.jskat.data.SkatSeriesData.SeriesState;
+import org.jskat.data.SkatSeriesJournal;
+import org.jskat.data.SkatSeriesJournal.SeriesHeader;
 import org.jskat.gui.UnitTestView;
 import org.jskat.player.JSkatPlayer;
+import org.jskat.util.GameType;
+import org.jskat.util.Player;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import com.google.common.eventbus.EventBus;
 
@@ -38,6 +59,9 @@ public class SkatSeriesTest extends AbstractJSkatTest {
 
 	private final static String TABLE_NAME = "Table 1";
 
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
 	@Test
 	public void testSkatSeriesRun() {
 		JSkatEventBus.TABLE_EVENT_BUSSES.put(TABLE_NAME, new EventBus());
@@ -63,4 +87,97 @@ public class SkatSeriesTest extends AbstractJSkatTest {
 
 		assertEquals(SeriesState.SERIES_FINISHED, series.getSeriesState());
 	}
+
+	@Test
+	public void testSkatSeriesRunAsyncSharesExecutor()
+			throws InterruptedException, ExecutionException, TimeoutException {
+
+		// one thread is enough for two series because a series only holds it
+		// while a game step runs
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			SkatSeries first = createSeries(TABLE_NAME);
+			SkatSeries second = createSeries("Table 2");
+
+			CompletionStage<Void> firstRun = first.runAsync(executor);
+			CompletionStage<Void> secondRun = second.runAsync(executor);
+
+			firstRun.toCompletableFuture().get(30, TimeUnit.SECONDS);
+			secondRun.toCompletableFuture().get(30, TimeUnit.SECONDS);
+
+			assertEquals(SeriesState.SERIES_FINISHED, first.getSeriesState());
+			assertEquals(SeriesState.SERIES_FINISHED, second.getSeriesState());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static SkatSeries createSeries(String tableName) {
+		JSkatEventBus.TABLE_EVENT_BUSSES.put(tableName, new EventBus());
+		SkatSeries series = new SkatSeries(tableName);
+		series.setView(new UnitTestView());
+
+		List<JSkatPlayer> players = new ArrayList<JSkatPlayer>();
+		players.add(new AIPlayerRND());
+		players.add(new AIPlayerRND());
+		players.add(new AIPlayerRND());
+
+		series.setPlayers(players);
+		series.setMaxRounds(2, false);
+		return series;
+	}
+
+	private static GameSummary createPassedInGameSummary() {
+		GameSummaryFactory factory = GameSummary.getFactory();
+		factory.setGameType(GameType.PASSED_IN);
+		factory.setForeHand("Alice");
+		factory.setMiddleHand("Bob");
+		factory.setRearHand("Carol");
+		factory.setGameResult(new SkatGameResult());
+		Map<Player, Integer> playerPoints = new EnumMap<>(Player.class);
+		for (Player player : Player.values()) {
+			playerPoints.put(player, 0);
+		}
+		factory.setPlayerPoints(playerPoints);
+		return factory.getSummary();
+	}
+
+	@Test
+	public void testSkatSeriesResume() throws IOException {
+		JSkatEventBus.TABLE_EVENT_BUSSES.put(TABLE_NAME, new EventBus());
+		SkatSeries series = new SkatSeries(TABLE_NAME);
+		UnitTestView view = new UnitTestView();
+		series.setView(view);
+
+		List<JSkatPlayer> players = new ArrayList<JSkatPlayer>();
+		players.add(new AIPlayerRND());
+		players.add(new AIPlayerRND());
+		players.add(new AIPlayerRND());
+
+		Path journalFile = folder.getRoot().toPath().resolve("series.journal");
+		try (SkatSeriesJournal journal = SkatSeriesJournal.create(journalFile,
+				new SeriesHeader(TABLE_NAME, Arrays.asList("Alice", "Bob", "Carol"),
+						Arrays.asList(AIPlayerRND.class.getName(), AIPlayerRND.class.getName(),
+								AIPlayerRND.class.getName()),
+						0, Player.REARHAND, 1, false, false, 0))) {
+			// two games of the first round were played before
+			journal.appendGame(createPassedInGameSummary());
+			journal.appendGame(createPassedInGameSummary());
+		}
+
+		series.resume(players, SkatSeriesJournal.replay(journalFile), journalFile);
+
+		try {
+			CompletableFuture.runAsync(() -> series.run()).get();
+		} catch (InterruptedException | ExecutionException e) {
+			// TODO Auto-generated catch block
+			e.printStackTrace();
+		}
+
+		assertEquals(SeriesState.SERIES_FINISHED, series.getSeriesState());
+		// only the last game of the round was played
+		assertEquals(0, series.getCurrentGameID());
+		// finished series are not resumed again
+		assertFalse(Files.exists(journalFile));
+	}
 }
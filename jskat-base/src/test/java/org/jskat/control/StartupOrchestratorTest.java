@@ -0,0 +1,81 @@
+/**
+ * Copyright (C) 2019 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.control;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.jskat.AbstractJSkatTest;
+import org.junit.Test;
+
+/**
+ * Tests for {@link StartupOrchestrator}
+ */
+public class StartupOrchestratorTest extends AbstractJSkatTest {
+
+	/**
+	 * Concurrent phases run at the same time
+	 */
+	@Test
+	public void testConcurrentPhases() {
+
+		final StartupOrchestrator startup = new StartupOrchestrator();
+		final CountDownLatch bothStarted = new CountDownLatch(2);
+		final Runnable step = () -> {
+			bothStarted.countDown();
+			try {
+				// each phase waits for the other one
+				assertTrue(bothStarted.await(5, TimeUnit.SECONDS));
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		};
+
+		startup.runConcurrently("first", step); //$NON-NLS-1$
+		startup.runConcurrently("second", step); //$NON-NLS-1$
+		startup.awaitConcurrentPhases();
+
+		assertThat(startup.getPhaseTimings().containsKey("first"), is(true)); //$NON-NLS-1$
+		assertThat(startup.getPhaseTimings().containsKey("second"), is(true)); //$NON-NLS-1$
+	}
+
+	/**
+	 * Deferred phases run only after the first frame was shown
+	 */
+	@Test
+	public void testDeferredPhases() {
+
+		final StartupOrchestrator startup = new StartupOrchestrator();
+		final AtomicBoolean deferredRun = new AtomicBoolean();
+		final AtomicBoolean lateRun = new AtomicBoolean();
+
+		startup.defer("deferred", Runnable::run, () -> deferredRun.set(true)); //$NON-NLS-1$
+		assertThat(deferredRun.get(), is(false));
+
+		startup.firstFrameShown();
+		assertThat(deferredRun.get(), is(true));
+
+		// phases deferred after the first frame start immediately
+		startup.defer("late", Runnable::run, () -> lateRun.set(true)); //$NON-NLS-1$
+		assertThat(lateRun.get(), is(true));
+		assertThat(startup.getPhaseTimings().keySet().toString(), is("[deferred, late]")); //$NON-NLS-1$
+	}
+}
@@ -0,0 +1,115 @@
+/**
+ * Copyright (C) 2019 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.control.iss;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.jskat.AbstractJSkatTest;
+import org.jskat.ai.newalgorithm.AlgorithmAI;
+import org.jskat.ai.rnd.AIPlayerRND;
+import org.jskat.control.iss.IssBotAccount.TableMode;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link IssBotHost} against an {@link IssStandInServer}
+ */
+public class IssBotHostTest extends AbstractJSkatTest {
+
+	private static final int GAMES_PER_TABLE = 5;
+
+	private IssStandInServer server;
+	private IssBotHost host;
+
+	/**
+	 * Starts the stand-in server and the bot host
+	 * 
+	 * @throws Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		server = new IssStandInServer(42);
+		host = new IssBotHost("localhost", server.getPort(), 2); //$NON-NLS-1$
+	}
+
+	/**
+	 * Stops the bot host and the stand-in server
+	 * 
+	 * @throws Exception
+	 */
+	@After
+	public void tearDown() throws Exception {
+		host.shutdown();
+		server.close();
+	}
+
+	/**
+	 * Six bots on one event loop create and join two tables and play games
+	 * against each other
+	 * 
+	 * @throws Exception
+	 */
+	@Test
+	public void testBotsPlayAgainstEachOther() throws Exception {
+
+		host.login(new IssBotAccount("creator1", "pw", AIPlayerRND.class.getName(), TableMode.CREATE)); //$NON-NLS-1$ //$NON-NLS-2$
+		host.login(new IssBotAccount("creator2", "pw", AlgorithmAI.class.getName(), TableMode.CREATE)); //$NON-NLS-1$ //$NON-NLS-2$
+		for (int i = 0; i < 4; i++) {
+			host.login(new IssBotAccount("joiner" + i, "pw", //$NON-NLS-1$ //$NON-NLS-2$
+					i % 2 == 0 ? AIPlayerRND.class.getName() : AlgorithmAI.class.getName(), TableMode.JOIN));
+		}
+
+		final long timeout = System.currentTimeMillis() + 30000;
+		while (server.getGameSummaries().size() < 2 * GAMES_PER_TABLE && System.currentTimeMillis() < timeout) {
+			Thread.sleep(20);
+		}
+
+		final List<String> summaries = server.getGameSummaries();
+		assertTrue("Only " + summaries.size() + " games finished", summaries.size() >= 2 * GAMES_PER_TABLE); //$NON-NLS-1$ //$NON-NLS-2$
+		for (final String summary : summaries) {
+			assertThat(summary, startsWith("(;GM[Skat]")); //$NON-NLS-1$
+		}
+		assertThat(host.getConnectedBots(), is(6));
+	}
+
+	/**
+	 * Unknown AI players are rejected
+	 * 
+	 * @throws Exception
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testUnknownPlayer() throws Exception {
+		host.login(new IssBotAccount("bot", "pw", "org.jskat.NoPlayer", TableMode.CREATE)); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+
+	/**
+	 * Accounts can be parsed from the command line
+	 */
+	@Test
+	public void testParseAccount() {
+		final IssBotAccount account = IssBotAccount.valueOf("bot:secret:org.jskat.ai.rnd.AIPlayerRND:JOIN"); //$NON-NLS-1$
+		assertThat(account.getLoginName(), is("bot")); //$NON-NLS-1$
+		assertThat(account.getPassword(), is("secret")); //$NON-NLS-1$
+		assertThat(account.getPlayerClass(), is("org.jskat.ai.rnd.AIPlayerRND")); //$NON-NLS-1$
+		assertThat(account.getTableMode(), is(TableMode.JOIN));
+	}
+}
@@ -0,0 +1,193 @@
+/**
+ * Copyright (C) 2019 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.control.iss;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.jskat.AbstractJSkatTest;
+import org.jskat.control.JSkatEventBus;
+import org.jskat.control.command.iss.IssConnectCommand;
+import org.jskat.control.event.iss.IssConnectedEvent;
+import org.jskat.control.event.iss.IssDisconnectedEvent;
+import org.jskat.data.JSkatOptions;
+import org.jskat.data.JSkatOptions.Option;
+import org.jskat.data.iss.LoginCredentials;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * Tests for {@link IssController} against an {@link IssStandInServer}
+ */
+public class IssControllerTest extends AbstractJSkatTest {
+
+	private static final long TIMEOUT = 10000;
+
+	private final JSkatOptions options = JSkatOptions.instance();
+	private final ConnectionListener listener = new ConnectionListener();
+
+	private IssStandInServer server;
+	private IssController controller;
+	private String issAddress;
+	private Integer issPort;
+	private Boolean issNonBlockingConnection;
+
+	/**
+	 * Starts the stand-in server and points the options to it
+	 * 
+	 * @throws Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		server = new IssStandInServer(42);
+
+		issAddress = options.getString(Option.ISS_ADDRESS);
+		issPort = options.getInteger(Option.ISS_PORT);
+		issNonBlockingConnection = options.getBoolean(Option.ISS_NON_BLOCKING_CONNECTION);
+		options.setIssAddress("localhost"); //$NON-NLS-1$
+		options.setIssPort(server.getPort());
+
+		controller = new LobbylessIssController();
+		JSkatEventBus.INSTANCE.register(listener);
+	}
+
+	/**
+	 * Stops the stand-in server and restores the options
+	 * 
+	 * @throws Exception
+	 */
+	@After
+	public void tearDown() throws Exception {
+		JSkatEventBus.INSTANCE.unregister(listener);
+		JSkatEventBus.INSTANCE.unregister(controller);
+		server.close();
+
+		options.setIssAddress(issAddress);
+		options.setIssPort(issPort);
+		options.setIssNonBlockingConnection(issNonBlockingConnection);
+	}
+
+	/**
+	 * The non-blocking connector is chosen by option, logs in and closes the
+	 * connection when the server goes away
+	 * 
+	 * @throws Exception
+	 */
+	@Test
+	public void testLoginAndDisconnectWithNioConnector() throws Exception {
+
+		options.setIssNonBlockingConnection(Boolean.TRUE);
+
+		controller.establishConnectionOn(new IssConnectCommand(createCredentials("nio"))); //$NON-NLS-1$
+
+		final IssConnector connector = controller.getConnector();
+		assertThat(connector, instanceOf(NioConnector.class));
+
+		assertTrue("Not logged in", listener.connected.await(TIMEOUT, TimeUnit.MILLISECONDS)); //$NON-NLS-1$
+		assertThat(listener.login, is("nio")); //$NON-NLS-1$
+		assertTrue(connector.isConnected());
+
+		// end of input from the server
+		server.close();
+
+		assertTrue("Disconnect not noticed", listener.disconnected.await(TIMEOUT, TimeUnit.MILLISECONDS)); //$NON-NLS-1$
+		assertFalse(connector.isConnected());
+	}
+
+	/**
+	 * Without the option the blocking connector is used
+	 */
+	@Test
+	public void testStreamConnectorByDefault() {
+
+		options.setIssNonBlockingConnection(Boolean.FALSE);
+		options.setIssPort(0);
+
+		// the connection to port 0 fails, only the choice is checked
+		controller.establishConnectionOn(new IssConnectCommand(createCredentials("stream"))); //$NON-NLS-1$
+
+		assertThat(controller.getConnector(), instanceOf(StreamConnector.class));
+	}
+
+	private static LoginCredentials createCredentials(final String login) {
+		final LoginCredentials credentials = new LoginCredentials();
+		credentials.setLoginName(login);
+		credentials.setPassword("pw"); //$NON-NLS-1$
+		return credentials;
+	}
+
+	/**
+	 * Collects the connection events
+	 */
+	private static class ConnectionListener {
+
+		private final CountDownLatch connected = new CountDownLatch(1);
+		private final CountDownLatch disconnected = new CountDownLatch(1);
+		private volatile String login;
+
+		@Subscribe
+		public void connectedOn(final IssConnectedEvent event) {
+			login = event.login;
+			connected.countDown();
+		}
+
+		@Subscribe
+		public void disconnectedOn(final IssDisconnectedEvent event) {
+			disconnected.countDown();
+		}
+	}
+
+	/**
+	 * Controller without a JSkat master, the lobby lists are ignored
+	 */
+	private static class LobbylessIssController extends IssController {
+
+		LobbylessIssController() {
+			super(null);
+		}
+
+		@Override
+		public void updateISSPlayerList(final String playerName, final String language, final long gamesPlayed,
+				final double strength) {
+			// no lobby
+		}
+
+		@Override
+		public void removeISSPlayerFromList(final String playerName) {
+			// no lobby
+		}
+
+		@Override
+		public void updateISSTableList(final String tableName, final int maxPlayers, final long gamesPlayed,
+				final String player1, final String player2, final String player3) {
+			// no lobby
+		}
+
+		@Override
+		public void removeISSTableFromList(final String tableName) {
+			// no lobby
+		}
+	}
+}
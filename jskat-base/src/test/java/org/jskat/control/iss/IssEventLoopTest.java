@@ -0,0 +1,275 @@
+/**
+ * Copyright (C) 2019 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.control.iss;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.jskat.AbstractJSkatTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link IssEventLoop} and {@link NioConnection} against a loopback
+ * server
+ */
+public class IssEventLoopTest extends AbstractJSkatTest {
+
+	private static final int TIMEOUT = 5;
+
+	private IssEventLoop eventLoop;
+	private ServerSocket server;
+
+	/**
+	 * Starts the event loop and the loopback server
+	 * 
+	 * @throws IOException
+	 */
+	@Before
+	public void setUp() throws IOException {
+		eventLoop = new IssEventLoop(IssEventLoop.DEFAULT_WORKER_THREADS);
+		server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+	}
+
+	/**
+	 * Stops the event loop and the loopback server
+	 * 
+	 * @throws IOException
+	 */
+	@After
+	public void tearDown() throws IOException {
+		eventLoop.shutdown();
+		server.close();
+	}
+
+	/**
+	 * Lines split over several packets arrive complete and in order on all
+	 * connections
+	 * 
+	 * @throws Exception
+	 */
+	@Test
+	public void testReceiveLinesOnManyConnections() throws Exception {
+
+		final int connectionCount = 20;
+		final List<BlockingQueue<String>> receivedLines = new ArrayList<>();
+		final List<NioConnection> connections = new ArrayList<>();
+		final List<Socket> serverSides = new ArrayList<>();
+
+		for (int i = 0; i < connectionCount; i++) {
+			final BlockingQueue<String> lines = new LinkedBlockingQueue<>();
+			receivedLines.add(lines);
+			connections.add(connect(lines));
+			serverSides.add(server.accept());
+		}
+
+		for (int i = 0; i < connectionCount; i++) {
+			final OutputStream output = serverSides.get(i).getOutputStream();
+			output.write(("password: \r\nWelcome ").getBytes(StandardCharsets.UTF_8)); //$NON-NLS-1$
+			output.flush();
+			output.write(("player" + i + "\nSchäfer\n").getBytes(StandardCharsets.UTF_8)); //$NON-NLS-1$ //$NON-NLS-2$
+			output.flush();
+		}
+
+		for (int i = 0; i < connectionCount; i++) {
+			final BlockingQueue<String> lines = receivedLines.get(i);
+			assertThat(lines.poll(TIMEOUT, TimeUnit.SECONDS), is("password: ")); //$NON-NLS-1$
+			assertThat(lines.poll(TIMEOUT, TimeUnit.SECONDS), is("Welcome player" + i)); //$NON-NLS-1$
+			assertThat(lines.poll(TIMEOUT, TimeUnit.SECONDS), is("Schäfer")); //$NON-NLS-1$
+			assertThat(connections.get(i).isOpen(), is(true));
+		}
+
+		for (final Socket serverSide : serverSides) {
+			serverSide.close();
+		}
+	}
+
+	/**
+	 * Queued messages are written completely and in order
+	 * 
+	 * @throws Exception
+	 */
+	@Test
+	public void testSendManyMessages() throws Exception {
+
+		final int messageCount = 10000;
+		final NioConnection connection = connect(new LinkedBlockingQueue<>());
+
+		try (Socket serverSide = server.accept()) {
+			for (int i = 0; i < messageCount; i++) {
+				connection.sendMessage("table .1 player" + i + " play C" + (i % 10)); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+
+			final BufferedReader reader = new BufferedReader(
+					new InputStreamReader(serverSide.getInputStream(), StandardCharsets.UTF_8));
+			for (int i = 0; i < messageCount; i++) {
+				assertThat(reader.readLine(), is("table .1 player" + i + " play C" + (i % 10))); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+		}
+	}
+
+	/**
+	 * The listener gets <code>null</code> when the server closes the connection
+	 * 
+	 * @throws Exception
+	 */
+	@Test
+	public void testServerClosesConnection() throws Exception {
+
+		final BlockingQueue<String> lines = new LinkedBlockingQueue<>();
+		final List<String> closeNotifications = new ArrayList<>();
+		final NioConnection connection = connect(line -> {
+			if (line == null) {
+				closeNotifications.add("closed"); //$NON-NLS-1$
+				lines.add("EOF"); //$NON-NLS-1$
+			} else {
+				lines.add(line);
+			}
+		});
+
+		final Socket serverSide = server.accept();
+		serverSide.getOutputStream().write("bye\n".getBytes(StandardCharsets.UTF_8)); //$NON-NLS-1$
+		serverSide.close();
+
+		assertThat(lines.poll(TIMEOUT, TimeUnit.SECONDS), is("bye")); //$NON-NLS-1$
+		assertThat(lines.poll(TIMEOUT, TimeUnit.SECONDS), is("EOF")); //$NON-NLS-1$
+		assertThat(closeNotifications.size(), is(1));
+		assertThat(connection.isOpen(), is(false));
+	}
+
+	/**
+	 * Closing the connection locally doesn't notify the listener
+	 * 
+	 * @throws Exception
+	 */
+	@Test
+	public void testClientClosesConnection() throws Exception {
+
+		final BlockingQueue<String> lines = new LinkedBlockingQueue<>();
+		final NioConnection connection = connect(lines);
+
+		try (Socket serverSide = server.accept()) {
+			connection.sendMessage("logout"); //$NON-NLS-1$
+			connection.close();
+
+			final BufferedReader reader = new BufferedReader(
+					new InputStreamReader(serverSide.getInputStream(), StandardCharsets.UTF_8));
+			assertThat(reader.readLine(), is("logout")); //$NON-NLS-1$
+			assertThat(reader.readLine(), is(nullValue()));
+		}
+
+		assertThat(connection.isOpen(), is(false));
+		assertThat(lines.poll(100, TimeUnit.MILLISECONDS), is(nullValue()));
+	}
+
+	/**
+	 * Callers wait while the queue is full and the connection is closed if the
+	 * server stops reading
+	 * 
+	 * @throws Exception
+	 */
+	@Test
+	public void testStalledServerIsClosed() throws Exception {
+
+		final BlockingQueue<String> lines = new LinkedBlockingQueue<>();
+		final NioConnection connection = eventLoop.connect(
+				new InetSocketAddress(server.getInetAddress(), server.getLocalPort()), 1000,
+				line -> lines.add(line == null ? "EOF" : line), 2, 200); //$NON-NLS-1$
+
+		try (Socket serverSide = server.accept()) {
+			final StringBuilder longMessage = new StringBuilder();
+			for (int i = 0; i < 1000; i++) {
+				longMessage.append("table .1 player play C7 "); //$NON-NLS-1$
+			}
+
+			// the server never reads, the socket buffers fill up
+			final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT);
+			while (connection.isOpen() && System.nanoTime() < deadline) {
+				connection.sendMessage(longMessage.toString());
+			}
+
+			assertThat(connection.isOpen(), is(false));
+			assertThat(connection.getQueueDepth(), is(0));
+			assertThat(lines.poll(TIMEOUT, TimeUnit.SECONDS), is("EOF")); //$NON-NLS-1$
+			assertThat(connection.getStatistics().getMaxQueueDepth(), is(2));
+
+			// the server side reads the buffered messages up to the end of the
+			// stream
+			serverSide.setSoTimeout((int) TimeUnit.SECONDS.toMillis(TIMEOUT));
+			final InputStream serverIn = serverSide.getInputStream();
+			final byte[] buffer = new byte[8192];
+			while (serverIn.read(buffer) != -1) {
+				// drain
+			}
+			assertThat(serverIn.read(), is(-1));
+		}
+	}
+
+	/**
+	 * Queue depth and send latency are recorded for written messages
+	 * 
+	 * @throws Exception
+	 */
+	@Test
+	public void testStatistics() throws Exception {
+
+		final NioConnection connection = connect(new LinkedBlockingQueue<>());
+
+		try (Socket serverSide = server.accept()) {
+			connection.sendMessage("login"); //$NON-NLS-1$
+			connection.sendMessage("who"); //$NON-NLS-1$
+
+			final BufferedReader reader = new BufferedReader(
+					new InputStreamReader(serverSide.getInputStream(), StandardCharsets.UTF_8));
+			assertThat(reader.readLine(), is("login")); //$NON-NLS-1$
+			assertThat(reader.readLine(), is("who")); //$NON-NLS-1$
+
+			connection.close();
+			assertThat(reader.readLine(), is(nullValue()));
+		}
+
+		assertThat(connection.getStatistics().getMessagesSent(), is(2L));
+		assertThat(connection.getQueueDepth(), is(0));
+	}
+
+	private NioConnection connect(final BlockingQueue<String> lines) throws IOException {
+		return connect(line -> lines.add(line == null ? "EOF" : line)); //$NON-NLS-1$
+	}
+
+	private NioConnection connect(final Consumer<String> listener) throws IOException {
+		return eventLoop.connect(new InetSocketAddress(server.getInetAddress(), server.getLocalPort()), 1000,
+				listener);
+	}
+}
@@ -0,0 +1,162 @@
+/**
+ * Copyright (C) 2019 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.control.iss;
+
+import java.util.Arrays;
+
+/**
+ * Result of a load test run of the ISS client against the
+ * {@link IssStandInServer}
+ */
+class IssLoadReport {
+
+	private final int clients;
+	private final long messagesSent;
+	private final long messagesReceived;
+	private final long misparsedMessages;
+	private final long durationNanos;
+	private final long[] latencies;
+	private final long[] handlingTimes;
+
+	/**
+	 * Constructor
+	 *
+	 * @param clients
+	 *            Number of clients
+	 * @param messagesSent
+	 *            Messages sent by the server to all clients
+	 * @param messagesReceived
+	 *            Messages handled by all clients
+	 * @param misparsedMessages
+	 *            Messages the clients could not parse
+	 * @param durationNanos
+	 *            Time from the first message sent to the last message handled
+	 * @param latencies
+	 *            Times from sending until a message was handled
+	 * @param handlingTimes
+	 *            Times the message handler needed per message
+	 */
+	IssLoadReport(final int clients, final long messagesSent, final long messagesReceived,
+			final long misparsedMessages, final long durationNanos, final long[] latencies,
+			final long[] handlingTimes) {
+		this.clients = clients;
+		this.messagesSent = messagesSent;
+		this.messagesReceived = messagesReceived;
+		this.misparsedMessages = misparsedMessages;
+		this.durationNanos = durationNanos;
+		this.latencies = latencies.clone();
+		this.handlingTimes = handlingTimes.clone();
+		Arrays.sort(this.latencies);
+		Arrays.sort(this.handlingTimes);
+	}
+
+	/**
+	 * Gets the number of clients
+	 *
+	 * @return Number of clients
+	 */
+	int getClients() {
+		return clients;
+	}
+
+	/**
+	 * Gets the number of messages sent to all clients
+	 *
+	 * @return Messages sent
+	 */
+	long getMessagesSent() {
+		return messagesSent;
+	}
+
+	/**
+	 * Gets the number of messages handled by all clients
+	 *
+	 * @return Messages received
+	 */
+	long getMessagesReceived() {
+		return messagesReceived;
+	}
+
+	/**
+	 * Gets the number of messages that were sent but never handled
+	 *
+	 * @return Dropped messages
+	 */
+	long getDroppedMessages() {
+		return messagesSent - messagesReceived;
+	}
+
+	/**
+	 * Gets the number of messages the clients could not parse
+	 *
+	 * @return Misparsed messages
+	 */
+	long getMisparsedMessages() {
+		return misparsedMessages;
+	}
+
+	/**
+	 * Gets the throughput over all clients
+	 *
+	 * @return Messages per second
+	 */
+	double getThroughput() {
+		return durationNanos > 0 ? messagesReceived * 1e9 / durationNanos : 0.0;
+	}
+
+	/**
+	 * Gets a percentile of the time from sending until a message was handled
+	 *
+	 * @param percentile
+	 *            Percentile between 0 and 100
+	 * @return Latency in microseconds
+	 */
+	long getLatency(final double percentile) {
+		return getPercentile(latencies, percentile);
+	}
+
+	/**
+	 * Gets a percentile of the time the message handler needed per message
+	 *
+	 * @param percentile
+	 *            Percentile between 0 and 100
+	 * @return Handling time in microseconds
+	 */
+	long getHandlingTime(final double percentile) {
+		return getPercentile(handlingTimes, percentile);
+	}
+
+	private static long getPercentile(final long[] sortedNanos, final double percentile) {
+		if (sortedNanos.length == 0) {
+			return 0;
+		}
+		final int index = (int) Math.ceil(percentile / 100.0 * sortedNanos.length) - 1;
+		return sortedNanos[Math.max(0, Math.min(index, sortedNanos.length - 1))] / 1000;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return String.format(
+				"%d clients: %d/%d messages handled, %d dropped, %d misparsed, %.0f msg/s, " //$NON-NLS-1$
+						+ "latency p50 %d us p99 %d us max %d us, handling p50 %d us p99 %d us max %d us", //$NON-NLS-1$
+				clients, messagesReceived, messagesSent, getDroppedMessages(), misparsedMessages, getThroughput(),
+				getLatency(50), getLatency(99), getLatency(100), getHandlingTime(50), getHandlingTime(99),
+				getHandlingTime(100));
+	}
+}
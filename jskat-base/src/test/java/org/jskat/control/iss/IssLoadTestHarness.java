@@ -0,0 +1,467 @@
+/**
+ * Copyright (C) 2019 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.control.iss;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Random;
+import java.util.StringTokenizer;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jskat.control.JSkatEventBus;
+import org.jskat.data.SkatGameData;
+import org.jskat.data.iss.ChatMessage;
+import org.jskat.data.iss.GameStartInformation;
+import org.jskat.data.iss.MoveInformation;
+import org.jskat.data.iss.TablePanelStatus;
+import org.jskat.util.Card;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Drives one or many ISS clients with scripted or recorded sessions from an
+ * {@link IssStandInServer}<br>
+ * Every client runs the real receiving path of JSkat: {@link NioConnection},
+ * {@link MessageHandler} and {@link MessageParser}. Only the
+ * {@link IssController} is replaced by a headless stand-in. The harness
+ * measures throughput, the time from sending a message until it was handled,
+ * the time the handler needed and counts dropped and misparsed messages.
+ */
+class IssLoadTestHarness implements Closeable {
+
+	private static Logger log = LoggerFactory.getLogger(IssLoadTestHarness.class);
+
+	private static final int CONNECT_TIMEOUT = 5000;
+	private static final String TABLE_NAME = ".1"; //$NON-NLS-1$
+	private static final String PLAYER_TIMES = " 180.0 180.0 180.0"; //$NON-NLS-1$
+
+	private final IssStandInServer server;
+	private final IssEventLoop eventLoop;
+	private final Map<String, LoadClient> clients = new LinkedHashMap<String, LoadClient>();
+
+	/**
+	 * Constructor
+	 *
+	 * @param server
+	 *            Stand-in server
+	 * @param clientCount
+	 *            Number of clients
+	 * @param workerThreads
+	 *            Number of worker threads that handle the messages of all
+	 *            clients
+	 * @throws IOException
+	 */
+	IssLoadTestHarness(final IssStandInServer server, final int clientCount, final int workerThreads)
+			throws IOException {
+		this.server = server;
+		eventLoop = new IssEventLoop(workerThreads);
+		for (int i = 0; i < clientCount; i++) {
+			final String login = "load" + i; //$NON-NLS-1$
+			clients.put(login, new LoadClient(login));
+		}
+		server.setMessageTap(this::messageSent);
+	}
+
+	/**
+	 * Connects all clients and waits until they are logged in
+	 *
+	 * @param timeout
+	 *            Timeout in milliseconds
+	 * @throws IOException
+	 * @throws InterruptedException
+	 */
+	void connect(final long timeout) throws IOException, InterruptedException {
+		final InetSocketAddress address = new InetSocketAddress("localhost", server.getPort()); //$NON-NLS-1$
+		for (final LoadClient client : clients.values()) {
+			client.connection = eventLoop.connect(address, CONNECT_TIMEOUT, client::handleMessage);
+			client.connection.sendMessage(client.login);
+		}
+		for (final LoadClient client : clients.values()) {
+			if (!client.loggedIn.await(timeout, TimeUnit.MILLISECONDS)) {
+				throw new IOException("Client " + client.login + " was not logged in"); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+		}
+	}
+
+	/**
+	 * Replays a session to all clients and waits until all messages were
+	 * handled
+	 *
+	 * @param session
+	 *            Messages to send
+	 * @param messagesPerSecond
+	 *            Messages per second and client, zero or less to send as fast
+	 *            as possible
+	 * @param timeout
+	 *            Time in milliseconds to wait for outstanding messages after
+	 *            the session was sent
+	 * @return Load report
+	 * @throws InterruptedException
+	 */
+	IssLoadReport run(final List<String> session, final double messagesPerSecond, final long timeout)
+			throws InterruptedException {
+
+		// messages left over from the login are not part of the run
+		awaitDrained(timeout);
+		long sentBefore = 0;
+		long receivedBefore = 0;
+		long misparsedBefore = 0;
+		for (final LoadClient client : clients.values()) {
+			sentBefore += client.sent.get();
+			receivedBefore += client.received.get();
+			misparsedBefore += client.misparsed.get();
+			client.latencies.clear();
+			client.handlingTimes.clear();
+		}
+
+		final long start = System.nanoTime();
+		server.replay(session, messagesPerSecond);
+
+		awaitDrained(timeout);
+
+		long sent = 0;
+		long received = 0;
+		long misparsed = 0;
+		long lastHandled = start;
+		final LongList latencies = new LongList();
+		final LongList handlingTimes = new LongList();
+		for (final LoadClient client : clients.values()) {
+			sent += client.sent.get();
+			received += client.received.get();
+			misparsed += client.misparsed.get();
+			lastHandled = Math.max(lastHandled, client.lastHandled);
+			latencies.addAll(client.latencies);
+			handlingTimes.addAll(client.handlingTimes);
+		}
+
+		final IssLoadReport report = new IssLoadReport(clients.size(), sent - sentBefore, received - receivedBefore,
+				misparsed - misparsedBefore, lastHandled - start, latencies.toArray(), handlingTimes.toArray());
+		log.info("ISS load test: " + report); //$NON-NLS-1$
+		return report;
+	}
+
+	private void awaitDrained(final long timeout) throws InterruptedException {
+		final long deadline = System.currentTimeMillis() + timeout;
+		while (!isDrained() && System.currentTimeMillis() < deadline) {
+			Thread.sleep(5);
+		}
+	}
+
+	private boolean isDrained() {
+		for (final LoadClient client : clients.values()) {
+			if (client.received.get() < client.sent.get()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public void close() {
+		server.setMessageTap(null);
+		for (final LoadClient client : clients.values()) {
+			if (client.connection != null) {
+				client.connection.close();
+			}
+			JSkatEventBus.INSTANCE.unregister(client.controller);
+		}
+		eventLoop.shutdown();
+	}
+
+	private void messageSent(final String login, final String message, final long nanoTime) {
+		final LoadClient client = clients.get(login);
+		if (client != null) {
+			client.sendTimes.add(nanoTime);
+			client.sent.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Creates a scripted session with lobby updates, lobby and table chat and
+	 * passed games
+	 *
+	 * @param seed
+	 *            Seed for the random content
+	 * @param messages
+	 *            Minimal number of messages
+	 * @return Scripted session
+	 */
+	static List<String> createScriptedSession(final long seed, final int messages) {
+
+		final Random random = new Random(seed);
+		final List<String> session = new ArrayList<String>();
+		int games = 0;
+		while (session.size() < messages) {
+			final String player = "user" + random.nextInt(100); //$NON-NLS-1$
+			switch (random.nextInt(5)) {
+			case 0:
+				session.add("clients + " + player + " . de " + random.nextInt(1000) + " " + random.nextInt(2000) + ".0"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+				break;
+			case 1:
+				session.add("tables + ." + random.nextInt(20) + " 3 " + random.nextInt(100) + " " + player + " ? ?"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+				break;
+			case 2:
+				session.add("yell " + player + " Hallo alle zusammen " + random.nextInt()); //$NON-NLS-1$ //$NON-NLS-2$
+				break;
+			case 3:
+				session.add("table " + TABLE_NAME + " " + player + " tell " + player + " gut gespielt"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+				break;
+			default:
+				addPassedGame(session, random, games++);
+				break;
+			}
+		}
+		return session;
+	}
+
+	private static void addPassedGame(final List<String> session, final Random random, final int gameNumber) {
+
+		final List<Card> deck = new ArrayList<Card>(Arrays.asList(Card.values()));
+		Collections.shuffle(deck, random);
+		final String prefix = "table " + TABLE_NAME + " load0 "; //$NON-NLS-1$ //$NON-NLS-2$
+
+		session.add(prefix + "start " + gameNumber + " foo 180.0 bar 180.0 baz 180.0"); //$NON-NLS-1$ //$NON-NLS-2$
+		final StringBuilder deal = new StringBuilder();
+		for (int hand = 0; hand < 3; hand++) {
+			deal.append(IssStandInServer.toIssString(deck.subList(hand * 10, hand * 10 + 10), hand != 0)).append('|');
+		}
+		deal.append("??.??"); //$NON-NLS-1$
+		session.add(prefix + "play w " + deal + PLAYER_TIMES); //$NON-NLS-1$
+		for (int player = 1; player < 4; player++) {
+			session.add(prefix + "play " + player % 3 + " p" + PLAYER_TIMES); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		session.add(prefix + "end (;GM[Skat]PC[ISS stand-in]ID[" + gameNumber //$NON-NLS-1$
+				+ "]P0[foo]P1[bar]P2[baz]MV[w " + IssStandInServer.toIssString(deck, false) //$NON-NLS-1$
+				+ " 1 p 2 p 0 p ]R[passed] ;)"); //$NON-NLS-1$
+	}
+
+	/**
+	 * Headless stand-in for the {@link IssController} that only checks the
+	 * parsed messages
+	 */
+	private static class LoadTestController extends IssController {
+
+		private final LoadClient client;
+
+		LoadTestController(final LoadClient client) {
+			super(null);
+			this.client = client;
+		}
+
+		// the message handler still answers the password prompt of the
+		// stand-in server through this method
+		@SuppressWarnings("deprecation")
+		@Override
+		public void sendPassword() {
+			client.connection.sendMessage(MessageGenerator.getPasswordMessage("secret")); //$NON-NLS-1$
+		}
+
+		@Override
+		public void updateISSPlayerList(final String playerName, final String language, final long gamesPlayed,
+				final double strength) {
+			check(playerName);
+		}
+
+		@Override
+		public void removeISSPlayerFromList(final String playerName) {
+			check(playerName);
+		}
+
+		@Override
+		public void updateISSTableList(final String tableName, final int maxPlayers, final long gamesPlayed,
+				final String player1, final String player2, final String player3) {
+			check(tableName);
+		}
+
+		@Override
+		public void removeISSTableFromList(final String tableName) {
+			check(tableName);
+		}
+
+		@Override
+		public void addChatMessage(final ChatMessageType messageType, final List<String> params) {
+			check(params.isEmpty() ? null : params.get(0));
+		}
+
+		@Override
+		public void createTable(final String tableName, final String creator, final int maxPlayers) {
+			check(tableName);
+		}
+
+		@Override
+		public void handleInvitation(final String invitor, final String tableName, final String invitationTicket) {
+			check(invitationTicket);
+		}
+
+		@Override
+		public boolean isTableJoined(final String tableName) {
+			return true;
+		}
+
+		@Override
+		public void updateISSTableState(final String tableName, final TablePanelStatus status) {
+			check(status);
+		}
+
+		@Override
+		public void updateISSGame(final String tableName, final GameStartInformation status) {
+			check(status);
+		}
+
+		@Override
+		public void startGame(final String tableName) {
+			check(tableName);
+		}
+
+		@Override
+		public void updateMove(final String tableName, final MoveInformation moveInformation) {
+			check(moveInformation.getType());
+		}
+
+		@Override
+		public void updateISSTableChatMessage(final String tableName, final ChatMessage message) {
+			check(message);
+		}
+
+		@Override
+		public void endGame(final String tableName, final SkatGameData newGameData) {
+			check(newGameData);
+		}
+
+		@Override
+		public void showMessage(final String message) {
+			check(message);
+		}
+
+		@Override
+		public void showErrorMessage(final String message) {
+			check(null);
+		}
+
+		private void check(final Object parsedValue) {
+			if (parsedValue == null) {
+				client.misparsed.incrementAndGet();
+			}
+		}
+	}
+
+	/**
+	 * Client that runs the receiving path of JSkat
+	 */
+	private static class LoadClient {
+
+		private final String login;
+		private final LoadTestController controller;
+		private final MessageHandler handler;
+		private final CountDownLatch loggedIn = new CountDownLatch(1);
+		private final Queue<Long> sendTimes = new ConcurrentLinkedQueue<Long>();
+		private final AtomicLong sent = new AtomicLong();
+		private final AtomicLong received = new AtomicLong();
+		private final AtomicLong misparsed = new AtomicLong();
+		private final LongList latencies = new LongList();
+		private final LongList handlingTimes = new LongList();
+		private volatile NioConnection connection;
+		private volatile long lastHandled;
+
+		LoadClient(final String login) {
+			this.login = login;
+			controller = new LoadTestController(this);
+			handler = new MessageHandler(controller);
+		}
+
+		void handleMessage(final String message) {
+
+			if (message == null) {
+				log.warn("Client " + login + " was disconnected"); //$NON-NLS-1$ //$NON-NLS-2$
+				return;
+			}
+
+			final long receiveTime = System.nanoTime();
+			final Long sendTime = sendTimes.poll();
+
+			final StringTokenizer tokenizer = new StringTokenizer(message);
+			final MessageType type = tokenizer.hasMoreTokens() ? MessageType.getByString(tokenizer.nextToken())
+					: MessageType.UNKNOWN;
+			if (type == MessageType.UNKNOWN) {
+				misparsed.incrementAndGet();
+			} else {
+				final List<String> params = new ArrayList<String>();
+				while (tokenizer.hasMoreTokens()) {
+					params.add(tokenizer.nextToken());
+				}
+				try {
+					// the handler only logs failures, they are counted here
+					handler.handleMessageObsolete(type, params);
+				} catch (final Exception e) {
+					misparsed.incrementAndGet();
+				}
+			}
+
+			final long handledTime = System.nanoTime();
+			if (sendTime != null) {
+				latencies.add(handledTime - sendTime);
+			}
+			handlingTimes.add(handledTime - receiveTime);
+			lastHandled = handledTime;
+			received.incrementAndGet();
+
+			if (type == MessageType.WELCOME) {
+				loggedIn.countDown();
+			}
+		}
+	}
+
+	/**
+	 * Growing list of primitive long values
+	 */
+	private static class LongList {
+
+		private long[] values = new long[1024];
+		private int size;
+
+		synchronized void add(final long value) {
+			if (size == values.length) {
+				values = Arrays.copyOf(values, size * 2);
+			}
+			values[size++] = value;
+		}
+
+		synchronized void addAll(final LongList other) {
+			for (final long value : other.toArray()) {
+				add(value);
+			}
+		}
+
+		synchronized void clear() {
+			size = 0;
+		}
+
+		synchronized long[] toArray() {
+			return Arrays.copyOf(values, size);
+		}
+	}
+}
@@ -0,0 +1,164 @@
+/**
+ * Copyright (C) 2019 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.control.iss;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.jskat.AbstractJSkatTest;
+import org.jskat.ai.rnd.AIPlayerRND;
+import org.jskat.control.iss.IssBotAccount.TableMode;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Load tests of the ISS client against the {@link IssStandInServer}
+ */
+public class IssLoadTestHarnessTest extends AbstractJSkatTest {
+
+	private static final long TIMEOUT = 10000;
+
+	private IssStandInServer server;
+	private IssLoadTestHarness harness;
+
+	/**
+	 * Starts the stand-in server
+	 * 
+	 * @throws Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		server = new IssStandInServer(42);
+	}
+
+	/**
+	 * Stops the clients and the stand-in server
+	 * 
+	 * @throws Exception
+	 */
+	@After
+	public void tearDown() throws Exception {
+		if (harness != null) {
+			harness.close();
+		}
+		server.close();
+	}
+
+	/**
+	 * Several clients absorb a scripted session sent as fast as possible
+	 * 
+	 * @throws Exception
+	 */
+	@Test
+	public void testScriptedSession() throws Exception {
+
+		final List<String> session = IssLoadTestHarness.createScriptedSession(42, 2000);
+
+		harness = new IssLoadTestHarness(server, 4, 2);
+		harness.connect(TIMEOUT);
+		final IssLoadReport report = harness.run(session, 0, TIMEOUT);
+
+		assertThat(report.getMessagesSent() >= 4 * session.size(), is(true));
+		assertThat(report.getDroppedMessages(), is(0L));
+		assertThat(report.getMisparsedMessages(), is(0L));
+		assertTrue(report.getThroughput() > 0);
+		assertTrue(report.getLatency(50) <= report.getLatency(100));
+	}
+
+	/**
+	 * A paced session is not sent faster than requested
+	 * 
+	 * @throws Exception
+	 */
+	@Test
+	public void testPacedSession() throws Exception {
+
+		final List<String> session = IssLoadTestHarness.createScriptedSession(7, 200);
+
+		harness = new IssLoadTestHarness(server, 2, 1);
+		harness.connect(TIMEOUT);
+		final long start = System.nanoTime();
+		final IssLoadReport report = harness.run(session, 2000, TIMEOUT);
+
+		assertTrue((System.nanoTime() - start) / 1000000 >= (session.size() - 1) / 2);
+		assertThat(report.getDroppedMessages(), is(0L));
+		assertThat(report.getMisparsedMessages(), is(0L));
+	}
+
+	/**
+	 * A session recorded while bots played against each other is replayed to
+	 * several clients
+	 * 
+	 * @throws Exception
+	 */
+	@Test
+	public void testRecordedSession() throws Exception {
+
+		final IssSessionRecorder recorder = new IssSessionRecorder("bot0"); //$NON-NLS-1$
+		server.setMessageTap(recorder);
+		final IssBotHost host = new IssBotHost("localhost", server.getPort(), 1); //$NON-NLS-1$
+		try {
+			host.login(new IssBotAccount("bot0", "pw", AIPlayerRND.class.getName(), TableMode.CREATE)); //$NON-NLS-1$ //$NON-NLS-2$
+			host.login(new IssBotAccount("bot1", "pw", AIPlayerRND.class.getName(), TableMode.JOIN)); //$NON-NLS-1$ //$NON-NLS-2$
+			host.login(new IssBotAccount("bot2", "pw", AIPlayerRND.class.getName(), TableMode.JOIN)); //$NON-NLS-1$ //$NON-NLS-2$
+
+			final long timeout = System.currentTimeMillis() + TIMEOUT;
+			while (server.getGameSummaries().size() < 2 && System.currentTimeMillis() < timeout) {
+				Thread.sleep(20);
+			}
+		} finally {
+			host.shutdown();
+		}
+		server.setMessageTap(null);
+
+		final List<String> session = recorder.getSession();
+		assertTrue("No game recorded", session.stream().anyMatch(message -> message.contains(" end "))); //$NON-NLS-1$ //$NON-NLS-2$
+
+		harness = new IssLoadTestHarness(server, 3, 2);
+		harness.connect(TIMEOUT);
+		final IssLoadReport report = harness.run(session, 0, TIMEOUT);
+
+		assertThat(report.getDroppedMessages(), is(0L));
+		assertThat(report.getMisparsedMessages(), is(0L));
+	}
+
+	/**
+	 * Unknown and broken messages are reported as misparsed
+	 * 
+	 * @throws Exception
+	 */
+	@Test
+	public void testMisparsedMessages() throws Exception {
+
+		final List<String> session = new ArrayList<String>(Arrays.asList("yell foo hello", //$NON-NLS-1$
+				"unknown message", //$NON-NLS-1$
+				"table .1 foo play", //$NON-NLS-1$
+				"clients + foo")); //$NON-NLS-1$
+
+		harness = new IssLoadTestHarness(server, 2, 1);
+		harness.connect(TIMEOUT);
+		final IssLoadReport report = harness.run(session, 0, TIMEOUT);
+
+		assertThat(report.getDroppedMessages(), is(0L));
+		assertThat(report.getMisparsedMessages(), is(6L));
+	}
+}
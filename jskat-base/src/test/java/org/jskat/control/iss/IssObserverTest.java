@@ -0,0 +1,159 @@
+/**
+ * Copyright (C) 2019 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.control.iss;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jskat.AbstractJSkatTest;
+import org.jskat.ai.rnd.AIPlayerRND;
+import org.jskat.control.iss.IssBotAccount.TableMode;
+import org.jskat.data.SkatGameData.GameState;
+import org.jskat.data.SkatGameSnapshot;
+import org.jskat.util.Player;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link IssObserver} against an {@link IssStandInServer}
+ */
+public class IssObserverTest extends AbstractJSkatTest {
+
+	private static final long TIMEOUT = 30000;
+
+	private IssStandInServer server;
+	private IssBotHost host;
+	private IssObserver observer;
+	private final List<IssObservedGame> finishedGames = new CopyOnWriteArrayList<IssObservedGame>();
+
+	/**
+	 * Starts the stand-in server, the bot host and the observer
+	 * 
+	 * @throws Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		server = new IssStandInServer(42);
+		host = new IssBotHost("localhost", server.getPort(), 2); //$NON-NLS-1$
+		observer = new IssObserver("localhost", server.getPort(), 5, finishedGames::add); //$NON-NLS-1$
+	}
+
+	/**
+	 * Stops the observer, the bot host and the stand-in server
+	 * 
+	 * @throws Exception
+	 */
+	@After
+	public void tearDown() throws Exception {
+		observer.shutdown();
+		host.shutdown();
+		server.close();
+	}
+
+	/**
+	 * The observer follows the games on all tables and hands over finished
+	 * games
+	 * 
+	 * @throws Exception
+	 */
+	@Test
+	public void testObserveTables() throws Exception {
+
+		observer.login("observer", "pw"); //$NON-NLS-1$ //$NON-NLS-2$
+		waitFor(() -> observer.isConnected());
+
+		for (int table = 0; table < 2; table++) {
+			host.login(new IssBotAccount("creator" + table, "pw", AIPlayerRND.class.getName(), TableMode.CREATE)); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		waitFor(() -> observer.getObservedTables() == 2);
+		for (int i = 0; i < 4; i++) {
+			host.login(new IssBotAccount("joiner" + i, "pw", AIPlayerRND.class.getName(), TableMode.JOIN)); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+
+		waitFor(() -> finishedGames.size() >= 6);
+
+		assertTrue("Only " + finishedGames.size() + " games observed", finishedGames.size() >= 6); //$NON-NLS-1$ //$NON-NLS-2$
+		assertThat(observer.getObservedTables(), is(2));
+		assertThat(observer.getGamesFinished(), is(finishedGames.size()));
+
+		int playedGames = 0;
+		for (final IssObservedGame game : finishedGames) {
+			final SkatGameSnapshot snapshot = game.getSnapshot();
+			assertThat(game.getPlayerName(Player.FOREHAND), notNullValue());
+			assertTrue(game.getMoves() >= 4);
+			assertThat(snapshot.getGameState(), is(GameState.GAME_OVER));
+			if (snapshot.getGameType() != null) {
+				playedGames++;
+				assertThat(snapshot.getTricks().size(), is(10));
+				int points = 0;
+				for (final Player player : Player.values()) {
+					points += snapshot.getPlayerPoints(player);
+					assertThat(snapshot.getPlayerCards(player).size(), is(0));
+				}
+				assertTrue(points <= 120);
+				assertThat(snapshot.getResult(), notNullValue());
+			}
+		}
+		assertTrue("No game was played", playedGames > 0); //$NON-NLS-1$
+	}
+
+	/**
+	 * No more tables than configured are observed
+	 * 
+	 * @throws Exception
+	 */
+	@Test
+	public void testMaxTables() throws Exception {
+
+		observer.shutdown();
+		observer = new IssObserver("localhost", server.getPort(), 1, finishedGames::add); //$NON-NLS-1$
+		observer.login("observer", "pw"); //$NON-NLS-1$ //$NON-NLS-2$
+		waitFor(() -> observer.isConnected());
+
+		final AtomicInteger tableEntries = new AtomicInteger();
+		server.setMessageTap((login, message, nanoTime) -> {
+			if ("observer".equals(login) && message.startsWith("tables + ")) { //$NON-NLS-1$ //$NON-NLS-2$
+				tableEntries.incrementAndGet();
+			}
+		});
+		for (int table = 0; table < 3; table++) {
+			host.login(new IssBotAccount("creator" + table, "pw", AIPlayerRND.class.getName(), TableMode.CREATE)); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		waitFor(() -> tableEntries.get() == 3);
+		Thread.sleep(200);
+
+		assertThat(tableEntries.get(), is(3));
+		assertThat(observer.getObservedTables(), is(1));
+	}
+
+	private static void waitFor(final Condition condition) throws InterruptedException {
+		final long timeout = System.currentTimeMillis() + TIMEOUT;
+		while (!condition.isMet() && System.currentTimeMillis() < timeout) {
+			Thread.sleep(20);
+		}
+	}
+
+	private interface Condition {
+		boolean isMet();
+	}
+}
@@ -0,0 +1,61 @@
+/**
+ * Copyright (C) 2019 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.control.iss;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records the messages the {@link IssStandInServer} sends to one client after
+ * its login, so that the session can be replayed by the
+ * {@link IssLoadTestHarness}
+ */
+class IssSessionRecorder implements IssStandInServer.MessageTap {
+
+	private final String login;
+	private final List<String> messages = new ArrayList<String>();
+	private boolean loggedIn;
+
+	/**
+	 * Constructor
+	 *
+	 * @param login
+	 *            Login name of the recorded client
+	 */
+	IssSessionRecorder(final String login) {
+		this.login = login;
+	}
+
+	@Override
+	public synchronized void sent(final String receiver, final String message, final long nanoTime) {
+		if (login.equals(receiver)) {
+			if (loggedIn) {
+				messages.add(message);
+			} else {
+				loggedIn = message.startsWith("Welcome "); //$NON-NLS-1$
+			}
+		}
+	}
+
+	/**
+	 * Gets the recorded session
+	 *
+	 * @return Recorded messages
+	 */
+	synchronized List<String> getSession() {
+		return new ArrayList<String>(messages);
+	}
+}
@@ -0,0 +1,542 @@
+/**
+ * Copyright (C) 2019 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.control.iss;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.StringJoiner;
+import java.util.concurrent.locks.LockSupport;
+
+import org.jskat.data.SkatGameData;
+import org.jskat.data.Trick;
+import org.jskat.util.Card;
+import org.jskat.util.GameType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * In-process stand-in for ISS that speaks the subset of the ISS text protocol
+ * used by JSkat: login, lobby client and table lists, lobby and table chat,
+ * table create/join/observe, game moves and game summaries<br>
+ * The server relays moves without checking the skat rules. Scripted or
+ * recorded sessions can be replayed to all clients at a given rate.
+ */
+class IssStandInServer implements Closeable {
+
+	private static Logger log = LoggerFactory.getLogger(IssStandInServer.class);
+
+	private static final String PROTOCOL_VERSION = "14.0"; //$NON-NLS-1$
+	private static final String PLAYER_TIMES = " 180.0 180.0 180.0"; //$NON-NLS-1$
+
+	/**
+	 * Gets informed about every message the server sends
+	 */
+	interface MessageTap {
+
+		/**
+		 * Called right before a message is written to a client
+		 *
+		 * @param login
+		 *            Login name of the client
+		 * @param message
+		 *            Message
+		 * @param nanoTime
+		 *            Time of sending
+		 */
+		void sent(String login, String message, long nanoTime);
+	}
+
+	private final ServerSocket serverSocket;
+	private final Random random;
+	private final Map<String, Client> clients = new LinkedHashMap<String, Client>();
+	private final Map<String, Table> tables = new LinkedHashMap<String, Table>();
+	private final List<String> gameSummaries = new ArrayList<String>();
+	private int nextTableNumber = 1;
+	private volatile boolean closed;
+	private volatile MessageTap messageTap;
+
+	/**
+	 * Constructor, starts the server on a free loopback port
+	 *
+	 * @param seed
+	 *            Seed for shuffling the cards
+	 * @throws IOException
+	 */
+	IssStandInServer(final long seed) throws IOException {
+		random = new Random(seed);
+		serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+		final Thread acceptor = new Thread(this::acceptClients, "ISS stand-in"); //$NON-NLS-1$
+		acceptor.setDaemon(true);
+		acceptor.start();
+	}
+
+	/**
+	 * Gets the port of the server
+	 *
+	 * @return Port
+	 */
+	int getPort() {
+		return serverSocket.getLocalPort();
+	}
+
+	/**
+	 * Gets the summaries of all finished games
+	 *
+	 * @return Game summaries
+	 */
+	synchronized List<String> getGameSummaries() {
+		return new ArrayList<String>(gameSummaries);
+	}
+
+	/**
+	 * Sets a tap for all messages sent by the server
+	 *
+	 * @param tap
+	 *            Message tap, <code>null</code> to remove the tap
+	 */
+	void setMessageTap(final MessageTap tap) {
+		messageTap = tap;
+	}
+
+	/**
+	 * Replays a session to all logged in clients
+	 *
+	 * @param session
+	 *            Messages to send
+	 * @param messagesPerSecond
+	 *            Messages per second and client, zero or less to send as fast
+	 *            as possible
+	 * @return Number of messages sent to every client
+	 */
+	int replay(final List<String> session, final double messagesPerSecond) {
+
+		final List<Client> receivers;
+		synchronized (this) {
+			receivers = new ArrayList<Client>(clients.values());
+		}
+
+		final long start = System.nanoTime();
+		int sent = 0;
+		for (final String message : session) {
+			if (messagesPerSecond > 0) {
+				waitUntil(start + (long) (sent * 1_000_000_000L / messagesPerSecond));
+			}
+			for (final Client client : receivers) {
+				client.send(message);
+			}
+			sent++;
+		}
+		return sent;
+	}
+
+	private static void waitUntil(final long nanoTime) {
+		long remaining;
+		while ((remaining = nanoTime - System.nanoTime()) > 0) {
+			LockSupport.parkNanos(remaining);
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		closed = true;
+		serverSocket.close();
+		synchronized (this) {
+			for (final Client client : clients.values()) {
+				client.close();
+			}
+		}
+	}
+
+	private void acceptClients() {
+		while (!closed) {
+			try {
+				new Client(serverSocket.accept()).start();
+			} catch (final IOException e) {
+				if (!closed) {
+					log.warn("Accepting client failed", e); //$NON-NLS-1$
+				}
+			}
+		}
+	}
+
+	private synchronized void loggedIn(final Client client) {
+		clients.put(client.login, client);
+		client.send("Welcome " + client.login + " " + PROTOCOL_VERSION); //$NON-NLS-1$ //$NON-NLS-2$
+		for (final Client other : clients.values()) {
+			client.send(getClientEntry(other.login));
+			if (other != client) {
+				other.send(getClientEntry(client.login));
+			}
+		}
+		for (final Table table : tables.values()) {
+			client.send(table.getLobbyEntry());
+		}
+	}
+
+	private synchronized void loggedOut(final Client client) {
+		if (client.login != null && clients.remove(client.login) == client) {
+			broadcast("clients - " + client.login); //$NON-NLS-1$
+		}
+	}
+
+	private static String getClientEntry(final String login) {
+		return "clients + " + login + " . de 0 0.0"; //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	private synchronized void handleCommand(final Client client, final String command) {
+
+		final List<String> tokens = Arrays.asList(command.trim().split(" +")); //$NON-NLS-1$
+
+		if ("yell".equals(tokens.get(0))) { //$NON-NLS-1$
+			broadcast("yell " + client.login + command.trim().substring(4)); //$NON-NLS-1$
+		} else if ("create".equals(tokens.get(0))) { //$NON-NLS-1$
+			final Table table = new Table("." + nextTableNumber++, client.login); //$NON-NLS-1$
+			tables.put(table.name, table);
+			client.send("create " + table.name + " " + client.login + " 3"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			broadcastLobby(table);
+		} else if ("join".equals(tokens.get(0))) { //$NON-NLS-1$
+			final Table table = tables.get(tokens.get(1));
+			if (table == null || !table.seat(client.login)) {
+				client.send("error _table_full"); //$NON-NLS-1$
+			} else {
+				client.send("create " + table.name + " " + table.seats.get(0) + " 3"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				broadcastLobby(table);
+			}
+		} else if ("observe".equals(tokens.get(0))) { //$NON-NLS-1$
+			final Table table = tables.get(tokens.get(1));
+			if (table == null) {
+				client.send("error _no_such_table"); //$NON-NLS-1$
+			} else if (!table.observers.contains(client.login)) {
+				table.observers.add(client.login);
+			}
+		} else if ("table".equals(tokens.get(0)) && tokens.size() > 3) { //$NON-NLS-1$
+			final Table table = tables.get(tokens.get(1));
+			if (table == null || !table.seats.contains(client.login)) {
+				client.send("error _not_at_table"); //$NON-NLS-1$
+			} else if ("ready".equals(tokens.get(3))) { //$NON-NLS-1$
+				table.ready(client.login);
+			} else if ("play".equals(tokens.get(3)) && tokens.size() > 4) { //$NON-NLS-1$
+				table.play(client.login, tokens.get(4));
+			} else if ("tell".equals(tokens.get(3))) { //$NON-NLS-1$
+				table.tell(client.login, String.join(" ", tokens.subList(4, tokens.size()))); //$NON-NLS-1$
+			}
+		}
+	}
+
+	private void broadcastLobby(final Table table) {
+		broadcast(table.getLobbyEntry());
+	}
+
+	private void broadcast(final String message) {
+		for (final Client client : clients.values()) {
+			client.send(message);
+		}
+	}
+
+	static String toIssString(final Card card) {
+		return card.getSuit().getShortString() + card.getRank().getShortString();
+	}
+
+	static String toIssString(final List<Card> cards, final boolean hidden) {
+		final StringJoiner result = new StringJoiner("."); //$NON-NLS-1$
+		for (final Card card : cards) {
+			result.add(hidden ? "??" : toIssString(card)); //$NON-NLS-1$
+		}
+		return result.toString();
+	}
+
+	/**
+	 * Connection of one client
+	 */
+	private class Client extends Thread {
+
+		private final Socket socket;
+		private final BufferedReader reader;
+		private final PrintWriter writer;
+		private String login;
+
+		Client(final Socket socket) throws IOException {
+			super("ISS stand-in client"); //$NON-NLS-1$
+			setDaemon(true);
+			this.socket = socket;
+			reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+			writer = new PrintWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+		}
+
+		@Override
+		public void run() {
+			try {
+				login = reader.readLine();
+				send("password: "); //$NON-NLS-1$
+				if (login == null || reader.readLine() == null) {
+					return;
+				}
+				loggedIn(this);
+
+				String command;
+				while ((command = reader.readLine()) != null) {
+					if (!command.trim().isEmpty()) {
+						handleCommand(this, command);
+					}
+				}
+			} catch (final IOException e) {
+				log.debug("Client " + login + " lost: " + e); //$NON-NLS-1$ //$NON-NLS-2$
+			} finally {
+				loggedOut(this);
+				close();
+			}
+		}
+
+		synchronized void send(final String message) {
+			final MessageTap tap = messageTap;
+			if (tap != null) {
+				tap.sent(login, message, System.nanoTime());
+			}
+			writer.print(message);
+			writer.print('\n');
+			writer.flush();
+		}
+
+		void close() {
+			try {
+				socket.close();
+			} catch (final IOException e) {
+				log.debug("Closing client failed: " + e); //$NON-NLS-1$
+			}
+		}
+	}
+
+	/**
+	 * Table with three seats
+	 */
+	private class Table {
+
+		private final String name;
+		private final List<String> seats = new ArrayList<String>();
+		private final List<String> readyPlayers = new ArrayList<String>();
+		private final List<String> observers = new ArrayList<String>();
+		private int gamesPlayed;
+
+		// current game, positions are fore hand, middle hand, rear hand
+		private String[] positions;
+		private List<Card> deck;
+		private StringBuilder moves;
+		private int passes;
+		private int cardsPlayed;
+		private int declarer = -1;
+
+		Table(final String name, final String creator) {
+			this.name = name;
+			seats.add(creator);
+		}
+
+		boolean seat(final String login) {
+			if (seats.size() == 3 || seats.contains(login)) {
+				return false;
+			}
+			seats.add(login);
+			return true;
+		}
+
+		String getLobbyEntry() {
+			final StringBuilder entry = new StringBuilder("tables + ").append(name).append(" 3 ").append(gamesPlayed); //$NON-NLS-1$ //$NON-NLS-2$
+			for (int i = 0; i < 3; i++) {
+				entry.append(' ').append(i < seats.size() ? seats.get(i) : "?"); //$NON-NLS-1$
+			}
+			return entry.toString();
+		}
+
+		void ready(final String login) {
+			if (!readyPlayers.contains(login)) {
+				readyPlayers.add(login);
+			}
+			if (positions == null && readyPlayers.size() == 3) {
+				startGame();
+			}
+		}
+
+		private void startGame() {
+
+			readyPlayers.clear();
+			positions = new String[3];
+			for (int i = 0; i < 3; i++) {
+				positions[i] = seats.get((gamesPlayed + i) % 3);
+			}
+			deck = new ArrayList<Card>(Arrays.asList(Card.values()));
+			Collections.shuffle(deck, random);
+			moves = new StringBuilder("w ").append(toIssString(deck, false)); //$NON-NLS-1$
+			passes = 0;
+			cardsPlayed = 0;
+			declarer = -1;
+
+			for (int position = 0; position < 3; position++) {
+				sendTo(position, "start " + gamesPlayed + " " + positions[0] + " 180.0 " + positions[1] + " 180.0 " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+						+ positions[2] + " 180.0"); //$NON-NLS-1$
+				final StringJoiner deal = new StringJoiner("|"); //$NON-NLS-1$
+				for (int hand = 0; hand < 3; hand++) {
+					deal.add(toIssString(deck.subList(hand * 10, hand * 10 + 10), hand != position));
+				}
+				deal.add("??.??"); //$NON-NLS-1$
+				sendTo(position, "play w " + deal + PLAYER_TIMES); //$NON-NLS-1$
+			}
+			sendToObservers("start " + gamesPlayed + " " + positions[0] + " 180.0 " + positions[1] + " 180.0 " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+					+ positions[2] + " 180.0"); //$NON-NLS-1$
+			final StringJoiner hiddenDeal = new StringJoiner("|"); //$NON-NLS-1$
+			for (int hand = 0; hand < 3; hand++) {
+				hiddenDeal.add(toIssString(deck.subList(hand * 10, hand * 10 + 10), true));
+			}
+			hiddenDeal.add("??.??"); //$NON-NLS-1$
+			sendToObservers("play w " + hiddenDeal + PLAYER_TIMES); //$NON-NLS-1$
+		}
+
+		void tell(final String login, final String text) {
+			for (final String seat : seats) {
+				final Client client = clients.get(seat);
+				if (client != null) {
+					client.send("table " + name + " " + seat + " tell " + login + " " + text); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+				}
+			}
+		}
+
+		void play(final String login, final String move) {
+
+			final int position = positions == null ? -1 : Arrays.asList(positions).indexOf(login);
+			if (position < 0) {
+				return;
+			}
+			moves.append(' ').append(position).append(' ').append(move);
+
+			if ("s".equals(move)) { //$NON-NLS-1$
+				declarer = position;
+				broadcast(position + " s"); //$NON-NLS-1$
+				final String skat = toIssString(deck.subList(30, 32), false);
+				moves.append(" w ").append(skat); //$NON-NLS-1$
+				for (int i = 0; i < 3; i++) {
+					sendTo(i, "play w " + (i == position ? skat : "??.??") + PLAYER_TIMES); //$NON-NLS-1$ //$NON-NLS-2$
+				}
+				sendToObservers("play w ??.??" + PLAYER_TIMES); //$NON-NLS-1$
+			} else if ("p".equals(move)) { //$NON-NLS-1$
+				broadcast(position + " p"); //$NON-NLS-1$
+				if (++passes == 3) {
+					endGame();
+				}
+			} else if ("y".equals(move) || move.matches("\\d+")) { //$NON-NLS-1$ //$NON-NLS-2$
+				broadcast(position + " " + move); //$NON-NLS-1$
+			} else if (Card.getCardFromString(move) != null) {
+				broadcast(position + " " + move); //$NON-NLS-1$
+				if (++cardsPlayed == 30) {
+					endGame();
+				}
+			} else {
+				// game announcement, the discarded cards stay hidden
+				declarer = position;
+				broadcast(position + " " + move.split("\\.")[0]); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+		}
+
+		private void endGame() {
+
+			final String header = "(;GM[Skat]PC[ISS stand-in]ID[" + gamesPlayed + "]P0[" + positions[0] + "]P1[" //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+					+ positions[1] + "]P2[" + positions[2] + "]MV[" + moves + " ]"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			final String summary = header + "R[" + getResult(header) + "] ;)"; //$NON-NLS-1$ //$NON-NLS-2$
+
+			for (int position = 0; position < 3; position++) {
+				sendTo(position, "end " + summary); //$NON-NLS-1$
+			}
+			sendToObservers("end " + summary); //$NON-NLS-1$
+			gameSummaries.add(summary);
+			gamesPlayed++;
+			positions = null;
+			broadcastLobby(this);
+		}
+
+		private String getResult(final String movesSummary) {
+
+			if (declarer < 0) {
+				return "passed"; //$NON-NLS-1$
+			}
+
+			final SkatGameData data = MessageParser.parseGameSummary(movesSummary);
+			data.setDeclarer(org.jskat.util.Player.values()[declarer]);
+			int opponentPoints = 0;
+			boolean declarerMadeTrick = false;
+			for (final Trick trick : data.getTricks()) {
+				if (trick.getTrickWinner() == data.getDeclarer()) {
+					declarerMadeTrick = true;
+				} else {
+					opponentPoints += trick.getValue();
+				}
+			}
+			final int declarerPoints = 120 - opponentPoints;
+
+			int gameValue = 0;
+			boolean won;
+			if (data.getGameType() == GameType.NULL) {
+				won = !declarerMadeTrick;
+			} else {
+				won = declarerPoints > 60;
+			}
+			try {
+				data.setDeclarerScore(declarerPoints);
+				data.calcResult();
+				gameValue = Math.abs(data.getResult().getGameValue());
+			} catch (final RuntimeException e) {
+				log.debug("Game value calculation failed: " + e); //$NON-NLS-1$
+			}
+
+			return "d:" + declarer + (won ? " win" : " loss") + " v:" + (won ? gameValue : -2 * gameValue) //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+					+ " p:" + declarerPoints; //$NON-NLS-1$
+		}
+
+		private void broadcast(final String move) {
+			for (int position = 0; position < 3; position++) {
+				sendTo(position, "play " + move + PLAYER_TIMES); //$NON-NLS-1$
+			}
+			sendToObservers("play " + move + PLAYER_TIMES); //$NON-NLS-1$
+		}
+
+		private void sendToObservers(final String action) {
+			for (final String observer : observers) {
+				final Client client = clients.get(observer);
+				if (client != null) {
+					client.send("table " + name + " " + observer + " " + action); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				}
+			}
+		}
+
+		private void sendTo(final int position, final String action) {
+			final Client client = clients.get(positions[position]);
+			if (client != null) {
+				client.send("table " + name + " " + positions[position] + " " + action); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			}
+		}
+	}
+}
@@ -684,4 +684,27 @@ public class MessageParserTest extends AbstractJSkatTest {
 		assertTrue(ouvertCards.contains(Card.CK));
 		assertTrue(ouvertCards.contains(Card.CA));
 	}
+
+	/**
+	 * Tests a five character announcement that must not be taken for a skat
+	 */
+	@Test
+	public void testParseTableUpdateHandSchneiderSchwarzAnnouncement() {
+
+		final List<String> detailParams = Arrays.asList("1", "CHSZ", //$NON-NLS-1$ //$NON-NLS-2$
+				"237.6", "225.8", "237.7"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		final List<String> ouvertParams = Arrays.asList("2", "GHOSZ", //$NON-NLS-1$ //$NON-NLS-2$
+				"237.6", "225.8", "237.7"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+		final MoveInformation moveInfo = MessageParser
+				.getMoveInformation(new ArrayList<String>(detailParams));
+		final MoveInformation ouvertMoveInfo = MessageParser
+				.getMoveInformation(new ArrayList<String>(ouvertParams));
+
+		assertEquals(MoveType.GAME_ANNOUNCEMENT, moveInfo.getType());
+		assertEquals(GameType.CLUBS, moveInfo.getGameAnnouncement().getGameType());
+		assertEquals(MoveType.GAME_ANNOUNCEMENT, ouvertMoveInfo.getType());
+		assertEquals(GameType.GRAND, ouvertMoveInfo.getGameAnnouncement().getGameType());
+		assertTrue(ouvertMoveInfo.getGameAnnouncement().isOuvert());
+	}
 }
@@ -0,0 +1,194 @@
+/**
+ * Copyright (C) 2019 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.control.iss;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.jskat.AbstractJSkatTest;
+import org.junit.Test;
+
+/**
+ * Tests for {@link OutboundWriter}
+ */
+public class OutboundWriterTest extends AbstractJSkatTest {
+
+	/**
+	 * Messages queued while the writer is busy are written with one flush
+	 * 
+	 * @throws Exception
+	 */
+	@Test
+	public void testBurstIsCoalesced() throws Exception {
+
+		final RecordingSink sink = new RecordingSink();
+		sink.blockWrites();
+		final OutboundWriter writer = new OutboundWriter(sink);
+
+		writer.sendMessage("first"); //$NON-NLS-1$
+		assertTrue(sink.writeStarted.await(5, TimeUnit.SECONDS));
+		for (int i = 0; i < 10; i++) {
+			writer.sendMessage("message " + i); //$NON-NLS-1$
+		}
+		assertThat(writer.getQueueDepth(), is(10));
+		sink.releaseWrites();
+		writer.close();
+
+		assertThat(sink.getMessages().size(), is(11));
+		assertThat(sink.getMessages().get(0), is("first")); //$NON-NLS-1$
+		assertThat(sink.getMessages().get(10), is("message 9")); //$NON-NLS-1$
+		assertThat(sink.flushes, is(2));
+		assertThat(writer.getMessagesSent(), is(11L));
+		assertThat(writer.getBatchesWritten(), is(2L));
+		assertThat(writer.getMaxQueueDepth(), is(10));
+		assertTrue(writer.getMaxSendLatency() >= writer.getAverageSendLatency());
+		assertTrue(sink.closed);
+	}
+
+	/**
+	 * Callers wait while the queue is full and the connection is closed if
+	 * ISS stops reading
+	 * 
+	 * @throws Exception
+	 */
+	@Test
+	public void testStalledPeerIsClosed() throws Exception {
+
+		final RecordingSink sink = new RecordingSink();
+		sink.blockWrites();
+		final OutboundWriter writer = new OutboundWriter(sink, 2, 200);
+
+		writer.sendMessage("first"); //$NON-NLS-1$
+		assertTrue(sink.writeStarted.await(5, TimeUnit.SECONDS));
+		writer.sendMessage("second"); //$NON-NLS-1$
+		writer.sendMessage("third"); //$NON-NLS-1$
+
+		final long start = System.nanoTime();
+		writer.sendMessage("fourth"); //$NON-NLS-1$
+		assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(200));
+
+		assertFalse(writer.isOpen());
+		assertTrue(sink.closed);
+		assertThat(writer.getQueueDepth(), is(0));
+
+		// later messages are dropped without waiting
+		writer.sendMessage("fifth"); //$NON-NLS-1$
+		assertThat(sink.getMessages().size(), is(0));
+	}
+
+	/**
+	 * Closing writes all queued messages before the transport is closed
+	 * 
+	 * @throws Exception
+	 */
+	@Test
+	public void testCloseWritesQueuedMessages() throws Exception {
+
+		final RecordingSink sink = new RecordingSink();
+		final OutboundWriter writer = new OutboundWriter(sink);
+
+		for (int i = 0; i < 100; i++) {
+			writer.sendMessage("message " + i); //$NON-NLS-1$
+		}
+		writer.close();
+
+		assertThat(sink.getMessages().size(), is(100));
+		assertTrue(sink.closed);
+		assertFalse(writer.isOpen());
+	}
+
+	/**
+	 * A failing transport closes the writer
+	 * 
+	 * @throws Exception
+	 */
+	@Test
+	public void testWriteErrorClosesWriter() throws Exception {
+
+		final RecordingSink sink = new RecordingSink();
+		sink.failWrites = true;
+		final OutboundWriter writer = new OutboundWriter(sink);
+
+		writer.sendMessage("message"); //$NON-NLS-1$
+
+		final long timeout = System.currentTimeMillis() + 5000;
+		while (writer.isOpen() && System.currentTimeMillis() < timeout) {
+			Thread.sleep(5);
+		}
+		assertFalse(writer.isOpen());
+		assertTrue(sink.closed);
+	}
+
+	private static class RecordingSink implements MessageSink {
+
+		private final List<String> messages = new ArrayList<String>();
+		private final CountDownLatch writeStarted = new CountDownLatch(1);
+		private CountDownLatch writeReleased = new CountDownLatch(0);
+		private volatile boolean failWrites;
+		private volatile boolean closed;
+		private volatile int flushes;
+
+		void blockWrites() {
+			writeReleased = new CountDownLatch(1);
+		}
+
+		void releaseWrites() {
+			writeReleased.countDown();
+		}
+
+		synchronized List<String> getMessages() {
+			return new ArrayList<String>(messages);
+		}
+
+		@Override
+		public void write(final String message) throws IOException {
+			writeStarted.countDown();
+			if (failWrites) {
+				throw new IOException("connection reset"); //$NON-NLS-1$
+			}
+			try {
+				writeReleased.await();
+			} catch (final InterruptedException e) {
+				throw new IOException("interrupted"); //$NON-NLS-1$
+			}
+			if (closed) {
+				throw new IOException("closed"); //$NON-NLS-1$
+			}
+			synchronized (this) {
+				messages.add(message);
+			}
+		}
+
+		@Override
+		public void flush() {
+			flushes++;
+		}
+
+		@Override
+		public void close() {
+			closed = true;
+			writeReleased.countDown();
+		}
+	}
+}
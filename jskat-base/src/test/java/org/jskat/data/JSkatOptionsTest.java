@@ -27,6 +27,7 @@ import org.jskat.AbstractJSkatTest;
 import org.jskat.data.JSkatOptions.Option;
 import org.jskat.data.JSkatOptions.SupportedLanguage;
 import org.jskat.data.SkatTableOptions.ContraCallingTime;
+import org.jskat.data.SkatTableOptions.RamschSkatOwner;
 import org.jskat.data.SkatTableOptions.RuleSet;
 import org.jskat.gui.img.CardFace;
 import org.jskat.gui.img.CardSet;
@@ -51,6 +52,7 @@ public class JSkatOptionsTest extends AbstractJSkatTest {
 		assertTrue(options.getBoolean(Option.SHOW_TIPS_AT_START_UP));
 		assertFalse(options.getBoolean(Option.CHECK_FOR_NEW_VERSION_AT_START_UP));
 		assertFalse(options.getBoolean(Option.HIDE_TOOLBAR));
+		assertFalse(options.getBoolean(Option.ISS_NON_BLOCKING_CONNECTION));
 
 		if (Locale.getDefault().getLanguage().equals(Locale.GERMAN.getLanguage())) {
 			assertEquals(SupportedLanguage.GERMAN, options.getLanguage());
@@ -120,4 +122,31 @@ public class JSkatOptionsTest extends AbstractJSkatTest {
 		assertEquals(JSkatOptions.Option.BOCK_EVENT_NO_BID, JSkatOptions.Option.valueOfProperty("bockEventNoBid"));
 		assertEquals(JSkatOptions.Option.CONTRA_AFTER_BID_18, JSkatOptions.Option.valueOfProperty("contraAfterBid18"));
 	}
+
+	/**
+	 * Tests that game rules are not changed by later option changes
+	 */
+	@Test
+	public void testSkatGameRulesAreSnapshot() {
+
+		JSkatOptions options = JSkatOptions.instance();
+		options.setDefaultProperties();
+		options.setRules(RuleSet.PUB);
+		options.setPlayContra(true);
+		options.setRamschSkatOwner(RamschSkatOwner.LOSER);
+
+		SkatGameRules rules = options.getSkatGameRules();
+
+		// changes during a running game
+		options.setRules(RuleSet.ISPA);
+		options.setRamschSkatOwner(RamschSkatOwner.LAST_TRICK);
+
+		assertTrue(rules.isPlayContra());
+		assertThat(rules.getContraCallingTime(), is(ContraCallingTime.BEFORE_FIRST_CARD));
+		assertThat(rules.getRamschSkatOwner(), is(RamschSkatOwner.LOSER));
+		assertFalse(options.getSkatGameRules().isPlayContra());
+		assertThat(options.getSkatGameRules().getRamschSkatOwner(), is(RamschSkatOwner.LAST_TRICK));
+
+		options.setDefaultProperties();
+	}
 }
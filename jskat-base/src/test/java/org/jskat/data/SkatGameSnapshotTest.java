@@ -0,0 +1,157 @@
+/**
+ * Copyright (C) 2019 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.data;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jskat.control.event.skatgame.CardDealEvent;
+import org.jskat.control.event.skatgame.GameAnnouncementEvent;
+import org.jskat.control.event.skatgame.PickUpSkatEvent;
+import org.jskat.control.event.skatgame.SkatGameEvent;
+import org.jskat.control.event.skatgame.TrickCardPlayedEvent;
+import org.jskat.data.GameAnnouncement.GameAnnouncementFactory;
+import org.jskat.util.Card;
+import org.jskat.util.CardList;
+import org.jskat.util.GameType;
+import org.jskat.util.Player;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SkatGameSnapshotTest {
+
+	private List<SkatGameEvent> gameMoves;
+
+	@Before
+	public void createGameMoves() {
+
+		final Map<Player, CardList> dealtCards = new HashMap<>();
+		dealtCards.put(Player.FOREHAND, new CardList(Card.CJ, Card.CA, Card.C7));
+		dealtCards.put(Player.MIDDLEHAND,
+				new CardList(Card.SJ, Card.SA, Card.C8));
+		dealtCards.put(Player.REARHAND, new CardList(Card.HJ, Card.HA, Card.C9));
+
+		final GameAnnouncementFactory factory = GameAnnouncement.getFactory();
+		factory.setGameType(GameType.CLUBS);
+		factory.setHand(true);
+
+		gameMoves = new ArrayList<>();
+		gameMoves.add(new CardDealEvent(dealtCards,
+				new CardList(Card.DA, Card.DT)));
+		gameMoves.add(new GameAnnouncementEvent(Player.FOREHAND,
+				factory.getAnnouncement()));
+		gameMoves.add(new TrickCardPlayedEvent(Player.FOREHAND, Card.CJ));
+		gameMoves.add(new TrickCardPlayedEvent(Player.MIDDLEHAND, Card.SJ));
+		gameMoves.add(new TrickCardPlayedEvent(Player.REARHAND, Card.HJ));
+		gameMoves.add(new TrickCardPlayedEvent(Player.FOREHAND, Card.C7));
+	}
+
+	@Test
+	public void sameStateAsGameData() {
+
+		final SkatGameData data = new SkatGameData();
+		SkatGameSnapshot snapshot = SkatGameSnapshot.getEmptySnapshot();
+
+		for (final SkatGameEvent event : gameMoves) {
+			event.processForward(data);
+			snapshot = event.processForward(snapshot);
+
+			for (final Player player : Player.values()) {
+				assertSameCards(snapshot.getPlayerCards(player),
+						data.getPlayerCards(player));
+			}
+			assertSameCards(snapshot.getSkat(), data.getSkat());
+			assertThat(snapshot.getTricks().size(), is(data.getTricks().size()));
+			assertThat(snapshot.getAnnouncement(), is(data.getAnnoucement()));
+		}
+
+		assertThat(snapshot.getDeclarer(), is(Player.FOREHAND));
+		assertThat(snapshot.getTricks().get(0).getTrickWinner(),
+				is(Player.FOREHAND));
+		assertThat(snapshot.getPlayerPoints(Player.FOREHAND), is(6));
+		assertThat(snapshot.getCurrentTrick().getFirstCard(), is(Card.C7));
+	}
+
+	@Test
+	public void earlierSnapshotsAreNotChanged() {
+
+		final List<SkatGameSnapshot> history = SkatGameSnapshot
+				.getHistory(gameMoves);
+
+		assertThat(history.size(), is(gameMoves.size() + 1));
+		assertThat(history.get(0).getPlayerCards(Player.FOREHAND).size(),
+				is(0));
+		assertThat(history.get(0).getGameType(), is(nullValue()));
+		assertThat(history.get(1).getPlayerCards(Player.FOREHAND),
+				containsInAnyOrder(Card.CJ, Card.CA, Card.C7));
+		assertThat(history.get(2).getCurrentTrick(), is(nullValue()));
+		assertThat(history.get(3).getCurrentTrick().getFirstCard(),
+				is(Card.CJ));
+		assertThat(history.get(3).getPlayerCards(Player.FOREHAND),
+				containsInAnyOrder(Card.CA, Card.C7));
+		assertThat(history.get(4).getPlayerPoints(Player.FOREHAND), is(0));
+		assertThat(history.get(5).getPlayerPoints(Player.FOREHAND), is(6));
+	}
+
+	@Test
+	public void pickUpSkat() {
+
+		final SkatGameSnapshot snapshot = gameMoves.get(0)
+				.processForward(SkatGameSnapshot.getEmptySnapshot());
+		final SkatGameSnapshot afterPickUp = new PickUpSkatEvent(
+				Player.MIDDLEHAND).processForward(snapshot);
+
+		assertThat(snapshot.getSkat().size(), is(2));
+		assertThat(snapshot.getAnnouncement().isHand(), is(true));
+		assertThat(afterPickUp.getSkat().size(), is(0));
+		assertThat(afterPickUp.getAnnouncement().isHand(), is(false));
+		assertThat(afterPickUp.getPlayerCards(Player.MIDDLEHAND),
+				containsInAnyOrder(Card.SJ, Card.SA, Card.C8, Card.DA,
+						Card.DT));
+	}
+
+	@Test
+	public void toGameData() {
+
+		final SkatGameSnapshot snapshot = SkatGameSnapshot.getHistory(gameMoves)
+				.get(gameMoves.size());
+		final SkatGameData data = snapshot.toGameData();
+
+		assertThat(data.getGameType(), is(GameType.CLUBS));
+		assertThat(data.getDeclarer(), is(Player.FOREHAND));
+		assertThat(data.getPlayerCards(Player.FOREHAND),
+				containsInAnyOrder(Card.CA));
+		assertThat(data.getDealtCards().get(Player.FOREHAND),
+				containsInAnyOrder(Card.CJ, Card.CA, Card.C7));
+		assertThat(data.getTricks().size(), is(2));
+		assertThat(data.getPlayerPoints(Player.FOREHAND), is(6));
+	}
+
+	private static void assertSameCards(final CardList actual,
+			final CardList expected) {
+		assertThat(actual.size(), is(expected.size()));
+		for (final Card card : expected) {
+			assertThat(actual.contains(card), is(true));
+		}
+	}
+}
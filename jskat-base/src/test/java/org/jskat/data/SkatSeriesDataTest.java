@@ -0,0 +1,133 @@
+/**
+ * Copyright (C) 2019 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.data;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jskat.AbstractJSkatTest;
+import org.jskat.ai.rnd.AIPlayerRND;
+import org.jskat.control.JSkatEventBus;
+import org.jskat.control.SkatGame;
+import org.jskat.control.event.skatgame.GameFinishEvent;
+import org.jskat.control.event.skatgame.SkatGameEvent;
+import org.jskat.util.GameVariant;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.eventbus.EventBus;
+
+/**
+ * Tests for {@link SkatSeriesData} and its {@link SkatSeriesHistory}
+ */
+public class SkatSeriesDataTest extends AbstractJSkatTest {
+
+	private static final String TABLE_NAME = "History table"; //$NON-NLS-1$
+	private static final int WINDOW_SIZE = 3;
+	private static final int GAMES = 30;
+
+	private SkatSeriesData data;
+
+	@Before
+	public void setUp() {
+		JSkatOptions.instance().resetToDefault();
+		JSkatEventBus.TABLE_EVENT_BUSSES.put(TABLE_NAME, new EventBus());
+		data = new SkatSeriesData(WINDOW_SIZE);
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		data.getHistory().close();
+		JSkatEventBus.TABLE_EVENT_BUSSES.remove(TABLE_NAME);
+	}
+
+	private static SkatGame playGame(final int gameNo) {
+		final SkatGame game = new SkatGame(TABLE_NAME,
+				gameNo % 3 == 0 ? GameVariant.FORCED_RAMSCH : GameVariant.STANDARD, new AIPlayerRND(),
+				new AIPlayerRND(), new AIPlayerRND());
+		game.run();
+		return game;
+	}
+
+	private static List<String> describe(final List<SkatGameEvent> moves) {
+		final List<String> result = new ArrayList<>();
+		for (final SkatGameEvent move : moves) {
+			if (move instanceof GameFinishEvent) {
+				result.add("Game finished: " + ((GameFinishEvent) move).gameSummary); //$NON-NLS-1$
+			} else {
+				result.add(move.toString());
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Only a window of the completed games stays in memory, all games can be
+	 * loaded back
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void historyKeepsBoundedWindow() throws IOException {
+
+		final List<String> summaries = new ArrayList<>();
+		final List<List<String>> moves = new ArrayList<>();
+
+		for (int i = 0; i < GAMES; i++) {
+			final SkatGame game = playGame(i);
+			data.addGame(game);
+			summaries.add(game.getGameSummary().toString());
+			moves.add(describe(game.getGameMoves()));
+
+			assertThat(data.getCurrentGameID(), is(i));
+			assertThat(data.getHistory().getGamesInMemory(), is(lessThanOrEqualTo(WINDOW_SIZE)));
+		}
+
+		assertThat(data.getHistory().getGameCount(), is(GAMES - 1));
+		assertThat(data.getHistory().getGamesInMemory(), is(WINDOW_SIZE));
+
+		// spilled, in memory and current games
+		for (int i = GAMES - 1; i >= 0; i--) {
+			assertThat(data.getGameSummary(i).toString(), is(summaries.get(i)));
+			assertThat(describe(data.getGameMoves(i)), is(moves.get(i)));
+		}
+	}
+
+	/**
+	 * Closing the history removes all completed games
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void closeDiscardsHistory() throws IOException {
+
+		for (int i = 0; i < WINDOW_SIZE + 2; i++) {
+			data.addGame(playGame(i));
+		}
+		assertThat(data.getHistory().getGameCount(), is(WINDOW_SIZE + 1));
+
+		data.getHistory().close();
+
+		assertThat(data.getHistory().getGameCount(), is(0));
+		assertThat(data.getHistory().getGamesInMemory(), is(0));
+	}
+}
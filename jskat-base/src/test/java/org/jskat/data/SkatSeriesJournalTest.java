@@ -0,0 +1,207 @@
+/**
+ * Copyright (C) 2019 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.data;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.jskat.AbstractJSkatTest;
+import org.jskat.data.GameSummary.GameSummaryFactory;
+import org.jskat.data.SkatSeriesJournal.Replay;
+import org.jskat.data.SkatSeriesJournal.SeriesHeader;
+import org.jskat.util.GameType;
+import org.jskat.util.Player;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests for {@link SkatSeriesJournal}
+ */
+public class SkatSeriesJournalTest extends AbstractJSkatTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private static SeriesHeader createHeader() {
+		return new SeriesHeader("Table 1", Arrays.asList("Alice", "Bob", "Carol"), //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+				Arrays.asList("org.jskat.ai.rnd.AIPlayerRND", "org.jskat.ai.rnd.AIPlayerRND", //$NON-NLS-1$ //$NON-NLS-2$
+						"org.jskat.ai.rnd.AIPlayerRND"), //$NON-NLS-1$
+				1, Player.MIDDLEHAND, 12, false, false, 0);
+	}
+
+	private static GameSummary createGameSummary(final int gameValue, final boolean won) {
+
+		final GameSummaryFactory factory = GameSummary.getFactory();
+		factory.setForeHand("Bob"); //$NON-NLS-1$
+		factory.setMiddleHand("Carol"); //$NON-NLS-1$
+		factory.setRearHand("Alice"); //$NON-NLS-1$
+		factory.setGameType(GameType.GRAND);
+		factory.setDeclarer(Player.MIDDLEHAND);
+		factory.setHand(Boolean.TRUE);
+		factory.setContra(Boolean.TRUE);
+
+		final SkatGameResult result = new SkatGameResult();
+		result.setGameValue(gameValue);
+		result.setWon(won);
+		result.setSchneider(true);
+		result.setMultiplier(3);
+		result.setPlayWithJacks(true);
+		result.setFinalDeclarerPoints(95);
+		result.setFinalOpponentPoints(25);
+		factory.setGameResult(result);
+
+		final Map<Player, Integer> playerPoints = new EnumMap<>(Player.class);
+		playerPoints.put(Player.FOREHAND, 10);
+		playerPoints.put(Player.MIDDLEHAND, 95);
+		playerPoints.put(Player.REARHAND, 15);
+		factory.setPlayerPoints(playerPoints);
+
+		return factory.getSummary();
+	}
+
+	/**
+	 * Games are restored with the seat rotation of the series
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void testReplay() throws IOException {
+
+		final Path file = folder.getRoot().toPath().resolve("series.journal"); //$NON-NLS-1$
+
+		try (SkatSeriesJournal journal = SkatSeriesJournal.create(file, createHeader())) {
+			for (int i = 0; i < 1000; i++) {
+				journal.appendGame(createGameSummary(i, i % 2 == 0));
+			}
+		}
+
+		final Replay replay = SkatSeriesJournal.replay(file);
+
+		assertThat(replay.getHeader().getTableName(), is("Table 1")); //$NON-NLS-1$
+		assertThat(replay.getHeader().getPlayerNames(), is(Arrays.asList("Alice", "Bob", "Carol"))); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		assertThat(replay.getHeader().getRounds(), is(12));
+		assertThat(replay.getGameCount(), is(1000));
+
+		final GameSummary firstGame = replay.getGameSummaries().get(0);
+		assertThat(firstGame.getForeHand(), is("Bob")); //$NON-NLS-1$
+		assertThat(firstGame.getMiddleHand(), is("Carol")); //$NON-NLS-1$
+		assertThat(firstGame.getRearHand(), is("Alice")); //$NON-NLS-1$
+		assertThat(firstGame.getGameType(), is(GameType.GRAND));
+		assertThat(firstGame.getDeclarer(), is(Player.MIDDLEHAND));
+		assertThat(firstGame.isHand(), is(true));
+		assertThat(firstGame.isOuvert(), is(false));
+		assertThat(firstGame.isContra(), is(true));
+		assertThat(firstGame.isGameWon(), is(true));
+		assertThat(firstGame.isSchneider(), is(false));
+		assertThat(firstGame.gameResult.isSchneider(), is(true));
+		assertThat(firstGame.getGameMultiplier(), is(3));
+		assertThat(firstGame.getFinalDeclarerPoints(), is(95));
+		assertThat(firstGame.getPlayerPoints(Player.REARHAND), is(15));
+
+		final GameSummary secondGame = replay.getGameSummaries().get(1);
+		assertThat(secondGame.getForeHand(), is("Carol")); //$NON-NLS-1$
+		assertThat(secondGame.getGameValue(), is(1));
+		assertThat(secondGame.isGameWon(), is(false));
+
+		assertThat(replay.getGameSummaries().get(999).getGameValue(), is(999));
+
+		assertThat(replay.getHeader().getBottomPlayer(0), is(Player.MIDDLEHAND));
+		assertThat(replay.getHeader().getBottomPlayer(1), is(Player.FOREHAND));
+		assertThat(replay.getHeader().getBottomPlayer(2), is(Player.REARHAND));
+		assertThat(replay.getHeader().getBottomPlayer(3), is(Player.MIDDLEHAND));
+	}
+
+	/**
+	 * A partially written game at the end of the journal is cut off
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void testPartiallyWrittenGameIsCutOff() throws IOException {
+
+		final Path file = folder.getRoot().toPath().resolve("series.journal"); //$NON-NLS-1$
+
+		try (SkatSeriesJournal journal = SkatSeriesJournal.create(file, createHeader())) {
+			for (int i = 0; i < 3; i++) {
+				journal.appendGame(createGameSummary(i, true));
+			}
+		}
+		final long validSize = Files.size(file);
+
+		Files.write(file, new byte[] { 0, 0, 0, 22, 1, 2, 3 }, StandardOpenOption.APPEND);
+
+		assertThat(SkatSeriesJournal.replay(file).getGameCount(), is(3));
+		assertThat(Files.size(file), is(validSize));
+
+		try (SkatSeriesJournal journal = SkatSeriesJournal.open(file)) {
+			journal.appendGame(createGameSummary(3, true));
+		}
+
+		final Replay replay = SkatSeriesJournal.replay(file);
+		assertThat(replay.getGameCount(), is(4));
+		assertThat(replay.getGameSummaries().get(3).getGameValue(), is(3));
+	}
+
+	/**
+	 * Records grow with long table and player names
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void testLongNames() throws IOException {
+
+		final Path file = folder.getRoot().toPath().resolve("series.journal"); //$NON-NLS-1$
+		final String longName = String.join("", Collections.nCopies(5000, "Skat")); //$NON-NLS-1$ //$NON-NLS-2$
+
+		try (SkatSeriesJournal journal = SkatSeriesJournal.create(file,
+				new SeriesHeader(longName, Arrays.asList(longName, "Bob", "Carol"), //$NON-NLS-1$ //$NON-NLS-2$
+						Arrays.asList("org.jskat.ai.rnd.AIPlayerRND", "org.jskat.ai.rnd.AIPlayerRND", //$NON-NLS-1$ //$NON-NLS-2$
+								"org.jskat.ai.rnd.AIPlayerRND"), //$NON-NLS-1$
+						1, Player.MIDDLEHAND, 12, false, false, 0))) {
+			journal.appendGame(createGameSummary(18, true));
+		}
+
+		final Replay replay = SkatSeriesJournal.replay(file);
+		assertThat(replay.getHeader().getTableName(), is(longName));
+		assertThat(replay.getHeader().getPlayerNames().get(0), is(longName));
+		assertThat(replay.getGameCount(), is(1));
+	}
+
+	/**
+	 * Files that are no journals are ignored
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void testInvalidJournal() throws IOException {
+
+		final Path file = folder.newFile("invalid.journal").toPath(); //$NON-NLS-1$
+		Files.write(file, new byte[] { 1, 2, 3, 4, 5, 6 });
+
+		assertThat(SkatSeriesJournal.replay(file), is(nullValue()));
+	}
+}
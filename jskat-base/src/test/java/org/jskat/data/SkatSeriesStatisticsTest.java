@@ -0,0 +1,201 @@
+/**
+ * Copyright (C) 2019 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.data;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.jskat.AbstractJSkatTest;
+import org.jskat.control.event.skatgame.GameFinishEvent;
+import org.jskat.control.event.table.SkatGameReplayFinishedEvent;
+import org.jskat.control.event.table.SkatGameReplayStartedEvent;
+import org.jskat.data.GameSummary.GameSummaryFactory;
+import org.jskat.util.GameType;
+import org.jskat.util.Player;
+import org.junit.Test;
+
+import com.google.common.eventbus.EventBus;
+
+/**
+ * Tests for {@link SkatSeriesStatistics}
+ */
+public class SkatSeriesStatisticsTest extends AbstractJSkatTest {
+
+	private static GameSummary createGameSummary(final GameType gameType, final Player declarer,
+			final int gameValue, final boolean won, final boolean contra) {
+
+		final GameSummaryFactory factory = GameSummary.getFactory();
+		factory.setForeHand("Alice"); //$NON-NLS-1$
+		factory.setMiddleHand("Bob"); //$NON-NLS-1$
+		factory.setRearHand("Carol"); //$NON-NLS-1$
+		factory.setGameType(gameType);
+		factory.setDeclarer(declarer);
+		factory.setContra(contra);
+
+		final SkatGameResult result = new SkatGameResult();
+		result.setGameValue(gameValue);
+		result.setWon(won);
+		result.setFinalDeclarerPoints(won ? 80 : 50);
+		result.setFinalOpponentPoints(won ? 40 : 70);
+		factory.setGameResult(result);
+
+		final Map<Player, Integer> playerPoints = new EnumMap<>(Player.class);
+		playerPoints.put(Player.FOREHAND, 40);
+		playerPoints.put(Player.MIDDLEHAND, 40);
+		playerPoints.put(Player.REARHAND, 40);
+		factory.setPlayerPoints(playerPoints);
+		if (gameType == GameType.RAMSCH) {
+			factory.addRamschLooser(Player.REARHAND);
+		}
+
+		return factory.getSummary();
+	}
+
+	/**
+	 * Seeger-Fabian scores for declarer and opponents
+	 */
+	@Test
+	public void testSeegerFabianScore() {
+
+		final SkatSeriesStatistics statistics = new SkatSeriesStatistics();
+		statistics.addGame(createGameSummary(GameType.GRAND, Player.FOREHAND, 48, true, false));
+		statistics.addGame(createGameSummary(GameType.HEARTS, Player.FOREHAND, -60, false, true));
+		statistics.addGame(createGameSummary(GameType.NULL, Player.MIDDLEHAND, 23, true, false));
+
+		assertThat(statistics.getGameCount(), is(3L));
+
+		final PlayerStatistics alice = statistics.getPlayerStatistics("Alice"); //$NON-NLS-1$
+		assertThat(alice.getGamesPlayed(), is(3L));
+		assertThat(alice.getGamesDeclared(), is(2L));
+		assertThat(alice.getGamesWon(), is(1L));
+		assertThat(alice.getGamesDeclared(GameType.GRAND), is(1L));
+		assertThat(alice.getGamesWon(GameType.HEARTS), is(0L));
+		assertThat(alice.getSeegerFabianScore(), is((long) 98 - 110));
+		assertThat(alice.getSeegerFabianScore(GameType.GRAND), is(98L));
+		assertThat(alice.getAverageDeclarerPoints(), is(65.0));
+		assertThat(alice.getWinRate(), is(0.5));
+
+		final PlayerStatistics carol = statistics.getPlayerStatistics("Carol"); //$NON-NLS-1$
+		assertThat(carol.getGamesDeclared(), is(0L));
+		assertThat(carol.getOpponentGames(), is(3L));
+		assertThat(carol.getOpponentGamesWon(), is(1L));
+		assertThat(carol.getContraGames(), is(1L));
+		assertThat(carol.getContraGamesWon(), is(1L));
+		assertThat(carol.getSeegerFabianScore(), is(40L));
+
+		assertThat(statistics.getPlayerStatistics("Dave"), is(nullValue())); //$NON-NLS-1$
+	}
+
+	/**
+	 * Ramsch and passed in games count as played games only
+	 */
+	@Test
+	public void testRamschAndPassedInGames() {
+
+		final SkatSeriesStatistics statistics = new SkatSeriesStatistics();
+		statistics.addGame(createGameSummary(GameType.RAMSCH, null, 30, false, false));
+		statistics.addGame(createGameSummary(GameType.PASSED_IN, null, 0, false, false));
+
+		final PlayerStatistics carol = statistics.getPlayerStatistics("Carol"); //$NON-NLS-1$
+		assertThat(carol.getGamesPlayed(), is(2L));
+		assertThat(carol.getRamschGames(), is(1L));
+		assertThat(carol.getRamschGamesLost(), is(1L));
+		assertThat(carol.getSeegerFabianScore(), is(-30L));
+		assertThat(statistics.getPlayerStatistics("Alice").getSeegerFabianScore(), is(0L)); //$NON-NLS-1$
+	}
+
+	/**
+	 * Snapshots are not changed by later games
+	 */
+	@Test
+	public void testSnapshotIsCopy() {
+
+		final SkatSeriesStatistics statistics = new SkatSeriesStatistics();
+		statistics.addGame(createGameSummary(GameType.CLUBS, Player.FOREHAND, 24, true, false));
+
+		final Map<String, PlayerStatistics> snapshot = statistics.getSnapshot();
+		statistics.addGame(createGameSummary(GameType.CLUBS, Player.FOREHAND, 24, true, false));
+
+		assertThat(snapshot.size(), is(3));
+		assertThat(snapshot.get("Alice").getGamesDeclared(), is(1L)); //$NON-NLS-1$
+		assertThat(statistics.getPlayerStatistics("Alice").getGamesDeclared(), is(2L)); //$NON-NLS-1$
+	}
+
+	/**
+	 * The report contains every player and the declared game types
+	 */
+	@Test
+	public void testReport() {
+
+		final SkatSeriesStatistics statistics = new SkatSeriesStatistics();
+		statistics.addGame(createGameSummary(GameType.GRAND, Player.FOREHAND, 48, true, false));
+
+		final String report = statistics.getReport();
+
+		assertThat(report, containsString("Games: 1")); //$NON-NLS-1$
+		assertThat(report, containsString("Alice")); //$NON-NLS-1$
+		assertThat(report, containsString("Bob")); //$NON-NLS-1$
+		assertThat(report, containsString("Carol")); //$NON-NLS-1$
+		assertThat(report, containsString("GRAND: declared 1, won 1, score 98")); //$NON-NLS-1$
+	}
+
+	/**
+	 * Confidence intervals narrow with the number of games
+	 */
+	@Test
+	public void testConfidenceIntervals() {
+
+		final SkatSeriesStatistics statistics = new SkatSeriesStatistics();
+		for (int i = 0; i < 10_000; i++) {
+			final boolean won = i % 4 != 0;
+			statistics.addGame(createGameSummary(GameType.SPADES, Player.MIDDLEHAND, won ? 22 : -44, won, false));
+		}
+
+		final PlayerStatistics bob = statistics.getPlayerStatistics("Bob"); //$NON-NLS-1$
+		assertThat(bob.getWinRate(), is(0.75));
+		assertThat(bob.getWinRateLowerBound(), greaterThan(0.74));
+		assertThat(bob.getWinRateUpperBound(), lessThan(0.76));
+		assertThat(bob.getAverageScore(), closeTo((3 * 72 - 94) / 4.0, 0.001));
+		assertThat(bob.getScoreConfidenceHalfWidth(), lessThan(1.5));
+	}
+
+	/**
+	 * Games are taken from the table event bus, replays are ignored
+	 */
+	@Test
+	public void testGamesFromEventBus() {
+
+		final EventBus eventBus = new EventBus();
+		final SkatSeriesStatistics statistics = new SkatSeriesStatistics();
+		eventBus.register(statistics);
+
+		final GameSummary summary = createGameSummary(GameType.DIAMONDS, Player.REARHAND, 18, true, false);
+		eventBus.post(new GameFinishEvent(summary));
+		eventBus.post(new SkatGameReplayStartedEvent());
+		eventBus.post(new GameFinishEvent(summary));
+		eventBus.post(new SkatGameReplayFinishedEvent());
+
+		assertThat(statistics.getGameCount(), is(1L));
+	}
+}
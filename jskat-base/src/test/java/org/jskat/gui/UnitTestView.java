@@ -17,14 +17,17 @@ package org.jskat.gui;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.jskat.control.JSkatEventBus;
 import org.jskat.control.event.table.TableCreatedEvent;
 import org.jskat.control.iss.ChatMessageType;
+import org.jskat.data.PlayerStatistics;
 import org.jskat.data.SkatGameData;
 import org.jskat.data.SkatGameData.GameState;
 import org.jskat.data.SkatSeriesData.SeriesState;
+import org.jskat.data.SkatSeriesJournal.Replay;
 import org.jskat.data.iss.ChatMessage;
 import org.jskat.data.iss.GameStartInformation;
 import org.jskat.data.iss.MoveInformation;
@@ -111,6 +114,18 @@ public class UnitTestView implements JSkatView {
 
 	}
 
+	@Override
+	public void restoreSkatList(final String tableName, final Replay replay) {
+		// TODO Auto-generated method stub
+
+	}
+
+	@Override
+	public void setSeriesStatistics(final String tableName, final Map<String, PlayerStatistics> statistics) {
+		// TODO Auto-generated method stub
+
+	}
+
 	@Override
 	public void setSeriesState(final String tableName, final SeriesState state) {
 		// TODO Auto-generated method stub
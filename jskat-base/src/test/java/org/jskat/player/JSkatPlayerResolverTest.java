@@ -16,11 +16,16 @@
 package org.jskat.player;
 
 import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.hamcrest.core.IsNull.nullValue;
 import static org.junit.Assert.assertThat;
 
 import java.util.Set;
 
 import org.jskat.AbstractJSkatTest;
+import org.jskat.ai.rnd.AIPlayerRND;
+import org.jskat.ai.test.UnitTestPlayer;
+import org.jskat.util.GameType;
 import org.junit.Test;
 
 public class JSkatPlayerResolverTest extends AbstractJSkatTest {
@@ -33,4 +38,25 @@ public class JSkatPlayerResolverTest extends AbstractJSkatTest {
 
 		assertThat(implementations.size(), is(2));
 	}
+
+	@Test
+	public void testGetAIPlayerProvider() {
+
+		JSkatPlayerProvider provider = JSkatPlayerResolver
+				.getAIPlayerProvider("org.jskat.ai.rnd.AIPlayerRND");
+
+		assertThat(provider.getDisplayNameKey(), is("random_player"));
+		assertThat(provider.getSupportedGameTypes().contains(GameType.RAMSCH), is(true));
+		assertThat(provider.createPlayer(), instanceOf(AIPlayerRND.class));
+	}
+
+	@Test
+	public void testCreatePlayer() {
+
+		assertThat(JSkatPlayerResolver.createPlayer("org.jskat.ai.rnd.AIPlayerRND"), instanceOf(AIPlayerRND.class));
+		// players without provider are created by their default constructor
+		assertThat(JSkatPlayerResolver.createPlayer(UnitTestPlayer.class.getName()),
+				instanceOf(UnitTestPlayer.class));
+		assertThat(JSkatPlayerResolver.createPlayer("org.jskat.ai.UnknownPlayer"), is(nullValue()));
+	}
 }
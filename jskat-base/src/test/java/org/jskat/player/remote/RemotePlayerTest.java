@@ -0,0 +1,180 @@
+/**
+ * Copyright (C) 2019 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.player.remote;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import org.jskat.AbstractJSkatTest;
+import org.jskat.ai.rnd.AIPlayerRND;
+import org.jskat.ai.test.SlowTestPlayer;
+import org.jskat.control.JSkatEventBus;
+import org.jskat.control.SkatGame;
+import org.jskat.data.GameAnnouncement;
+import org.jskat.data.GameAnnouncement.GameAnnouncementFactory;
+import org.jskat.data.GameDataCodec;
+import org.jskat.data.GameSummary;
+import org.jskat.data.JSkatOptions;
+import org.jskat.data.SkatGameData.GameState;
+import org.jskat.data.SkatGameResult;
+import org.jskat.util.CardDeck;
+import org.jskat.util.GameType;
+import org.jskat.util.GameVariant;
+import org.jskat.util.Player;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.eventbus.EventBus;
+
+/**
+ * Test class for {@link RemotePlayer} and {@link RemotePlayerHost}
+ */
+public class RemotePlayerTest extends AbstractJSkatTest {
+
+	private static final String TABLE_NAME = "Remote table";
+	private static final long DECISION_TIMEOUT = 5000L;
+
+	private RemotePlayerHost host;
+	private RemotePlayerConnectionPool pool;
+
+	@Before
+	public void setUp() throws IOException {
+		JSkatOptions.instance().resetToDefault();
+		JSkatEventBus.TABLE_EVENT_BUSSES.put(TABLE_NAME, new EventBus());
+		host = new RemotePlayerHost(0);
+		host.start();
+		pool = new RemotePlayerConnectionPool(host.getPort(), 3);
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		pool.close();
+		host.close();
+		JSkatEventBus.TABLE_EVENT_BUSSES.remove(TABLE_NAME);
+	}
+
+	@Test
+	public void playGamesWithRemotePlayers() {
+
+		try (RemotePlayer foreHand = remotePlayer(AIPlayerRND.class.getName(), DECISION_TIMEOUT);
+				RemotePlayer middleHand = remotePlayer(AIPlayerRND.class.getName(), DECISION_TIMEOUT);
+				RemotePlayer rearHand = remotePlayer(AIPlayerRND.class.getName(), DECISION_TIMEOUT)) {
+
+			for (int i = 0; i < 10; i++) {
+				final SkatGame game = new SkatGame(TABLE_NAME, i % 2 == 0 ? GameVariant.STANDARD
+						: GameVariant.FORCED_RAMSCH, foreHand, middleHand, rearHand);
+
+				game.run();
+
+				assertThat(game.getGameState(), is(GameState.GAME_OVER));
+			}
+		}
+	}
+
+	@Test
+	public void connectionsAreReused() {
+
+		for (int i = 0; i < 3; i++) {
+			try (RemotePlayer foreHand = remotePlayer(AIPlayerRND.class.getName(), DECISION_TIMEOUT);
+					RemotePlayer middleHand = remotePlayer(AIPlayerRND.class.getName(), DECISION_TIMEOUT);
+					RemotePlayer rearHand = remotePlayer(AIPlayerRND.class.getName(), DECISION_TIMEOUT)) {
+
+				final SkatGame game = new SkatGame(TABLE_NAME, GameVariant.STANDARD, foreHand, middleHand, rearHand);
+				game.run();
+			}
+		}
+
+		assertThat(pool.getOpenedConnections(), is(3));
+	}
+
+	@Test
+	public void decisionTimeoutLetsPlayerPlaySchwarz() {
+
+		try (RemotePlayer foreHand = remotePlayer(SlowTestPlayer.class.getName(), 100L);
+				RemotePlayer middleHand = remotePlayer(AIPlayerRND.class.getName(), DECISION_TIMEOUT);
+				RemotePlayer rearHand = remotePlayer(AIPlayerRND.class.getName(), DECISION_TIMEOUT)) {
+
+			final SkatGame game = new SkatGame(TABLE_NAME, GameVariant.STANDARD, foreHand, middleHand, rearHand);
+			game.setCardDeck(new CardDeck());
+			game.dealCards();
+			game.setDeclarer(Player.FOREHAND);
+			final GameAnnouncementFactory factory = GameAnnouncement.getFactory();
+			factory.setGameType(GameType.GRAND);
+			game.setGameAnnouncement(factory.getAnnouncement());
+			game.setGameState(GameState.TRICK_PLAYING);
+
+			final SkatGameResult result = game.run();
+
+			assertTrue(result.isSchwarz());
+			assertFalse(result.isWon());
+		}
+	}
+
+	@Test
+	public void connectionIsNotReusedAfterTimeout() {
+
+		decisionTimeoutLetsPlayerPlaySchwarz();
+		assertThat(pool.getOpenedConnections(), is(3));
+
+		// the host may still be busy with the timed out decision, the
+		// connection was thrown away
+		try (RemotePlayer foreHand = remotePlayer(AIPlayerRND.class.getName(), DECISION_TIMEOUT);
+				RemotePlayer middleHand = remotePlayer(AIPlayerRND.class.getName(), DECISION_TIMEOUT);
+				RemotePlayer rearHand = remotePlayer(AIPlayerRND.class.getName(), DECISION_TIMEOUT)) {
+
+			final SkatGame game = new SkatGame(TABLE_NAME, GameVariant.STANDARD, foreHand, middleHand, rearHand);
+			game.run();
+
+			assertThat(game.getGameState(), is(GameState.GAME_OVER));
+		}
+
+		assertThat(pool.getOpenedConnections(), is(4));
+	}
+
+	@Test
+	public void gameSummaryRoundTrip() throws IOException {
+
+		final SkatGame game = new SkatGame(TABLE_NAME, GameVariant.FORCED_RAMSCH, new AIPlayerRND(),
+				new AIPlayerRND(), new AIPlayerRND());
+		game.run();
+		final GameSummary summary = game.getGameSummary();
+
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		GameDataCodec.writeGameSummary(new DataOutputStream(bytes), summary);
+		final GameSummary copy = GameDataCodec
+				.readGameSummary(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+		assertThat(copy.toString(), is(summary.toString()));
+		assertThat(copy.getTricks().size(), is(summary.getTricks().size()));
+		assertThat(copy.getRamschLosers(), is(summary.getRamschLosers()));
+		assertThat(copy.getGameValue(), is(summary.getGameValue()));
+	}
+
+	private RemotePlayer remotePlayer(final String playerClass, final long decisionTimeout) {
+		final RemotePlayer player = new RemotePlayer(pool, playerClass, decisionTimeout);
+		player.setPlayerName(playerClass);
+		return player;
+	}
+}
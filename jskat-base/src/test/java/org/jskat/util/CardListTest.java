@@ -124,4 +124,69 @@ public class CardListTest extends AbstractJSkatTest {
 		CardList cards = CardList.getRandomCards(10);
 		assertThat(cards.size(), is(10));
 	}
+
+	@Test
+	public void testSortFullDeck() {
+		assertSortedDeck(GameType.HEARTS, new CardList(
+				Card.CJ, Card.SJ, Card.HJ, Card.DJ, Card.HA, Card.HT, Card.HK, Card.HQ,
+				Card.H9, Card.H8, Card.H7, Card.CA, Card.CT, Card.CK, Card.CQ, Card.C9,
+				Card.C8, Card.C7, Card.SA, Card.ST, Card.SK, Card.SQ, Card.S9, Card.S8,
+				Card.S7, Card.DA, Card.DT, Card.DK, Card.DQ, Card.D9, Card.D8, Card.D7));
+		assertSortedDeck(GameType.NULL, new CardList(
+				Card.DA, Card.DK, Card.DQ, Card.DJ, Card.DT, Card.D9, Card.D8, Card.D7,
+				Card.HA, Card.HK, Card.HQ, Card.HJ, Card.HT, Card.H9, Card.H8, Card.H7,
+				Card.SA, Card.SK, Card.SQ, Card.SJ, Card.ST, Card.S9, Card.S8, Card.S7,
+				Card.CA, Card.CK, Card.CQ, Card.CJ, Card.CT, Card.C9, Card.C8, Card.C7));
+		assertSortedDeck(GameType.RAMSCH, new CardList(
+				Card.CJ, Card.SJ, Card.HJ, Card.DJ, Card.DA, Card.DT, Card.DK, Card.DQ,
+				Card.D9, Card.D8, Card.D7, Card.HA, Card.HT, Card.HK, Card.HQ, Card.H9,
+				Card.H8, Card.H7, Card.SA, Card.ST, Card.SK, Card.SQ, Card.S9, Card.S8,
+				Card.S7, Card.CA, Card.CT, Card.CK, Card.CQ, Card.C9, Card.C8, Card.C7));
+	}
+
+	private static void assertSortedDeck(final GameType gameType, final CardList expected) {
+		CardDeck cards = new CardDeck();
+		cards.shuffle();
+		cards.sort(gameType);
+		assertThat(new CardList(cards), is(expected));
+	}
+
+	@Test
+	public void testSortWithHiddenCards() {
+		CardList cards = new CardList(Card.D7, null, Card.CJ);
+		cards.sort(GameType.GRAND);
+		assertThat(cards.get(0), is(Card.D7));
+		assertThat(cards.get(2), is(Card.CJ));
+	}
+
+	@Test
+	public void testKeepSorted() {
+		Random random = new Random(42L);
+		for (GameType gameType : GameType.values()) {
+			CardList sortedOnInsert = new CardList();
+			sortedOnInsert.keepSorted(gameType);
+			CardList sortedAfterwards = new CardList();
+			for (int i = 0; i < 10; i++) {
+				Card card = Card.values()[random.nextInt(Card.values().length)];
+				if (!sortedOnInsert.contains(card)) {
+					sortedOnInsert.add(card);
+					sortedAfterwards.add(card);
+				}
+			}
+			sortedAfterwards.sort(gameType);
+			assertThat(sortedOnInsert, is(sortedAfterwards));
+		}
+	}
+
+	@Test
+	public void testStopKeepingSorted() {
+		CardList cards = new CardList();
+		cards.keepSorted(GameType.GRAND);
+		cards.addAll(new CardList(Card.D7, Card.CJ));
+		assertThat(cards.get(0), is(Card.CJ));
+
+		cards.stopKeepingSorted();
+		cards.add(Card.SJ);
+		assertThat(cards.get(2), is(Card.SJ));
+	}
 }
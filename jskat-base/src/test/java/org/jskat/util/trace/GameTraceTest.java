@@ -0,0 +1,115 @@
+/**
+ * Copyright (C) 2019 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.util.trace;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.jskat.AbstractJSkatTest;
+import org.jskat.ai.rnd.AIPlayerRND;
+import org.jskat.control.JSkatEventBus;
+import org.jskat.control.SkatGame;
+import org.jskat.util.Card;
+import org.jskat.util.CardList;
+import org.jskat.util.GameVariant;
+import org.jskat.util.Player;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.eventbus.EventBus;
+
+/**
+ * Tests for {@link GameTrace}
+ */
+public class GameTraceTest extends AbstractJSkatTest {
+
+	private static final String TABLE_NAME = "Trace table"; //$NON-NLS-1$
+
+	private RingBufferTraceSink sink;
+
+	@Before
+	public void addSink() {
+		sink = new RingBufferTraceSink(1000);
+		GameTrace.addSink(sink);
+	}
+
+	@After
+	public void removeSink() {
+		GameTrace.removeSink(sink);
+	}
+
+	@Test
+	public void testGameIsTraced() throws InterruptedException, ExecutionException {
+
+		JSkatEventBus.TABLE_EVENT_BUSSES.put(TABLE_NAME, new EventBus());
+		final SkatGame game = new SkatGame(TABLE_NAME, GameVariant.FORCED_RAMSCH, new AIPlayerRND(),
+				new AIPlayerRND(), new AIPlayerRND());
+
+		CompletableFuture.runAsync(() -> game.run()).get();
+
+		final List<TraceRecord> dealtCards = sink.getRecords(TraceType.CARDS_DEALT);
+		assertThat(dealtCards.size(), is(3));
+		assertThat(dealtCards.get(0).getPlayer(), is(Player.FOREHAND));
+		assertThat(dealtCards.get(0).getSource(), is(TABLE_NAME));
+		assertThat(((CardList) dealtCards.get(0).getSubject()).size(), is(10));
+
+		assertThat(sink.getRecords(TraceType.TRICK_STARTED).size(), is(10));
+		assertThat(sink.getRecords(TraceType.CARD_PLAYED).size(), is(30));
+		assertThat(sink.getRecords(TraceType.TRICK_COMPLETED).size(), is(10));
+		assertThat(sink.getRecords(TraceType.GAME_RESULT).size(), is(1));
+	}
+
+	@Test
+	public void testTracedCardsAreCopied() {
+
+		final CardList cards = new CardList(Card.CJ, Card.SJ);
+		GameTrace.trace(TraceType.SKAT_DEALT, TABLE_NAME, null, cards);
+		cards.clear();
+
+		final TraceRecord record = sink.getRecords().get(0);
+		assertThat(((CardList) record.getSubject()).size(), is(2));
+		assertThat(record.format(), is("[Trace table] SKAT_DEALT: " + record.getSubject())); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testRingBufferKeepsLatestRecords() {
+
+		final RingBufferTraceSink smallSink = new RingBufferTraceSink(3);
+		for (int i = 0; i < 5; i++) {
+			smallSink.accept(new TraceRecord(i, TraceType.BID, null, Player.FOREHAND, null, 18 + i));
+		}
+
+		final List<TraceRecord> records = smallSink.getRecords();
+		assertThat(records.size(), is(3));
+		assertThat(records.get(0).getValue(), is(20));
+		assertThat(records.get(2).getValue(), is(22));
+		assertThat(records.get(2).format(), is("BID FOREHAND (22)")); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testNothingIsTracedWithoutSink() {
+
+		GameTrace.removeSink(sink);
+		GameTrace.trace(TraceType.BID, TABLE_NAME, Player.FOREHAND, 18);
+
+		assertThat(sink.getRecords().size(), is(0));
+	}
+}
@@ -15,10 +15,15 @@
  */
 package org.jskat.util.version;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.jskat.AbstractJSkatTest;
+import org.jskat.data.JSkatOptions;
 import org.junit.Test;
 
 /**
@@ -38,4 +43,33 @@ public class VersionCheckerTest extends AbstractJSkatTest {
 		assertFalse(VersionChecker.isHigherVersionAvailable("0.10.0", "0.10.0")); //$NON-NLS-1$//$NON-NLS-2$
 		assertFalse(VersionChecker.isHigherVersionAvailable("0.10.0", "0.9.0")); //$NON-NLS-1$//$NON-NLS-2$
 	}
+
+	/**
+	 * Tests that the website is contacted at most once a day
+	 */
+	@Test
+	public void testCachedLatestVersion() {
+
+		final JSkatOptions options = JSkatOptions.instance();
+		final LocalDate today = LocalDate.of(2020, 1, 1);
+		final AtomicInteger remoteChecks = new AtomicInteger();
+
+		assertEquals("0.18.0", VersionChecker.getCachedLatestVersion(options, today, () -> { //$NON-NLS-1$
+			remoteChecks.incrementAndGet();
+			return "0.18.0"; //$NON-NLS-1$
+		}));
+		assertEquals("0.18.0", VersionChecker.getCachedLatestVersion(options, today, () -> { //$NON-NLS-1$
+			remoteChecks.incrementAndGet();
+			return "0.19.0"; //$NON-NLS-1$
+		}));
+		assertEquals(1, remoteChecks.get());
+
+		// next day the website is not reachable, last known version is kept
+		assertEquals("0.18.0", //$NON-NLS-1$
+				VersionChecker.getCachedLatestVersion(options, today.plusDays(1), () -> "")); //$NON-NLS-1$
+		assertEquals("0.19.0", //$NON-NLS-1$
+				VersionChecker.getCachedLatestVersion(options, today.plusDays(1), () -> "0.19.0")); //$NON-NLS-1$
+
+		options.resetToDefault();
+	}
 }
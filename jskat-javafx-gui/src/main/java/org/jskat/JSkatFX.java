@@ -17,11 +17,13 @@
 package org.jskat;
 
 import java.awt.Point;
+import java.util.concurrent.CompletableFuture;
 
 import javax.swing.SwingUtilities;
 
 import org.jskat.control.JSkatEventBus;
 import org.jskat.control.JSkatMaster;
+import org.jskat.control.StartupOrchestrator;
 import org.jskat.control.command.general.ShowWelcomeInformationCommand;
 import org.jskat.data.DesktopSavePathResolver;
 import org.jskat.data.JSkatOptions;
@@ -29,13 +31,16 @@ import org.jskat.data.JSkatOptions.Option;
 import org.jskat.gui.img.JSkatGraphicRepository;
 import org.jskat.gui.javafx.JSkatMainWindow;
 import org.jskat.gui.javafx.JSkatMenuFactory;
+import org.jskat.gui.swing.CoalescingJSkatView;
 import org.jskat.gui.swing.JSkatViewImpl;
 import org.jskat.gui.swing.LookAndFeelSetter;
+import org.jskat.player.JSkatPlayerResolver;
 import org.jskat.util.JSkatResourceBundle;
 import org.jskat.util.version.VersionChecker;
 
 import javafx.animation.FadeTransition;
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.concurrent.Task;
 import javafx.concurrent.Worker;
 import javafx.geometry.Point2D;
@@ -62,13 +67,15 @@ public class JSkatFX extends Application {
 	private static final int SPLASH_WIDTH = 500;
 	private static final int SPLASH_HEIGHT = 300;
 
+	private static final StartupOrchestrator STARTUP = new StartupOrchestrator();
+
 	private Pane splashScreenLayout;
 	private ProgressBar splashScreenProgressBar;
 	private Label splashScreenProgressText;
 
 	public static void main(final String[] args) {
 
-		JSkatOptions.instance(new DesktopSavePathResolver());
+		STARTUP.run("options", () -> JSkatOptions.instance(new DesktopSavePathResolver())); //$NON-NLS-1$
 
 		launch(args);
 	}
@@ -103,17 +110,26 @@ public class JSkatFX extends Application {
 
 				SwingUtilities.invokeLater(() -> LookAndFeelSetter.setLookAndFeel(targetScreen));
 
+				// card sets and AI players don't depend on each other, both are
+				// needed first by the main window
+				final CompletableFuture<Void> cardSets = STARTUP.runConcurrently("card sets", //$NON-NLS-1$
+						() -> JSkatGraphicRepository.INSTANCE.toString());
+				STARTUP.runConcurrently("AI players", () -> JSkatPlayerResolver.getAIPlayerProviders()); //$NON-NLS-1$
+
 				updateProgress(1, 3);
 				updateMessage(JSkatResourceBundle.INSTANCE.getString("splash_load_card_sets"));
 
-				JSkatGraphicRepository.INSTANCE.toString();
+				cardSets.thenRun(() -> {
+					updateProgress(2, 3);
+					updateMessage(JSkatResourceBundle.INSTANCE.getString("splash_look_for_ai_players"));
+				});
 
-				updateProgress(2, 3);
-				updateMessage(JSkatResourceBundle.INSTANCE.getString("splash_look_for_ai_players"));
+				STARTUP.awaitConcurrentPhases();
 
 				final MenuBar menu = JSkatMenuFactory.build();
 				final JSkatViewImpl jskatView = new JSkatViewImpl(targetScreen, menu, VERSION);
-				JSkatMaster.INSTANCE.setView(jskatView);
+				// game threads hand over view updates once per frame
+				JSkatMaster.INSTANCE.setView(new CoalescingJSkatView(jskatView));
 
 				return new InitializedGuiElements(menu, jskatView);
 			}
@@ -134,13 +150,23 @@ public class JSkatFX extends Application {
 
 		jskatMainWindow.show();
 
+		// continue series that were interrupted by quitting or a crash
+		STARTUP.defer("resume series", Platform::runLater, () -> JSkatMaster.INSTANCE.resumeSkatSeries()); //$NON-NLS-1$
+
+		if (JSkatOptions.instance().getBoolean(Option.CHECK_FOR_NEW_VERSION_AT_START_UP)) {
+			STARTUP.defer("version check", () -> { //$NON-NLS-1$
+				final String latestVersion = VersionChecker.getCachedLatestVersion(VersionChecker.DEFAULT_TIMEOUT);
+				if (!latestVersion.isEmpty()) {
+					Platform.runLater(() -> JSkatMaster.INSTANCE.checkJSkatVersion(VERSION, latestVersion));
+				}
+			});
+		}
+
 		if (JSkatOptions.instance().getBoolean(Option.SHOW_TIPS_AT_START_UP)) {
 			JSkatEventBus.INSTANCE.post(new ShowWelcomeInformationCommand());
 		}
 
-		if (JSkatOptions.instance().getBoolean(Option.CHECK_FOR_NEW_VERSION_AT_START_UP)) {
-			JSkatMaster.INSTANCE.checkJSkatVersion(VERSION, VersionChecker.getLatestVersion());
-		}
+		STARTUP.firstFrameShown();
 	}
 
 	private void showSplashScreen(final Screen targetScreen, final Stage splashStage, final Task<?> startupTask,
@@ -16,9 +16,13 @@
  */
 package org.jskat.gui.human;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
 import org.jskat.data.GameAnnouncement;
 import org.jskat.gui.action.JSkatAction;
 import org.jskat.gui.action.JSkatActionEvent;
+import org.jskat.player.AsyncJSkatPlayer;
 import org.jskat.player.JSkatPlayer;
 import org.jskat.util.Card;
 import org.jskat.util.CardList;
@@ -32,7 +36,10 @@ public class SwingHumanPlayer extends AbstractHumanJSkatPlayer {
 
     private static Logger log = LoggerFactory.getLogger(SwingHumanPlayer.class);
 
-    private Idler idler = new Idler();
+    /**
+     * Completed by the next user action, no thread waits for it
+     */
+    private volatile CompletableFuture<Void> userInput;
 
     private Boolean holdBid;
     private Integer bidValue;
@@ -83,14 +90,21 @@ public class SwingHumanPlayer extends AbstractHumanJSkatPlayer {
      */
     @Override
     public GameAnnouncement announceGame() {
+        return announceGameAsync().toCompletableFuture().join();
+    }
 
-        log.debug("Waiting for human game announcing..."); //$NON-NLS-1$
-
-        waitForUserInput();
+    /**
+     * @see AsyncJSkatPlayer#announceGameAsync()
+     */
+    @Override
+    public CompletionStage<GameAnnouncement> announceGameAsync() {
 
-        gameAnnouncementStep = GameAnnouncementStep.DONE_GAME_ANNOUNCEMENT;
+        log.debug("Waiting for human game announcing..."); //$NON-NLS-1$
 
-        return this.gameAnnouncement;
+        return waitForUserInput().thenApply(input -> {
+            gameAnnouncementStep = GameAnnouncementStep.DONE_GAME_ANNOUNCEMENT;
+            return this.gameAnnouncement;
+        });
     }
 
     /**
@@ -98,20 +112,28 @@ public class SwingHumanPlayer extends AbstractHumanJSkatPlayer {
      */
     @Override
     public Integer bidMore(final int nextBidValue) {
+        return bidMoreAsync(nextBidValue).toCompletableFuture().join();
+    }
 
-        log.debug("Waiting for human next bid value..."); //$NON-NLS-1$
+    /**
+     * @see AsyncJSkatPlayer#bidMoreAsync(int)
+     */
+    @Override
+    public CompletionStage<Integer> bidMoreAsync(final int nextBidValue) {
 
-        waitForUserInput();
+        log.debug("Waiting for human next bid value..."); //$NON-NLS-1$
 
-        if (this.holdBid) {
+        return waitForUserInput().thenApply(input -> {
+            if (this.holdBid) {
 
-            this.bidValue = nextBidValue;
-        } else {
+                this.bidValue = nextBidValue;
+            } else {
 
-            this.bidValue = -1;
-        }
+                this.bidValue = -1;
+            }
 
-        return this.bidValue;
+            return this.bidValue;
+        });
     }
 
     /**
@@ -119,12 +141,22 @@ public class SwingHumanPlayer extends AbstractHumanJSkatPlayer {
      */
     @Override
     public CardList getCardsToDiscard() {
+        return waitForCardsToDiscard().join();
+    }
 
-        log.debug("Waiting for human discarding..."); //$NON-NLS-1$
+    /**
+     * @see AsyncJSkatPlayer#discardSkatAsync()
+     */
+    @Override
+    public CompletionStage<CardList> discardSkatAsync() {
+        return waitForCardsToDiscard().thenApply(this::discardCards);
+    }
+
+    private CompletableFuture<CardList> waitForCardsToDiscard() {
 
-        waitForUserInput();
+        log.debug("Waiting for human discarding..."); //$NON-NLS-1$
 
-        return this.discardSkat;
+        return waitForUserInput().thenApply(input -> this.discardSkat);
     }
 
     /**
@@ -149,25 +181,37 @@ public class SwingHumanPlayer extends AbstractHumanJSkatPlayer {
      */
     @Override
     public Boolean holdBid(final int currBidValue) {
+        return holdBidAsync(currBidValue).toCompletableFuture().join();
+    }
 
-        log.debug("Waiting for human holding bid..."); //$NON-NLS-1$
+    /**
+     * @see AsyncJSkatPlayer#holdBidAsync(int)
+     */
+    @Override
+    public CompletionStage<Boolean> holdBidAsync(final int currBidValue) {
 
-        waitForUserInput();
+        log.debug("Waiting for human holding bid..."); //$NON-NLS-1$
 
-        return this.holdBid;
+        return waitForUserInput().thenApply(input -> this.holdBid);
     }
 
     /**
-     * @see JSkatPlayer#pickUpSkat()
+     * @see JSkatPlayer#playGrandHand()
      */
     @Override
     public Boolean playGrandHand() {
+        return playGrandHandAsync().toCompletableFuture().join();
+    }
 
-        log.debug("Waiting for human to decide if playing a grand hand..."); //$NON-NLS-1$
+    /**
+     * @see AsyncJSkatPlayer#playGrandHandAsync()
+     */
+    @Override
+    public CompletionStage<Boolean> playGrandHandAsync() {
 
-        waitForUserInput();
+        log.debug("Waiting for human to decide if playing a grand hand..."); //$NON-NLS-1$
 
-        return this.playGrandHand;
+        return waitForUserInput().thenApply(input -> this.playGrandHand);
     }
 
     /**
@@ -175,12 +219,18 @@ public class SwingHumanPlayer extends AbstractHumanJSkatPlayer {
      */
     @Override
     public Boolean pickUpSkat() {
+        return pickUpSkatAsync().toCompletableFuture().join();
+    }
 
-        log.debug("Waiting for human looking into skat..."); //$NON-NLS-1$
+    /**
+     * @see AsyncJSkatPlayer#pickUpSkatAsync()
+     */
+    @Override
+    public CompletionStage<Boolean> pickUpSkatAsync() {
 
-        waitForUserInput();
+        log.debug("Waiting for human looking into skat..."); //$NON-NLS-1$
 
-        return this.pickUpSkat;
+        return waitForUserInput().thenApply(input -> this.pickUpSkat);
     }
 
     /**
@@ -188,19 +238,29 @@ public class SwingHumanPlayer extends AbstractHumanJSkatPlayer {
      */
     @Override
     public Card playCard() {
+        return playCardAsync().toCompletableFuture().join();
+    }
+
+    /**
+     * @see AsyncJSkatPlayer#playCardAsync()
+     */
+    @Override
+    public CompletionStage<Card> playCardAsync() {
 
         log.debug("Waiting for human playing next card..."); //$NON-NLS-1$
 
-        Card cardToPlay = null;
+        CompletableFuture<Void> input = CompletableFuture.completedFuture(null);
 
         if (nextCard == null) {
-            waitForUserInput();
+            input = waitForUserInput();
         }
 
-        cardToPlay = nextCard;
-        nextCard = null;
+        return input.thenApply(done -> {
+            final Card cardToPlay = nextCard;
+            nextCard = null;
 
-        return cardToPlay;
+            return cardToPlay;
+        });
     }
 
     @Override
@@ -271,27 +331,27 @@ public class SwingHumanPlayer extends AbstractHumanJSkatPlayer {
 
         if (interrupt) {
 
-            this.idler.interrupt();
+            final CompletableFuture<Void> input = userInput;
+            if (input != null) {
+                input.complete(null);
+            }
         }
     }
 
     /**
      * Starts waiting for user input
+     *
+     * @return Future that is completed with the next user action
      */
-    public void waitForUserInput() {
-
-        this.idler = new Idler();
-        this.idler.setMonitor(this);
-
-        if (!isPlayerHasAlreadyPlayed()) {
+    public CompletableFuture<Void> waitForUserInput() {
 
-            this.idler.start();
-            try {
-                this.idler.join();
-            } catch (InterruptedException e) {
-                log.warn("wait for user input was interrupted");
-            }
+        if (isPlayerHasAlreadyPlayed()) {
+            return CompletableFuture.completedFuture(null);
         }
+
+        final CompletableFuture<Void> input = new CompletableFuture<>();
+        userInput = input;
+        return input;
     }
 
     private boolean isPlayerHasAlreadyPlayed() {
@@ -312,56 +372,6 @@ public class SwingHumanPlayer extends AbstractHumanJSkatPlayer {
         discardSkat = discardedCards;
     }
 
-    /*-------------------------------------------------------------------
-     * Inner class
-     *-------------------------------------------------------------------*/
-
-    /**
-     * Protected class implementing the waiting thread for user input
-     */
-    protected static class Idler extends Thread {
-
-        /**
-         * Sets the monitoring object
-         * 
-         * @param newMonitor
-         *            Monitor
-         */
-        public void setMonitor(final Object newMonitor) {
-
-            this.monitor = newMonitor;
-        }
-
-        /**
-         * Stops the waiting
-         */
-        public void stopWaiting() {
-
-            this.doWait = false;
-        }
-
-        /**
-         * @see Thread#run()
-         */
-        @Override
-        public void run() {
-
-            synchronized (this.monitor) {
-
-                while (this.doWait) {
-                    try {
-                        this.monitor.wait();
-                    } catch (InterruptedException e) {
-                        stopWaiting();
-                    }
-                }
-            }
-        }
-
-        private boolean doWait = true;
-        private Object monitor = null;
-    }
-
     /**
      * @see org.jskat.player.AbstractJSkatPlayer#startGame()
      */
@@ -385,25 +395,45 @@ public class SwingHumanPlayer extends AbstractHumanJSkatPlayer {
 
     @Override
     public Boolean callContra() {
+        return callContraAsync().toCompletableFuture().join();
+    }
+
+    /**
+     * @see AsyncJSkatPlayer#callContraAsync()
+     */
+    @Override
+    public CompletionStage<Boolean> callContraAsync() {
 
         log.debug("Waiting for human calling contra..."); //$NON-NLS-1$
 
+        CompletableFuture<Void> input = CompletableFuture.completedFuture(null);
+
         if (callContra == null) {
-            waitForUserInput();
+            input = waitForUserInput();
         }
 
-        return callContra == null ? false : callContra;
+        return input.thenApply(done -> callContra == null ? false : callContra);
     }
 
     @Override
     public Boolean callRe() {
+        return callReAsync().toCompletableFuture().join();
+    }
+
+    /**
+     * @see AsyncJSkatPlayer#callReAsync()
+     */
+    @Override
+    public CompletionStage<Boolean> callReAsync() {
 
         log.debug("Waiting for human calling re..."); //$NON-NLS-1$
 
+        CompletableFuture<Void> input = CompletableFuture.completedFuture(null);
+
         if (callRe == null) {
-            waitForUserInput();
+            input = waitForUserInput();
         }
 
-        return callRe == null ? false : callRe;
+        return input.thenApply(done -> callRe == null ? false : callRe);
     }
 }
@@ -17,13 +17,23 @@
 package org.jskat.gui.img;
 
 import java.awt.Canvas;
+import java.awt.Graphics2D;
+import java.awt.GraphicsEnvironment;
 import java.awt.Image;
 import java.awt.MediaTracker;
+import java.awt.RenderingHints;
 import java.awt.Toolkit;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jskat.data.JSkatOptions;
 import org.jskat.util.Card;
@@ -40,20 +50,41 @@ public class JSkatGraphicRepository {
 
 	private static Logger log = LoggerFactory.getLogger(JSkatGraphicRepository.class);
 
+	private static JSkatOptions options = JSkatOptions.instance();
+
 	public final static JSkatGraphicRepository INSTANCE = new JSkatGraphicRepository();
 
-	private static JSkatOptions options = JSkatOptions.instance();
+	/**
+	 * Maximum number of pixels held in the cache for scaled card images
+	 */
+	private static final long MAX_SCALED_CARD_PIXELS = 8L * 1024L * 1024L;
 
 	private Image skatTable;
 
-	private Map<CardSet, Map<Card, Image>> cards;
+	/**
+	 * Card images, card sets are loaded on demand
+	 */
+	private final Map<CardSet, Map<Card, Image>> cards = new ConcurrentHashMap<>();
+
+	private final Map<CardSet, Image> cardBacks = new ConcurrentHashMap<>();
 
-	private Map<CardSet, Image> cardBacks;
+	/**
+	 * Scaled card images, the least recently used images are evicted first
+	 */
+	private final Map<ScaledCardKey, BufferedImage> scaledCards = new LinkedHashMap<>(
+			64, 0.75f, true);
+	private long scaledCardPixels = 0;
 
 	private List<List<Image>> awtIcons;
-	private Map<Icon, Map<IconSize, javafx.scene.image.Image>> icons;
+	/**
+	 * JavaFX icons, created on demand
+	 */
+	private final Map<Icon, Map<IconSize, javafx.scene.image.Image>> icons = new ConcurrentHashMap<>();
 
-	private List<Image> flags;
+	/**
+	 * Flags, loaded on first access
+	 */
+	private volatile List<Image> flags;
 
 	private Image jskatLogo;
 
@@ -74,35 +105,90 @@ public class JSkatGraphicRepository {
 	private void loadAllJSkatImages() {
 		final MediaTracker tracker = new MediaTracker(new Canvas());
 
+		long startTime = System.currentTimeMillis();
 		loadImages(tracker);
 
-		log.debug("Bitmaps for JSkat logo and skat table loaded..."); //$NON-NLS-1$
+		log.debug("Bitmaps for JSkat logo and skat table loaded in " //$NON-NLS-1$
+				+ (System.currentTimeMillis() - startTime) + " ms..."); //$NON-NLS-1$
 
+		startTime = System.currentTimeMillis();
 		awtIcons = new ArrayList<List<Image>>();
-		icons = new HashMap<>();
+		icons.clear();
 		loadIcons(tracker);
 
-		log.debug("Bitmaps for icons loaded..."); //$NON-NLS-1$
+		log.debug("Bitmaps for icons loaded in " //$NON-NLS-1$
+				+ (System.currentTimeMillis() - startTime) + " ms..."); //$NON-NLS-1$
+
+		startTime = System.currentTimeMillis();
+		cards.clear();
+		cardBacks.clear();
+		clearScaledCardImages();
+		// only the active card set and the card back are needed for the
+		// first window
+		getCardSet(options.getCardSet());
+		getCardSet(CardSet.ISS_GERMAN);
 
-		cards = new HashMap<CardSet, Map<Card, Image>>();
-		cardBacks = new HashMap<CardSet, Image>();
-		loadCards(tracker);
+		log.debug("Bitmaps for active card set loaded in " //$NON-NLS-1$
+				+ (System.currentTimeMillis() - startTime) + " ms..."); //$NON-NLS-1$
 
-		log.debug("Bitmaps for cards loaded..."); //$NON-NLS-1$
+		flags = null;
 
-		flags = new ArrayList<>();
-		loadFlags(tracker);
+		CompletableFuture.runAsync(() -> loadRemainingCardSets());
+	}
 
-		log.debug("Bitmaps for flags loaded..."); //$NON-NLS-1$
+	private void loadRemainingCardSets() {
+		final long startTime = System.currentTimeMillis();
+
+		for (final CardSet set : CardSet.values()) {
+			getCardSet(set);
+		}
+
+		log.debug("Bitmaps for remaining card sets loaded in background in " //$NON-NLS-1$
+				+ (System.currentTimeMillis() - startTime) + " ms..."); //$NON-NLS-1$
+	}
+
+	private Map<Card, Image> getCardSet(final CardSet set) {
+
+		Map<Card, Image> result = cards.get(set);
+
+		if (result == null) {
+			synchronized (cards) {
+				result = cards.get(set);
+				if (result == null) {
+					result = loadCardSet(set);
+					cards.put(set, result);
+				}
+			}
+		}
+
+		return result;
 	}
 
-	private void loadFlags(final MediaTracker tracker) {
+	private List<Image> getFlags() {
+
+		List<Image> result = flags;
+
+		if (result == null) {
+			synchronized (this) {
+				result = flags;
+				if (result == null) {
+					result = loadFlags(new MediaTracker(new Canvas()));
+					flags = result;
+				}
+			}
+		}
+
+		return result;
+	}
+
+	private List<Image> loadFlags(final MediaTracker tracker) {
+		final List<Image> result = new ArrayList<>();
 		// for all flags
 		for (final Flag flag : Flag.values()) {
 			// add flag
-			flags.add(Toolkit.getDefaultToolkit().getImage(ClassLoader.getSystemResource("org/jskat/gui/img/gui/" //$NON-NLS-1$
+			result.add(Toolkit.getDefaultToolkit().getImage(ClassLoader.getSystemResource("org/jskat/gui/img/gui/" //$NON-NLS-1$
 					+ "flag_" + flag.toString().toLowerCase() + ".png"))); //$NON-NLS-1$ //$NON-NLS-2$
-			tracker.addImage(flags.get(flag.ordinal()), 3);
+			tracker.addImage(result.get(flag.ordinal()), 3);
 		}
 
 		try {
@@ -110,6 +196,10 @@ public class JSkatGraphicRepository {
 		} catch (final InterruptedException e) {
 			e.printStackTrace();
 		}
+
+		log.debug("Bitmaps for flags loaded..."); //$NON-NLS-1$
+
+		return result;
 	}
 
 	private void loadImages(final MediaTracker tracker) {
@@ -147,7 +237,6 @@ public class JSkatGraphicRepository {
 
 			// new array list for all sizes
 			awtIcons.add(new ArrayList<>());
-			icons.put(icon, new HashMap<>());
 
 			// for all sizes
 			for (final IconSize size : IconSize.values()) {
@@ -163,9 +252,6 @@ public class JSkatGraphicRepository {
 				tracker.addImage(
 						awtIcons.get(icon.ordinal()).get(size.ordinal()),
 						1);
-
-				icons.get(icon).put(size, new javafx.scene.image.Image("org/jskat/gui/img/gui/" //$NON-NLS-1$
-						+ icon.toString().toLowerCase() + '_' + size.toString().toLowerCase() + ".png")); //$NON-NLS-1$
 			}
 		}
 
@@ -177,39 +263,42 @@ public class JSkatGraphicRepository {
 	}
 
 	/**
-	 * Load all card images
+	 * Load the card images of a card set
 	 *
-	 * @param cardFace
-	 *            The directory name for the card set to be loaded
+	 * @param set
+	 *            Card set to be loaded
+	 * @return Card images
 	 */
-	private void loadCards(final MediaTracker tracker) {
+	private Map<Card, Image> loadCardSet(final CardSet set) {
 
-		cards.clear();
-		for (final CardSet set : CardSet.values()) {
+		final MediaTracker tracker = new MediaTracker(new Canvas());
+		final Map<Card, Image> result = new HashMap<Card, Image>();
 
-			cards.put(set, new HashMap<Card, Image>());
+		for (final Card card : Card.values()) {
 
-			for (final Card card : Card.values()) {
+			result.put(card,
+					Toolkit.getDefaultToolkit()
+							.getImage(ClassLoader.getSystemResource("org/jskat/gui/img/card/" //$NON-NLS-1$
+									+ set.getCardFace().toString().toLowerCase() + "/" //$NON-NLS-1$
+									+ getCardSetNameInLowerCase(set) + "/" + getImageFileName(card) + "."
+									+ set.getFileType())));
 
-				cards.get(set).put(card,
-						Toolkit.getDefaultToolkit()
-								.getImage(ClassLoader.getSystemResource("org/jskat/gui/img/card/" //$NON-NLS-1$
-										+ set.getCardFace().toString().toLowerCase() + "/" //$NON-NLS-1$
-										+ getCardSetNameInLowerCase(set) + "/" + getImageFileName(card) + "."
-										+ set.getFileType())));
+			tracker.addImage(result.get(card), 2);
+		}
 
-				tracker.addImage(cards.get(set).get(card), 2);
-			}
+		cardBacks.put(set, Toolkit.getDefaultToolkit().getImage(ClassLoader.getSystemResource(
+				"org/jskat/gui/img/card/back/" + getCardSetNameInLowerCase(set) + "." + set.getFileType()))); //$NON-NLS-1$
+		tracker.addImage(cardBacks.get(set), 2);
 
-			cardBacks.put(set, Toolkit.getDefaultToolkit().getImage(ClassLoader.getSystemResource(
-					"org/jskat/gui/img/card/back/" + getCardSetNameInLowerCase(set) + "." + set.getFileType()))); //$NON-NLS-1$
-			tracker.addImage(cardBacks.get(set), 2);
-		}
 		try {
 			tracker.waitForID(2);
 		} catch (final InterruptedException e) {
 			e.printStackTrace();
 		}
+
+		log.debug("Bitmaps for card set " + set + " loaded..."); //$NON-NLS-1$ //$NON-NLS-2$
+
+		return result;
 	}
 
 	public String getImageFileName(final Card card) {
@@ -245,7 +334,9 @@ public class JSkatGraphicRepository {
 	 * @return Icon image
 	 */
 	public ImageView getImageView(final Icon icon, final IconSize size) {
-		return new ImageView(icons.get(icon).get(size));
+		return new ImageView(icons.computeIfAbsent(icon, key -> new ConcurrentHashMap<>()).computeIfAbsent(size,
+				key -> new javafx.scene.image.Image("org/jskat/gui/img/gui/" //$NON-NLS-1$
+						+ icon.toString().toLowerCase() + '_' + size.toString().toLowerCase() + ".png"))); //$NON-NLS-1$
 	}
 
 	/**
@@ -261,15 +352,138 @@ public class JSkatGraphicRepository {
 
 		if (card != null) {
 
-			result = cards.get(options.getCardSet()).get(card);
+			result = getCardSet(options.getCardSet()).get(card);
 		} else {
 
+			getCardSet(CardSet.ISS_GERMAN);
 			result = cardBacks.get(CardSet.ISS_GERMAN);
 		}
 
 		return result;
 	}
 
+	/**
+	 * Gets a card image scaled to a certain size. The scaled images are cached
+	 * in a format that is compatible with the display, drawing them needs no
+	 * further scaling.
+	 *
+	 * @param card
+	 *            Card, NULL for the card back
+	 * @param width
+	 *            Width in pixels
+	 * @param height
+	 *            Height in pixels
+	 * @return The scaled card image
+	 */
+	public synchronized Image getScaledCardImage(final Card card,
+			final int width, final int height) {
+
+		final Image original = getCardImage(card);
+
+		if (width <= 0 || height <= 0
+				|| original.getWidth(null) == width
+						&& original.getHeight(null) == height) {
+			return original;
+		}
+
+		final CardSet cardSet = card != null ? options.getCardSet()
+				: CardSet.ISS_GERMAN;
+		final ScaledCardKey key = new ScaledCardKey(cardSet, card, width,
+				height);
+
+		BufferedImage result = scaledCards.get(key);
+		if (result == null) {
+			result = scaleImage(original, width, height);
+			scaledCards.put(key, result);
+			scaledCardPixels += (long) width * height;
+			evictScaledCardImages();
+		}
+
+		return result;
+	}
+
+	private void evictScaledCardImages() {
+
+		final Iterator<Map.Entry<ScaledCardKey, BufferedImage>> iterator = scaledCards
+				.entrySet().iterator();
+
+		while (scaledCardPixels > MAX_SCALED_CARD_PIXELS
+				&& scaledCards.size() > 1) {
+			final ScaledCardKey eldest = iterator.next().getKey();
+			scaledCardPixels -= (long) eldest.width * eldest.height;
+			iterator.remove();
+		}
+	}
+
+	private synchronized void clearScaledCardImages() {
+		scaledCards.clear();
+		scaledCardPixels = 0;
+	}
+
+	private static BufferedImage scaleImage(final Image original,
+			final int width, final int height) {
+
+		BufferedImage result;
+		if (GraphicsEnvironment.isHeadless()) {
+			result = new BufferedImage(width, height,
+					BufferedImage.TYPE_INT_ARGB_PRE);
+		} else {
+			result = GraphicsEnvironment.getLocalGraphicsEnvironment()
+					.getDefaultScreenDevice().getDefaultConfiguration()
+					.createCompatibleImage(width, height,
+							Transparency.TRANSLUCENT);
+		}
+
+		final Graphics2D g2D = result.createGraphics();
+		g2D.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+				RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+		g2D.setRenderingHint(RenderingHints.KEY_RENDERING,
+				RenderingHints.VALUE_RENDER_QUALITY);
+		g2D.setRenderingHint(RenderingHints.KEY_ALPHA_INTERPOLATION,
+				RenderingHints.VALUE_ALPHA_INTERPOLATION_QUALITY);
+		g2D.drawImage(original, 0, 0, width, height, null);
+		g2D.dispose();
+
+		return result;
+	}
+
+	/**
+	 * Key for scaled card images
+	 */
+	private static final class ScaledCardKey {
+
+		private final CardSet cardSet;
+		private final Card card;
+		private final int width;
+		private final int height;
+
+		private ScaledCardKey(final CardSet cardSet, final Card card,
+				final int width, final int height) {
+			this.cardSet = cardSet;
+			this.card = card;
+			this.width = width;
+			this.height = height;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(cardSet, card, width, height);
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof ScaledCardKey)) {
+				return false;
+			}
+			final ScaledCardKey other = (ScaledCardKey) obj;
+			return cardSet == other.cardSet && card == other.card
+					&& width == other.width && height == other.height;
+		}
+	}
+
 	/**
 	 * Gets a flag image
 	 *
@@ -278,7 +492,7 @@ public class JSkatGraphicRepository {
 	 * @return Flag image
 	 */
 	public Image getFlagImage(final Flag flag) {
-		return flags.get(flag.ordinal());
+		return getFlags().get(flag.ordinal());
 	}
 
 	/**
@@ -19,10 +19,10 @@ package org.jskat.gui.swing;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.Image;
+import java.awt.Rectangle;
 import java.awt.RenderingHints;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
-import java.awt.geom.AffineTransform;
 
 import javax.swing.JPanel;
 
@@ -36,6 +36,9 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Panel for showing cards.
+ *
+ * Changes only repaint the area of the cards that moved, all repaints are
+ * coalesced by the {@link FramePacer}.
  */
 public class CardPanel extends JPanel {
 
@@ -99,7 +102,7 @@ public class CardPanel extends JPanel {
             @Override
             public void mouseExited(MouseEvent e) {
                 resetMousePositions();
-                repaint();
+                FramePacer.INSTANCE.repaint(CardPanel.this);
             }
         };
 
@@ -121,10 +124,60 @@ public class CardPanel extends JPanel {
 
         if (!this.showBackside
                 && (this.mouseXPosition < this.activeCardMinXPosition || this.mouseXPosition > this.activeCardMaxXPosition)) {
-            repaint();
+
+            if (this.activeCardMinXPosition == Integer.MAX_VALUE) {
+                FramePacer.INSTANCE.repaint(this);
+            } else {
+                // only the cards between the old and the new active card
+                // move
+                final int cardWidth = getCardWidth();
+                repaintRange(Math.min(this.activeCardMinXPosition, this.mouseXPosition) - cardWidth,
+                        Math.max(this.activeCardMaxXPosition, this.mouseXPosition) + cardWidth);
+            }
         }
     }
 
+    /**
+     * Repaints all cards starting from a card index. If the gap between the
+     * cards has changed the whole panel is repainted.
+     *
+     * @param cardIndex
+     *            Index of the first card that has changed
+     * @param previousCardGap
+     *            Card gap before the change
+     */
+    private void repaintCardsFrom(final int cardIndex, final int previousCardGap) {
+
+        final int cardGap = getCardGap();
+
+        if (cardIndex < 1 || cardGap != previousCardGap) {
+            FramePacer.INSTANCE.repaint(this);
+        } else {
+            repaintRange(cardIndex * cardGap, Integer.MAX_VALUE);
+        }
+    }
+
+    /**
+     * Repaints a horizontal range given in unscaled card positions
+     */
+    private void repaintRange(final int fromPosition, final int toPosition) {
+
+        final int from = (int) Math.max(0,
+                Math.floor(Math.min(fromPosition, fromPosition * this.scaleFactor)));
+        final int to = (int) Math.min(getWidth(),
+                Math.ceil(Math.max(toPosition, toPosition * this.scaleFactor)));
+
+        FramePacer.INSTANCE.repaint(this, new Rectangle(from, 0, to - from, getHeight()));
+    }
+
+    private int getCardWidth() {
+        return this.bitmaps.getCardImage(Card.CJ).getWidth(this);
+    }
+
+    private synchronized int getCardGap() {
+        return calculateCardGap(getWidth(), getCardWidth(), this.cards.size());
+    }
+
     /**
      * Adds a card.
      *
@@ -133,9 +186,15 @@ public class CardPanel extends JPanel {
      */
     public final void addCard(final Card newCard) {
 
-        this.cards.add(newCard);
-        this.cards.sort(this.sortGameType);
-        repaint();
+        final int previousCardGap;
+        final int cardIndex;
+        synchronized (this) {
+            previousCardGap = getCardGap();
+            this.cards.add(newCard);
+            this.cards.sort(this.sortGameType);
+            cardIndex = this.cards.indexOf(newCard);
+        }
+        repaintCardsFrom(cardIndex, previousCardGap);
     }
 
     /**
@@ -146,9 +205,17 @@ public class CardPanel extends JPanel {
      */
     public final void addCards(final CardList newCards) {
 
-        this.cards.addAll(newCards);
-        this.cards.sort(this.sortGameType);
-        repaint();
+        final int previousCardGap;
+        int cardIndex = Integer.MAX_VALUE;
+        synchronized (this) {
+            previousCardGap = getCardGap();
+            this.cards.addAll(newCards);
+            this.cards.sort(this.sortGameType);
+            for (final Card card : newCards) {
+                cardIndex = Math.min(cardIndex, this.cards.indexOf(card));
+            }
+        }
+        repaintCardsFrom(cardIndex, previousCardGap);
     }
 
     /**
@@ -159,15 +226,22 @@ public class CardPanel extends JPanel {
      */
     public final void removeCard(final Card cardToRemove) {
 
-		if (cards.contains(cardToRemove)) {
-			cards.remove(cardToRemove);
-		} else if (cards.size() > 0) {
-            // card panels with hidden cards may contain unknown cards
-            // remove the last one
-			cards.remove(cards.size() - 1);
+        final int previousCardGap;
+        int cardIndex = -1;
+        synchronized (this) {
+            previousCardGap = getCardGap();
+            if (cards.contains(cardToRemove)) {
+                cardIndex = cards.indexOf(cardToRemove);
+                cards.remove(cardToRemove);
+            } else if (cards.size() > 0) {
+                // card panels with hidden cards may contain unknown cards
+                // remove the last one
+                cardIndex = cards.size() - 1;
+                cards.remove(cardIndex);
+            }
+            resetActiveCardPosition();
         }
-        resetActiveCardPosition();
-        repaint();
+        repaintCardsFrom(cardIndex, previousCardGap);
     }
 
     /**
@@ -186,12 +260,15 @@ public class CardPanel extends JPanel {
      * @see JPanel#paintComponent(Graphics)
      */
     @Override
-    protected final synchronized void paintComponent(final Graphics g) {
+    protected final void paintComponent(final Graphics g) {
 
         super.paintComponent(g);
 
         // copying cards prevents ConcurrentModificationException
-        final CardList cardsToPaint = new CardList(this.cards);
+        final CardList cardsToPaint;
+        synchronized (this) {
+            cardsToPaint = new CardList(this.cards);
+        }
 
         // rendering hints
         final Graphics2D g2D = (Graphics2D) g;
@@ -202,37 +279,49 @@ public class CardPanel extends JPanel {
 
         // calculate card gap
         int panelWidth = getWidth();
-        int cardWidth = this.bitmaps.getCardImage(Card.CJ).getWidth(this);
-        int cardGap = calculateCardGap(panelWidth, cardWidth);
+        int cardWidth = getCardWidth();
+        int cardGap = calculateCardGap(panelWidth, cardWidth, cardsToPaint.size());
 
         adjustActiveCardPositions(cardWidth, cardGap);
         paintAllCards(cardsToPaint, g2D, cardWidth, cardGap);
         // drawMouseMarkers(g2D);
     }
 
-    private int calculateCardGap(final int panelWidth, final int cardWidth) {
+    private static int calculateCardGap(final int panelWidth, final int cardWidth, final int cardCount) {
         int cardGap = cardWidth;
-        if (this.cards.size() * cardGap > panelWidth) {
+        if (cardCount > 1 && cardCount * cardGap > panelWidth) {
             // cards overlap
-            cardGap = (panelWidth - cardWidth) / (this.cards.size() - 1);
+            cardGap = (panelWidth - cardWidth) / (cardCount - 1);
         }
         return cardGap;
     }
 
     private void paintAllCards(final CardList cardsToPaint,
             final Graphics2D g2D, final int cardWidth, int cardGap) {
+
+        // card images are scaled once and cached by the graphic repository
+        final Image sampleCard = this.bitmaps.getCardImage(Card.CJ);
+        final int scaledWidth = (int) Math.round(cardWidth * this.scaleFactor);
+        final int scaledHeight = (int) Math.round(sampleCard.getHeight(this)
+                * this.scaleFactor);
+
+        // only cards inside the dirty region are painted
+        final Rectangle clip = g2D.getClipBounds();
+
         int cardNo = 0;
         for (final Card card : cardsToPaint) {
 
-            final AffineTransform transform = new AffineTransform();
-            transform.scale(this.scaleFactor, this.scaleFactor);
-
+            int xPosition = 0;
             if (cardNo * cardGap <= this.activeCardMinXPosition) {
-                transform.translate(cardNo * cardGap, 0);
+                xPosition = cardNo * cardGap;
             } else if (this.activeCardMaxXPosition < cardNo * cardGap + cardWidth) {
-                transform.translate((cardNo - 1) * cardGap + cardWidth, 0);
+                xPosition = (cardNo - 1) * cardGap + cardWidth;
+            }
+            final int scaledXPosition = (int) Math.round(xPosition * this.scaleFactor);
+            if (clip == null || clip.intersects(scaledXPosition, 0, scaledWidth, scaledHeight)) {
+                g2D.drawImage(getCardImage(card, scaledWidth, scaledHeight),
+                        scaledXPosition, 0, this);
             }
-            g2D.drawImage(getCardImage(card), transform, this);
 
             cardNo++;
         }
@@ -248,18 +337,15 @@ public class CardPanel extends JPanel {
         this.activeCardMaxXPosition = this.activeCardMinXPosition + cardWidth;
     }
 
-    private Image getCardImage(final Card card) {
+    private Image getCardImage(final Card card, final int width,
+            final int height) {
         Image image = null;
 
         if (this.showBackside) {
-            image = this.bitmaps.getCardImage(null);
+            image = this.bitmaps.getScaledCardImage(null, width, height);
         } else {
-            if (card == null) {
-                // e.g. in debug mode
-                image = this.bitmaps.getCardImage(null);
-            } else {
-                image = this.bitmaps.getCardImage(card);
-            }
+            // card can be null e.g. in debug mode
+            image = this.bitmaps.getScaledCardImage(card, width, height);
         }
         return image;
     }
@@ -268,8 +354,10 @@ public class CardPanel extends JPanel {
      * Clears the card panel.
      */
     public final void clearCards() {
-        this.cards.clear();
-        repaint();
+        synchronized (this) {
+            this.cards.clear();
+        }
+        FramePacer.INSTANCE.repaint(this);
     }
 
     /**
@@ -288,7 +376,7 @@ public class CardPanel extends JPanel {
      */
     public final void showCards() {
         this.showBackside = false;
-        repaint();
+        FramePacer.INSTANCE.repaint(this);
     }
 
     /**
@@ -297,7 +385,7 @@ public class CardPanel extends JPanel {
     public final void hideCards() {
         if (!JSkatOptions.instance().isCheatDebugMode().booleanValue()) {
             this.showBackside = true;
-            repaint();
+            FramePacer.INSTANCE.repaint(this);
         }
     }
 
@@ -317,9 +405,11 @@ public class CardPanel extends JPanel {
      *            Game type
      */
     public final void setSortType(final GameType newGameType) {
-        this.sortGameType = newGameType;
-        this.cards.sort(this.sortGameType);
-        repaint();
+        synchronized (this) {
+            this.sortGameType = newGameType;
+            this.cards.sort(this.sortGameType);
+        }
+        FramePacer.INSTANCE.repaint(this);
     }
 
     /**
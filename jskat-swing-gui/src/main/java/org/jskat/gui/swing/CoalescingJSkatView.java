@@ -0,0 +1,452 @@
+/**
+ * Copyright (C) 2019 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.gui.swing;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.jskat.control.iss.ChatMessageType;
+import org.jskat.data.PlayerStatistics;
+import org.jskat.data.SkatGameData;
+import org.jskat.data.SkatGameData.GameState;
+import org.jskat.data.SkatSeriesData.SeriesState;
+import org.jskat.data.SkatSeriesJournal.Replay;
+import org.jskat.data.iss.ChatMessage;
+import org.jskat.data.iss.GameStartInformation;
+import org.jskat.data.iss.MoveInformation;
+import org.jskat.data.iss.TablePanelStatus;
+import org.jskat.gui.JSkatView;
+import org.jskat.gui.human.AbstractHumanJSkatPlayer;
+import org.jskat.util.Card;
+import org.jskat.util.CardList;
+import org.jskat.util.Player;
+
+/**
+ * Decorates a view, so that the game threads don't wait for the GUI
+ *
+ * State updates of the tables are collected and handed over to the decorated
+ * view on the event dispatch thread once per frame. For properties like the
+ * game state or the bid values only the latest value of a table is handed
+ * over, as long as no other update was made in between. All other updates are
+ * handed over in the order they were made.
+ * Methods that return a value or show dialogs are called directly.
+ */
+public class CoalescingJSkatView implements JSkatView {
+
+	private final JSkatView view;
+
+	/**
+	 * Updates not handed over yet, in the order of their first change
+	 */
+	private final Map<Object, Runnable> pendingUpdates = new LinkedHashMap<>();
+	private long orderedUpdateCount = 0;
+	private boolean flushScheduled = false;
+	private final Consumer<Runnable> flushScheduler;
+
+	/**
+	 * Constructor
+	 *
+	 * @param view
+	 *            View to be decorated
+	 */
+	public CoalescingJSkatView(final JSkatView view) {
+		this(view, FramePacer.INSTANCE::invokeInNextFrame);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param view
+	 *            View to be decorated
+	 * @param flushScheduler
+	 *            Schedules the hand over of the collected updates
+	 */
+	CoalescingJSkatView(final JSkatView view, final Consumer<Runnable> flushScheduler) {
+		this.view = view;
+		this.flushScheduler = flushScheduler;
+	}
+
+	/**
+	 * Key of a property of a table, only the latest value is kept until the
+	 * next ordered update
+	 */
+	private static final class PropertyKey {
+
+		private final String tableName;
+		private final String property;
+		private final long orderedUpdatesBefore;
+
+		private PropertyKey(final String tableName, final String property, final long orderedUpdatesBefore) {
+			this.tableName = tableName;
+			this.property = property;
+			this.orderedUpdatesBefore = orderedUpdatesBefore;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * (31 * String.valueOf(tableName).hashCode() + property.hashCode())
+					+ Long.hashCode(orderedUpdatesBefore);
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof PropertyKey)) {
+				return false;
+			}
+			final PropertyKey other = (PropertyKey) obj;
+			return String.valueOf(tableName).equals(String.valueOf(other.tableName))
+					&& property.equals(other.property) && orderedUpdatesBefore == other.orderedUpdatesBefore;
+		}
+	}
+
+	private synchronized void setProperty(final String tableName, final String property, final Runnable update) {
+
+		// the latest value replaces a pending one only if no ordered update
+		// was made in between, ordered updates may depend on the values that
+		// were set before them
+		pendingUpdates.put(new PropertyKey(tableName, property, orderedUpdateCount), update);
+
+		scheduleFlush();
+	}
+
+	private synchronized void addOrderedUpdate(final Runnable update) {
+
+		pendingUpdates.put(Long.valueOf(orderedUpdateCount++), update);
+
+		scheduleFlush();
+	}
+
+	private void scheduleFlush() {
+		if (!flushScheduled) {
+			flushScheduled = true;
+			flushScheduler.accept(this::flush);
+		}
+	}
+
+	private void flush() {
+
+		final List<Runnable> updates;
+		synchronized (this) {
+			updates = new ArrayList<>(pendingUpdates.values());
+			pendingUpdates.clear();
+			flushScheduled = false;
+		}
+
+		for (final Runnable update : updates) {
+			update.run();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String getNewTableName(final int localTablesCreated) {
+		return view.getNewTableName(localTablesCreated);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void startGame(final String tableName) {
+		addOrderedUpdate(() -> view.startGame(tableName));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void showISSLogin() {
+		view.showISSLogin();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<String> getPlayerForInvitation(final Set<String> playerNames) {
+		return view.getPlayerForInvitation(playerNames);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void showMessage(final String title, final String message) {
+		view.showMessage(title, message);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void showErrorMessage(final String title, final String message) {
+		view.showErrorMessage(title, message);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void showCardNotAllowedMessage(final Card card) {
+		view.showCardNotAllowedMessage(card);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setGameState(final String tableName, final GameState state) {
+		setProperty(tableName, "gameState", () -> view.setGameState(tableName, state)); //$NON-NLS-1$
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void restoreSkatList(final String tableName, final Replay replay) {
+		addOrderedUpdate(() -> view.restoreSkatList(tableName, replay));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setSeriesStatistics(final String tableName, final Map<String, PlayerStatistics> statistics) {
+		setProperty(tableName, "seriesStatistics", () -> view.setSeriesStatistics(tableName, statistics)); //$NON-NLS-1$
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setSeriesState(final String tableName, final SeriesState state) {
+		setProperty(tableName, "seriesState", () -> view.setSeriesState(tableName, state)); //$NON-NLS-1$
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setBidValueToMake(final String tableName, final int bidValue) {
+		setProperty(tableName, "bidValueToMake", () -> view.setBidValueToMake(tableName, bidValue)); //$NON-NLS-1$
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setBidValueToHold(final String tableName, final int bidValue) {
+		setProperty(tableName, "bidValueToHold", () -> view.setBidValueToHold(tableName, bidValue)); //$NON-NLS-1$
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void takeCardFromSkat(final String tableName, final Card card) {
+		addOrderedUpdate(() -> view.takeCardFromSkat(tableName, card));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void putCardIntoSkat(final String tableName, final Card card) {
+		addOrderedUpdate(() -> view.putCardIntoSkat(tableName, card));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void updateISSLobbyPlayerList(final String playerName, final String language, final long gamesPlayed,
+			final double strength) {
+		view.updateISSLobbyPlayerList(playerName, language, gamesPlayed, strength);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void removeFromISSLobbyPlayerList(final String playerName) {
+		view.removeFromISSLobbyPlayerList(playerName);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void updateISSLobbyTableList(final String tableName, final int maxPlayers, final long gamesPlayed,
+			final String player1, final String player2, final String player3) {
+		view.updateISSLobbyTableList(tableName, maxPlayers, gamesPlayed, player1, player2, player3);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void removeFromISSLobbyTableList(final String tableName) {
+		view.removeFromISSLobbyTableList(tableName);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void appendISSChatMessage(final ChatMessageType messageType, final ChatMessage message) {
+		view.appendISSChatMessage(messageType, message);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void updateISSTable(final String tableName, final TablePanelStatus status) {
+		view.updateISSTable(tableName, status);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void updateISSTable(final String tableName, final String loginName, final GameStartInformation status) {
+		view.updateISSTable(tableName, loginName, status);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void updateISSMove(final String tableName, final SkatGameData gameData,
+			final MoveInformation moveInformation) {
+		view.updateISSMove(tableName, gameData, moveInformation);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setResign(final String tableName, final Player player) {
+		addOrderedUpdate(() -> view.setResign(tableName, player));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setSkat(final String tableName, final CardList skat) {
+		// the game thread keeps changing the skat
+		final CardList skatCopy = new CardList(skat);
+		setProperty(tableName, "skat", () -> view.setSkat(tableName, skatCopy)); //$NON-NLS-1$
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean showISSTableInvitation(final String invitor, final String tableName) {
+		return view.showISSTableInvitation(invitor, tableName);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setPlayerNames(final String tableName, final String upperLeftPlayerName,
+			final boolean isUpperLeftPlayerAIPlayer, final String upperRightPlayerName,
+			final boolean isUpperRightPlayerAIPlayer, final String lowerPlayerName,
+			final boolean isLowerPlayerAIPlayer) {
+		setProperty(tableName, "playerNames", //$NON-NLS-1$
+				() -> view.setPlayerNames(tableName, upperLeftPlayerName, isUpperLeftPlayerAIPlayer,
+						upperRightPlayerName, isUpperRightPlayerAIPlayer, lowerPlayerName, isLowerPlayerAIPlayer));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setDeclarer(final String tableName, final Player declarer) {
+		setProperty(tableName, "declarer", () -> view.setDeclarer(tableName, declarer)); //$NON-NLS-1$
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setGeschoben(final String tableName, final Player player) {
+		addOrderedUpdate(() -> view.setGeschoben(tableName, player));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setDiscardedSkat(final String tableName, final Player activePlayer, final CardList skatBefore,
+			final CardList discardedSkat) {
+		final CardList skatBeforeCopy = new CardList(skatBefore);
+		final CardList discardedSkatCopy = new CardList(discardedSkat);
+		addOrderedUpdate(() -> view.setDiscardedSkat(tableName, activePlayer, skatBeforeCopy, discardedSkatCopy));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void openWebPage(final String link) {
+		view.openWebPage(link);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public AbstractHumanJSkatPlayer getHumanPlayerForGUI() {
+		return view.getHumanPlayerForGUI();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setActiveView(final String name) {
+		setProperty(null, "activeView", () -> view.setActiveView(name)); //$NON-NLS-1$
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void showAIPlayedSchwarzMessageDiscarding(final String playerName, final CardList discardedCards) {
+		view.showAIPlayedSchwarzMessageDiscarding(playerName, discardedCards);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void showAIPlayedSchwarzMessageCardPlay(final String playerName, final Card card) {
+		view.showAIPlayedSchwarzMessageCardPlay(playerName, card);
+	}
+}
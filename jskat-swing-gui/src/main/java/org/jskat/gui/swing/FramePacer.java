@@ -0,0 +1,168 @@
+/**
+ * Copyright (C) 2019 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.gui.swing;
+
+import java.awt.Rectangle;
+import java.awt.event.ActionEvent;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.swing.JComponent;
+import javax.swing.Timer;
+
+/**
+ * Coalesces repaint requests and drives animations, so that every component
+ * is repainted at most once per display frame
+ */
+public final class FramePacer {
+
+	/**
+	 * Instance of the frame pacer
+	 */
+	public static final FramePacer INSTANCE = new FramePacer();
+
+	/**
+	 * Time between two frames in milliseconds, 60 frames per second
+	 */
+	public static final int FRAME_INTERVAL = 1000 / 60;
+
+	/**
+	 * Animation that is advanced once per frame
+	 */
+	public interface FrameAnimation {
+
+		/**
+		 * Advances the animation to the given frame time
+		 *
+		 * @param frameTime
+		 *            Frame time in milliseconds
+		 * @return TRUE, if the animation needs further frames
+		 */
+		boolean nextFrame(long frameTime);
+	}
+
+	private final Map<JComponent, Rectangle> dirtyRegions = new LinkedHashMap<>();
+	private final List<FrameAnimation> animations = new ArrayList<>();
+
+	private final Timer timer;
+
+	private FramePacer() {
+		timer = new Timer(FRAME_INTERVAL, this::nextFrame);
+		timer.setInitialDelay(0);
+		timer.setCoalesce(true);
+	}
+
+	/**
+	 * Marks the whole component for repainting in the next frame
+	 *
+	 * @param component
+	 *            Component
+	 */
+	public void repaint(final JComponent component) {
+		repaint(component, new Rectangle(0, 0, component.getWidth(), component.getHeight()));
+	}
+
+	/**
+	 * Marks a region of a component for repainting in the next frame
+	 *
+	 * @param component
+	 *            Component
+	 * @param region
+	 *            Region in component coordinates
+	 */
+	public synchronized void repaint(final JComponent component, final Rectangle region) {
+
+		if (region.isEmpty()) {
+			return;
+		}
+
+		final Rectangle dirtyRegion = dirtyRegions.get(component);
+		if (dirtyRegion == null) {
+			dirtyRegions.put(component, new Rectangle(region));
+		} else {
+			dirtyRegion.add(region);
+		}
+
+		startFrames();
+	}
+
+	/**
+	 * Adds an animation that is advanced once per frame until it is finished
+	 *
+	 * @param animation
+	 *            Animation
+	 */
+	public synchronized void animate(final FrameAnimation animation) {
+		animations.add(animation);
+		startFrames();
+	}
+
+	/**
+	 * Runs a task on the event dispatch thread at the beginning of the next
+	 * frame
+	 *
+	 * @param task
+	 *            Task
+	 */
+	public void invokeInNextFrame(final Runnable task) {
+		animate(frameTime -> {
+			task.run();
+			return false;
+		});
+	}
+
+	private void startFrames() {
+		if (!timer.isRunning()) {
+			timer.start();
+		}
+	}
+
+	private void nextFrame(final ActionEvent event) {
+
+		final long frameTime = System.currentTimeMillis();
+
+		final List<FrameAnimation> runningAnimations;
+		synchronized (this) {
+			runningAnimations = new ArrayList<>(animations);
+		}
+
+		final List<FrameAnimation> finishedAnimations = new ArrayList<>();
+		for (final FrameAnimation animation : runningAnimations) {
+			if (!animation.nextFrame(frameTime)) {
+				finishedAnimations.add(animation);
+			}
+		}
+
+		final Map<JComponent, Rectangle> regionsToPaint;
+		synchronized (this) {
+			animations.removeAll(finishedAnimations);
+
+			regionsToPaint = new LinkedHashMap<>(dirtyRegions);
+			dirtyRegions.clear();
+
+			if (regionsToPaint.isEmpty() && animations.isEmpty()) {
+				// nothing happened during the last frame
+				timer.stop();
+			}
+		}
+
+		for (final Map.Entry<JComponent, Rectangle> entry : regionsToPaint.entrySet()) {
+			entry.getKey().repaint(entry.getValue());
+		}
+	}
+}
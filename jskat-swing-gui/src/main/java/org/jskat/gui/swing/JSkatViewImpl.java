@@ -64,9 +64,11 @@ import org.jskat.control.event.table.TrickCompletedEvent;
 import org.jskat.control.iss.ChatMessageType;
 import org.jskat.data.JSkatOptions;
 import org.jskat.data.JSkatViewType;
+import org.jskat.data.PlayerStatistics;
 import org.jskat.data.SkatGameData;
 import org.jskat.data.SkatGameData.GameState;
 import org.jskat.data.SkatSeriesData.SeriesState;
+import org.jskat.data.SkatSeriesJournal.Replay;
 import org.jskat.data.Trick;
 import org.jskat.data.iss.ChatMessage;
 import org.jskat.data.iss.GameStartInformation;
@@ -884,6 +886,24 @@ public class JSkatViewImpl implements JSkatView {
 		tables.get(tableName).setSeriesState(state);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void restoreSkatList(final String tableName, final Replay replay) {
+
+		tables.get(tableName).restoreSkatList(replay);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setSeriesStatistics(final String tableName, final Map<String, PlayerStatistics> statistics) {
+
+		tables.get(tableName).setSeriesStatistics(statistics);
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
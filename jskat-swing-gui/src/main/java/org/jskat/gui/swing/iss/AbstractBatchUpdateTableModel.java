@@ -0,0 +1,181 @@
+/**
+ * Copyright (C) 2019 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.gui.swing.iss;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.swing.table.AbstractTableModel;
+
+import org.jskat.gui.swing.FramePacer;
+
+/**
+ * Table model with rows identified by the value of the first column
+ *
+ * Updates can be sent from any thread. They are collected and applied on the
+ * event dispatch thread once per frame, only the last update for a row
+ * counts.
+ */
+abstract class AbstractBatchUpdateTableModel extends AbstractTableModel {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Above this number of changed rows a single data changed event is fired
+	 * instead of events for every row
+	 */
+	private static final int MAX_ROW_EVENTS = 50;
+
+	/**
+	 * Rows, only accessed on the event dispatch thread
+	 */
+	private final List<Object[]> rows = new ArrayList<>();
+	/**
+	 * Row index for every key
+	 */
+	private final Map<String, Integer> rowIndexes = new HashMap<>();
+
+	/**
+	 * Updates not applied yet, a null row removes the row
+	 */
+	private final Map<String, Object[]> pendingUpdates = new LinkedHashMap<>();
+	private boolean flushScheduled = false;
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int getRowCount() {
+
+		return this.rows.size();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object getValueAt(final int rowIndex, final int columnIndex) {
+
+		return this.rows.get(rowIndex)[columnIndex];
+	}
+
+	/**
+	 * Adds or updates a row
+	 *
+	 * @param row
+	 *            Row values, the first value is the key of the row
+	 */
+	protected final void updateRow(final Object[] row) {
+
+		enqueue((String) row[0], row);
+	}
+
+	/**
+	 * Removes a row
+	 *
+	 * @param key
+	 *            Key of the row
+	 */
+	protected final void removeRow(final String key) {
+
+		enqueue(key, null);
+	}
+
+	private synchronized void enqueue(final String key, final Object[] row) {
+
+		// keep the order of the first update of a key
+		this.pendingUpdates.put(key, row);
+
+		if (!this.flushScheduled) {
+			this.flushScheduled = true;
+			FramePacer.INSTANCE.invokeInNextFrame(this::applyPendingUpdates);
+		}
+	}
+
+	private void applyPendingUpdates() {
+
+		final Map<String, Object[]> updates;
+		synchronized (this) {
+			updates = new LinkedHashMap<>(this.pendingUpdates);
+			this.pendingUpdates.clear();
+			this.flushScheduled = false;
+		}
+
+		final boolean fireRowEvents = updates.size() <= MAX_ROW_EVENTS;
+
+		for (final Map.Entry<String, Object[]> update : updates.entrySet()) {
+			if (update.getValue() == null) {
+				applyRemove(update.getKey(), fireRowEvents);
+			} else {
+				applyUpdate(update.getKey(), update.getValue(), fireRowEvents);
+			}
+		}
+
+		if (!fireRowEvents) {
+			fireTableDataChanged();
+		}
+	}
+
+	private void applyUpdate(final String key, final Object[] row,
+			final boolean fireRowEvent) {
+
+		final Integer index = this.rowIndexes.get(key);
+
+		if (index != null) {
+			this.rows.set(index.intValue(), row);
+			if (fireRowEvent) {
+				fireTableRowsUpdated(index.intValue(), index.intValue());
+			}
+		} else {
+			final int newIndex = this.rows.size();
+			this.rows.add(row);
+			this.rowIndexes.put(key, Integer.valueOf(newIndex));
+			if (fireRowEvent) {
+				fireTableRowsInserted(newIndex, newIndex);
+			}
+		}
+	}
+
+	private void applyRemove(final String key, final boolean fireRowEvent) {
+
+		final Integer index = this.rowIndexes.remove(key);
+
+		if (index == null) {
+			// unknown row
+			return;
+		}
+
+		// the last row takes the place of the removed row
+		final int lastIndex = this.rows.size() - 1;
+		final Object[] lastRow = this.rows.remove(lastIndex);
+
+		if (index.intValue() == lastIndex) {
+			if (fireRowEvent) {
+				fireTableRowsDeleted(lastIndex, lastIndex);
+			}
+		} else {
+			this.rows.set(index.intValue(), lastRow);
+			this.rowIndexes.put((String) lastRow[0], index);
+			if (fireRowEvent) {
+				fireTableRowsDeleted(lastIndex, lastIndex);
+				fireTableRowsUpdated(index.intValue(), index.intValue());
+			}
+		}
+	}
+}
@@ -17,11 +17,14 @@
 package org.jskat.gui.swing.table;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import javax.swing.table.AbstractTableModel;
 
 import org.jskat.data.GameSummary;
+import org.jskat.data.SkatSeriesJournal.Replay;
+import org.jskat.data.SkatSeriesJournal.SeriesHeader;
 import org.jskat.util.JSkatResourceBundle;
 import org.jskat.util.Player;
 import org.jskat.util.SkatConstants;
@@ -31,6 +34,10 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Provides a model for the skat list table
+ *
+ * Results are stored in primitive arrays. Display values are calculated
+ * incrementally from running totals, so adding a game costs the same regardless
+ * of the length of the series.
  */
 class SkatListTableModel extends AbstractTableModel {
 
@@ -38,16 +45,50 @@ class SkatListTableModel extends AbstractTableModel {
 
 	private static Logger log = LoggerFactory.getLogger(SkatListTableModel.class);
 
+	/**
+	 * Declarer column for games that were passed in
+	 */
+	private static final int NO_DECLARER = -1;
+	/**
+	 * Display value for cells without value
+	 */
+	private static final int NO_VALUE = Integer.MIN_VALUE;
+
+	private static final int INITIAL_CAPACITY = 64;
+
 	private final JSkatResourceBundle strings;
 
 	private SkatListMode mode = SkatListMode.NORMAL;
 
 	private int playerCount = 3;
-	private final List<Player> declarers;
-	private final List<List<Integer>> playerResults;
-	private final List<GameSummary> gameResults;
 	private final List<String> columns;
-	private final List<List<Integer>> displayValues;
+
+	/**
+	 * Number of games
+	 */
+	private int gameCount;
+	/**
+	 * Declarer column for every game
+	 */
+	private int[] declarerColumns;
+	/**
+	 * Game value for every game
+	 */
+	private int[] gameValues;
+
+	/**
+	 * Display values of all rows, one row holds the player values and the game
+	 * value
+	 */
+	private int[] displayValues;
+	/**
+	 * Number of rows with calculated display values
+	 */
+	private int calculatedRows;
+	/**
+	 * Player results up to the last calculated row
+	 */
+	private int[] playerResultsSoFar;
 
 	/**
 	 * Constructor
@@ -56,10 +97,6 @@ class SkatListTableModel extends AbstractTableModel {
 
 		this.strings = JSkatResourceBundle.INSTANCE;
 
-		this.declarers = new ArrayList<>();
-		this.playerResults = new ArrayList<>();
-		this.gameResults = new ArrayList<>();
-		this.displayValues = new ArrayList<>();
 		this.columns = new ArrayList<>();
 		setColumns();
 	}
@@ -79,7 +116,7 @@ class SkatListTableModel extends AbstractTableModel {
 	@Override
 	public int getRowCount() {
 
-		return this.declarers.size();
+		return this.gameCount;
 	}
 
 	/**
@@ -88,10 +125,13 @@ class SkatListTableModel extends AbstractTableModel {
 	@Override
 	public Object getValueAt(final int rowIndex, final int columnIndex) {
 
+		calculateDisplayValues(rowIndex + 1);
+
 		Object result = null;
 
-		if (this.displayValues.get(rowIndex).get(columnIndex) != null) {
-			result = this.displayValues.get(rowIndex).get(columnIndex);
+		final int value = this.displayValues[rowIndex * getColumnCount() + columnIndex];
+		if (value != NO_VALUE) {
+			result = Integer.valueOf(value);
 		} else {
 			result = "-"; //$NON-NLS-1$
 		}
@@ -133,45 +173,50 @@ class SkatListTableModel extends AbstractTableModel {
 
 		this.mode = newMode;
 
-		calculateDisplayValues();
+		// display values are recalculated on next access
+		invalidateDisplayValues();
 
 		fireTableDataChanged();
 	}
 
-	void calculateDisplayValues() {
+	private void invalidateDisplayValues() {
+		this.calculatedRows = 0;
+		Arrays.fill(this.playerResultsSoFar, 0);
+	}
 
-		int currResult = 0;
-		List<Integer> playerResultsSoFar = new ArrayList<>();
-		for (int i = 0; i < this.playerCount; i++) {
-			playerResultsSoFar.add(new Integer(0));
-		}
+	/**
+	 * Calculates the display values up to a row count
+	 * 
+	 * @param rowCount
+	 *            Number of rows that need display values
+	 */
+	private void calculateDisplayValues(final int rowCount) {
 
-		this.displayValues.clear();
+		final int columnCount = getColumnCount();
 
-		for (int game = 0; game < this.gameResults.size(); game++) {
+		for (int game = this.calculatedRows; game < rowCount; game++) {
 
-			this.displayValues.add(new ArrayList<>());
+			final int rowOffset = game * columnCount;
+			final int declarerColumn = this.declarerColumns[game];
+			final int gameValue = this.gameValues[game];
 
 			// add player values
 			for (int player = 0; player < this.playerCount; player++) {
 
-				int previousResult = 0;
-				currResult = 0;
+				int currResult = 0;
 
-				if (this.declarers.get(game) != null) {
+				if (declarerColumn != NO_DECLARER) {
 
-					// get previous result for player values
-					previousResult = playerResultsSoFar.get(player).intValue();
+					final boolean isDeclarer = player == declarerColumn;
 
 					// get player results from current game
 					switch (this.mode) {
 					case NORMAL:
-						currResult = this.playerResults.get(player).get(game);
+						currResult = isDeclarer ? gameValue : 0;
 						break;
 					case TOURNAMENT:
-						boolean isDeclarer = (this.playerResults.get(player).get(game) != 0);
-						currResult = SkatConstants.getTournamentGameValue(isDeclarer, this.gameResults.get(game)
-								.getGameValue(), this.playerCount);
+						currResult = SkatConstants.getTournamentGameValue(isDeclarer && gameValue != 0, gameValue,
+								this.playerCount);
 						break;
 					case BIERLACHS:
 						// FIXME jan 31.05.2010 add bierlachs value
@@ -181,29 +226,30 @@ class SkatListTableModel extends AbstractTableModel {
 
 				if (currResult != 0) {
 
-					Integer newResult = new Integer(previousResult + currResult);
-					this.displayValues.get(game).add(newResult);
-					playerResultsSoFar.set(player, newResult);
+					this.playerResultsSoFar[player] += currResult;
+					this.displayValues[rowOffset + player] = this.playerResultsSoFar[player];
 
 				} else {
 
-					this.displayValues.get(game).add(null);
+					this.displayValues[rowOffset + player] = NO_VALUE;
 				}
 			}
 
 			// get game result
+			int currResult = 0;
 			switch (this.mode) {
 			case NORMAL:
 			case BIERLACHS:
-				currResult = this.gameResults.get(game).getGameValue();
+				currResult = gameValue;
 				break;
 			case TOURNAMENT:
-				currResult = SkatConstants.getTournamentGameValue(true, this.gameResults.get(game).getGameValue(),
-						this.playerCount);
+				currResult = SkatConstants.getTournamentGameValue(true, gameValue, this.playerCount);
 				break;
 			}
-			this.displayValues.get(game).add(currResult);
+			this.displayValues[rowOffset + this.playerCount] = currResult;
 		}
+
+		this.calculatedRows = Math.max(this.calculatedRows, rowCount);
 	}
 
 	/**
@@ -223,26 +269,70 @@ class SkatListTableModel extends AbstractTableModel {
 	void addResult(final Player leftOpponent, final Player rightOpponent, final Player user, final Player declarer,
 			final GameSummary gameSummary) {
 
+		final int newRow = appendResult(leftOpponent, rightOpponent, user, declarer, gameSummary);
+
+		fireTableRowsInserted(newRow, newRow);
+	}
+
+	/**
+	 * Replaces all results with the games of a series that is resumed from its
+	 * journal
+	 * 
+	 * @param replay
+	 *            Series restored from the journal
+	 */
+	void restoreResults(final Replay replay) {
+
+		resetResults();
+
+		final SeriesHeader header = replay.getHeader();
+		final List<GameSummary> gameSummaries = replay.getGameSummaries();
+		ensureCapacity(gameSummaries.size());
+
+		for (int i = 0; i < gameSummaries.size(); i++) {
+			final Player user = header.getBottomPlayer(i);
+			final GameSummary gameSummary = gameSummaries.get(i);
+			appendResult(user.getLeftNeighbor(), user.getRightNeighbor(), user, gameSummary.getDeclarer(),
+					gameSummary);
+		}
+
+		fireTableDataChanged();
+	}
+
+	private int appendResult(final Player leftOpponent, final Player rightOpponent, final Player user,
+			final Player declarer, final GameSummary gameSummary) {
+
 		// FIXME works only on 3 player series
 		// FIXME (jansch 21.03.2011) provide only one method for addResult()
-		this.declarers.add(declarer);
-		this.gameResults.add(gameSummary);
-
-		int declarerColumn = getDeclarerColumn(leftOpponent, rightOpponent, user, declarer);
+		ensureCapacity(this.gameCount + 1);
 
 		if (declarer != null) {
-			this.playerResults.get(declarerColumn).add(Integer.valueOf(gameSummary.getGameValue()));
-			this.playerResults.get((declarerColumn + 1) % 3).add(Integer.valueOf(0));
-			this.playerResults.get((declarerColumn + 2) % 3).add(Integer.valueOf(0));
+			this.declarerColumns[this.gameCount] = getDeclarerColumn(leftOpponent, rightOpponent, user, declarer);
 		} else {
 			// game was passed in
-			for (int i = 0; i < this.playerCount; i++) {
-				this.playerResults.get(i).add(0);
-			}
+			this.declarerColumns[this.gameCount] = NO_DECLARER;
 		}
-		calculateDisplayValues();
+		this.gameValues[this.gameCount] = gameSummary.getGameValue();
 
-		fireTableDataChanged();
+		final int newRow = this.gameCount;
+		this.gameCount++;
+
+		if (this.calculatedRows == newRow) {
+			// running totals are up to date, only the new row is calculated
+			calculateDisplayValues(this.gameCount);
+		}
+
+		return newRow;
+	}
+
+	private void ensureCapacity(final int newGameCount) {
+
+		if (newGameCount > this.gameValues.length) {
+			final int newCapacity = Math.max(newGameCount, this.gameValues.length * 2);
+			this.declarerColumns = Arrays.copyOf(this.declarerColumns, newCapacity);
+			this.gameValues = Arrays.copyOf(this.gameValues, newCapacity);
+			this.displayValues = Arrays.copyOf(this.displayValues, newCapacity * getColumnCount());
+		}
 	}
 
 	static int getDeclarerColumn(final Player leftOpponent, final Player rightOpponent, final Player player,
@@ -266,21 +356,22 @@ class SkatListTableModel extends AbstractTableModel {
 	 */
 	void clearList() {
 
-		this.declarers.clear();
-		for (List<Integer> currList : this.playerResults) {
-
-			currList.clear();
-		}
-		this.gameResults.clear();
-		this.displayValues.clear();
+		resetResults();
 
 		fireTableDataChanged();
 	}
 
-	public void setPlayerCount(final int newPlayerCount) {
+	private void resetResults() {
 
-		this.declarers.clear();
-		this.gameResults.clear();
+		this.gameCount = 0;
+		this.declarerColumns = new int[INITIAL_CAPACITY];
+		this.gameValues = new int[INITIAL_CAPACITY];
+		this.displayValues = new int[INITIAL_CAPACITY * getColumnCount()];
+		this.playerResultsSoFar = new int[this.playerCount];
+		this.calculatedRows = 0;
+	}
+
+	public void setPlayerCount(final int newPlayerCount) {
 
 		this.playerCount = newPlayerCount;
 
@@ -292,18 +383,15 @@ class SkatListTableModel extends AbstractTableModel {
 
 	void setColumns() {
 
-		this.playerResults.clear();
-		this.displayValues.clear();
 		this.columns.clear();
 
 		for (int i = 0; i < this.playerCount; i++) {
 			// FIXME (jan 14.12.2010) get player names
 			this.columns.add("P" + i);
-			this.playerResults.add(new ArrayList<>());
-			this.displayValues.add(new ArrayList<>());
 		}
 		this.columns.add(this.strings.getString("games")); //$NON-NLS-1$
-		this.displayValues.add(new ArrayList<>());
+
+		resetResults();
 	}
 
 	void setPlayerNames(final String upperLeftPlayer, final String upperRightPlayer, final String lowerPlayer) {
@@ -39,6 +39,7 @@ import javax.swing.event.ChangeListener;
 import org.jskat.control.JSkatMaster;
 import org.jskat.gui.swing.AbstractI18NComboBoxRenderer;
 import org.jskat.gui.swing.LayoutFactory;
+import org.jskat.player.JSkatPlayerProvider;
 import org.jskat.player.JSkatPlayerResolver;
 import org.jskat.util.JSkatResourceBundle;
 
@@ -224,16 +225,10 @@ public class SkatSeriesStartDialog extends JDialog implements ActionListener {
 			String player = (String) value;
 
 			if (player != null) {
-				if ("org.jskat.ai.newalgorithm.AlgorithmAI".equals(player)) {
-					result = SkatSeriesStartDialog.this.strings.getString("algorithmic_nextgen_player"); //$NON-NLS-1$
-				} else if ("org.jskat.ai.mjl.AIPlayerMJL".equals(player)) {
-					result = SkatSeriesStartDialog.this.strings.getString("algorithmic_player"); //$NON-NLS-1$
-				} else if ("org.jskat.ai.rnd.AIPlayerRND".equals(player)) {
-					result = SkatSeriesStartDialog.this.strings.getString("random_player"); //$NON-NLS-1$
-				} else if ("org.jskat.ai.nn.AIPlayerNN".equals(player)) {
-					result = SkatSeriesStartDialog.this.strings.getString("neural_network_player"); //$NON-NLS-1$
-				} else if ("org.jskat.gui.human.SwingHumanPlayer"
-						.equals(player)) {
+				final JSkatPlayerProvider provider = JSkatPlayerResolver.getAIPlayerProvider(player);
+				if (provider != null) {
+					result = SkatSeriesStartDialog.this.strings.getString(provider.getDisplayNameKey());
+				} else if (JSkatPlayerResolver.HUMAN_PLAYER_CLASS.equals(player)) {
 					result = SkatSeriesStartDialog.this.strings.getString("human_player"); //$NON-NLS-1$
 				} else {
 					result = player;
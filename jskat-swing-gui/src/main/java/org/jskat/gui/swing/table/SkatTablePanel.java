@@ -55,11 +55,16 @@ import org.jskat.control.event.skatgame.ReEvent;
 import org.jskat.control.event.skatgame.TrickCardPlayedEvent;
 import org.jskat.control.event.table.ActivePlayerChangedEvent;
 import org.jskat.control.event.table.SkatGameReplayFinishedEvent;
+import org.jskat.control.event.table.SkatGameReplayPositionChangedEvent;
 import org.jskat.control.event.table.SkatGameReplayStartedEvent;
 import org.jskat.control.event.table.SkatSeriesStartedEvent;
 import org.jskat.control.event.table.TrickCompletedEvent;
+import org.jskat.data.PlayerStatistics;
+import org.jskat.data.SkatGameData;
 import org.jskat.data.SkatGameData.GameState;
+import org.jskat.data.Trick;
 import org.jskat.data.SkatSeriesData.SeriesState;
+import org.jskat.data.SkatSeriesJournal.Replay;
 import org.jskat.gui.action.JSkatAction;
 import org.jskat.gui.action.main.StartSkatSeriesAction;
 import org.jskat.gui.img.JSkatGraphicRepository;
@@ -286,7 +291,7 @@ public class SkatTablePanel extends AbstractTabPanel {
 				"fill")); //$NON-NLS-1$
 		this.lastTrickPanel = new TrickPanel(0.6, false);
 		trickHoldingPanel.add(this.lastTrickPanel, "width 25%"); //$NON-NLS-1$
-		this.trickPanel = new TrickPanel(0.8, true);
+		this.trickPanel = new TrickPanel(0.8, true, true);
 		trickHoldingPanel.add(this.trickPanel, "grow"); //$NON-NLS-1$
 
 		trickHoldingPanel.add(getRightPanelForTrickPanel(), "width 25%"); //$NON-NLS-1$
@@ -381,6 +386,72 @@ public class SkatTablePanel extends AbstractTabPanel {
 		replay = false;
 	}
 
+	/**
+	 * Shows the complete game state after a replay jumped to another position
+	 * 
+	 * @param event
+	 *            Replay position changed event
+	 */
+	@Subscribe
+	public void setReplayPositionOn(
+			final SkatGameReplayPositionChangedEvent event) {
+
+		final SkatGameData gameData = event.gameData;
+
+		clearTable();
+
+		final Map<Player, CardList> playerCards = new HashMap<>();
+		for (final Player player : Player.values()) {
+			playerCards.put(player, gameData.getPlayerCards(player));
+		}
+		setCardsForPlayers(playerCards);
+
+		if (gameData.getAnnoucement().getGameType() != null) {
+			setGameAnnouncementOn(new GameAnnouncementEvent(
+					gameData.getDeclarer(), gameData.getAnnoucement()));
+			if (gameData.isContra()) {
+				this.gameInfoPanel.setContra();
+			}
+			if (gameData.isRe()) {
+				this.gameInfoPanel.setRe();
+			}
+		}
+
+		final List<Trick> tricks = gameData.getTricks();
+		if (!tricks.isEmpty()) {
+			final Trick currentTrick = gameData.getCurrentTrick();
+			if (!currentTrick.isTrickFinished()) {
+				addTrickCards(this.trickPanel, currentTrick);
+			}
+			if (tricks.size() > 1 || currentTrick.isTrickFinished()) {
+				addTrickCards(this.lastTrickPanel,
+						gameData.getLastCompletedTrick());
+			}
+			setTrickNumber(currentTrick.getTrickNumberInGame() + 1);
+		}
+
+		if (event.gameSummary != null) {
+			this.gameOverPanel.setGameSummary(event.gameSummary);
+			this.gameInfoPanel.setGameSummary(event.gameSummary);
+		}
+	}
+
+	private static void addTrickCards(final TrickPanel panel, final Trick trick) {
+
+		final Player trickForeHand = trick.getForeHand();
+		final Card[] cards = { trick.getFirstCard(), trick.getSecondCard(),
+				trick.getThirdCard() };
+		final Player[] players = { trickForeHand,
+				trickForeHand.getLeftNeighbor(),
+				trickForeHand.getRightNeighbor() };
+
+		for (int i = 0; i < cards.length; i++) {
+			if (cards[i] != null) {
+				panel.addCard(players[i], cards[i]);
+			}
+		}
+	}
+
 	/**
 	 * Sets player positions
 	 * 
@@ -857,6 +928,41 @@ public class SkatTablePanel extends AbstractTabPanel {
 	public void clearSkatListOn(final SkatSeriesStartedEvent event) {
 
 		this.skatListTableModel.clearList();
+		this.scoreListTable.getTableHeader().setToolTipText(null);
+	}
+
+	/**
+	 * Restores the skat list of a series that is resumed from its journal
+	 * 
+	 * @param replay
+	 *            Series restored from the journal
+	 */
+	public void restoreSkatList(final Replay replay) {
+
+		this.skatListTableModel.restoreResults(replay);
+		scrollSkatListToTheEnd();
+	}
+
+	/**
+	 * Shows the statistics of the series as tool tip of the skat list header
+	 * 
+	 * @param statistics
+	 *            Snapshot of the player statistics by player name
+	 */
+	public void setSeriesStatistics(final Map<String, PlayerStatistics> statistics) {
+
+		final StringBuilder toolTip = new StringBuilder("<html>"); //$NON-NLS-1$
+		for (final PlayerStatistics playerStatistics : statistics.values()) {
+			toolTip.append(this.strings.getString("series_statistics", //$NON-NLS-1$
+					playerStatistics.getPlayerName(), playerStatistics.getGamesPlayed(),
+					playerStatistics.getGamesDeclared(), playerStatistics.getGamesWon(),
+					playerStatistics.getSeegerFabianScore(),
+					String.format("%.2f", playerStatistics.getAverageScore()))); //$NON-NLS-1$
+			toolTip.append("<br>"); //$NON-NLS-1$
+		}
+		toolTip.append("</html>"); //$NON-NLS-1$
+
+		this.scoreListTable.getTableHeader().setToolTipText(toolTip.toString());
 	}
 
 	/**
@@ -19,6 +19,7 @@ package org.jskat.gui.swing.table;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.Image;
+import java.awt.Rectangle;
 import java.awt.RenderingHints;
 import java.awt.event.ComponentEvent;
 import java.awt.event.ComponentListener;
@@ -30,10 +31,11 @@ import java.util.Random;
 import javax.swing.JPanel;
 
 import org.jskat.data.JSkatOptions;
+import org.jskat.gui.swing.FramePacer;
+import org.jskat.gui.swing.FramePacer.FrameAnimation;
 import org.jskat.gui.img.CardFace;
 import org.jskat.gui.img.JSkatGraphicRepository;
 import org.jskat.util.Card;
-import org.jskat.util.CardList;
 import org.jskat.util.Player;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -48,11 +50,14 @@ class TrickPanel extends JPanel implements ComponentListener {
 
 	private static final double TRICK_SIZE_FACTOR = 1.0d + 2.0d / 3.0d;
 
+	/**
+	 * Duration of the move of a card into the trick in milliseconds
+	 */
+	private static final long CARD_MOVE_DURATION = 250;
+
 	private static JSkatOptions options = JSkatOptions.instance();
 	private final JSkatGraphicRepository bitmaps = JSkatGraphicRepository.INSTANCE;
-	private final List<Double> cardRotations;
-	private final List<Player> positions;
-	private final CardList trick;
+	private final List<TrickCard> trick;
 	private final Random rand = new Random();
 	private Player userPosition;
 	private Player rightOpponent;
@@ -60,6 +65,7 @@ class TrickPanel extends JPanel implements ComponentListener {
 
 	private CardFace cardFace;
 	private final boolean randomPlacement;
+	private final boolean animateCardMoves;
 	private final double globalScale;
 
 	/**
@@ -81,15 +87,29 @@ class TrickPanel extends JPanel implements ComponentListener {
 	 *            Random placement of cards
 	 */
 	TrickPanel(final double globalScale, final boolean randomPlacement) {
+		this(globalScale, randomPlacement, false);
+	}
+
+	/**
+	 * Constructor
+	 * 
+	 * @param globalScale
+	 *            Global scale of cards
+	 * @param randomPlacement
+	 *            Random placement of cards
+	 * @param animateCardMoves
+	 *            TRUE, if new cards should move into the trick
+	 */
+	TrickPanel(final double globalScale, final boolean randomPlacement,
+			final boolean animateCardMoves) {
 
 		this.cardFace = options.getCardSet().getCardFace();
 
 		this.randomPlacement = randomPlacement;
+		this.animateCardMoves = animateCardMoves;
 		this.globalScale = globalScale;
 
-		this.trick = new CardList();
-		this.positions = new ArrayList<>();
-		this.cardRotations = new ArrayList<>();
+		this.trick = new ArrayList<>();
 
 		setOpaque(false);
 
@@ -106,16 +126,25 @@ class TrickPanel extends JPanel implements ComponentListener {
 	 */
 	void addCard(final Player player, final Card card) {
 
-		this.positions.add(player);
-		this.trick.add(card);
-
+		double rotation = 0.0;
 		if (this.randomPlacement) {
-			this.cardRotations.add(Double.valueOf(0.5 * this.rand.nextDouble() - 0.25));
-		} else {
-			this.cardRotations.add(Double.valueOf(0.0));
+			rotation = 0.5 * this.rand.nextDouble() - 0.25;
+		}
+
+		final TrickCard trickCard = new TrickCard(player, card, rotation,
+				this.animateCardMoves ? 0.0 : 1.0);
+
+		final Rectangle cardBounds;
+		synchronized (this) {
+			this.trick.add(trickCard);
+			cardBounds = getCardBounds(getTrickLayout(), trickCard);
 		}
 
-		repaint();
+		if (this.animateCardMoves) {
+			FramePacer.INSTANCE.animate(new CardMoveAnimation(trickCard));
+		} else {
+			FramePacer.INSTANCE.repaint(this, cardBounds);
+		}
 	}
 
 	/**
@@ -123,10 +152,10 @@ class TrickPanel extends JPanel implements ComponentListener {
 	 */
 	void removeCard() {
 
-		this.positions.remove(this.positions.size() - 1);
-		this.trick.remove(this.trick.size() - 1);
-		this.cardRotations.remove(this.trick.size() - 1);
-		repaint();
+		synchronized (this) {
+			this.trick.remove(this.trick.size() - 1);
+		}
+		FramePacer.INSTANCE.repaint(this);
 	}
 
 	/**
@@ -134,17 +163,17 @@ class TrickPanel extends JPanel implements ComponentListener {
 	 */
 	void clearCards() {
 
-		this.positions.clear();
-		this.trick.clear();
-		this.cardRotations.clear();
-		repaint();
+		synchronized (this) {
+			this.trick.clear();
+		}
+		FramePacer.INSTANCE.repaint(this);
 	}
 
 	/**
 	 * @see JPanel#paintComponent(Graphics)
 	 */
 	@Override
-	protected synchronized void paintComponent(final Graphics g) {
+	protected void paintComponent(final Graphics g) {
 
 		super.paintComponent(g);
 
@@ -152,8 +181,10 @@ class TrickPanel extends JPanel implements ComponentListener {
 			this.cardFace = options.getCardSet().getCardFace();
 		}
 
-		final int panelWidth = getWidth();
-		final int panelHeight = getHeight();
+		final List<TrickCard> cardsToPaint;
+		synchronized (this) {
+			cardsToPaint = new ArrayList<>(this.trick);
+		}
 
 		final Graphics2D g2D = (Graphics2D) g;
 		g2D.setRenderingHint(RenderingHints.KEY_RENDERING,
@@ -165,50 +196,109 @@ class TrickPanel extends JPanel implements ComponentListener {
 		g2D.setRenderingHint(RenderingHints.KEY_ALPHA_INTERPOLATION,
 				RenderingHints.VALUE_ALPHA_INTERPOLATION_QUALITY);
 
+		final TrickLayout layout = getTrickLayout();
+
+		for (final TrickCard trickCard : cardsToPaint) {
+
+			if (trickCard.card != null && trickCard.player != null) {
+
+				// card images are scaled once and cached by the graphic
+				// repository, only the rotation is done while painting
+				final Image scaledImage = this.bitmaps.getScaledCardImage(
+						trickCard.card, layout.scaledWidth,
+						layout.scaledHeight);
+				final AffineTransform transform = getCardTransform(layout,
+						trickCard);
+
+				if (transform.getType() == AffineTransform.TYPE_IDENTITY
+						|| transform.getType() == AffineTransform.TYPE_TRANSLATION) {
+					g2D.drawImage(scaledImage,
+							(int) Math.round(transform.getTranslateX()),
+							(int) Math.round(transform.getTranslateY()), this);
+				} else {
+					g2D.drawImage(scaledImage, transform, this);
+				}
+			}
+		}
+	}
+
+	private TrickLayout getTrickLayout() {
+
 		final double cardScale = getCardScale() * this.globalScale;
 		final Image image = this.bitmaps.getCardImage(Card.CJ);
 
 		final double xScaleSize = image.getWidth(this);
 		final double xAllTrickCardsSize = xScaleSize * TRICK_SIZE_FACTOR;
-		final double xBorder = (panelWidth * (1 / cardScale) - xAllTrickCardsSize) / 2.0d;
+		final double xBorder = (getWidth() * (1 / cardScale) - xAllTrickCardsSize) / 2.0d;
 
 		final double yScaleSize = image.getHeight(this);
 		final double yAllTrickCardsSize = yScaleSize * TRICK_SIZE_FACTOR;
-		final double yBorder = (panelHeight * (1 / cardScale) - yAllTrickCardsSize) / 2.0d;
+		final double yBorder = (getHeight() * (1 / cardScale) - yAllTrickCardsSize) / 2.0d;
 
-		for (int i = 0; i < this.trick.size(); i++) {
+		return new TrickLayout(cardScale, xScaleSize, yScaleSize, xBorder,
+				yBorder);
+	}
 
-			final Card card = this.trick.get(i);
-			final Player player = this.positions.get(i);
+	private AffineTransform getCardTransform(final TrickLayout layout,
+			final TrickCard trickCard) {
 
-			if (card != null && player != null) {
-				// Calculate translation
-				double posX = 0.0d;
-				double posY = 0.0d;
-				if (player.equals(this.leftOpponent)) {
+		// Calculate translation
+		double posX = 0.0d;
+		double posY = 0.0d;
+		// cards move in from the side of the player
+		double startX = 0.0d;
+		double startY = 0.0d;
+		if (trickCard.player.equals(this.leftOpponent)) {
 
-					posX = xBorder;
-					posY = yBorder + yScaleSize * (1.0d / 3.0d);
+			posX = layout.xBorder;
+			posY = layout.yBorder + layout.yScaleSize * (1.0d / 3.0d);
+			startX = posX - layout.xScaleSize;
+			startY = posY;
 
-				} else if (player.equals(this.rightOpponent)) {
+		} else if (trickCard.player.equals(this.rightOpponent)) {
 
-					posX = xBorder + xScaleSize * (2.0d / 3.0d);
-					posY = yBorder;
+			posX = layout.xBorder + layout.xScaleSize * (2.0d / 3.0d);
+			posY = layout.yBorder;
+			startX = posX + layout.xScaleSize;
+			startY = posY;
 
-				} else if (player.equals(this.userPosition)) {
+		} else if (trickCard.player.equals(this.userPosition)) {
 
-					posX = xBorder + xScaleSize * (1.0d / 3.0d);
-					posY = yBorder + yScaleSize * (2.0d / 3.0d);
-				}
+			posX = layout.xBorder + layout.xScaleSize * (1.0d / 3.0d);
+			posY = layout.yBorder + layout.yScaleSize * (2.0d / 3.0d);
+			startX = posX;
+			startY = posY + layout.yScaleSize;
+		}
 
-				final AffineTransform transform = new AffineTransform();
-				transform.translate(posX * cardScale, posY * cardScale);
-				transform.rotate(this.cardRotations.get(i).doubleValue());
-				transform.scale(cardScale, cardScale);
+		// cubic ease out
+		final double movement = 1.0d - Math.pow(1.0d - trickCard.progress, 3);
 
-				g2D.drawImage(this.bitmaps.getCardImage(card), transform, this);
-			}
+		final AffineTransform transform = new AffineTransform();
+		transform.translate(
+				(startX + (posX - startX) * movement) * layout.cardScale,
+				(startY + (posY - startY) * movement) * layout.cardScale);
+		if (trickCard.rotation != 0.0d) {
+			transform.rotate(trickCard.rotation * movement);
 		}
+
+		return transform;
+	}
+
+	private Rectangle getCardBounds(final TrickLayout layout,
+			final TrickCard trickCard) {
+
+		if (trickCard.player == null) {
+			return new Rectangle();
+		}
+
+		final Rectangle bounds = getCardTransform(layout, trickCard)
+				.createTransformedShape(new Rectangle(0, 0, layout.scaledWidth,
+						layout.scaledHeight))
+				.getBounds();
+		// rounding and anti aliasing
+		bounds.grow(2, 2);
+
+		return bounds;
 	}
 
 	private double getCardScale() {
@@ -246,7 +336,7 @@ class TrickPanel extends JPanel implements ComponentListener {
 
 	@Override
 	public void componentResized(final ComponentEvent e) {
-		repaint();
+		FramePacer.INSTANCE.repaint(this);
 	}
 
 	@Override
@@ -256,11 +346,96 @@ class TrickPanel extends JPanel implements ComponentListener {
 
 	@Override
 	public void componentShown(final ComponentEvent e) {
-		repaint();
+		FramePacer.INSTANCE.repaint(this);
 	}
 
 	@Override
 	public void componentHidden(final ComponentEvent e) {
 		// not needed
 	}
+
+	/**
+	 * Card of the trick together with its placement
+	 */
+	private static final class TrickCard {
+
+		private final Player player;
+		private final Card card;
+		private final double rotation;
+		/**
+		 * Progress of the move into the trick, between 0.0 and 1.0
+		 */
+		private volatile double progress;
+
+		private TrickCard(final Player player, final Card card,
+				final double rotation, final double progress) {
+			this.player = player;
+			this.card = card;
+			this.rotation = rotation;
+			this.progress = progress;
+		}
+	}
+
+	/**
+	 * Sizes and borders of the trick for the current panel size
+	 */
+	private static final class TrickLayout {
+
+		private final double cardScale;
+		private final double xScaleSize;
+		private final double yScaleSize;
+		private final double xBorder;
+		private final double yBorder;
+		private final int scaledWidth;
+		private final int scaledHeight;
+
+		private TrickLayout(final double cardScale, final double xScaleSize,
+				final double yScaleSize, final double xBorder,
+				final double yBorder) {
+			this.cardScale = cardScale;
+			this.xScaleSize = xScaleSize;
+			this.yScaleSize = yScaleSize;
+			this.xBorder = xBorder;
+			this.yBorder = yBorder;
+			this.scaledWidth = (int) Math.round(xScaleSize * cardScale);
+			this.scaledHeight = (int) Math.round(yScaleSize * cardScale);
+		}
+	}
+
+	/**
+	 * Moves a card into the trick, only the area covered by the card is
+	 * repainted
+	 */
+	private final class CardMoveAnimation implements FrameAnimation {
+
+		private final TrickCard trickCard;
+		private final long startTime = System.currentTimeMillis();
+
+		private CardMoveAnimation(final TrickCard trickCard) {
+			this.trickCard = trickCard;
+		}
+
+		@Override
+		public boolean nextFrame(final long frameTime) {
+
+			final Rectangle dirtyRegion;
+			synchronized (TrickPanel.this) {
+				if (!trick.contains(this.trickCard)) {
+					// card was removed in the meantime
+					return false;
+				}
+
+				final TrickLayout layout = getTrickLayout();
+				dirtyRegion = getCardBounds(layout, this.trickCard);
+				this.trickCard.progress = Math.min(1.0d,
+						(frameTime - this.startTime)
+								/ (double) CARD_MOVE_DURATION);
+				dirtyRegion.add(getCardBounds(layout, this.trickCard));
+			}
+
+			FramePacer.INSTANCE.repaint(TrickPanel.this, dirtyRegion);
+
+			return this.trickCard.progress < 1.0d;
+		}
+	}
 }
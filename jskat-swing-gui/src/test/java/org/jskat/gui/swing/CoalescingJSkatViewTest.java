@@ -0,0 +1,135 @@
+/**
+ * Copyright (C) 2019 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.gui.swing;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.jskat.gui.NullView;
+import org.jskat.util.Card;
+import org.jskat.util.CardList;
+import org.jskat.util.Player;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link CoalescingJSkatView}
+ */
+public class CoalescingJSkatViewTest {
+
+	private static final String TABLE_NAME = "Table 1"; //$NON-NLS-1$
+
+	private final List<String> updates = new ArrayList<>();
+	private final List<Runnable> scheduledFlushes = new ArrayList<>();
+	private CoalescingJSkatView view;
+
+	@Before
+	public void setUp() {
+		view = new CoalescingJSkatView(new RecordingView(), scheduledFlushes::add);
+	}
+
+	private void flush() {
+		assertThat(scheduledFlushes.size(), is(1));
+		scheduledFlushes.remove(0).run();
+	}
+
+	/**
+	 * Only the latest value of a property is handed over
+	 */
+	@Test
+	public void testPropertyUpdatesAreCoalesced() {
+
+		view.setBidValueToMake(TABLE_NAME, 18);
+		view.setBidValueToHold(TABLE_NAME, 18);
+		view.setBidValueToMake(TABLE_NAME, 20);
+		view.setBidValueToMake(TABLE_NAME, 22);
+		flush();
+
+		assertThat(updates, is(Arrays.asList("make 22", "hold 18"))); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/**
+	 * Property values set before an ordered update are handed over before it,
+	 * values set after it are handed over after it
+	 */
+	@Test
+	public void testPropertyAndOrderedUpdatesKeepTheirOrder() {
+
+		final CardList skat = new CardList(Card.CJ, Card.SJ);
+		final CardList discardedSkat = new CardList(Card.HA, Card.DA);
+
+		// schieberamsch: the skat is shown, discarded and shown again
+		view.setSkat(TABLE_NAME, skat);
+		view.setDiscardedSkat(TABLE_NAME, Player.FOREHAND, skat, discardedSkat);
+		view.setSkat(TABLE_NAME, discardedSkat);
+		flush();
+
+		assertThat(updates, is(Arrays.asList("skat " + skat, //$NON-NLS-1$
+				"discarded " + skat + " " + discardedSkat, //$NON-NLS-1$ //$NON-NLS-2$
+				"skat " + discardedSkat))); //$NON-NLS-1$
+	}
+
+	/**
+	 * Updates made after a flush are handed over with the next flush
+	 */
+	@Test
+	public void testUpdatesAfterFlush() {
+
+		view.setBidValueToMake(TABLE_NAME, 18);
+		flush();
+		view.startGame(TABLE_NAME);
+		view.setBidValueToMake(TABLE_NAME, 20);
+		flush();
+
+		assertThat(updates, is(Arrays.asList("make 18", "start", "make 20"))); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+
+	/**
+	 * Records the updates that were handed over
+	 */
+	private class RecordingView extends NullView {
+
+		@Override
+		public void startGame(final String tableName) {
+			updates.add("start"); //$NON-NLS-1$
+		}
+
+		@Override
+		public void setBidValueToMake(final String tableName, final int bidValue) {
+			updates.add("make " + bidValue); //$NON-NLS-1$
+		}
+
+		@Override
+		public void setBidValueToHold(final String tableName, final int bidValue) {
+			updates.add("hold " + bidValue); //$NON-NLS-1$
+		}
+
+		@Override
+		public void setSkat(final String tableName, final CardList skat) {
+			updates.add("skat " + skat); //$NON-NLS-1$
+		}
+
+		@Override
+		public void setDiscardedSkat(final String tableName, final Player activePlayer, final CardList skatBefore,
+				final CardList discardedSkat) {
+			updates.add("discarded " + skatBefore + " " + discardedSkat); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+}